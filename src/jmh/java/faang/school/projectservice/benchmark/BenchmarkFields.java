@@ -0,0 +1,19 @@
+package faang.school.projectservice.benchmark;
+
+import java.lang.reflect.Field;
+
+final class BenchmarkFields {
+
+    private BenchmarkFields() {
+    }
+
+    static void set(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Can't set field " + name + " of " + target.getClass(), e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package faang.school.projectservice.benchmark;
+
+import faang.school.projectservice.service.image_rendition.ImageDecoder;
+import net.coobird.thumbnailator.Thumbnails;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Full-resolution vs subsampled decoding of a 48 megapixel JPEG resized to the full rendition size.
+// Run with ./gradlew jmh; peak heap is the peakHeapBytes counter, allocations come from the gc profiler.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ImageDecodingBenchmark {
+
+    private static final int TARGET_DIMENSION = 1920;
+
+    private byte[] jpeg;
+    private ImageDecoder imageDecoder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BufferedImage image = new BufferedImage(8000, 6000, BufferedImage.TYPE_3BYTE_BGR);
+        for (int y = 0; y < image.getHeight(); y += 10) {
+            for (int x = 0; x < image.getWidth(); x += 10) {
+                image.setRGB(x, y, x * y);
+            }
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", outputStream);
+        jpeg = outputStream.toByteArray();
+
+        imageDecoder = new ImageDecoder();
+        BenchmarkFields.set(imageDecoder, "maxSourcePixels", 100_000_000L);
+        BenchmarkFields.set(imageDecoder, "maxDecodedPixels", 16_777_216L);
+    }
+
+    @Benchmark
+    public BufferedImage fullDecode(HeapCounters counters) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(jpeg));
+        BufferedImage result = resize(image);
+        counters.recordPeak();
+        return result;
+    }
+
+    @Benchmark
+    public BufferedImage subsampledDecode(HeapCounters counters) throws IOException {
+        BufferedImage image = imageDecoder.decode(new ByteArrayInputStream(jpeg), TARGET_DIMENSION);
+        BufferedImage result = resize(image);
+        counters.recordPeak();
+        return result;
+    }
+
+    private BufferedImage resize(BufferedImage image) throws IOException {
+        return Thumbnails.of(image)
+                .size(TARGET_DIMENSION, TARGET_DIMENSION)
+                .asBufferedImage();
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class HeapCounters {
+
+        private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+
+        public long peakHeapBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            System.gc();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+            peakHeapBytes = 0;
+        }
+
+        void recordPeak() {
+            long peak = heapPools.stream()
+                    .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                    .sum();
+            peakHeapBytes = Math.max(peakHeapBytes, peak);
+        }
+    }
+}
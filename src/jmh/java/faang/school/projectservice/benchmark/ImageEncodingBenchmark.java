@@ -0,0 +1,139 @@
+package faang.school.projectservice.benchmark;
+
+import faang.school.projectservice.service.image_rendition.ImageEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Always-PNG output vs format-aware encoding of a photo-like scene, a flat chart and a transparent logo.
+// Run with ./gradlew jmh; the encodedBytes counter is the output size of one image.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ImageEncodingBenchmark {
+
+    private static final int WIDTH = 1080;
+    private static final int HEIGHT = 720;
+
+    @Param({"photo", "chart", "logo"})
+    private String corpus;
+
+    private BufferedImage image;
+    private ImageEncoder imageEncoder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        image = switch (corpus) {
+            case "photo" -> photo();
+            case "chart" -> chart();
+            case "logo" -> logo();
+            default -> throw new IllegalArgumentException("Unknown corpus " + corpus);
+        };
+        imageEncoder = new ImageEncoder(new SimpleMeterRegistry());
+        BenchmarkFields.set(imageEncoder, "jpegQuality", 0.85f);
+        BenchmarkFields.set(imageEncoder, "flatMaxColors", 256);
+    }
+
+    @Benchmark
+    public byte[] alwaysPng(SizeCounters counters) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        counters.encodedBytes = outputStream.size();
+        return outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] formatAware(SizeCounters counters) throws IOException {
+        byte[] bytes = imageEncoder.encode(image).bytes();
+        counters.encodedBytes = bytes.length;
+        return bytes;
+    }
+
+    // Sensor-like noise over smooth gradients is what makes photographs expensive for lossless formats
+    private BufferedImage photo() {
+        BufferedImage photo = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_3BYTE_BGR);
+        Random random = new Random(42);
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                int red = clamp(x * 255 / WIDTH + random.nextInt(17) - 8);
+                int green = clamp(y * 255 / HEIGHT + random.nextInt(17) - 8);
+                int blue = clamp((int) (128 + 100 * Math.sin((x + y) / 60.0)) + random.nextInt(17) - 8);
+                photo.setRGB(x, y, red << 16 | green << 8 | blue);
+            }
+        }
+        return photo;
+    }
+
+    private BufferedImage chart() {
+        BufferedImage chart = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = chart.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, WIDTH, HEIGHT);
+        graphics.setColor(Color.LIGHT_GRAY);
+        for (int y = 60; y < HEIGHT; y += 60) {
+            graphics.drawLine(60, y, WIDTH - 20, y);
+        }
+        Color[] colors = {new Color(0x4E79A7), new Color(0xF28E2B), new Color(0xE15759), new Color(0x76B7B2)};
+        Random random = new Random(42);
+        for (int bar = 0; bar < 16; bar++) {
+            int height = 100 + random.nextInt(HEIGHT - 200);
+            graphics.setColor(colors[bar % colors.length]);
+            graphics.fillRect(80 + bar * 60, HEIGHT - 40 - height, 40, height);
+        }
+        graphics.setColor(Color.BLACK);
+        graphics.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 28));
+        graphics.drawString("Quarterly throughput", 80, 40);
+        graphics.dispose();
+        return chart;
+    }
+
+    private BufferedImage logo() {
+        BufferedImage logo = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = logo.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        graphics.setColor(new Color(0x1F6FEB));
+        graphics.fillOval(240, 60, 600, 600);
+        graphics.setColor(Color.WHITE);
+        graphics.setStroke(new BasicStroke(40));
+        graphics.drawOval(380, 200, 320, 320);
+        graphics.dispose();
+        return logo;
+    }
+
+    private int clamp(int value) {
+        return Math.max(0, Math.min(255, value));
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class SizeCounters {
+
+        public long encodedBytes;
+    }
+}
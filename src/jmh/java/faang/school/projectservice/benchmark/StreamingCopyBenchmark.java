@@ -0,0 +1,96 @@
+package faang.school.projectservice.benchmark;
+
+import faang.school.projectservice.service.file_streaming.StreamBufferPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 1 KB copy loop vs pooled buffers vs InputStream.transferTo for a 64 MB file, written to a sink that pays
+// a fixed cost per write call like a servlet response does. Run with ./gradlew jmh.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class StreamingCopyBenchmark {
+
+    private static final int FILE_SIZE = 64 * 1024 * 1024;
+
+    @Param({"65536", "262144"})
+    private int bufferSize;
+
+    private byte[] file;
+    private StreamBufferPool streamBufferPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        file = new byte[FILE_SIZE];
+        ThreadLocalRandom.current().nextBytes(file);
+        streamBufferPool = new StreamBufferPool(bufferSize, 16);
+    }
+
+    @Benchmark
+    public long legacyLoop(Blackhole blackhole) throws IOException {
+        InputStream inputStream = new ByteArrayInputStream(file);
+        OutputStream outputStream = new SinkOutputStream(blackhole);
+        byte[] buffer = new byte[1024];
+        long transferred = 0;
+        int bytesRead;
+        while ((bytesRead = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, bytesRead);
+            transferred += bytesRead;
+        }
+        return transferred;
+    }
+
+    @Benchmark
+    public long transferTo(Blackhole blackhole) throws IOException {
+        return new ByteArrayInputStream(file).transferTo(new SinkOutputStream(blackhole));
+    }
+
+    @Benchmark
+    public long pooledCopy(Blackhole blackhole) throws IOException {
+        return streamBufferPool.copy(new ByteArrayInputStream(file), new SinkOutputStream(blackhole));
+    }
+
+    private static final class SinkOutputStream extends OutputStream {
+
+        private final Blackhole blackhole;
+
+        private SinkOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            Blackhole.consumeCPU(64);
+            blackhole.consume(b[off]);
+            blackhole.consume(len);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package faang.school.projectservice.controller;
+
+import faang.school.projectservice.dto.campaign.CampaignDto;
+import faang.school.projectservice.service.CampaignService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Campaigns", description = "Operations related to campaigns")
+@RestController
+@RequestMapping("/campaigns")
+@RequiredArgsConstructor
+public class CampaignController {
+
+    private final CampaignService campaignService;
+
+    @Operation(summary = "Search campaigns",
+            description = "Returns a page of campaigns of public projects and projects of the requester whose title "
+                    + "or description matches the query, most relevant first.")
+    @GetMapping("/search")
+    public ResponseEntity<Page<CampaignDto>> searchCampaigns(@RequestParam @NotBlank @Size(max = 128) String query,
+                                                             @RequestHeader("x-user-id") @Positive Long userId,
+                                                             @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(campaignService.searchCampaigns(query, userId, pageable));
+    }
+}
@@ -12,6 +12,9 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -49,8 +52,10 @@ public class InternshipController {
     }
 
     @PostMapping("/filter")
-    public ResponseEntity<List<InternshipDto>> getFilteredInternships(@RequestBody InternshipFilterDto filterDto) {
-        List<InternshipDto> filteredInternships = internshipService.getFilteredInternships(filterDto);
+    public ResponseEntity<Page<InternshipDto>> getFilteredInternships(@RequestBody InternshipFilterDto filterDto,
+                                                                      @PageableDefault(size = 20, sort = "id")
+                                                                      Pageable pageable) {
+        Page<InternshipDto> filteredInternships = internshipService.getFilteredInternships(filterDto, pageable);
         return ResponseEntity.ok(filteredInternships);
     }
 
@@ -7,6 +7,9 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -41,8 +44,10 @@ public class MomentController {
 
     @Operation(summary = "Get moments by filter"  )
     @PostMapping("/filter")
-    public ResponseEntity<List<MomentDto>> getMomentsByFilter(@RequestBody @Valid MomentFilterDto momentFilterDto) {
-        return ResponseEntity.ok(service.getMomentsByFilter(momentFilterDto));
+    public ResponseEntity<Page<MomentDto>> getMomentsByFilter(@RequestBody @Valid MomentFilterDto momentFilterDto,
+                                                              @PageableDefault(size = 20, sort = "id")
+                                                              Pageable pageable) {
+        return ResponseEntity.ok(service.getMomentsByFilter(momentFilterDto, pageable));
     }
 
     @Operation(summary = "Get all moments"  )
@@ -8,6 +8,9 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -36,8 +39,10 @@ public class StageController {
 
     @Operation(summary = "Get all stages")
     @PostMapping("/filter")
-    public ResponseEntity<List<StageDto>> getStageWithFilter(@RequestBody StageFilterDto stageFilterDto) {
-        return ResponseEntity.ok(stageService.getStageByFilter(stageFilterDto));
+    public ResponseEntity<Page<StageDto>> getStageWithFilter(@RequestBody StageFilterDto stageFilterDto,
+                                                             @PageableDefault(size = 20, sort = "stageId")
+                                                             Pageable pageable) {
+        return ResponseEntity.ok(stageService.getStageByFilter(stageFilterDto, pageable));
     }
 
     @Operation(summary = "Delete a stage")
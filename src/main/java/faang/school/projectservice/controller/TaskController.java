@@ -10,6 +10,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -21,8 +24,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @Tag(name = "Tasks", description = "Operations related to tasks")
 @RestController
 @RequestMapping("/tasks")
@@ -68,10 +69,11 @@ public class TaskController {
             @ApiResponse(responseCode = "500", description = "Internal server error occurred during processing"),
     })
     @PostMapping("/filters")
-    public ResponseEntity<List<TaskDto>> getAllTasks(@RequestBody TaskFilterDto taskFilterDto,
-                                     @RequestParam Long projectId,
-                                     @RequestHeader("x-team-member-id") long requesterId) {
-        return ResponseEntity.ok(taskService.getAllTasks(taskFilterDto, projectId, requesterId));
+    public ResponseEntity<Page<TaskDto>> getAllTasks(@RequestBody TaskFilterDto taskFilterDto,
+                                                     @RequestParam Long projectId,
+                                                     @RequestHeader("x-team-member-id") long requesterId,
+                                                     @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(taskService.getAllTasks(taskFilterDto, requesterId, projectId, pageable));
     }
 
     @Operation(summary = "Get a task by id"  )
@@ -8,6 +8,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -58,7 +61,9 @@ public class VacancyController {
 
     @Operation(summary = "Get vacacies with given filters")
     @PostMapping("/filter")
-    public ResponseEntity<Iterable<VacancyDto>> getVacanciesByFilter(@RequestBody VacancyFilterDto filter) {
-        return ResponseEntity.ok(vacancyService.getVacanciesByFilter(filter));
+    public ResponseEntity<Page<VacancyDto>> getVacanciesByFilter(@RequestBody VacancyFilterDto filter,
+                                                                 @PageableDefault(size = 20, sort = "id")
+                                                                 Pageable pageable) {
+        return ResponseEntity.ok(vacancyService.getVacanciesByFilter(filter, pageable));
     }
 }
@@ -11,8 +11,13 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -26,7 +31,6 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Tag(name = "Project Management", description = "Operations related to managing projects")
 @RestController
@@ -54,14 +58,30 @@ public class ProjectController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "Delete a project",
-            description = "Soft deletes a project by setting its status to DELETED.")
+    @Operation(summary = "Find projects",
+            description = "Returns a page of public projects and projects of the requester matching the filters. "
+                    + "Pages are requested with page, size and sort parameters, sortable by id, name, status, "
+                    + "createdAt and updatedAt.")
     @PostMapping("/filter")
-    public ResponseEntity<List<ProjectUpdateDto>> findAllProjects(@RequestBody @Valid ProjectFilterDto filters,
+    public ResponseEntity<Page<ProjectUpdateDto>> findAllProjects(@RequestBody @Valid ProjectFilterDto filters,
                                             @Parameter(description = "User ID of the requester. " +
                                                     "Must be a positive number.")
-                                            @RequestHeader("x-user-id") @Positive Long userId) {
-        return ResponseEntity.ok(projectService.findAllProjects(filters, userId));
+                                            @RequestHeader("x-user-id") @Positive Long userId,
+                                            @PageableDefault(size = 20, sort = "name")
+                                            Pageable pageable) {
+        return ResponseEntity.ok(projectService.findAllProjects(filters, userId, pageable));
+    }
+
+    @Operation(summary = "Search projects",
+            description = "Returns a page of public projects and projects of the requester whose name or "
+                    + "description matches the query, most relevant first. Name matches rank above description "
+                    + "matches, and names similar to the query match too.")
+    @GetMapping("/search")
+    public ResponseEntity<Page<ProjectUpdateDto>> searchProjects(@RequestParam @NotBlank @Size(max = 128)
+                                                                 String query,
+                                                                 @RequestHeader("x-user-id") @Positive Long userId,
+                                                                 @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(projectService.searchProjects(query, userId, pageable));
     }
 
     @Operation(summary = "Get project details",
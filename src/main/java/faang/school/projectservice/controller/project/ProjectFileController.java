@@ -1,13 +1,37 @@
 package faang.school.projectservice.controller.project;
 
+import faang.school.projectservice.dto.project.GalleryImageDto;
+import faang.school.projectservice.dto.resource.BatchUploadResultDto;
+import faang.school.projectservice.dto.resource.DirectDownloadDto;
+import faang.school.projectservice.dto.resource.DirectUploadDto;
+import faang.school.projectservice.dto.resource.DirectUploadRequestDto;
+import faang.school.projectservice.dto.resource.ResourceFilterDto;
+import faang.school.projectservice.dto.resource.ResourcePageDto;
+import faang.school.projectservice.dto.resource.UploadSessionDto;
+import faang.school.projectservice.dto.resource.UploadSessionRequestDto;
+import faang.school.projectservice.exception.customexception.RangeNotSatisfiableException;
+import faang.school.projectservice.model.ProjectArchive;
 import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.model.ResourceStatus;
+import faang.school.projectservice.model.ResourceType;
+import faang.school.projectservice.service.archive_cache.ProjectArchiveService;
+import faang.school.projectservice.service.chunked_upload.ChunkedUploadService;
+import faang.school.projectservice.service.direct_transfer.DirectTransferService;
+import faang.school.projectservice.service.file_streaming.ArchiveFormat;
+import faang.school.projectservice.service.file_streaming.ByteRange;
+import faang.school.projectservice.service.file_streaming.FileRangeSource;
 import faang.school.projectservice.service.file_streaming.FileStreamingService;
+import faang.school.projectservice.service.file_streaming.StreamingEndpoint;
+import faang.school.projectservice.service.file_streaming.TransferOwner;
 import faang.school.projectservice.service.resource.ResourceService;
+import faang.school.projectservice.service.project.BatchUploadService;
+import faang.school.projectservice.service.project.BulkDownload;
 import faang.school.projectservice.service.project.ProjectFilesService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,11 +40,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -30,7 +57,7 @@ import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBo
 
 import java.io.InputStream;
 import java.net.URLConnection;
-import java.util.Map;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "Project Files", description = "Operations related to project files")
@@ -43,6 +70,10 @@ public class ProjectFileController {
     private final ProjectFilesService projectFilesService;
     private final FileStreamingService fileStreamingService;
     private final ResourceService resourceService;
+    private final DirectTransferService directTransferService;
+    private final BatchUploadService batchUploadService;
+    private final ChunkedUploadService chunkedUploadService;
+    private final ProjectArchiveService projectArchiveService;
 
     @Operation(summary = "Upload a file to the project",
             description = "Uploads a file to the specified project's common files.")
@@ -67,6 +98,133 @@ public class ProjectFileController {
         });
     }
 
+    @Operation(summary = "Upload several files to the project",
+            description = "Uploads all files of the request to the specified project's common files "
+                    + "and returns the outcome for each file.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Files processed, see the result of each file"),
+            @ApiResponse(responseCode = "400", description = "No files or too many files in the request"),
+            @ApiResponse(responseCode = "404", description = "Project not found or storage exceeded")
+    })
+    @PostMapping("/{projectId}/resources/batch")
+    public ResponseEntity<List<BatchUploadResultDto>> uploadFiles(@PathVariable @NotNull Long projectId,
+                                                                  @RequestHeader("x-team-member-id") @NotNull Long teamMemberId,
+                                                                  @RequestParam("files") List<MultipartFile> files) {
+        return ResponseEntity.ok(batchUploadService.uploadFiles(projectId, teamMemberId, files));
+    }
+
+    @Operation(summary = "Start a direct upload of a file to the project",
+            description = "Reserves storage for the file and returns a short-lived pre-signed URL "
+                    + "to PUT the file straight to the storage.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload URL created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid file data or direct transfers are disabled"),
+            @ApiResponse(responseCode = "404", description = "Project not found or storage exceeded")
+    })
+    @PostMapping("/{projectId}/resources/direct-uploads")
+    public ResponseEntity<DirectUploadDto> createDirectUpload(@PathVariable @NotNull Long projectId,
+                                                              @RequestHeader("x-team-member-id") @NotNull Long teamMemberId,
+                                                              @RequestBody @Valid DirectUploadRequestDto request) {
+        return ResponseEntity.ok(directTransferService.createUpload(projectId, teamMemberId, request));
+    }
+
+    @Operation(summary = "Complete a direct upload",
+            description = "Checks the uploaded file and adds it to the project's common files.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "File uploaded successfully"),
+            @ApiResponse(responseCode = "400", description = "File is missing, has unexpected size or upload expired"),
+            @ApiResponse(responseCode = "404", description = "Upload not found")
+    })
+    @PostMapping("/resources/direct-uploads/{uploadId}/complete")
+    public ResponseEntity<String> completeDirectUpload(@PathVariable @NotNull Long uploadId,
+                                                       @RequestHeader("x-team-member-id") @NotNull Long teamMemberId) {
+        directTransferService.completeUpload(uploadId, teamMemberId);
+        return ResponseEntity.ok("File uploaded successfully");
+    }
+
+    @Operation(summary = "Open a resumable upload session",
+            description = "Reserves storage for the file and returns the chunk size to split the file into.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload session opened successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid file data"),
+            @ApiResponse(responseCode = "404", description = "Project not found or storage exceeded")
+    })
+    @PostMapping("/{projectId}/resources/upload-sessions")
+    public ResponseEntity<UploadSessionDto> openUploadSession(@PathVariable @NotNull Long projectId,
+                                                              @RequestHeader("x-team-member-id") @NotNull Long teamMemberId,
+                                                              @RequestBody @Valid UploadSessionRequestDto request) {
+        return ResponseEntity.ok(chunkedUploadService.openSession(projectId, teamMemberId, request));
+    }
+
+    @Operation(summary = "Get the state of a resumable upload session",
+            description = "Returns the offset up to which the file is stored and the offsets of all stored chunks.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload session found"),
+            @ApiResponse(responseCode = "404", description = "Upload session not found")
+    })
+    @GetMapping("/resources/upload-sessions/{sessionId}")
+    public ResponseEntity<UploadSessionDto> getUploadSession(@PathVariable @NotNull Long sessionId,
+                                                             @RequestHeader("x-team-member-id") @NotNull Long teamMemberId) {
+        return ResponseEntity.ok(chunkedUploadService.getSession(sessionId, teamMemberId));
+    }
+
+    @Operation(summary = "Upload a chunk of a resumable upload session",
+            description = "Stores the request body as the chunk starting at the offset. "
+                    + "The x-chunk-crc32 header carries the hex encoded CRC32 of the chunk.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chunk stored successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid offset, length or checksum of the chunk"),
+            @ApiResponse(responseCode = "404", description = "Upload session not found")
+    })
+    @PutMapping(value = "/resources/upload-sessions/{sessionId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<UploadSessionDto> uploadChunk(@PathVariable @NotNull Long sessionId,
+                                                        @RequestHeader("x-team-member-id") @NotNull Long teamMemberId,
+                                                        @RequestHeader("x-chunk-crc32") @NotNull String crc32,
+                                                        @RequestParam("offset") long offset,
+                                                        InputStream body) {
+        return ResponseEntity.ok(chunkedUploadService.uploadChunk(sessionId, teamMemberId, offset, crc32, body));
+    }
+
+    @Operation(summary = "Complete a resumable upload session",
+            description = "Assembles the stored chunks and adds the file to the project's common files.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "File uploaded successfully"),
+            @ApiResponse(responseCode = "400", description = "Chunks are missing or the session expired"),
+            @ApiResponse(responseCode = "404", description = "Upload session not found")
+    })
+    @PostMapping("/resources/upload-sessions/{sessionId}/complete")
+    public ResponseEntity<String> completeUploadSession(@PathVariable @NotNull Long sessionId,
+                                                        @RequestHeader("x-team-member-id") @NotNull Long teamMemberId) {
+        chunkedUploadService.completeSession(sessionId, teamMemberId);
+        return ResponseEntity.ok("File uploaded successfully");
+    }
+
+    @Operation(summary = "Abort a resumable upload session",
+            description = "Drops the stored chunks and releases the reserved storage.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Upload session aborted"),
+            @ApiResponse(responseCode = "404", description = "Upload session not found")
+    })
+    @DeleteMapping("/resources/upload-sessions/{sessionId}")
+    public ResponseEntity<Void> abortUploadSession(@PathVariable @NotNull Long sessionId,
+                                                   @RequestHeader("x-team-member-id") @NotNull Long teamMemberId) {
+        chunkedUploadService.abortSession(sessionId, teamMemberId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Get a direct download URL of a file",
+            description = "Returns a short-lived pre-signed URL to download the file straight from the storage.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Download URL created successfully"),
+            @ApiResponse(responseCode = "400", description = "Direct transfers are disabled or access is denied"),
+            @ApiResponse(responseCode = "404", description = "File not found")
+    })
+    @GetMapping("/resources/{resourceId}/download-url")
+    public ResponseEntity<DirectDownloadDto> getDirectDownloadUrl(@PathVariable @NotNull Long resourceId,
+                                                                  @RequestHeader("x-team-member-id") @NotNull Long teamMemberId) {
+        return ResponseEntity.ok(directTransferService.createDownloadUrl(resourceId, teamMemberId));
+    }
+
     @Operation(summary = "Delete a file from the project",
             description = "Deletes the specified file from the project's common files.")
     @ApiResponses(value = {
@@ -81,23 +239,29 @@ public class ProjectFileController {
     }
 
     @Operation(summary = "Download a file of the project",
-            description = "Downloads the specified file from common project's files.")
+            description = "Downloads the specified file from common project's files. "
+                    + "Supports Range and If-Range headers for resumable and partial downloads.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "File downloaded successfully"),
+            @ApiResponse(responseCode = "206", description = "Requested ranges of the file downloaded successfully"),
             @ApiResponse(responseCode = "404", description = "File not found"),
+            @ApiResponse(responseCode = "416", description = "Requested ranges can't be satisfied"),
             @ApiResponse(responseCode = "500", description = "Internal server error occurred during processing")
     })
     @GetMapping("/resources/{resourceId}")
     @Async("filesExecutor")
-    public CompletableFuture<ResponseEntity<StreamingResponseBody>> downloadFile(@PathVariable @NotNull Long resourceId) {
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> downloadFile(
+            @PathVariable @NotNull Long resourceId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @RequestHeader(value = "x-user-id", required = false) Long userId) {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                InputStream fileStream = projectFilesService.downloadFile(resourceId);
-                StreamingResponseBody responseBody = fileStreamingService.getStreamingResponseBody(fileStream);
-
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType(getMimeType(resourceId)))
-                        .body(responseBody);
+                TransferOwner owner = getTransferOwner(resourceId, userId);
+                if (range != null) {
+                    return downloadFileRanges(resourceId, range, ifRange, owner);
+                }
+                return downloadWholeFile(resourceId, owner);
             } catch (Exception e) {
                 log.warn("Error while downloading file", e);
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -106,31 +270,63 @@ public class ProjectFileController {
         });
     }
 
+    @Operation(summary = "List project files",
+            description = "Returns a page of project files, newest first. Pass the returned nextCursor "
+                    + "to get the next page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Files listed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    @GetMapping("/{projectId}/resources/list")
+    public ResponseEntity<ResourcePageDto> listFiles(
+            @PathVariable @NotNull Long projectId,
+            @RequestParam(value = "status", defaultValue = "ACTIVE") ResourceStatus status,
+            @RequestParam(value = "types", required = false) List<ResourceType> types,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "${project-files.listing.default-page-size}") int limit) {
+        return ResponseEntity.ok(resourceService.listResources(projectId, status, types, cursor, limit));
+    }
+
     @Operation(summary = "Download all project files",
-            description = "Downloads all files for the specified project as a zip archive.")
+            description = "Downloads the project files as a zip archive. The files can be narrowed down by "
+                    + "types, creation date range, creator and a name pattern such as *.pdf.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Files downloaded successfully"),
             @ApiResponse(responseCode = "404", description = "Project or files not found"),
     })
     @GetMapping("/{projectId}/resources")
     @Async("filesExecutor")
-    public CompletableFuture<ResponseEntity<StreamingResponseBody>> downloadAllFiles(@PathVariable @NotNull Long projectId) {
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> downloadAllFiles(
+            @PathVariable @NotNull Long projectId,
+            @ModelAttribute ResourceFilterDto filter,
+            @RequestHeader(value = "x-user-id", required = false) Long userId) {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                Map<String, InputStream> files = projectFilesService.downloadAllFiles(projectId);
+                BulkDownload download = projectFilesService.downloadAllFiles(projectId, filter);
 
-                if (files.isEmpty()) {
+                if (download.files().isEmpty()) {
                     log.warn("No files found for project {}", projectId);
                     return ResponseEntity.status(HttpStatus.NO_CONTENT).body(null);
                 }
 
-                StreamingResponseBody responseBody = fileStreamingService.getStreamingResponseBodyInZip(files);
-
-                return ResponseEntity.ok()
+                TransferOwner owner = new TransferOwner(projectId, userId);
+                ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
                         .contentType(MediaType.APPLICATION_OCTET_STREAM)
                         .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=project_" +
-                                projectId + "_resources.zip")
-                        .body(responseBody);
+                                projectId + "_resources.zip");
+
+                ProjectArchive storedArchive = download.storedArchive();
+                if (storedArchive != null) {
+                    return builder
+                            .contentLength(storedArchive.getSize())
+                            .body(fileStreamingService.getStreamingResponseBody(
+                                    projectArchiveService.open(storedArchive), StreamingEndpoint.ZIP, owner));
+                }
+
+                StreamingResponseBody responseBody = projectArchiveService.recording(projectId,
+                        download.fingerprint(),
+                        fileStreamingService.getStreamingResponseBodyInZip(download.files(), owner));
+                return builder.body(responseBody);
             } catch (Exception e) {
                 log.warn("Error while downloading files for project {}", projectId, e);
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -139,6 +335,84 @@ public class ProjectFileController {
         });
     }
 
+    @Operation(summary = "Download all project files as a resumable archive",
+            description = "Streams all project files as an uncompressed zip or tar archive of known length. "
+                    + "The archive supports Range and If-Range requests, so interrupted downloads can be resumed. "
+                    + "It accepts the same file filters as the zip download.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Archive downloaded successfully"),
+            @ApiResponse(responseCode = "206", description = "Requested range of the archive downloaded"),
+            @ApiResponse(responseCode = "400", description = "Unknown archive format"),
+            @ApiResponse(responseCode = "416", description = "Requested range can't be satisfied"),
+            @ApiResponse(responseCode = "500", description = "Internal server error occurred during processing")
+    })
+    @GetMapping("/{projectId}/resources/archive")
+    @Async("filesExecutor")
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> downloadArchive(
+            @PathVariable @NotNull Long projectId,
+            @RequestParam(value = "format", defaultValue = "zip") String format,
+            @ModelAttribute ResourceFilterDto filter,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @RequestHeader(value = "x-user-id", required = false) Long userId) {
+        return CompletableFuture.supplyAsync(() -> {
+            ArchiveFormat archiveFormat;
+            try {
+                archiveFormat = ArchiveFormat.valueOf(format.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+            }
+            try {
+                FileRangeSource archive = projectFilesService.getArchiveSource(projectId, archiveFormat, filter);
+                TransferOwner owner = new TransferOwner(projectId, userId);
+                MediaType contentType = MediaType.parseMediaType(archiveFormat.getContentType());
+
+                if (range != null && fileStreamingService.isRangeApplicable(ifRange, archive)) {
+                    List<ByteRange> ranges;
+                    try {
+                        ranges = fileStreamingService.resolveRanges(range, archive.length());
+                    } catch (RangeNotSatisfiableException e) {
+                        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + archive.length())
+                                .build();
+                    }
+                    if (ranges.size() == 1) {
+                        ByteRange byteRange = ranges.get(0);
+                        InputStream rangeStream = archive.rangeReader().apply(byteRange.start(), byteRange.end());
+                        return partialContent(archive)
+                                .header(HttpHeaders.CONTENT_RANGE, byteRange.toContentRange(archive.length()))
+                                .contentType(contentType)
+                                .contentLength(byteRange.length())
+                                .body(fileStreamingService.getStreamingResponseBody(rangeStream,
+                                        StreamingEndpoint.ARCHIVE, owner));
+                    }
+                    if (ranges.size() > 1) {
+                        log.info("Multiple ranges requested for archive of project {}, sending the whole archive",
+                                projectId);
+                    }
+                }
+
+                InputStream archiveStream = archive.rangeReader().apply(0L, archive.length() - 1);
+                ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                        .header(HttpHeaders.ACCEPT_RANGES, archive.rangeable() ? "bytes" : "none")
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + archive.name())
+                        .eTag(archive.eTag());
+                if (archive.lastModified() != null) {
+                    builder.lastModified(archive.lastModified());
+                }
+                return builder
+                        .contentType(contentType)
+                        .contentLength(archive.length())
+                        .body(fileStreamingService.getStreamingResponseBody(archiveStream,
+                                StreamingEndpoint.ARCHIVE, owner));
+            } catch (Exception e) {
+                log.warn("Error while downloading archive of files for project {}", projectId, e);
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(null);
+            }
+        });
+    }
+
     @Operation(summary = "Update Project Cover")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cover updated successfully"),
@@ -176,6 +450,18 @@ public class ProjectFileController {
         return ResponseEntity.ok().build();
     }
 
+    @Operation(summary = "Get project gallery",
+            description = "Returns the gallery images with the keys of their generated renditions.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Gallery retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Project not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error occurred during processing")
+    })
+    @GetMapping("/{projectId}/gallery")
+    public ResponseEntity<List<GalleryImageDto>> getProjectGallery(@PathVariable Long projectId) {
+        return ResponseEntity.ok(projectFilesService.getProjectGallery(projectId));
+    }
+
     @Operation(summary = "Remove image from project gallery")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Image removed successfully"),
@@ -189,8 +475,80 @@ public class ProjectFileController {
         return ResponseEntity.ok().build();
     }
 
+    private ResponseEntity<StreamingResponseBody> downloadWholeFile(Long resourceId, TransferOwner owner) {
+        InputStream fileStream = projectFilesService.downloadFile(resourceId);
+        StreamingResponseBody responseBody =
+                fileStreamingService.getStreamingResponseBody(fileStream, StreamingEndpoint.FILE, owner);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentType(MediaType.parseMediaType(getMimeType(resourceId)))
+                .body(responseBody);
+    }
+
+    private ResponseEntity<StreamingResponseBody> downloadFileRanges(Long resourceId, String range, String ifRange,
+                                                                     TransferOwner owner) {
+        FileRangeSource file = projectFilesService.getFileRangeSource(resourceId);
+        if (!fileStreamingService.isRangeApplicable(ifRange, file)) {
+            log.info("If-Range {} doesn't match file {}, sending the whole file", ifRange, resourceId);
+            return downloadWholeFile(resourceId, owner);
+        }
+
+        List<ByteRange> ranges;
+        try {
+            ranges = fileStreamingService.resolveRanges(range, file.length());
+        } catch (RangeNotSatisfiableException e) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + file.length())
+                    .build();
+        }
+        if (ranges.isEmpty()) {
+            log.info("Range {} of file {} is ignored, sending the whole file", range, resourceId);
+            return downloadWholeFile(resourceId, owner);
+        }
+
+        String contentType = getMimeType(file.name());
+        if (ranges.size() == 1) {
+            ByteRange byteRange = ranges.get(0);
+            return partialContent(file)
+                    .header(HttpHeaders.CONTENT_RANGE, byteRange.toContentRange(file.length()))
+                    .contentType(MediaType.parseMediaType(contentType))
+                    .contentLength(byteRange.length())
+                    .body(fileStreamingService.getStreamingResponseBody(file, byteRange, owner));
+        }
+
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        return partialContent(file)
+                .contentType(MediaType.parseMediaType("multipart/byteranges; boundary=" + boundary))
+                .contentLength(fileStreamingService.getMultipartRangesLength(file, ranges, contentType, boundary))
+                .body(fileStreamingService.getStreamingResponseBodyInRanges(file, ranges, contentType, boundary,
+                        owner));
+    }
+
+    private ResponseEntity.BodyBuilder partialContent(FileRangeSource file) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (file.eTag() != null) {
+            builder.eTag(file.eTag());
+        }
+        if (file.lastModified() != null) {
+            builder.lastModified(file.lastModified());
+        }
+        return builder;
+    }
+
+    private TransferOwner getTransferOwner(Long resourceId, Long userId) {
+        Resource resource = resourceService.findById(resourceId);
+        return new TransferOwner(resource.getProject().getId(), userId);
+    }
+
     private String getMimeType(Long resourceId) {
         Resource resource = resourceService.findById(resourceId);
-        return URLConnection.guessContentTypeFromName(resource.getName());
+        return getMimeType(resource.getName());
+    }
+
+    private String getMimeType(String fileName) {
+        String mimeType = URLConnection.guessContentTypeFromName(fileName);
+        return mimeType == null ? MediaType.APPLICATION_OCTET_STREAM_VALUE : mimeType;
     }
 }
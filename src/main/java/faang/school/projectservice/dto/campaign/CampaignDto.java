@@ -0,0 +1,30 @@
+package faang.school.projectservice.dto.campaign;
+
+import faang.school.projectservice.dto.client.Currency;
+import faang.school.projectservice.model.CampaignStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignDto {
+
+    private Long id;
+    private String title;
+    private String description;
+    private BigDecimal goal;
+    private BigDecimal amountRaised;
+    private CampaignStatus status;
+    private Currency currency;
+    private Long projectId;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,23 @@
+package faang.school.projectservice.dto.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GalleryImageDto {
+
+    private String fileKey;
+
+    private String thumbnailKey;
+
+    private String mediumKey;
+
+    private String fullKey;
+}
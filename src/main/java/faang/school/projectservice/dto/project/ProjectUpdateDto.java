@@ -40,6 +40,8 @@ public class ProjectUpdateDto {
 
     private String coverImageId;
 
+    private String coverThumbnailKey;
+
     @NotNull
     private ProjectStatus status;
 
@@ -0,0 +1,20 @@
+package faang.school.projectservice.dto.resource;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchUploadResultDto {
+
+    private String fileName;
+    private boolean uploaded;
+    private Long resourceId;
+    private String error;
+}
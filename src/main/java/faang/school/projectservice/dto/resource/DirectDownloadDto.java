@@ -0,0 +1,20 @@
+package faang.school.projectservice.dto.resource;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectDownloadDto {
+
+    private String url;
+    private Instant expiresAt;
+}
@@ -0,0 +1,22 @@
+package faang.school.projectservice.dto.resource;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectUploadDto {
+
+    private Long uploadId;
+    private String key;
+    private String url;
+    private Instant expiresAt;
+}
@@ -0,0 +1,29 @@
+package faang.school.projectservice.dto.resource;
+
+import faang.school.projectservice.model.ResourceStatus;
+import faang.school.projectservice.model.ResourceType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceDto {
+
+    private Long id;
+    private String name;
+    private BigInteger size;
+    private ResourceType type;
+    private ResourceStatus status;
+    private Long createdById;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
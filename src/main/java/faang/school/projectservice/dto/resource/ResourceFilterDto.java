@@ -0,0 +1,28 @@
+package faang.school.projectservice.dto.resource;
+
+import faang.school.projectservice.dto.filter.FilterDto;
+import faang.school.projectservice.model.ResourceType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceFilterDto implements FilterDto {
+    private List<ResourceType> types;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+    private Long createdBy;
+    private String namePattern;
+}
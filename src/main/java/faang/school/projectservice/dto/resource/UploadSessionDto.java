@@ -0,0 +1,25 @@
+package faang.school.projectservice.dto.resource;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionDto {
+
+    private Long sessionId;
+    private long size;
+    private int chunkSize;
+    private long offset;
+    private List<Long> receivedOffsets;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,7 @@
+package faang.school.projectservice.exception.customexception;
+
+public class RangeNotSatisfiableException extends RuntimeException {
+    public RangeNotSatisfiableException(String message) {
+        super(message);
+    }
+}
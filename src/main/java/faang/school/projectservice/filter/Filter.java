@@ -1,6 +1,7 @@
 package faang.school.projectservice.filter;
 
 import faang.school.projectservice.dto.filter.FilterDto;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.stream.Stream;
 
@@ -8,4 +9,8 @@ public interface Filter<T, F extends FilterDto> {
     boolean isApplicable(F filterDto);
 
     Stream<T> apply(Stream<T> objects, F filterDto);
+
+    default Specification<T> toSpecification(F filterDto) {
+        return null;
+    }
 }
@@ -0,0 +1,36 @@
+package faang.school.projectservice.filter;
+
+import faang.school.projectservice.dto.filter.FilterDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class FilterExecutor {
+
+    public <T, F extends FilterDto> Page<T> findAll(JpaSpecificationExecutor<T> repository,
+                                                    Specification<T> specification,
+                                                    List<? extends Filter<T, F>> filters,
+                                                    F filterDto,
+                                                    Pageable pageable) {
+        Specification<T> query = Specification.where(specification);
+        if (filterDto != null) {
+            for (Filter<T, F> filter : filters) {
+                if (!filter.isApplicable(filterDto)) {
+                    continue;
+                }
+                Specification<T> filterSpecification = filter.toSpecification(filterDto);
+                if (filterSpecification == null) {
+                    throw new IllegalStateException("Filter %s cannot be applied to a paged query"
+                            .formatted(filter.getClass().getSimpleName()));
+                }
+                query = query.and(filterSpecification);
+            }
+        }
+        return repository.findAll(query, pageable);
+    }
+}
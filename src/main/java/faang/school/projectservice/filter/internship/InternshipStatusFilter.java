@@ -3,6 +3,7 @@ package faang.school.projectservice.filter.internship;
 import faang.school.projectservice.dto.internship.InternshipFilterDto;
 import faang.school.projectservice.filter.Filter;
 import faang.school.projectservice.model.Internship;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.util.stream.Stream;
@@ -19,4 +20,9 @@ public class InternshipStatusFilter implements Filter<Internship, InternshipFilt
     public Stream<Internship> apply(Stream<Internship> internships, InternshipFilterDto filterDto) {
         return internships.filter(internship -> internship.getStatus().equals(filterDto.getInternshipStatus()));
     }
-}
\ No newline at end of file
+
+    @Override
+    public Specification<Internship> toSpecification(InternshipFilterDto filterDto) {
+        return (root, query, cb) -> cb.equal(root.get("status"), filterDto.getInternshipStatus());
+    }
+}
@@ -3,8 +3,11 @@ package faang.school.projectservice.filter.internship;
 import faang.school.projectservice.dto.internship.InternshipFilterDto;
 import faang.school.projectservice.filter.Filter;
 import faang.school.projectservice.model.Internship;
+import faang.school.projectservice.model.TeamRole;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 @Component
@@ -19,4 +22,10 @@ public class InternshipTeamRoleFilter implements Filter<Internship, InternshipFi
     public Stream<Internship> apply(Stream<Internship> internships, InternshipFilterDto filterDto) {
         return internships.filter(internship -> internship.getMentorId().getRoles().contains(filterDto.getTeamRole()));
     }
-}
\ No newline at end of file
+
+    @Override
+    public Specification<Internship> toSpecification(InternshipFilterDto filterDto) {
+        return (root, query, cb) ->
+                cb.isMember(filterDto.getTeamRole(), root.get("mentorId").<List<TeamRole>>get("roles"));
+    }
+}
@@ -3,6 +3,7 @@ package faang.school.projectservice.filter.moment;
 import faang.school.projectservice.dto.moment.MomentFilterDto;
 import faang.school.projectservice.filter.Filter;
 import faang.school.projectservice.model.Moment;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -27,4 +28,11 @@ public class MomentDateFilter implements Filter<Moment, MomentFilterDto> {
         });
     }
 
+    @Override
+    public Specification<Moment> toSpecification(MomentFilterDto filters) {
+        LocalDate day = filters.getDatePattern().toLocalDate();
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("date"), day.atStartOfDay()),
+                cb.lessThan(root.get("date"), day.plusDays(1).atStartOfDay()));
+    }
 }
@@ -4,6 +4,7 @@ import faang.school.projectservice.dto.moment.MomentFilterDto;
 import faang.school.projectservice.filter.Filter;
 import faang.school.projectservice.model.Moment;
 import faang.school.projectservice.model.Project;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.util.stream.Stream;
@@ -13,7 +14,7 @@ public class MomentProjectsFilter implements Filter<Moment, MomentFilterDto> {
 
     @Override
     public boolean isApplicable(MomentFilterDto filters) {
-        return filters != null && !filters.getProjectsPattern().isBlank();
+        return filters != null && filters.getProjectsPattern() != null && !filters.getProjectsPattern().isBlank();
     }
 
     @Override
@@ -25,4 +26,11 @@ public class MomentProjectsFilter implements Filter<Moment, MomentFilterDto> {
         );
     }
 
+    @Override
+    public Specification<Moment> toSpecification(MomentFilterDto filters) {
+        return (root, query, cb) -> {
+            query.distinct(true);
+            return cb.equal(root.join("projects").get("name"), filters.getProjectsPattern());
+        };
+    }
 }
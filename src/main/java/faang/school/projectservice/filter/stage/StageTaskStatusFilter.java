@@ -2,11 +2,17 @@ package faang.school.projectservice.filter.stage;
 
 import faang.school.projectservice.dto.stage.StageFilterDto;
 import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.model.TaskStatus;
 import faang.school.projectservice.model.stage.Stage;
 import io.micrometer.common.util.StringUtils;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
 
+@Component
 public class StageTaskStatusFilter implements Filter<Stage, StageFilterDto> {
 
     @Override
@@ -22,4 +28,19 @@ public class StageTaskStatusFilter implements Filter<Stage, StageFilterDto> {
                         .anyMatch(task ->
                                 task.getStatus().name().toLowerCase().contains(taskStatusPattern)));
     }
+
+    @Override
+    public Specification<Stage> toSpecification(StageFilterDto stageFilterDto) {
+        String taskStatusPattern = stageFilterDto.getTaskStatusPattern().toLowerCase();
+        List<TaskStatus> statuses = Arrays.stream(TaskStatus.values())
+                .filter(status -> status.name().toLowerCase().contains(taskStatusPattern))
+                .toList();
+        return (root, query, cb) -> {
+            if (statuses.isEmpty()) {
+                return cb.disjunction();
+            }
+            query.distinct(true);
+            return root.join("tasks").get("status").in(statuses);
+        };
+    }
 }
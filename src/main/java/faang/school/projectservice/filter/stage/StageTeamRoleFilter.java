@@ -2,11 +2,17 @@ package faang.school.projectservice.filter.stage;
 
 import faang.school.projectservice.dto.stage.StageFilterDto;
 import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.model.TeamRole;
 import faang.school.projectservice.model.stage.Stage;
 import io.micrometer.common.util.StringUtils;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
 
+@Component
 public class StageTeamRoleFilter implements Filter<Stage, StageFilterDto> {
 
     @Override
@@ -28,4 +34,19 @@ public class StageTeamRoleFilter implements Filter<Stage, StageFilterDto> {
                         )
         );
     }
+
+    @Override
+    public Specification<Stage> toSpecification(StageFilterDto stageFilterDto) {
+        String teamRolePattern = stageFilterDto.getTeamRolePattern().toLowerCase();
+        List<TeamRole> teamRoles = Arrays.stream(TeamRole.values())
+                .filter(teamRole -> teamRole.name().toLowerCase().contains(teamRolePattern))
+                .toList();
+        return (root, query, cb) -> {
+            if (teamRoles.isEmpty()) {
+                return cb.disjunction();
+            }
+            query.distinct(true);
+            return root.join("stageRoles").get("teamRole").in(teamRoles);
+        };
+    }
 }
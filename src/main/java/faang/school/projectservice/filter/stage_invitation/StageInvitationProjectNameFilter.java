@@ -0,0 +1,33 @@
+package faang.school.projectservice.filter.stage_invitation;
+
+import faang.school.projectservice.dto.stage_invitation.StageInvitationFilterDto;
+import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.model.stage_invitation.StageInvitation;
+import faang.school.projectservice.repository.specification.LikePatterns;
+import io.micrometer.common.util.StringUtils;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+@Component
+public class StageInvitationProjectNameFilter implements Filter<StageInvitation, StageInvitationFilterDto> {
+
+    @Override
+    public boolean isApplicable(StageInvitationFilterDto filterDto) {
+        return filterDto != null && StringUtils.isNotBlank(filterDto.getProjectNamePattern());
+    }
+
+    @Override
+    public Stream<StageInvitation> apply(Stream<StageInvitation> invitations, StageInvitationFilterDto filterDto) {
+        String pattern = filterDto.getProjectNamePattern().toLowerCase();
+        return invitations.filter(invitation -> invitation.getStage().getProject().getName() != null
+                && invitation.getStage().getProject().getName().toLowerCase().contains(pattern));
+    }
+
+    @Override
+    public Specification<StageInvitation> toSpecification(StageInvitationFilterDto filterDto) {
+        String pattern = LikePatterns.contains(filterDto.getProjectNamePattern());
+        return (root, query, cb) -> cb.like(cb.lower(root.get("stage").get("project").get("name")), pattern, '\\');
+    }
+}
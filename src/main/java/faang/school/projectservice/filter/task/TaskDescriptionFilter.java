@@ -0,0 +1,33 @@
+package faang.school.projectservice.filter.task;
+
+import faang.school.projectservice.dto.task.TaskFilterDto;
+import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.model.Task;
+import faang.school.projectservice.repository.specification.LikePatterns;
+import io.micrometer.common.util.StringUtils;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+@Component
+public class TaskDescriptionFilter implements Filter<Task, TaskFilterDto> {
+
+    @Override
+    public boolean isApplicable(TaskFilterDto filterDto) {
+        return filterDto != null && StringUtils.isNotBlank(filterDto.getDescriptionPattern());
+    }
+
+    @Override
+    public Stream<Task> apply(Stream<Task> tasks, TaskFilterDto filterDto) {
+        String pattern = filterDto.getDescriptionPattern().toLowerCase();
+        return tasks.filter(task -> task.getDescription() != null
+                && task.getDescription().toLowerCase().contains(pattern));
+    }
+
+    @Override
+    public Specification<Task> toSpecification(TaskFilterDto filterDto) {
+        String pattern = LikePatterns.contains(filterDto.getDescriptionPattern());
+        return (root, query, cb) -> cb.like(cb.lower(root.get("description")), pattern, '\\');
+    }
+}
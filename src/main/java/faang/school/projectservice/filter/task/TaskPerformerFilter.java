@@ -0,0 +1,28 @@
+package faang.school.projectservice.filter.task;
+
+import faang.school.projectservice.dto.task.TaskFilterDto;
+import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.model.Task;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+@Component
+public class TaskPerformerFilter implements Filter<Task, TaskFilterDto> {
+
+    @Override
+    public boolean isApplicable(TaskFilterDto filterDto) {
+        return filterDto != null && filterDto.getPerformerUserId() != null;
+    }
+
+    @Override
+    public Stream<Task> apply(Stream<Task> tasks, TaskFilterDto filterDto) {
+        return tasks.filter(task -> filterDto.getPerformerUserId().equals(task.getPerformerUserId()));
+    }
+
+    @Override
+    public Specification<Task> toSpecification(TaskFilterDto filterDto) {
+        return (root, query, cb) -> cb.equal(root.get("performerUserId"), filterDto.getPerformerUserId());
+    }
+}
@@ -0,0 +1,41 @@
+package faang.school.projectservice.filter.task;
+
+import faang.school.projectservice.dto.task.TaskFilterDto;
+import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.model.Task;
+import faang.school.projectservice.model.TaskStatus;
+import io.micrometer.common.util.StringUtils;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Component
+public class TaskStatusFilter implements Filter<Task, TaskFilterDto> {
+
+    @Override
+    public boolean isApplicable(TaskFilterDto filterDto) {
+        return filterDto != null && StringUtils.isNotBlank(filterDto.getStatusPattern());
+    }
+
+    @Override
+    public Stream<Task> apply(Stream<Task> tasks, TaskFilterDto filterDto) {
+        List<TaskStatus> statuses = matchingStatuses(filterDto);
+        return tasks.filter(task -> statuses.contains(task.getStatus()));
+    }
+
+    @Override
+    public Specification<Task> toSpecification(TaskFilterDto filterDto) {
+        List<TaskStatus> statuses = matchingStatuses(filterDto);
+        return (root, query, cb) -> statuses.isEmpty() ? cb.disjunction() : root.get("status").in(statuses);
+    }
+
+    private List<TaskStatus> matchingStatuses(TaskFilterDto filterDto) {
+        String statusPattern = filterDto.getStatusPattern().trim().toLowerCase();
+        return Arrays.stream(TaskStatus.values())
+                .filter(status -> status.name().toLowerCase().contains(statusPattern))
+                .toList();
+    }
+}
@@ -3,9 +3,13 @@ package faang.school.projectservice.filter.vacancy;
 import faang.school.projectservice.dto.vacancy.VacancyFilterDto;
 import faang.school.projectservice.filter.Filter;
 import faang.school.projectservice.model.Vacancy;
+import faang.school.projectservice.repository.specification.LikePatterns;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
 
 import java.util.stream.Stream;
 
+@Component
 public class VacancyNameFilter implements Filter<Vacancy, VacancyFilterDto> {
 
     @Override
@@ -18,4 +22,10 @@ public class VacancyNameFilter implements Filter<Vacancy, VacancyFilterDto> {
         return vacancies.filter(vacancy ->
                 vacancy.getName().toLowerCase().contains(filters.getNamePattern().toLowerCase()));
     }
+
+    @Override
+    public Specification<Vacancy> toSpecification(VacancyFilterDto filters) {
+        String pattern = LikePatterns.contains(filters.getNamePattern());
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern, '\\');
+    }
 }
@@ -5,6 +5,7 @@ import faang.school.projectservice.dto.project.ProjectDto;
 import faang.school.projectservice.dto.project.ProjectUpdateDto;
 import faang.school.projectservice.model.Project;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
 @Mapper(
@@ -19,5 +20,6 @@ public interface ProjectMapper {
 
     Project toEntity(ProjectDto dto);
 
+    @Mapping(source = "coverRenditions.thumbnailKey", target = "coverThumbnailKey")
     ProjectUpdateDto toDto(Project entity);
 }
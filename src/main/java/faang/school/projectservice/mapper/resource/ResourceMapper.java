@@ -0,0 +1,16 @@
+package faang.school.projectservice.mapper.resource;
+
+import faang.school.projectservice.dto.resource.ResourceDto;
+import faang.school.projectservice.repository.ResourceRepository;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ResourceMapper {
+
+    ResourceDto toDto(ResourceRepository.ResourceRow row);
+
+    List<ResourceDto> toDtos(List<ResourceRepository.ResourceRow> rows);
+}
@@ -0,0 +1,36 @@
+package faang.school.projectservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageRenditions {
+
+    @Column(name = "thumbnail_key")
+    private String thumbnailKey;
+
+    @Column(name = "medium_key")
+    private String mediumKey;
+
+    @Column(name = "full_key")
+    private String fullKey;
+
+    public List<String> keys() {
+        return Stream.of(thumbnailKey, mediumKey, fullKey)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+}
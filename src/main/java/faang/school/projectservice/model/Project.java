@@ -3,12 +3,16 @@ package faang.school.projectservice.model;
 import java.math.BigInteger;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import faang.school.projectservice.model.stage.Stage;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -19,6 +23,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapKeyColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -49,7 +54,7 @@ public class Project {
     @Column(name = "description", length = 4096)
     private String description;
 
-    @Column(name = "storage_size")
+    @Column(name = "storage_size", insertable = false, updatable = false)
     private BigInteger storageSize;
 
     @Column(name = "max_storage_size")
@@ -91,6 +96,14 @@ public class Project {
     @Column(name = "cover_image_id")
     private String coverImageId;
 
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "thumbnailKey", column = @Column(name = "cover_thumbnail_key")),
+            @AttributeOverride(name = "mediumKey", column = @Column(name = "cover_medium_key")),
+            @AttributeOverride(name = "fullKey", column = @Column(name = "cover_full_key"))
+    })
+    private ImageRenditions coverRenditions;
+
     @OneToMany(mappedBy = "project")
     private List<Team> teams;
 
@@ -109,14 +122,22 @@ public class Project {
     @OneToMany(mappedBy = "project")
     private List<Meet> meets;
 
-    @Column(name = "presentation_file_key")
+    @Column(name = "presentation_file_key", insertable = false, updatable = false)
     private String presentationFileKey;
 
-    @Column(name = "presentation_generated_at")
+    @Column(name = "presentation_generated_at", insertable = false, updatable = false)
     private LocalDateTime presentationGeneratedAt;
 
+    @Column(name = "presentation_version", insertable = false, updatable = false)
+    private Long presentationVersion;
+
     @ElementCollection
     @CollectionTable(name = "project_gallery", joinColumns = @JoinColumn(name = "project_id"))
     @Column(name = "file_key", nullable = false)
     private List<String> galleryFileKeys;
+
+    @ElementCollection
+    @CollectionTable(name = "project_gallery_rendition", joinColumns = @JoinColumn(name = "project_id"))
+    @MapKeyColumn(name = "file_key")
+    private Map<String, ImageRenditions> galleryRenditions;
 }
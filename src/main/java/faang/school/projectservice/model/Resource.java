@@ -11,6 +11,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
@@ -33,7 +34,8 @@ import java.util.List;
 @AllArgsConstructor
 public class Resource {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resource_id_seq")
+    @SequenceGenerator(name = "resource_id_seq", sequenceName = "resource_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false)
@@ -43,6 +45,13 @@ public class Resource {
 
     private BigInteger size;
 
+    @Column(name = "crc32")
+    private Long crc32;
+
+    @ManyToOne
+    @JoinColumn(name = "blob_id")
+    private ResourceBlob blob;
+
     @ElementCollection(targetClass = TeamRole.class)
     @CollectionTable(name = "resource_allowed_roles",
             joinColumns = @JoinColumn(name = "resource_id"))
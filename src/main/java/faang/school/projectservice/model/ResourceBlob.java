@@ -0,0 +1,49 @@
+package faang.school.projectservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "resource_blob")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceBlob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sha256", length = 64, nullable = false, unique = true)
+    private String sha256;
+
+    @Column(name = "key", nullable = false)
+    private String key;
+
+    @Column(name = "size", nullable = false)
+    private Long size;
+
+    @Column(name = "crc32")
+    private Long crc32;
+
+    @Column(name = "reference_count", nullable = false)
+    private int referenceCount;
+
+    @CreationTimestamp
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
@@ -1,21 +1,34 @@
 package faang.school.projectservice.repository;
 
+import faang.school.projectservice.dto.campaign.CampaignDto;
 import faang.school.projectservice.model.Campaign;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CampaignRepository extends JpaRepository<Campaign, Long> {
+
+    String SEARCH_MATCH = """
+            FROM campaign c JOIN project p ON p.id = c.project_id, websearch_to_tsquery('simple', :text) q
+            WHERE (p.visibility = 'PUBLIC' OR p.owner_id = :userId)
+              AND (c.search_vector @@ q
+                   OR lower(c.title) LIKE :pattern ESCAPE '\\'
+                   OR lower(c.description) LIKE :pattern ESCAPE '\\'
+                   OR lower(c.title) % :text)
+            """;
+
     Optional<Campaign> findByTitleAndProjectId(String title, Long projectId);
 
     @Query(
             "SELECT c FROM Campaign c " +
-            "WHERE (:namePattern IS NULL OR c.title LIKE %:namePattern%) " +
+            "WHERE (:namePattern IS NULL OR LOWER(c.title) LIKE :namePattern ESCAPE '\\') " +
             "AND (:minGoal IS NULL OR c.goal >= :minGoal) " +
             "AND (:maxGoal IS NULL OR c.goal <= :maxGoal) " +
             "AND (:status IS NULL OR c.status = :status)"
@@ -25,4 +38,15 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
                                     @Param("maxGoal") BigDecimal maxGoal,
                                     @Param("status") String status,
                                     Pageable pageable);
+
+    @Query(nativeQuery = true,
+            value = "SELECT c.id " + SEARCH_MATCH
+                    + "ORDER BY ts_rank(c.search_vector, q) + similarity(lower(c.title), :text) DESC, c.id",
+            countQuery = "SELECT COUNT(*) " + SEARCH_MATCH)
+    Page<Long> searchIds(@Param("text") String text, @Param("pattern") String pattern,
+                         @Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT new faang.school.projectservice.dto.campaign.CampaignDto(c.id, c.title, c.description, c.goal, "
+            + "c.amountRaised, c.status, c.currency, c.project.id, c.createdAt) FROM Campaign c WHERE c.id IN :ids")
+    List<CampaignDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,21 @@
+package faang.school.projectservice.repository;
+
+import faang.school.projectservice.model.DirectUpload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DirectUploadRepository extends JpaRepository<DirectUpload, Long> {
+
+    List<DirectUpload> findAllByCreatedAtBefore(LocalDateTime threshold);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DirectUpload u WHERE u.id = :id")
+    int deleteUpload(@Param("id") Long id);
+}
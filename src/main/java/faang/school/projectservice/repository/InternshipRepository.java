@@ -2,6 +2,7 @@ package faang.school.projectservice.repository;
 
 import faang.school.projectservice.model.Internship;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-public interface InternshipRepository extends JpaRepository<Internship, Long> {
+public interface InternshipRepository extends JpaRepository<Internship, Long>, JpaSpecificationExecutor<Internship> {
 }
@@ -2,11 +2,12 @@ package faang.school.projectservice.repository;
 
 import faang.school.projectservice.model.Moment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
-public interface MomentRepository extends JpaRepository<Moment, Long> {
+public interface MomentRepository extends JpaRepository<Moment, Long>, JpaSpecificationExecutor<Moment> {
 
     @Query(nativeQuery = true, value = """
     select m.* from moment m
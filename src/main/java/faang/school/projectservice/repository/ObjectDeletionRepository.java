@@ -0,0 +1,47 @@
+package faang.school.projectservice.repository;
+
+import faang.school.projectservice.model.ObjectDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ObjectDeletionRepository extends JpaRepository<ObjectDeletion, Long> {
+
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO object_deletion (key) VALUES (:key) ON CONFLICT (key) DO NOTHING")
+    int schedule(@Param("key") String key);
+
+    @Query("SELECT d FROM ObjectDeletion d WHERE d.attempts < :maxAttempts AND d.id > :afterId ORDER BY d.id")
+    List<ObjectDeletion> findPendingAfter(@Param("maxAttempts") int maxAttempts, @Param("afterId") long afterId,
+                                          Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ObjectDeletion d WHERE d.key IN :keys")
+    int deleteByKeys(@Param("keys") Collection<String> keys);
+
+    @Modifying
+    @Query("UPDATE ObjectDeletion d SET d.attempts = d.attempts + 1 WHERE d.key IN :keys")
+    int incrementAttempts(@Param("keys") Collection<String> keys);
+
+    @Query(nativeQuery = true, value = """
+            SELECT r.key FROM project_resource r WHERE r.status <> 'DELETED' AND r.key IN (:keys)
+            UNION SELECT b.key FROM resource_blob b WHERE b.key IN (:keys)
+            UNION SELECT d.key FROM direct_upload d WHERE d.key IN (:keys)
+            UNION SELECT g.file_key FROM project_gallery g WHERE g.file_key IN (:keys)
+            UNION SELECT k.key FROM project p CROSS JOIN LATERAL (VALUES (p.cover_image_id), (p.cover_thumbnail_key),
+                (p.cover_medium_key), (p.cover_full_key), (p.presentation_file_key)) AS k(key) WHERE k.key IN (:keys)
+            UNION SELECT k.key FROM project_gallery_rendition gr CROSS JOIN LATERAL (VALUES (gr.thumbnail_key),
+                (gr.medium_key), (gr.full_key)) AS k(key) WHERE k.key IN (:keys)
+            UNION SELECT t.avatar_key FROM team t WHERE t.avatar_key IN (:keys)
+            UNION SELECT v.cover_image_key FROM vacancy v WHERE v.cover_image_key IN (:keys)
+            UNION SELECT c.resume_doc_key FROM candidate c WHERE c.resume_doc_key IN (:keys)
+            UNION SELECT m.image_id FROM moment m WHERE m.image_id IN (:keys)
+            UNION SELECT a.key FROM project_archive a WHERE a.key IN (:keys)
+            """)
+    List<String> findReferencedKeys(@Param("keys") Collection<String> keys);
+}
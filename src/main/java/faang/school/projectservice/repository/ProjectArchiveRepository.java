@@ -0,0 +1,22 @@
+package faang.school.projectservice.repository;
+
+import faang.school.projectservice.model.ProjectArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProjectArchiveRepository extends JpaRepository<ProjectArchive, Long> {
+
+    Optional<ProjectArchive> findByProjectIdAndFingerprint(Long projectId, String fingerprint);
+
+    @Query("SELECT a.key FROM ProjectArchive a WHERE a.projectId = :projectId")
+    List<String> findKeysByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM ProjectArchive a WHERE a.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
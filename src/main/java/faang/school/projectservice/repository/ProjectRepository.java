@@ -1,11 +1,42 @@
 package faang.school.projectservice.repository;
 
 import faang.school.projectservice.model.Project;
-import feign.Param;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectRepositoryCustom {
+
+    interface GalleryImage {
+        Long getProjectId();
+
+        String getFileKey();
+    }
+
+    String EXPECTED_STORAGE_SIZE = """
+            (SELECT COALESCE(SUM(r.size), 0) FROM project_resource r
+             WHERE r.project_id = p.id AND r.status = 'ACTIVE' AND r.blob_id IS NULL)
+            + (SELECT COALESCE(SUM(b.size), 0) FROM resource_blob b
+             WHERE b.id IN (SELECT r.blob_id FROM project_resource r
+                            WHERE r.project_id = p.id AND r.status = 'ACTIVE'))
+            + (SELECT COALESCE(SUM(s.size), 0) FROM storage_reservation s WHERE s.project_id = p.id)
+            """;
+
+    String SEARCH_MATCH = """
+            FROM project p, websearch_to_tsquery('simple', :text) q
+            WHERE (p.visibility = 'PUBLIC' OR p.owner_id = :userId)
+              AND (p.search_vector @@ q
+                   OR lower(p.name) LIKE :pattern ESCAPE '\\'
+                   OR lower(p.description) LIKE :pattern ESCAPE '\\'
+                   OR lower(p.name) % :text)
+            """;
 
-public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query(
             "SELECT CASE WHEN COUNT(p) > 0 THEN TRUE ELSE FALSE END " +
                     "FROM Project p " +
@@ -16,5 +47,82 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT p FROM Project p LEFT JOIN FETCH p.resources WHERE p.id = :projectId")
     Project findByIdWithResources(@Param("projectId") Long projectId);
 
-}
+    @Query("SELECT p.id FROM Project p WHERE p.coverImageId IS NOT NULL AND p.coverRenditions.thumbnailKey IS NULL")
+    List<Long> findIdsWithMissingCoverRenditions();
+
+    @Query(nativeQuery = true, value = """
+            SELECT g.project_id AS projectId, g.file_key AS fileKey FROM project_gallery g
+            LEFT JOIN project_gallery_rendition r ON r.project_id = g.project_id AND r.file_key = g.file_key
+            WHERE r.file_key IS NULL
+            """)
+    List<GalleryImage> findGalleryImagesWithMissingRenditions();
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE project SET cover_thumbnail_key = :thumbnailKey, cover_medium_key = :mediumKey,
+                               cover_full_key = :fullKey
+            WHERE id = :projectId AND cover_image_id = :coverKey
+            """)
+    int updateCoverRenditions(@Param("projectId") Long projectId, @Param("coverKey") String coverKey,
+                              @Param("thumbnailKey") String thumbnailKey, @Param("mediumKey") String mediumKey,
+                              @Param("fullKey") String fullKey);
 
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO project_gallery_rendition (project_id, file_key, thumbnail_key, medium_key, full_key)
+            SELECT g.project_id, g.file_key, :thumbnailKey, :mediumKey, :fullKey FROM project_gallery g
+            WHERE g.project_id = :projectId AND g.file_key = :fileKey
+            ON CONFLICT (project_id, file_key) DO UPDATE
+            SET thumbnail_key = EXCLUDED.thumbnail_key, medium_key = EXCLUDED.medium_key,
+                full_key = EXCLUDED.full_key
+            """)
+    int upsertGalleryRenditions(@Param("projectId") Long projectId, @Param("fileKey") String fileKey,
+                                @Param("thumbnailKey") String thumbnailKey, @Param("mediumKey") String mediumKey,
+                                @Param("fullKey") String fullKey);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.presentationGeneratedAt = NULL, "
+            + "p.presentationVersion = p.presentationVersion + 1 WHERE p.id = :projectId")
+    int invalidatePresentation(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.presentationFileKey = :key, p.presentationGeneratedAt = :generatedAt "
+            + "WHERE p.id = :projectId AND p.presentationVersion = :version")
+    int storePresentation(@Param("projectId") Long projectId, @Param("version") Long version,
+                          @Param("key") String key, @Param("generatedAt") LocalDateTime generatedAt);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE project SET storage_size = COALESCE(storage_size, 0) + :size
+            WHERE id = :projectId
+              AND max_storage_size IS NOT NULL
+              AND COALESCE(storage_size, 0) + :size <= max_storage_size
+            """)
+    int reserveStorage(@Param("projectId") Long projectId, @Param("size") long size);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE project SET storage_size = GREATEST(COALESCE(storage_size, 0) - :size, 0)
+            WHERE id = :projectId
+            """)
+    int releaseStorage(@Param("projectId") Long projectId, @Param("size") long size);
+
+    @Query(nativeQuery = true, value = "SELECT storage_size FROM project WHERE id = :projectId FOR UPDATE")
+    Long lockStorageSize(@Param("projectId") Long projectId);
+
+    @Query(nativeQuery = true,
+            value = "SELECT p.id " + SEARCH_MATCH
+                    + "ORDER BY ts_rank(p.search_vector, q) + similarity(lower(p.name), :text) DESC, p.id",
+            countQuery = "SELECT COUNT(*) " + SEARCH_MATCH)
+    Page<Long> searchIds(@Param("text") String text, @Param("pattern") String pattern,
+                         @Param("userId") Long userId, Pageable pageable);
+
+    @Query(nativeQuery = true, value = "SELECT p.id FROM project p WHERE COALESCE(p.storage_size, 0) <> "
+            + EXPECTED_STORAGE_SIZE)
+    List<Long> findIdsWithStorageSizeDrift();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE project p SET storage_size = " + EXPECTED_STORAGE_SIZE
+            + " WHERE p.id = :projectId")
+    int reconcileStorageSize(@Param("projectId") Long projectId);
+}
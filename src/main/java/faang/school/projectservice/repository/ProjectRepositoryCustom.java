@@ -0,0 +1,12 @@
+package faang.school.projectservice.repository;
+
+import faang.school.projectservice.dto.project.ProjectUpdateDto;
+import faang.school.projectservice.model.Project;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface ProjectRepositoryCustom {
+
+    Page<ProjectUpdateDto> findUpdateDtos(Specification<Project> specification, Pageable pageable);
+}
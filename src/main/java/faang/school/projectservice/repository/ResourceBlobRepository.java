@@ -0,0 +1,32 @@
+package faang.school.projectservice.repository;
+
+import faang.school.projectservice.model.ResourceBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface ResourceBlobRepository extends JpaRepository<ResourceBlob, Long> {
+
+    Optional<ResourceBlob> findBySha256(String sha256);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ResourceBlob b SET b.referenceCount = b.referenceCount + 1 " +
+            "WHERE b.id = :id AND b.referenceCount > 0")
+    int incrementReferenceCount(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ResourceBlob b SET b.referenceCount = b.referenceCount - 1 " +
+            "WHERE b.id = :id AND b.referenceCount > 0")
+    int decrementReferenceCount(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ResourceBlob b WHERE b.id = :id AND b.referenceCount = 0")
+    int deleteIfUnreferenced(@Param("id") Long id);
+}
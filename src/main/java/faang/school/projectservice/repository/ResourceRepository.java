@@ -1,8 +1,59 @@
 package faang.school.projectservice.repository;
 
 import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.model.ResourceStatus;
+import faang.school.projectservice.model.ResourceType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ResourceRepository extends JpaRepository<Resource, Long> {
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
+public interface ResourceRepository extends JpaRepository<Resource, Long>, JpaSpecificationExecutor<Resource> {
+
+    interface ResourceRow {
+        Long getId();
+
+        String getName();
+
+        BigInteger getSize();
+
+        ResourceType getType();
+
+        ResourceStatus getStatus();
+
+        Long getCreatedById();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    boolean existsByProjectIdAndBlobIdAndStatus(Long projectId, Long blobId, ResourceStatus status);
+
+    boolean existsByProjectIdAndBlobIdAndStatusAndIdNot(Long projectId, Long blobId, ResourceStatus status, Long id);
+
+    @Query("SELECT r.id AS id, r.name AS name, r.size AS size, r.type AS type, r.status AS status, "
+            + "r.createdBy.id AS createdById, r.createdAt AS createdAt, r.updatedAt AS updatedAt FROM Resource r "
+            + "WHERE r.project.id = :projectId AND r.status = :status AND (:anyType = true OR r.type IN :types) "
+            + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ResourceRow> findRows(@Param("projectId") Long projectId, @Param("status") ResourceStatus status,
+                               @Param("anyType") boolean anyType, @Param("types") Collection<ResourceType> types,
+                               Pageable pageable);
+
+    @Query("SELECT r.id AS id, r.name AS name, r.size AS size, r.type AS type, r.status AS status, "
+            + "r.createdBy.id AS createdById, r.createdAt AS createdAt, r.updatedAt AS updatedAt FROM Resource r "
+            + "WHERE r.project.id = :projectId AND r.status = :status AND (:anyType = true OR r.type IN :types) "
+            + "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) "
+            + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ResourceRow> findRowsBefore(@Param("projectId") Long projectId, @Param("status") ResourceStatus status,
+                                     @Param("anyType") boolean anyType,
+                                     @Param("types") Collection<ResourceType> types,
+                                     @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                     Pageable pageable);
 }
@@ -2,6 +2,7 @@ package faang.school.projectservice.repository;
 
 import faang.school.projectservice.model.stage.Stage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-public interface StageRepository extends JpaRepository<Stage, Long> {
+public interface StageRepository extends JpaRepository<Stage, Long>, JpaSpecificationExecutor<Stage> {
 }
@@ -0,0 +1,21 @@
+package faang.school.projectservice.repository;
+
+import faang.school.projectservice.model.StorageReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface StorageReservationRepository extends JpaRepository<StorageReservation, Long> {
+
+    @Modifying
+    @Query("DELETE FROM StorageReservation s WHERE s.id = :id")
+    int deleteReservation(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM StorageReservation s WHERE s.createdAt < :threshold "
+            + "AND s.id NOT IN (SELECT u.reservationId FROM UploadSession u)")
+    int deleteCreatedBefore(@Param("threshold") LocalDateTime threshold);
+}
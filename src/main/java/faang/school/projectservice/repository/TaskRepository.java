@@ -1,10 +1,32 @@
 package faang.school.projectservice.repository;
 
 import faang.school.projectservice.model.Task;
+import faang.school.projectservice.model.TaskStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+
+    interface TaskRow {
+        Long getId();
+
+        String getName();
+
+        LocalDateTime getUpdatedAt();
+    }
+
     List<Task> findAllByProjectId(Long projectId);
+
+    long countByProjectId(Long projectId);
+
+    @Query("SELECT t.id AS id, t.name AS name, t.updatedAt AS updatedAt FROM Task t "
+            + "WHERE t.project.id = :projectId AND t.status = :status AND t.id > :afterId ORDER BY t.id")
+    List<TaskRow> findRowsAfter(@Param("projectId") Long projectId, @Param("status") TaskStatus status,
+                                @Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,26 @@
+package faang.school.projectservice.repository;
+
+import faang.school.projectservice.model.UploadSessionPart;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface UploadSessionPartRepository extends JpaRepository<UploadSessionPart, Long> {
+
+    List<UploadSessionPart> findAllBySessionIdOrderByPartNumber(Long sessionId);
+
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO upload_session_part (session_id, part_number, size, etag, crc32)
+            VALUES (:sessionId, :partNumber, :size, :etag, :crc32)
+            ON CONFLICT (session_id, part_number)
+            DO UPDATE SET size = EXCLUDED.size, etag = EXCLUDED.etag, crc32 = EXCLUDED.crc32
+            """)
+    int savePart(@Param("sessionId") Long sessionId, @Param("partNumber") int partNumber, @Param("size") int size,
+                 @Param("etag") String etag, @Param("crc32") long crc32);
+}
@@ -0,0 +1,18 @@
+package faang.school.projectservice.repository.specification;
+
+public final class LikePatterns {
+
+    private LikePatterns() {
+    }
+
+    public static String contains(String text) {
+        StringBuilder pattern = new StringBuilder("%");
+        for (char c : text.toLowerCase().toCharArray()) {
+            if (c == '%' || c == '_' || c == '\\') {
+                pattern.append('\\');
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
@@ -0,0 +1,48 @@
+package faang.school.projectservice.repository.specification;
+
+import faang.school.projectservice.dto.project.ProjectFilterDto;
+import faang.school.projectservice.model.Project;
+import faang.school.projectservice.model.ProjectStatus;
+import faang.school.projectservice.model.ProjectVisibility;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+public final class ProjectSpecifications {
+
+    private ProjectSpecifications() {
+    }
+
+    public static Specification<Project> visibleMatching(Long userId, ProjectFilterDto filter) {
+        Specification<Project> specification = visibleTo(userId);
+        if (filter == null) {
+            return specification;
+        }
+        if (filter.getName() != null && !filter.getName().isBlank()) {
+            specification = specification.and(nameContains(filter.getName().trim()));
+        }
+        if (filter.getProjectStatus() != null) {
+            specification = specification.and(hasStatus(filter.getProjectStatus()));
+        }
+        return specification;
+    }
+
+    public static Specification<Project> visibleTo(Long userId) {
+        return (root, query, cb) -> cb.or(
+                cb.equal(root.get("visibility"), ProjectVisibility.PUBLIC),
+                cb.equal(root.get("ownerId"), userId));
+    }
+
+    public static Specification<Project> nameContains(String name) {
+        String pattern = LikePatterns.contains(name);
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern, '\\');
+    }
+
+    public static Specification<Project> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Project> hasStatus(ProjectStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+}
@@ -0,0 +1,62 @@
+package faang.school.projectservice.repository.specification;
+
+import faang.school.projectservice.dto.resource.ResourceFilterDto;
+import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.model.ResourceStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class ResourceSpecifications {
+
+    private ResourceSpecifications() {
+    }
+
+    public static Specification<Resource> activeInProject(Long projectId, ResourceFilterDto filter) {
+        Specification<Resource> specification = inProject(projectId).and(hasStatus(ResourceStatus.ACTIVE));
+        if (filter == null) {
+            return specification;
+        }
+        if (filter.getTypes() != null && !filter.getTypes().isEmpty()) {
+            specification = specification.and((root, query, cb) -> root.get("type").in(filter.getTypes()));
+        }
+        if (filter.getCreatedFrom() != null) {
+            specification = specification.and((root, query, cb) ->
+                    cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getCreatedFrom()));
+        }
+        if (filter.getCreatedTo() != null) {
+            specification = specification.and((root, query, cb) ->
+                    cb.lessThan(root.get("createdAt"), filter.getCreatedTo()));
+        }
+        if (filter.getCreatedBy() != null) {
+            specification = specification.and((root, query, cb) ->
+                    cb.equal(root.get("createdBy").get("id"), filter.getCreatedBy()));
+        }
+        if (filter.getNamePattern() != null && !filter.getNamePattern().isBlank()) {
+            String pattern = toLikePattern(filter.getNamePattern().trim());
+            specification = specification.and((root, query, cb) ->
+                    cb.like(cb.lower(root.get("name")), pattern, '\\'));
+        }
+        return specification;
+    }
+
+    private static Specification<Resource> inProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    private static Specification<Resource> hasStatus(ResourceStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    static String toLikePattern(String glob) {
+        boolean hasWildcards = glob.indexOf('*') >= 0 || glob.indexOf('?') >= 0;
+        StringBuilder pattern = new StringBuilder(hasWildcards ? "" : "%");
+        for (char c : glob.toLowerCase().toCharArray()) {
+            switch (c) {
+                case '*' -> pattern.append('%');
+                case '?' -> pattern.append('_');
+                case '%', '_', '\\' -> pattern.append('\\').append(c);
+                default -> pattern.append(c);
+            }
+        }
+        return pattern.append(hasWildcards ? "" : "%").toString();
+    }
+}
@@ -0,0 +1,46 @@
+package faang.school.projectservice.service;
+
+import faang.school.projectservice.dto.campaign.CampaignDto;
+import faang.school.projectservice.exception.customexception.DataValidationException;
+import faang.school.projectservice.repository.CampaignRepository;
+import faang.school.projectservice.repository.specification.LikePatterns;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CampaignService {
+
+    private final CampaignRepository campaignRepository;
+
+    @Transactional(readOnly = true)
+    public Page<CampaignDto> searchCampaigns(String query, Long userId, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new DataValidationException("Search query must not be blank");
+        }
+        String text = query.trim().toLowerCase();
+        Page<Long> ids = campaignRepository.searchIds(text, LikePatterns.contains(text), userId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        Map<Long, CampaignDto> campaigns = campaignRepository.findDtosByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(CampaignDto::getId, Function.identity()));
+        List<CampaignDto> ranked = ids.getContent().stream()
+                .map(campaigns::get)
+                .filter(Objects::nonNull)
+                .toList();
+        log.info("Campaigns found by search: {} of {}", ranked.size(), ids.getTotalElements());
+        return new PageImpl<>(ranked, ids.getPageable(), ids.getTotalElements());
+    }
+}
@@ -1,58 +1,51 @@
 package faang.school.projectservice.service;
 
+import faang.school.projectservice.exception.customexception.DataValidationException;
+import faang.school.projectservice.service.image_rendition.EncodedImage;
+import faang.school.projectservice.service.image_rendition.ImageDecoder;
+import faang.school.projectservice.service.image_rendition.ImageEncoder;
+import faang.school.projectservice.service.image_rendition.ImageRenditionSize;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class ImageService {
 
-    public byte[] optimizeImage(MultipartFile file) {
-        log.info("Optimizing image {}", file.getOriginalFilename());
-        try {
-            BufferedImage image = ImageIO.read(file.getInputStream());
+    private final ImageDecoder imageDecoder;
+    private final ImageEncoder imageEncoder;
 
+    public EncodedImage optimizeImage(MultipartFile file) {
+        log.info("Optimizing image {}", file.getOriginalFilename());
+        int maxDimension = ImageRenditionSize.FULL.getMaxDimension();
+        try (InputStream inputStream = file.getInputStream()) {
+            BufferedImage image = imageDecoder.decode(inputStream, maxDimension);
             if (image == null) {
                 log.warn("Failed to read image data");
-                return new byte[0];
+                throw new DataValidationException("File " + file.getOriginalFilename() + " is not a supported image");
             }
 
-            int width = image.getWidth();
-            int height = image.getHeight();
-
-            if (width > 1080 || height > 1080) {
-                int targetWidth = 1080;
-                int targetHeight;
-
-                if (width > height) {
-                    targetHeight = (int) (height * (1080.0 / width));
-                    if (targetHeight > 566) {
-                        targetHeight = 566;
-                    }
-                } else {
-                    targetHeight = 1080;
-                }
-
-                try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-                    Thumbnails.of(image)
-                            .size(targetWidth, targetHeight)
-                            .outputFormat("png")
-                            .toOutputStream(outputStream);
-                    return outputStream.toByteArray();
-                }
+            // Nothing is displayed larger than the full rendition, so bigger originals are scaled down to it
+            if (image.getWidth() > maxDimension || image.getHeight() > maxDimension) {
+                image = Thumbnails.of(image)
+                        .size(maxDimension, maxDimension)
+                        .asBufferedImage();
             }
-            log.info("Image {} is already optimized", file.getOriginalFilename());
-            return file.getBytes();
+            EncodedImage encoded = imageEncoder.encode(image);
+            log.info("Image {} of {} bytes encoded as {} of {} bytes", file.getOriginalFilename(), file.getSize(),
+                    encoded.format(), encoded.bytes().length);
+            return encoded;
         } catch (IOException e) {
             log.warn("Error optimizing image: {}", file.getOriginalFilename(), e);
-            return new byte[0];
+            throw new DataValidationException("Error reading image " + file.getOriginalFilename());
         }
     }
 }
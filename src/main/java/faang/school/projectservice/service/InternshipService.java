@@ -6,6 +6,7 @@ import faang.school.projectservice.dto.internship.InternshipFilterDto;
 import faang.school.projectservice.dto.internship.InternshipUpdateDto;
 import faang.school.projectservice.dto.internship.InternshipUpdateRequestDto;
 import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.filter.FilterExecutor;
 import faang.school.projectservice.mapper.internship.InternshipMapper;
 import faang.school.projectservice.model.Internship;
 import faang.school.projectservice.model.InternshipStatus;
@@ -22,6 +23,8 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -43,6 +46,7 @@ public class InternshipService {
     private final TeamService teamService;
 
     private final List<Filter<Internship, InternshipFilterDto>> filters;
+    private final FilterExecutor filterExecutor;
 
     @Transactional
     public InternshipDto createInternship(InternshipCreationDto creationDto) {
@@ -108,20 +112,14 @@ public class InternshipService {
                 .build();
     }
 
-    public List<InternshipDto> getFilteredInternships(InternshipFilterDto filterDto) {
+    public Page<InternshipDto> getFilteredInternships(InternshipFilterDto filterDto, Pageable pageable) {
         log.info("Received request to get internships based on provided filters.");
 
-        List<Internship> allInternships = internshipRepository.findAll();
-        List<Internship> filteredInternships = filters.stream()
-                .filter(filter -> filter.isApplicable(filterDto))
-                .reduce(
-                        allInternships.stream(),
-                        (internships, filter) -> filter.apply(internships, filterDto),
-                        (s1, s2) -> s2
-                ).collect(Collectors.toList());
-
-        log.info("Filtered internships: total={}, matching criteria={}", allInternships.size(), filteredInternships.size());
-        return internshipMapper.toDto(filteredInternships);
+        Page<Internship> filteredInternships = filterExecutor.findAll(internshipRepository, null, filters, filterDto,
+                pageable);
+
+        log.info("Filtered internships: matching criteria={}", filteredInternships.getTotalElements());
+        return filteredInternships.map(internshipMapper::toDto);
     }
 
     public List<InternshipDto> getAllInternships() {
@@ -3,6 +3,7 @@ package faang.school.projectservice.service;
 import faang.school.projectservice.dto.moment.MomentDto;
 import faang.school.projectservice.dto.moment.MomentFilterDto;
 import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.filter.FilterExecutor;
 import faang.school.projectservice.mapper.moment.MomentMapper;
 import faang.school.projectservice.model.Moment;
 import faang.school.projectservice.model.ProjectStatus;
@@ -11,11 +12,12 @@ import faang.school.projectservice.service.project.ProjectService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -26,6 +28,7 @@ public class MomentService {
     private final MomentMapper momentMapper;
     private final ProjectService projectService;
     private final List<Filter<Moment, MomentFilterDto>> momentFilters;
+    private final FilterExecutor filterExecutor;
 
     public MomentDto createMoment(MomentDto momentDto) {
         log.info("Creating a new moment: {}", momentDto);
@@ -54,15 +57,11 @@ public class MomentService {
         return momentMapper.toDto(savedMoment);
     }
 
-    public List<MomentDto> getMomentsByFilter(MomentFilterDto filters) {
+    public Page<MomentDto> getMomentsByFilter(MomentFilterDto filters, Pageable pageable) {
         log.info("Retrieving moments using filters: {}", filters);
-        Stream<Moment> moments = momentRepository.findAll().stream();
-        List<MomentDto> filteredMoments = momentFilters.stream()
-                .filter(filter -> filter.isApplicable(filters))
-                .reduce(moments, (stream, filter) -> filter.apply(stream, filters), (s1, s2) -> s1)
-                .map(momentMapper::toDto)
-                .toList();
-        log.info("Found {} moments matching the filters", filteredMoments.size());
+        Page<MomentDto> filteredMoments = filterExecutor.findAll(momentRepository, null, momentFilters, filters, pageable)
+                .map(momentMapper::toDto);
+        log.info("Found {} moments matching the filters", filteredMoments.getTotalElements());
         return filteredMoments;
     }
 
@@ -5,6 +5,7 @@ import faang.school.projectservice.dto.stage_invitation.StageInvitationFilterDto
 import faang.school.projectservice.dto.stage_invitation.StageInvitationRejectDto;
 import faang.school.projectservice.exception.customexception.DataValidationException;
 import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.filter.FilterExecutor;
 import faang.school.projectservice.mapper.stage_invitation.StageInvitationMapper;
 import faang.school.projectservice.model.TeamMember;
 import faang.school.projectservice.model.stage.Stage;
@@ -16,10 +17,12 @@ import faang.school.projectservice.validator.team_member.TeamMemberValidator;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -27,6 +30,7 @@ import java.util.stream.Stream;
 public class StageInvitationService {
 
     private final List<Filter<StageInvitation, StageInvitationFilterDto>> filters;
+    private final FilterExecutor filterExecutor;
     private final StageInvitationMapper stageInvitationMapper;
     private final StageInvitationRepository repository;
     private final StageInvitationValidator stageInvValidator;
@@ -79,24 +83,13 @@ public class StageInvitationService {
         repository.save(invitation);
     }
 
-    public List<StageInvitationDto> getStageInvitations(long invitedId, StageInvitationFilterDto filter) {
-        List<StageInvitation> invitations = repository.findAll();
-        Stream<StageInvitation> invitationsForUser = invitations.stream()
-                .filter(invitation -> invitation.getInvited().getId().equals(invitedId));
-
+    public Page<StageInvitationDto> getStageInvitations(long invitedId, StageInvitationFilterDto filter,
+                                                        Pageable pageable) {
         log.info("Founding filtered stage invitations for team member with ID: {}", invitedId);
-        return filter(invitationsForUser, filter);
-    }
-
-    private List<StageInvitationDto> filter(Stream<StageInvitation> invitations, StageInvitationFilterDto filter) {
-        return filters.stream()
-                .filter(stageFilter -> stageFilter.isApplicable(filter))
-                .reduce(invitations,
-                        (invStream, stageFilter) -> stageFilter.apply(invStream, filter),
-                        (a, b) -> b
-                )
-                .map(stageInvitationMapper::toDto)
-                .toList();
+        Specification<StageInvitation> forInvited = (root, query, cb) ->
+                cb.equal(root.get("invited").get("id"), invitedId);
+        return filterExecutor.findAll(repository, forInvited, filters, filter, pageable)
+                .map(stageInvitationMapper::toDto);
     }
 
     private void validateRejectReasonIsNullOrEmpty(String rejectReason) {
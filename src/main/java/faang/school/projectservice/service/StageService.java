@@ -5,6 +5,7 @@ import faang.school.projectservice.dto.stage.StageDto;
 import faang.school.projectservice.dto.stage.StageFilterDto;
 import faang.school.projectservice.exception.customexception.DataValidationException;
 import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.filter.FilterExecutor;
 import faang.school.projectservice.mapper.stage.StageMapper;
 import faang.school.projectservice.model.Project;
 import faang.school.projectservice.model.Task;
@@ -23,13 +24,14 @@ import faang.school.projectservice.validator.stage.StageValidator;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -44,6 +46,7 @@ public class StageService {
     private final StageValidator stageValidator;
     private final StageMapper stageMapper;
     private final List<Filter<Stage, StageFilterDto>> stageFilters;
+    private final FilterExecutor filterExecutor;
 
     public StageDto createStage(StageDto stageDto) {
         List<StageRoles> stageRoles = stageRolesRepository.findAllById(stageDto.getStageRolesId());
@@ -62,14 +65,9 @@ public class StageService {
         return stageMapper.toDto(saveStage);
     }
 
-    public List<StageDto> getStageByFilter(StageFilterDto stageFilterDto) {
-        Stream<Stage> allStages = findAll().stream();
-
-        return stageFilters.stream()
-                .filter(filter -> filter.isApplicable(stageFilterDto))
-                .reduce(allStages, ((stageStream, filter) -> filter.apply(stageStream, stageFilterDto)), (e1, e2) -> e1)
-                .map(stageMapper::toDto)
-                .toList();
+    public Page<StageDto> getStageByFilter(StageFilterDto stageFilterDto, Pageable pageable) {
+        return filterExecutor.findAll(stageRepository, null, stageFilters, stageFilterDto, pageable)
+                .map(stageMapper::toDto);
     }
 
     public void deleteStage(StageDeleteDto stageDeleteDto) {
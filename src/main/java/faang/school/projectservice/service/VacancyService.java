@@ -3,6 +3,7 @@ package faang.school.projectservice.service;
 import faang.school.projectservice.dto.vacancy.VacancyDto;
 import faang.school.projectservice.dto.vacancy.VacancyFilterDto;
 import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.filter.FilterExecutor;
 import faang.school.projectservice.mapper.vacancy.VacancyMapper;
 import faang.school.projectservice.model.Candidate;
 import faang.school.projectservice.model.Vacancy;
@@ -11,11 +12,12 @@ import faang.school.projectservice.validator.vacancy.VacancyValidator;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -27,6 +29,7 @@ public class VacancyService {
     private final VacancyValidator vacancyValidator;
     private final VacancyMapper vacancyMapper;
     private final List<Filter<Vacancy, VacancyFilterDto>> vacancyFilters;
+    private final FilterExecutor filterExecutor;
 
     public void createVacancy(VacancyDto dto, Long userId) {
         log.info("Creating vacancy with name: {}", dto.getName());
@@ -60,13 +63,9 @@ public class VacancyService {
         return vacancyMapper.toDto(findById(id));
     }
 
-    public List<VacancyDto> getVacanciesByFilter(VacancyFilterDto filters) {
-        Stream<Vacancy> vacancies = vacancyRepository.findAll().stream();
-        return vacancyFilters.stream()
-                .filter(filter -> filter.isApplicable(filters))
-                .flatMap(filter -> filter.apply(vacancies, filters))
-                .map(vacancyMapper::toDto)
-                .toList();
+    public Page<VacancyDto> getVacanciesByFilter(VacancyFilterDto filters, Pageable pageable) {
+        return filterExecutor.findAll(vacancyRepository, null, vacancyFilters, filters, pageable)
+                .map(vacancyMapper::toDto);
     }
 
     public void deleteById(Long id) {
@@ -1,9 +1,18 @@
 package faang.school.projectservice.service.amazon_client;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.ResponseHeaderOverrides;
+import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import faang.school.projectservice.exception.customexception.FileDeleteException;
 import faang.school.projectservice.exception.customexception.FileDownloadException;
@@ -11,12 +20,21 @@ import faang.school.projectservice.exception.customexception.FileUploadException
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Checksum;
 
 @Slf4j
 @Service
@@ -24,22 +42,27 @@ import java.util.Map;
 public class AmazonClientService {
 
     private final AmazonS3 s3client;
+    private final MultipartUploadService multipartUploadService;
 
     @Value("${services.s3.bucketName}")
     private String bucketName;
 
+    @Value("${services.s3.keyPrefix}")
+    private String keyPrefix;
+
     public String uploadFile(MultipartFile file, String folder) {
+        return uploadFile(file, folder, new CRC32());
+    }
+
+    public String uploadFile(MultipartFile file, String folder, Checksum checksum) {
         log.info("Uploading file {} to S3 with folder: {}", file.getOriginalFilename(), folder);
-        String key = (String.format("%s/%d%s", folder,
-                System.currentTimeMillis(), file.getOriginalFilename()));
+        String key = generateKey(file, folder);
         log.info("Uploading file to S3 with key: {}", key);
 
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(file.getSize());
-        metadata.setContentType(file.getContentType());
+        ObjectMetadata metadata = buildMetadata(file);
 
-        try {
-            PutObjectRequest request = new PutObjectRequest(bucketName, key, file.getInputStream(), metadata);
+        try (InputStream inputStream = new CheckedInputStream(file.getInputStream(), checksum)) {
+            PutObjectRequest request = new PutObjectRequest(bucketName, key, inputStream, metadata);
             s3client.putObject(request);
             log.info("File uploaded to S3 with key: {}", key);
         } catch (IOException e) {
@@ -50,14 +73,98 @@ public class AmazonClientService {
         return key;
     }
 
+    public void uploadFile(byte[] data, String key, String contentType) {
+        log.info("Uploading {} bytes to S3 with key: {}", data.length, key);
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(data.length);
+        metadata.setContentType(contentType);
+        try {
+            s3client.putObject(new PutObjectRequest(bucketName, key, new ByteArrayInputStream(data), metadata));
+        } catch (AmazonS3Exception e) {
+            log.warn("Error uploading file to S3 with key: {}", key, e);
+            throw new FileUploadException("Error uploading file to S3 with key: " + key);
+        }
+        log.info("File uploaded to S3 with key: {}", key);
+    }
+
+    public void uploadFile(File file, String key, String contentType) {
+        log.info("Uploading {} bytes to S3 with key: {}", file.length(), key);
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        try {
+            s3client.putObject(new PutObjectRequest(bucketName, key, file).withMetadata(metadata));
+        } catch (AmazonS3Exception e) {
+            log.warn("Error uploading file to S3 with key: {}", key, e);
+            throw new FileUploadException("Error uploading file to S3 with key: " + key);
+        }
+        log.info("File uploaded to S3 with key: {}", key);
+    }
+
+    public String uploadFileInParts(MultipartFile file, String folder, Checksum checksum) {
+        log.info("Uploading file {} to S3 in parts with folder: {}", file.getOriginalFilename(), folder);
+        String key = generateKey(file, folder);
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(file.getContentType());
+
+        try (InputStream inputStream = new CheckedInputStream(file.getInputStream(), checksum)) {
+            multipartUploadService.upload(key, inputStream, metadata);
+        } catch (IOException e) {
+            log.warn("Error uploading file to S3 with key: {}", key, e);
+            throw new FileUploadException("Error uploading file to S3 with key: " + key);
+        }
+        log.info("File uploaded to S3 in parts with key: {}", key);
+        return key;
+    }
+
     public S3ObjectInputStream downloadFile(String key) {
+        return downloadObject(key).getObjectContent();
+    }
+
+    public S3Object downloadObject(String key) {
         return downloadFileFromS3(key);
     }
 
-    public Map<String, S3ObjectInputStream> downloadAllFiles(Map<String, String> filesNamesWithKeys) {
-        Map<String, S3ObjectInputStream> result = new HashMap<>();
-        filesNamesWithKeys.forEach((name, key) -> result.put(name, downloadFile(key)));
-        return result;
+    public S3ObjectInputStream downloadFileRange(String key, long start, long end) {
+        log.info("Downloading bytes {}-{} of file from S3 with key: {}", start, end, key);
+        try {
+            GetObjectRequest request = new GetObjectRequest(bucketName, key).withRange(start, end);
+            return s3client.getObject(request).getObjectContent();
+        } catch (AmazonS3Exception e) {
+            log.warn("Error downloading file range from S3 with key: {}", key, e);
+            throw new FileDownloadException("Error downloading file from S3 with key: " + key);
+        }
+    }
+
+    public ObjectMetadata getFileMetadata(String key) {
+        log.info("Fetching file metadata from S3 with key: {}", key);
+        try {
+            return s3client.getObjectMetadata(bucketName, key);
+        } catch (AmazonS3Exception e) {
+            log.warn("Error fetching file metadata from S3 with key: {}", key, e);
+            throw new FileDownloadException("Error fetching file metadata from S3 with key: " + key);
+        }
+    }
+
+    public URL generatePresignedUploadUrl(String key, String contentType, Date expiration) {
+        log.info("Generating pre-signed upload URL for key: {}", key);
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, key, HttpMethod.PUT)
+                .withContentType(contentType)
+                .withExpiration(expiration);
+        return s3client.generatePresignedUrl(request);
+    }
+
+    public URL generatePresignedDownloadUrl(String key, String fileName, Date expiration) {
+        log.info("Generating pre-signed download URL for key: {}", key);
+        ResponseHeaderOverrides headers = new ResponseHeaderOverrides()
+                .withContentDisposition(ContentDisposition.attachment()
+                        .filename(fileName, StandardCharsets.UTF_8)
+                        .build()
+                        .toString());
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, key, HttpMethod.GET)
+                .withResponseHeaders(headers)
+                .withExpiration(expiration);
+        return s3client.generatePresignedUrl(request);
     }
 
     public void deleteFile(String key) {
@@ -72,11 +179,59 @@ public class AmazonClientService {
 
     }
 
-    private S3ObjectInputStream downloadFileFromS3(String key) {
+    public List<String> deleteFiles(List<String> keys) {
+        log.info("Deleting {} files from S3", keys.size());
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucketName)
+                .withKeys(keys.toArray(String[]::new))
+                .withQuiet(true);
+        try {
+            s3client.deleteObjects(request);
+            return List.of();
+        } catch (MultiObjectDeleteException e) {
+            log.warn("S3 failed to delete {} of {} files", e.getErrors().size(), keys.size());
+            return e.getErrors().stream()
+                    .map(MultiObjectDeleteException.DeleteError::getKey)
+                    .toList();
+        } catch (AmazonS3Exception e) {
+            log.warn("Error deleting {} files from S3", keys.size(), e);
+            throw new FileDeleteException("Error deleting " + keys.size() + " files from S3");
+        }
+    }
+
+    public ListObjectsV2Result listFiles(String prefix, String continuationToken, int maxKeys) {
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucketName)
+                .withPrefix(prefix)
+                .withContinuationToken(continuationToken)
+                .withMaxKeys(maxKeys);
+        try {
+            return s3client.listObjectsV2(request);
+        } catch (AmazonS3Exception e) {
+            log.warn("Error listing files under {} in S3 bucket {}", prefix, bucketName, e);
+            throw new FileDownloadException("Error listing files in S3 bucket " + bucketName);
+        }
+    }
+
+    public String generateKey(String folder, String fileName) {
+        return String.format("%s/%s/%d%s", keyPrefix, folder, System.currentTimeMillis(), fileName);
+    }
+
+    private String generateKey(MultipartFile file, String folder) {
+        return generateKey(folder, file.getOriginalFilename());
+    }
+
+    private ObjectMetadata buildMetadata(MultipartFile file) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(file.getSize());
+        metadata.setContentType(file.getContentType());
+        return metadata;
+    }
+
+    private S3Object downloadFileFromS3(String key) {
         log.info("Downloading file from S3 with key: {}", key);
         try {
             log.info("File downloaded from S3 with key: {}", key);
-            return s3client.getObject(bucketName, key).getObjectContent();
+            return s3client.getObject(bucketName, key);
         } catch (AmazonS3Exception e) {
             log.warn("Error downloading file from S3 with key: {}", key, e);
             throw new FileDownloadException("Error downloading file from S3 with key: " + key);
@@ -0,0 +1,240 @@
+package faang.school.projectservice.service.amazon_client;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
+import com.amazonaws.services.s3.model.MultipartUpload;
+import com.amazonaws.services.s3.model.MultipartUploadListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import faang.school.projectservice.exception.customexception.FileUploadException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+public class MultipartUploadService {
+
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final AmazonS3 s3client;
+    private final ThreadPoolTaskExecutor s3PartExecutor;
+    private final Semaphore partBufferPermits;
+
+    @Value("${services.s3.bucketName}")
+    private String bucketName;
+
+    @Value("${services.s3.keyPrefix}")
+    private String keyPrefix;
+
+    @Value("${project-files.multipart.part-size}")
+    private int partSize;
+
+    @Value("${project-files.multipart.max-part-attempts}")
+    private int maxPartAttempts;
+
+    @Value("${project-files.multipart.retry-backoff-millis}")
+    private long retryBackoffMillis;
+
+    @Value("${project-files.multipart.stale-upload-max-age-hours}")
+    private long staleUploadMaxAgeHours;
+
+    public MultipartUploadService(AmazonS3 s3client,
+                                  @Qualifier("s3PartExecutor") ThreadPoolTaskExecutor s3PartExecutor,
+                                  @Value("${project-files.multipart.max-parts-in-flight}") int maxPartsInFlight) {
+        this.s3client = s3client;
+        this.s3PartExecutor = s3PartExecutor;
+        this.partBufferPermits = new Semaphore(maxPartsInFlight);
+    }
+
+    public void upload(String key, InputStream inputStream, ObjectMetadata metadata) {
+        String uploadId = initiate(key, metadata);
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        try {
+            int partNumber = 1;
+            byte[] buffer = readPart(inputStream);
+            while (buffer.length > 0) {
+                byte[] part = buffer;
+                int number = partNumber++;
+                parts.add(submitPart(key, uploadId, number, part, cancelled));
+                rethrowFailedPart(parts);
+                buffer = readPart(inputStream);
+            }
+            if (parts.isEmpty()) {
+                parts.add(CompletableFuture.completedFuture(uploadPart(key, uploadId, 1, new byte[0], 0)));
+            }
+
+            List<PartETag> partETags = new ArrayList<>(parts.stream()
+                    .map(CompletableFuture::join)
+                    .toList());
+            complete(key, uploadId, partETags);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            log.warn("Multipart upload {} for key {} failed, aborting", uploadId, key, e);
+            cancelParts(parts, cancelled);
+            abort(key, uploadId);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new FileUploadException("Error uploading file to S3 with key: " + key);
+        }
+    }
+
+    public String initiate(String key, ObjectMetadata metadata) {
+        log.info("Initiating multipart upload to S3 with key: {}", key);
+        String uploadId = s3client.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucketName, key, metadata)).getUploadId();
+        log.info("Multipart upload {} initiated for key: {}", uploadId, key);
+        return uploadId;
+    }
+
+    public PartETag uploadPart(String key, String uploadId, int partNumber, byte[] data, int length) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withPartSize(length)
+                        .withInputStream(new ByteArrayInputStream(data, 0, length));
+                PartETag partETag = s3client.uploadPart(request).getPartETag();
+                log.debug("Part {} of upload {} stored, {} bytes", partNumber, uploadId, length);
+                return partETag;
+            } catch (SdkClientException e) {
+                if (attempt >= maxPartAttempts) {
+                    log.warn("Part {} of upload {} failed after {} attempts", partNumber, uploadId, attempt, e);
+                    throw e;
+                }
+                log.warn("Part {} of upload {} failed on attempt {}, retrying", partNumber, uploadId, attempt);
+                sleepBeforeRetry(attempt);
+            }
+        }
+    }
+
+    public void complete(String key, String uploadId, List<PartETag> partETags) {
+        partETags.sort(Comparator.comparingInt(PartETag::getPartNumber));
+        s3client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+        log.info("Multipart upload {} completed for key: {} with {} parts", uploadId, key, partETags.size());
+    }
+
+    public void abort(String key, String uploadId) {
+        try {
+            s3client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+            log.info("Multipart upload {} aborted for key: {}", uploadId, key);
+        } catch (SdkClientException e) {
+            log.warn("Error aborting multipart upload {} for key: {}", uploadId, key, e);
+        }
+    }
+
+    @Scheduled(cron = "${project-files.multipart.cleanup-cron}")
+    public void abortStaleUploads() {
+        if (keyPrefix == null || keyPrefix.isBlank()) {
+            log.warn("S3 key prefix is not set, stale multipart uploads of the shared bucket are left alone");
+            return;
+        }
+        Date threshold = Date.from(Instant.now().minus(Duration.ofHours(staleUploadMaxAgeHours)));
+        log.info("Aborting multipart uploads under {}/ initiated before {}", keyPrefix, threshold);
+        ListMultipartUploadsRequest request = new ListMultipartUploadsRequest(bucketName)
+                .withPrefix(keyPrefix + "/");
+        int aborted = 0;
+        MultipartUploadListing listing;
+        do {
+            listing = s3client.listMultipartUploads(request);
+            for (MultipartUpload upload : listing.getMultipartUploads()) {
+                if (upload.getInitiated().before(threshold)) {
+                    abort(upload.getKey(), upload.getUploadId());
+                    aborted++;
+                }
+            }
+            request.setKeyMarker(listing.getNextKeyMarker());
+            request.setUploadIdMarker(listing.getNextUploadIdMarker());
+        } while (listing.isTruncated());
+        log.info("Aborted {} stale multipart uploads", aborted);
+    }
+
+    private CompletableFuture<PartETag> submitPart(String key, String uploadId, int partNumber, byte[] part,
+                                                   AtomicBoolean cancelled) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> uploadBufferedPart(key, uploadId, partNumber, part, cancelled), s3PartExecutor);
+        } catch (RejectedExecutionException e) {
+            partBufferPermits.release();
+            throw e;
+        }
+    }
+
+    private PartETag uploadBufferedPart(String key, String uploadId, int partNumber, byte[] part,
+                                        AtomicBoolean cancelled) {
+        try {
+            if (cancelled.get()) {
+                throw new CancellationException("Multipart upload " + uploadId + " was aborted");
+            }
+            return uploadPart(key, uploadId, partNumber, part, part.length);
+        } finally {
+            partBufferPermits.release();
+        }
+    }
+
+    // Queued parts skip their upload and in-flight ones are awaited, so no part lands after the abort.
+    // The futures aren't cancelled directly: a cancelled task never runs and would keep its buffer permit.
+    private void cancelParts(List<CompletableFuture<PartETag>> parts, AtomicBoolean cancelled) {
+        cancelled.set(true);
+        CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .handle((result, e) -> null)
+                .join();
+    }
+
+    private void rethrowFailedPart(List<CompletableFuture<PartETag>> parts) {
+        parts.stream()
+                .filter(CompletableFuture::isCompletedExceptionally)
+                .findFirst()
+                .ifPresent(CompletableFuture::join);
+    }
+
+    private byte[] readPart(InputStream inputStream) throws IOException, InterruptedException {
+        partBufferPermits.acquire();
+        try {
+            byte[] buffer = inputStream.readNBytes(Math.max(partSize, (int) MIN_PART_SIZE));
+            if (buffer.length == 0) {
+                partBufferPermits.release();
+            }
+            return buffer;
+        } catch (IOException e) {
+            partBufferPermits.release();
+            throw e;
+        }
+    }
+
+    private void sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMillis * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileUploadException("Interrupted while retrying part upload");
+        }
+    }
+}
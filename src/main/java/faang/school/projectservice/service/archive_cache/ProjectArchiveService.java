@@ -0,0 +1,268 @@
+package faang.school.projectservice.service.archive_cache;
+
+import faang.school.projectservice.model.ProjectArchive;
+import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.repository.ProjectArchiveRepository;
+import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import faang.school.projectservice.service.file_streaming.ZipResponseBody;
+import faang.school.projectservice.service.storage_gc.ObjectDeletionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class ProjectArchiveService {
+
+    private static final String ARCHIVE_CONTENT_TYPE = "application/zip";
+
+    private final ProjectArchiveRepository projectArchiveRepository;
+    private final ObjectDeletionService objectDeletionService;
+    private final AmazonClientService amazonClient;
+    private final TaskExecutor archiveCacheExecutor;
+    private final Set<String> recordings = ConcurrentHashMap.newKeySet();
+
+    @Value("${project-files.archive-cache.enabled}")
+    private boolean enabled;
+
+    @Value("${project-files.archive-cache.max-size-bytes}")
+    private long maxSizeBytes;
+
+    public ProjectArchiveService(ProjectArchiveRepository projectArchiveRepository,
+                                 ObjectDeletionService objectDeletionService,
+                                 AmazonClientService amazonClient,
+                                 @Qualifier("archiveCacheExecutor") TaskExecutor archiveCacheExecutor) {
+        this.projectArchiveRepository = projectArchiveRepository;
+        this.objectDeletionService = objectDeletionService;
+        this.amazonClient = amazonClient;
+        this.archiveCacheExecutor = archiveCacheExecutor;
+    }
+
+    public String fingerprint(List<Resource> resources) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+        resources.stream()
+                .sorted(Comparator.comparing(Resource::getId))
+                .forEach(resource -> digest.update((resource.getId() + ":" + resource.getKey() + ":"
+                        + resource.getName() + "\n").getBytes(StandardCharsets.UTF_8)));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public Optional<ProjectArchive> find(Long projectId, String fingerprint) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return projectArchiveRepository.findByProjectIdAndFingerprint(projectId, fingerprint);
+    }
+
+    public InputStream open(ProjectArchive archive) {
+        log.info("Streaming stored archive with key: {} of project with ID: {}", archive.getKey(),
+                archive.getProjectId());
+        return amazonClient.downloadFile(archive.getKey());
+    }
+
+    public StreamingResponseBody recording(Long projectId, String fingerprint, ZipResponseBody body) {
+        if (!enabled) {
+            return body;
+        }
+        String recordingKey = projectId + ":" + fingerprint;
+        return outputStream -> {
+            if (!recordings.add(recordingKey)) {
+                body.writeTo(outputStream);
+                return;
+            }
+            Path file = null;
+            boolean handedOff = false;
+            try {
+                RecordingOutputStream recording;
+                try {
+                    file = Files.createTempFile("project-archive-", ".zip");
+                    recording = new RecordingOutputStream(outputStream, file);
+                } catch (IOException e) {
+                    log.warn("Error creating temporary archive file, the archive is not recorded", e);
+                    body.writeTo(outputStream);
+                    return;
+                }
+                try {
+                    body.writeTo(recording);
+                } catch (IOException | RuntimeException e) {
+                    recording.stopRecording();
+                    throw e;
+                }
+                if (!body.isComplete()) {
+                    log.info("Archive of project with ID: {} has skipped entries and is not stored", projectId);
+                    recording.stopRecording();
+                }
+                if (recording.finish()) {
+                    handedOff = storeInBackground(projectId, fingerprint, file, recording.getRecorded(),
+                            recordingKey);
+                }
+            } finally {
+                if (!handedOff) {
+                    recordings.remove(recordingKey);
+                    deleteQuietly(file);
+                }
+            }
+        };
+    }
+
+    @Transactional
+    public void invalidate(Long projectId) {
+        if (!enabled) {
+            return;
+        }
+        List<String> keys = projectArchiveRepository.findKeysByProjectId(projectId);
+        if (keys.isEmpty()) {
+            return;
+        }
+        projectArchiveRepository.deleteByProjectId(projectId);
+        objectDeletionService.scheduleAll(keys);
+        log.info("Invalidated {} stored archives of project with ID: {}", keys.size(), projectId);
+    }
+
+    private boolean storeInBackground(Long projectId, String fingerprint, Path file, long size,
+                                      String recordingKey) {
+        try {
+            archiveCacheExecutor.execute(() -> {
+                try {
+                    store(projectId, fingerprint, file, size);
+                } catch (RuntimeException e) {
+                    log.warn("Error storing archive of project with ID: {}", projectId, e);
+                } finally {
+                    recordings.remove(recordingKey);
+                    deleteQuietly(file);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            log.warn("Archive of project with ID: {} is not stored, the archive cache executor is busy", projectId);
+            return false;
+        }
+    }
+
+    private void store(Long projectId, String fingerprint, Path file, long size) {
+        String key = amazonClient.generateKey("archives/" + projectId, "_" + fingerprint + ".zip");
+        amazonClient.uploadFile(file.toFile(), key, ARCHIVE_CONTENT_TYPE);
+        try {
+            projectArchiveRepository.save(ProjectArchive.builder()
+                    .projectId(projectId)
+                    .fingerprint(fingerprint)
+                    .key(key)
+                    .size(size)
+                    .build());
+            log.info("Stored archive of {} bytes with key: {} for project with ID: {}", size, key, projectId);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Archive of project with ID: {} was already stored or the project is gone", projectId);
+            objectDeletionService.schedule(key);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Error deleting temporary archive file {}", file, e);
+        }
+    }
+
+    private class RecordingOutputStream extends FilterOutputStream {
+
+        private OutputStream fileStream;
+        private long recorded;
+
+        RecordingOutputStream(OutputStream outputStream, Path file) throws IOException {
+            super(outputStream);
+            this.fileStream = Files.newOutputStream(file);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            record(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            out.write(buffer, offset, length);
+            record(buffer, offset, length);
+        }
+
+        long getRecorded() {
+            return recorded;
+        }
+
+        boolean finish() {
+            if (fileStream == null) {
+                return false;
+            }
+            try {
+                fileStream.close();
+                fileStream = null;
+                return true;
+            } catch (IOException e) {
+                log.warn("Error closing temporary archive file", e);
+                fileStream = null;
+                return false;
+            }
+        }
+
+        void stopRecording() {
+            if (fileStream == null) {
+                return;
+            }
+            try {
+                fileStream.close();
+            } catch (IOException e) {
+                log.warn("Error closing temporary archive file", e);
+            }
+            fileStream = null;
+        }
+
+        private void record(byte[] buffer, int offset, int length) {
+            if (fileStream == null) {
+                return;
+            }
+            if (recorded + length > maxSizeBytes) {
+                log.info("Archive exceeds {} bytes and is not recorded", maxSizeBytes);
+                stopRecording();
+                return;
+            }
+            try {
+                fileStream.write(buffer, offset, length);
+                recorded += length;
+            } catch (IOException e) {
+                log.warn("Error recording archive to temporary file", e);
+                stopRecording();
+            }
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package faang.school.projectservice.service.chunked_upload;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import faang.school.projectservice.dto.resource.UploadSessionDto;
+import faang.school.projectservice.dto.resource.UploadSessionRequestDto;
+import faang.school.projectservice.exception.customexception.DataValidationException;
+import faang.school.projectservice.exception.customexception.FileUploadException;
+import faang.school.projectservice.exception.customexception.StorageExceededException;
+import faang.school.projectservice.model.Project;
+import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.model.ResourceStatus;
+import faang.school.projectservice.model.ResourceType;
+import faang.school.projectservice.model.StorageReservation;
+import faang.school.projectservice.model.TeamMember;
+import faang.school.projectservice.model.UploadSession;
+import faang.school.projectservice.model.UploadSessionPart;
+import faang.school.projectservice.repository.UploadSessionPartRepository;
+import faang.school.projectservice.repository.UploadSessionRepository;
+import faang.school.projectservice.service.TeamMemberService;
+import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import faang.school.projectservice.service.amazon_client.MultipartUploadService;
+import faang.school.projectservice.service.project.ProjectService;
+import faang.school.projectservice.service.storage_quota.StorageQuotaService;
+import faang.school.projectservice.validator.resource.ResourceValidator;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedUploadService {
+
+    private static final int MIN_CHUNK_SIZE = 5 * 1024 * 1024;
+
+    private final AmazonClientService amazonClient;
+    private final MultipartUploadService multipartUploadService;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadSessionPartRepository uploadSessionPartRepository;
+    private final ProjectService projectService;
+    private final ResourceValidator resourceValidator;
+    private final TeamMemberService teamMemberService;
+    private final StorageQuotaService storageQuotaService;
+
+    @Value("${project-files.chunked.chunk-size}")
+    private int chunkSize;
+
+    @Value("${project-files.chunked.session-max-age-hours}")
+    private long sessionMaxAgeHours;
+
+    public UploadSessionDto openSession(Long projectId, Long teamMemberId, UploadSessionRequestDto request) {
+        log.info("Opening upload session of file: {} to project with ID: {}", request.getFileName(), projectId);
+        resourceValidator.validateFileSizeNotBigger2Gb(request.getSize());
+        Project project = projectService.findById(projectId);
+        resourceValidator.validateMaxStorageSizeIsNotNull(project.getMaxStorageSize());
+        teamMemberService.findById(teamMemberId);
+
+        StorageReservation reservation = storageQuotaService.reserve(projectId, request.getSize());
+        String key = amazonClient.generateKey(projectId + project.getName(), request.getFileName());
+        String s3UploadId = null;
+        try {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentType(request.getContentType());
+            s3UploadId = multipartUploadService.initiate(key, metadata);
+            UploadSession session = uploadSessionRepository.save(UploadSession.builder()
+                    .projectId(projectId)
+                    .teamMemberId(teamMemberId)
+                    .key(key)
+                    .s3UploadId(s3UploadId)
+                    .fileName(request.getFileName())
+                    .contentType(request.getContentType())
+                    .size(request.getSize())
+                    .chunkSize(Math.max(chunkSize, MIN_CHUNK_SIZE))
+                    .reservationId(reservation.getId())
+                    .build());
+            log.info("Upload session {} opened with key: {}", session.getId(), key);
+            return toDto(session, List.of());
+        } catch (RuntimeException e) {
+            if (s3UploadId != null) {
+                multipartUploadService.abort(key, s3UploadId);
+            }
+            storageQuotaService.release(reservation);
+            throw e;
+        }
+    }
+
+    public UploadSessionDto getSession(Long sessionId, Long teamMemberId) {
+        UploadSession session = findSession(sessionId, teamMemberId);
+        return toDto(session, uploadSessionPartRepository.findAllBySessionIdOrderByPartNumber(sessionId));
+    }
+
+    public UploadSessionDto uploadChunk(Long sessionId, Long teamMemberId, long offset, String crc32Hex,
+                                        InputStream body) {
+        UploadSession session = findSession(sessionId, teamMemberId);
+        long crc32 = parseCrc32(crc32Hex);
+        if (offset < 0 || offset >= session.getSize() || offset % session.getChunkSize() != 0) {
+            throw new DataValidationException("Chunk offset must be a multiple of " + session.getChunkSize()
+                    + " below the file size " + session.getSize());
+        }
+        int length = (int) Math.min(session.getChunkSize(), session.getSize() - offset);
+        byte[] chunk = readChunk(body, length);
+
+        CRC32 checksum = new CRC32();
+        checksum.update(chunk);
+        if (checksum.getValue() != crc32) {
+            log.warn("Chunk at offset {} of upload session {} is corrupted", offset, sessionId);
+            throw new DataValidationException("Chunk checksum doesn't match, resend the chunk at offset " + offset);
+        }
+
+        int partNumber = (int) (offset / session.getChunkSize()) + 1;
+        PartETag partETag;
+        try {
+            partETag = multipartUploadService.uploadPart(session.getKey(), session.getS3UploadId(),
+                    partNumber, chunk, length);
+        } catch (SdkClientException e) {
+            log.warn("Error storing chunk at offset {} of upload session {}", offset, sessionId, e);
+            throw new FileUploadException("Error storing chunk at offset " + offset);
+        }
+        try {
+            uploadSessionPartRepository.savePart(sessionId, partNumber, length, partETag.getETag(), crc32);
+        } catch (DataIntegrityViolationException e) {
+            throw new DataValidationException("Upload session with id " + sessionId + " has expired");
+        }
+        log.debug("Chunk {} of upload session {} stored, {} bytes", partNumber, sessionId, length);
+        return toDto(session, uploadSessionPartRepository.findAllBySessionIdOrderByPartNumber(sessionId));
+    }
+
+    @Transactional(noRollbackFor = DataValidationException.class)
+    public void completeSession(Long sessionId, Long teamMemberId) {
+        log.info("Completing upload session with ID: {}", sessionId);
+        UploadSession session = findSession(sessionId, teamMemberId);
+        List<UploadSessionPart> parts = uploadSessionPartRepository.findAllBySessionIdOrderByPartNumber(sessionId);
+        long received = parts.stream().mapToLong(UploadSessionPart::getSize).sum();
+        if (parts.size() != chunkCount(session) || received != session.getSize()) {
+            log.warn("Upload session {} has {} of {} bytes", sessionId, received, session.getSize());
+            throw new DataValidationException("File " + session.getFileName() + " hasn't been uploaded completely, "
+                    + "query the session for missing chunks");
+        }
+        if (uploadSessionRepository.deleteSession(sessionId) == 0) {
+            throw new DataValidationException("Upload session with id " + sessionId + " has expired");
+        }
+
+        List<PartETag> partETags = new ArrayList<>(parts.stream()
+                .map(part -> new PartETag(part.getPartNumber(), part.getEtag()))
+                .toList());
+        try {
+            multipartUploadService.complete(session.getKey(), session.getS3UploadId(), partETags);
+        } catch (SdkClientException e) {
+            log.warn("Error completing upload session {}", sessionId, e);
+            throw new FileUploadException("Error completing upload of file " + session.getFileName());
+        }
+
+        TeamMember fileCreator = teamMemberService.findById(teamMemberId);
+        Resource resource = Resource.builder()
+                .name(session.getFileName())
+                .key(session.getKey())
+                .size(BigInteger.valueOf(session.getSize()))
+                .crc32(combineCrc32(parts))
+                .allowedRoles(teamMemberService.getTeamMemberRole(fileCreator.getId()))
+                .type(ResourceType.getResourceType(session.getContentType()))
+                .status(ResourceStatus.ACTIVE)
+                .createdBy(fileCreator)
+                .updatedBy(fileCreator)
+                .project(projectService.findById(session.getProjectId()))
+                .build();
+        try {
+            storageQuotaService.commit(toReservation(session), resource);
+        } catch (StorageExceededException e) {
+            amazonClient.deleteFile(session.getKey());
+            throw e;
+        }
+        log.info("Upload session {} completed with key: {}", sessionId, session.getKey());
+    }
+
+    public void abortSession(Long sessionId, Long teamMemberId) {
+        log.info("Aborting upload session with ID: {}", sessionId);
+        discard(findSession(sessionId, teamMemberId));
+    }
+
+    @Scheduled(cron = "${project-files.chunked.cleanup-cron}")
+    public void discardAbandonedSessions() {
+        LocalDateTime threshold = LocalDateTime.now().minusHours(sessionMaxAgeHours);
+        int discarded = 0;
+        for (UploadSession session : uploadSessionRepository.findAllByCreatedAtBefore(threshold)) {
+            if (discard(session)) {
+                discarded++;
+            }
+        }
+        log.info("Discarded {} upload sessions created before {}", discarded, threshold);
+    }
+
+    private boolean discard(UploadSession session) {
+        if (uploadSessionRepository.deleteSession(session.getId()) == 0) {
+            return false;
+        }
+        storageQuotaService.release(toReservation(session));
+        multipartUploadService.abort(session.getKey(), session.getS3UploadId());
+        return true;
+    }
+
+    private UploadSession findSession(Long sessionId, Long teamMemberId) {
+        UploadSession session = uploadSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new EntityNotFoundException("Upload session not found with id: " + sessionId));
+        if (!session.getTeamMemberId().equals(teamMemberId)) {
+            log.warn("Team member {} can't use upload session {}", teamMemberId, sessionId);
+            throw new DataValidationException("Upload session can be used only by the team member who opened it");
+        }
+        return session;
+    }
+
+    private byte[] readChunk(InputStream body, int length) {
+        try {
+            byte[] chunk = body.readNBytes(length);
+            if (chunk.length != length || body.read() != -1) {
+                throw new DataValidationException("Chunk must be exactly " + length + " bytes long");
+            }
+            return chunk;
+        } catch (IOException e) {
+            log.warn("Error reading chunk of {} bytes", length, e);
+            throw new FileUploadException("Error reading chunk, resend it");
+        }
+    }
+
+    private long combineCrc32(List<UploadSessionPart> parts) {
+        long crc32 = 0;
+        for (UploadSessionPart part : parts) {
+            crc32 = Crc32Combiner.combine(crc32, part.getCrc32(), part.getSize());
+        }
+        return crc32;
+    }
+
+    private long parseCrc32(String crc32Hex) {
+        try {
+            long crc32 = Long.parseLong(crc32Hex, 16);
+            if (crc32 >= 0 && crc32 <= 0xFFFFFFFFL) {
+                return crc32;
+            }
+        } catch (NumberFormatException e) {
+            log.debug("Chunk checksum {} is not a hex number", crc32Hex);
+        }
+        throw new DataValidationException("Chunk checksum must be a hex encoded CRC32");
+    }
+
+    private UploadSessionDto toDto(UploadSession session, List<UploadSessionPart> parts) {
+        long offset = 0;
+        for (UploadSessionPart part : parts) {
+            if (offset != (long) (part.getPartNumber() - 1) * session.getChunkSize()) {
+                break;
+            }
+            offset += part.getSize();
+        }
+        LocalDateTime createdAt = session.getCreatedAt();
+        return UploadSessionDto.builder()
+                .sessionId(session.getId())
+                .size(session.getSize())
+                .chunkSize(session.getChunkSize())
+                .offset(offset)
+                .receivedOffsets(parts.stream()
+                        .map(part -> (long) (part.getPartNumber() - 1) * session.getChunkSize())
+                        .toList())
+                .expiresAt(createdAt == null ? null : createdAt.plusHours(sessionMaxAgeHours))
+                .build();
+    }
+
+    private long chunkCount(UploadSession session) {
+        return (session.getSize() + session.getChunkSize() - 1) / session.getChunkSize();
+    }
+
+    private StorageReservation toReservation(UploadSession session) {
+        return StorageReservation.builder()
+                .id(session.getReservationId())
+                .projectId(session.getProjectId())
+                .size(session.getSize())
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package faang.school.projectservice.service.direct_transfer;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import faang.school.projectservice.dto.resource.DirectDownloadDto;
+import faang.school.projectservice.dto.resource.DirectUploadDto;
+import faang.school.projectservice.dto.resource.DirectUploadRequestDto;
+import faang.school.projectservice.exception.customexception.DataValidationException;
+import faang.school.projectservice.exception.customexception.FileDeleteException;
+import faang.school.projectservice.exception.customexception.FileDownloadException;
+import faang.school.projectservice.model.DirectUpload;
+import faang.school.projectservice.model.Project;
+import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.model.ResourceStatus;
+import faang.school.projectservice.model.ResourceType;
+import faang.school.projectservice.model.StorageReservation;
+import faang.school.projectservice.model.TeamMember;
+import faang.school.projectservice.repository.DirectUploadRepository;
+import faang.school.projectservice.service.TeamMemberService;
+import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import faang.school.projectservice.service.project.ProjectService;
+import faang.school.projectservice.service.resource.ResourceService;
+import faang.school.projectservice.service.storage_quota.StorageQuotaService;
+import faang.school.projectservice.validator.resource.ResourceValidator;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigInteger;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DirectTransferService {
+
+    private final AmazonClientService amazonClient;
+    private final DirectUploadRepository directUploadRepository;
+    private final ProjectService projectService;
+    private final ResourceService resourceService;
+    private final ResourceValidator resourceValidator;
+    private final TeamMemberService teamMemberService;
+    private final StorageQuotaService storageQuotaService;
+
+    @Value("${project-files.direct.enabled}")
+    private boolean enabled;
+
+    @Value("${project-files.direct.upload-url-ttl-minutes}")
+    private long uploadUrlTtlMinutes;
+
+    @Value("${project-files.direct.download-url-ttl-minutes}")
+    private long downloadUrlTtlMinutes;
+
+    @Value("${project-files.direct.abandoned-upload-max-age-minutes}")
+    private long abandonedUploadMaxAgeMinutes;
+
+    public DirectUploadDto createUpload(Long projectId, Long teamMemberId, DirectUploadRequestDto request) {
+        log.info("Creating direct upload of file: {} to project with ID: {}", request.getFileName(), projectId);
+        validateEnabled();
+        resourceValidator.validateFileSizeNotBigger2Gb(request.getSize());
+        Project project = projectService.findById(projectId);
+        resourceValidator.validateMaxStorageSizeIsNotNull(project.getMaxStorageSize());
+        teamMemberService.findById(teamMemberId);
+
+        StorageReservation reservation = storageQuotaService.reserve(projectId, request.getSize());
+        try {
+            String key = amazonClient.generateKey(projectId + project.getName(), request.getFileName());
+            Instant expiresAt = Instant.now().plus(Duration.ofMinutes(uploadUrlTtlMinutes));
+            URL url = amazonClient.generatePresignedUploadUrl(key, request.getContentType(), Date.from(expiresAt));
+
+            DirectUpload upload = directUploadRepository.save(DirectUpload.builder()
+                    .projectId(projectId)
+                    .teamMemberId(teamMemberId)
+                    .key(key)
+                    .fileName(request.getFileName())
+                    .contentType(request.getContentType())
+                    .size(request.getSize())
+                    .reservationId(reservation.getId())
+                    .build());
+            log.info("Direct upload {} created with key: {}", upload.getId(), key);
+            return DirectUploadDto.builder()
+                    .uploadId(upload.getId())
+                    .key(key)
+                    .url(url.toString())
+                    .expiresAt(expiresAt)
+                    .build();
+        } catch (RuntimeException e) {
+            storageQuotaService.release(reservation);
+            throw e;
+        }
+    }
+
+    @Transactional(noRollbackFor = DataValidationException.class)
+    public void completeUpload(Long uploadId, Long teamMemberId) {
+        log.info("Completing direct upload with ID: {}", uploadId);
+        DirectUpload upload = directUploadRepository.findById(uploadId)
+                .orElseThrow(() -> new EntityNotFoundException("Direct upload not found with id: " + uploadId));
+        if (!upload.getTeamMemberId().equals(teamMemberId)) {
+            log.warn("Team member {} can't complete direct upload {}", teamMemberId, uploadId);
+            throw new DataValidationException("Upload can be completed only by the team member who started it");
+        }
+
+        ObjectMetadata metadata;
+        try {
+            metadata = amazonClient.getFileMetadata(upload.getKey());
+        } catch (FileDownloadException e) {
+            throw new DataValidationException("File " + upload.getFileName() + " hasn't been uploaded yet");
+        }
+        if (metadata.getContentLength() != upload.getSize()) {
+            log.warn("Direct upload {} has {} bytes instead of declared {}",
+                    uploadId, metadata.getContentLength(), upload.getSize());
+            discard(upload);
+            throw new DataValidationException("Uploaded file size doesn't match the declared size " + upload.getSize());
+        }
+        if (directUploadRepository.deleteUpload(uploadId) == 0) {
+            throw new DataValidationException("Direct upload with id " + uploadId + " has expired");
+        }
+
+        TeamMember fileCreator = teamMemberService.findById(teamMemberId);
+        Resource resource = Resource.builder()
+                .name(upload.getFileName())
+                .key(upload.getKey())
+                .size(BigInteger.valueOf(upload.getSize()))
+                .allowedRoles(teamMemberService.getTeamMemberRole(fileCreator.getId()))
+                .type(ResourceType.getResourceType(upload.getContentType()))
+                .status(ResourceStatus.ACTIVE)
+                .createdBy(fileCreator)
+                .updatedBy(fileCreator)
+                .project(projectService.findById(upload.getProjectId()))
+                .build();
+        storageQuotaService.commit(toReservation(upload), resource);
+        log.info("Direct upload {} completed with key: {}", uploadId, upload.getKey());
+    }
+
+    public DirectDownloadDto createDownloadUrl(Long resourceId, Long teamMemberId) {
+        log.info("Creating direct download URL for file with ID: {}", resourceId);
+        validateEnabled();
+        Resource resource = resourceService.findById(resourceId);
+        if (resource.getStatus() != ResourceStatus.ACTIVE) {
+            throw new EntityNotFoundException("Resource not found with id: " + resourceId);
+        }
+        resourceValidator.validateAllowedToDownloadFile(resource, teamMemberService.findById(teamMemberId));
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(downloadUrlTtlMinutes));
+        URL url = amazonClient.generatePresignedDownloadUrl(resource.getKey(), resource.getName(),
+                Date.from(expiresAt));
+        return DirectDownloadDto.builder()
+                .url(url.toString())
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Scheduled(cron = "${project-files.direct.cleanup-cron}")
+    public void discardAbandonedUploads() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(abandonedUploadMaxAgeMinutes);
+        int discarded = 0;
+        for (DirectUpload upload : directUploadRepository.findAllByCreatedAtBefore(threshold)) {
+            if (discard(upload)) {
+                discarded++;
+            }
+        }
+        log.info("Discarded {} direct uploads created before {}", discarded, threshold);
+    }
+
+    private boolean discard(DirectUpload upload) {
+        if (directUploadRepository.deleteUpload(upload.getId()) == 0) {
+            return false;
+        }
+        storageQuotaService.release(toReservation(upload));
+        try {
+            amazonClient.deleteFile(upload.getKey());
+        } catch (FileDeleteException e) {
+            log.warn("Error deleting file of discarded direct upload {}", upload.getId(), e);
+        }
+        return true;
+    }
+
+    private StorageReservation toReservation(DirectUpload upload) {
+        return StorageReservation.builder()
+                .id(upload.getReservationId())
+                .projectId(upload.getProjectId())
+                .size(upload.getSize())
+                .build();
+    }
+
+    private void validateEnabled() {
+        if (!enabled) {
+            log.warn("Direct transfers are disabled");
+            throw new DataValidationException("Direct transfers are disabled");
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package faang.school.projectservice.service.file_cache;
+
+import com.amazonaws.services.s3.model.S3Object;
+import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class FileCacheService {
+
+    private final AmazonClientService amazonClient;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final LinkedHashMap<String, CachedFile> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+    private long evictionGeneration;
+
+    @Value("${project-files.cache.enabled}")
+    private boolean enabled;
+
+    @Value("${project-files.cache.directory}")
+    private Path directory;
+
+    @Value("${project-files.cache.max-size-bytes}")
+    private long maxSizeBytes;
+
+    @Value("${project-files.cache.max-entry-size-bytes}")
+    private long maxEntrySizeBytes;
+
+    public FileCacheService(AmazonClientService amazonClient, MeterRegistry meterRegistry) {
+        this.amazonClient = amazonClient;
+        this.hits = meterRegistry.counter("project.files.cache.hits");
+        this.misses = meterRegistry.counter("project.files.cache.misses");
+        this.evictions = meterRegistry.counter("project.files.cache.evictions");
+        Gauge.builder("project.files.cache.size", this, FileCacheService::getCachedBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("project.files.cache.entries", this, FileCacheService::getCachedEntries)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!enabled) {
+            log.info("Local file cache is disabled");
+            return;
+        }
+        FileSystemUtils.deleteRecursively(directory);
+        Files.createDirectories(directory);
+        log.info("Local file cache initialized in {} with max size {} bytes", directory, maxSizeBytes);
+    }
+
+    public InputStream downloadFile(String key) {
+        if (!enabled) {
+            return amazonClient.downloadFile(key);
+        }
+        InputStream cached = openCached(key);
+        if (cached != null) {
+            hits.increment();
+            log.info("Serving file with key: {} from local cache", key);
+            return cached;
+        }
+        misses.increment();
+        return downloadToCache(key);
+    }
+
+    public synchronized void evict(String key) {
+        evictionGeneration++;
+        CachedFile cachedFile = entries.remove(key);
+        if (cachedFile != null) {
+            deleteCachedFile(cachedFile);
+            log.info("File with key: {} removed from local cache", key);
+        }
+    }
+
+    public synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    public synchronized int getCachedEntries() {
+        return entries.size();
+    }
+
+    private synchronized InputStream openCached(String key) {
+        CachedFile cachedFile = entries.get(key);
+        if (cachedFile == null) {
+            return null;
+        }
+        try {
+            return new FileInputStream(cachedFile.path().toFile());
+        } catch (IOException e) {
+            log.warn("Cached file for key: {} is unreadable, dropping it", key, e);
+            entries.remove(key);
+            cachedBytes -= cachedFile.size();
+            return null;
+        }
+    }
+
+    private InputStream downloadToCache(String key) {
+        long generation = getEvictionGeneration();
+        S3Object object = amazonClient.downloadObject(key);
+        long size = object.getObjectMetadata().getContentLength();
+        if (size > maxEntrySizeBytes) {
+            log.info("File with key: {} is {} bytes, too large for local cache", key, size);
+            return object.getObjectContent();
+        }
+
+        Path temp;
+        OutputStream tempOut;
+        try {
+            temp = Files.createTempFile(directory, "download-", ".tmp");
+            tempOut = Files.newOutputStream(temp);
+        } catch (IOException e) {
+            log.warn("Error creating cache file for key: {}, serving it uncached", key, e);
+            return object.getObjectContent();
+        }
+        return new CachingInputStream(object.getObjectContent(), key, size, generation, temp, tempOut);
+    }
+
+    private synchronized long getEvictionGeneration() {
+        return evictionGeneration;
+    }
+
+    private synchronized void publish(String key, Path temp, long size, long generation) {
+        if (generation != evictionGeneration) {
+            log.info("File with key: {} may have changed while it was downloaded, it is not cached", key);
+            deleteQuietly(temp);
+            return;
+        }
+        Path target = directory.resolve(toFileName(key));
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Error caching file with key: {}", key, e);
+            deleteQuietly(temp);
+            return;
+        }
+        CachedFile previous = entries.put(key, new CachedFile(target, size));
+        if (previous != null) {
+            cachedBytes -= previous.size();
+        }
+        cachedBytes += size;
+        evictIfNeeded();
+        log.info("File with key: {} stored in local cache, {} bytes cached", key, cachedBytes);
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, CachedFile>> iterator = entries.entrySet().iterator();
+        while (cachedBytes > maxSizeBytes && iterator.hasNext()) {
+            Map.Entry<String, CachedFile> eldest = iterator.next();
+            iterator.remove();
+            deleteCachedFile(eldest.getValue());
+            evictions.increment();
+            log.info("File with key: {} evicted from local cache", eldest.getKey());
+        }
+    }
+
+    private void deleteCachedFile(CachedFile cachedFile) {
+        cachedBytes -= cachedFile.size();
+        deleteQuietly(cachedFile.path());
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Error deleting cached file {}", path, e);
+        }
+    }
+
+    private String toFileName(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record CachedFile(Path path, long size) {
+    }
+
+    private class CachingInputStream extends FilterInputStream {
+
+        private final String key;
+        private final long size;
+        private final long generation;
+        private final Path temp;
+        private OutputStream tempOut;
+        private long written;
+        private boolean closed;
+
+        CachingInputStream(InputStream content, String key, long size, long generation, Path temp,
+                           OutputStream tempOut) {
+            super(content);
+            this.key = key;
+            this.size = size;
+            this.generation = generation;
+            this.temp = temp;
+            this.tempOut = tempOut;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1 && tempOut != null) {
+                try {
+                    tempOut.write(b);
+                    written++;
+                } catch (IOException e) {
+                    abandonCaching(e);
+                }
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count > 0 && tempOut != null) {
+                try {
+                    tempOut.write(buffer, offset, count);
+                    written += count;
+                } catch (IOException e) {
+                    abandonCaching(e);
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Skipped bytes never reach the cache file, so it can't be completed
+            abandonCaching(null);
+            return super.skip(n);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                if (tempOut != null) {
+                    boolean complete = written == size;
+                    try {
+                        tempOut.close();
+                    } catch (IOException e) {
+                        complete = false;
+                        log.warn("Error writing cache file for key: {}", key, e);
+                    }
+                    tempOut = null;
+                    if (complete) {
+                        publish(key, temp, size, generation);
+                    } else {
+                        deleteQuietly(temp);
+                    }
+                }
+            }
+        }
+
+        private void abandonCaching(IOException e) {
+            if (tempOut == null) {
+                return;
+            }
+            if (e != null) {
+                log.warn("Error writing cache file for key: {}, serving it uncached", key, e);
+            }
+            try {
+                tempOut.close();
+            } catch (IOException closeError) {
+                log.debug("Error closing abandoned cache file {}", temp, closeError);
+            }
+            tempOut = null;
+            deleteQuietly(temp);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package faang.school.projectservice.service.file_streaming;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.function.BiFunction;
+
+public record ArchiveEntrySource(
+        String name,
+        long size,
+        Long crc32,
+        Instant lastModified,
+        BiFunction<Long, Long, InputStream> rangeReader
+) {
+}
@@ -0,0 +1,513 @@
+package faang.school.projectservice.service.file_streaming;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CRC32;
+
+public class ArchiveLayout {
+
+    private static final long ZIP32_LIMIT = 0xFFFFFFFFL;
+    private static final int ZIP16_LIMIT = 0xFFFF;
+    private static final int ZIP_UTF8_FLAG = 0x0800;
+    private static final int ZIP_DATA_DESCRIPTOR_FLAG = 0x0008;
+    private static final int ZIP_VERSION = 20;
+    private static final int ZIP64_VERSION = 45;
+    private static final int TAR_BLOCK = 512;
+    private static final long TAR_MAX_OCTAL_SIZE = 077777777777L;
+
+    private final List<Segment> segments;
+    private final long length;
+    private final boolean rangeable;
+
+    private ArchiveLayout(List<Segment> segments) {
+        this.segments = segments;
+        this.length = segments.isEmpty() ? 0 : segments.get(segments.size() - 1).end();
+        this.rangeable = segments.stream().allMatch(segment -> segment.deferred() == null);
+    }
+
+    public static ArchiveLayout of(ArchiveFormat format, List<ArchiveEntrySource> entries) {
+        return switch (format) {
+            case ZIP -> zip(entries);
+            case TAR -> tar(entries);
+        };
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public boolean rangeable() {
+        return rangeable;
+    }
+
+    public InputStream open(long start, long end) {
+        if (start < 0 || end >= length || start > end) {
+            throw new IllegalArgumentException("Range " + start + "-" + end + " is outside of archive of length "
+                    + length);
+        }
+        if (start > 0 && !rangeable) {
+            // Data descriptors and the central directory need the CRC-32 of every entry streamed before them
+            throw new IllegalArgumentException("Archive with entries of unknown CRC-32 can be read only from its start");
+        }
+        return new ArchiveInputStream(start, end);
+    }
+
+    private static ArchiveLayout zip(List<ArchiveEntrySource> entries) {
+        SegmentsBuilder builder = new SegmentsBuilder();
+        List<Runnable> centralHeaders = new ArrayList<>();
+        for (ArchiveEntrySource entry : entries) {
+            long offset = builder.position();
+            byte[] name = entry.name().getBytes(StandardCharsets.UTF_8);
+            int[] dosDateTime = toDosDateTime(entry.lastModified());
+            Long crc32 = entry.size() == 0 ? Long.valueOf(0) : entry.crc32();
+            if (crc32 != null) {
+                builder.addBytes(zipLocalHeader(entry, name, dosDateTime, ZIP_UTF8_FLAG, crc32));
+                builder.addContent(entry);
+                byte[] centralHeader = zipCentralHeader(entry, name, dosDateTime, offset, ZIP_UTF8_FLAG, crc32);
+                centralHeaders.add(() -> builder.addBytes(centralHeader));
+            } else {
+                int flags = ZIP_UTF8_FLAG | ZIP_DATA_DESCRIPTOR_FLAG;
+                builder.addBytes(zipLocalHeader(entry, name, dosDateTime, flags, 0));
+                builder.addContent(entry);
+                builder.addDeferred(entry, crc -> zipDataDescriptor(entry, crc));
+                centralHeaders.add(() -> builder.addDeferred(entry,
+                        crc -> zipCentralHeader(entry, name, dosDateTime, offset, flags, crc)));
+            }
+        }
+
+        long centralDirectoryOffset = builder.position();
+        centralHeaders.forEach(Runnable::run);
+        long centralDirectorySize = builder.position() - centralDirectoryOffset;
+        int count = entries.size();
+        if (count >= ZIP16_LIMIT || centralDirectoryOffset >= ZIP32_LIMIT || centralDirectorySize >= ZIP32_LIMIT) {
+            long zip64EndOffset = builder.position();
+            builder.addBytes(zip64End(count, centralDirectorySize, centralDirectoryOffset));
+            builder.addBytes(zip64EndLocator(zip64EndOffset));
+        }
+        builder.addBytes(zipEnd(count, centralDirectorySize, centralDirectoryOffset));
+        return new ArchiveLayout(builder.segments);
+    }
+
+    private static byte[] zipLocalHeader(ArchiveEntrySource entry, byte[] name, int[] dosDateTime, int flags,
+                                         long crc32) {
+        boolean zip64 = entry.size() >= ZIP32_LIMIT;
+        ByteBuffer header = littleEndian(30 + name.length + (zip64 ? 20 : 0));
+        header.putInt(0x04034b50);
+        header.putShort((short) (zip64 ? ZIP64_VERSION : ZIP_VERSION));
+        header.putShort((short) flags);
+        header.putShort((short) 0);
+        header.putShort((short) dosDateTime[0]);
+        header.putShort((short) dosDateTime[1]);
+        header.putInt((int) crc32);
+        header.putInt((int) (zip64 ? ZIP32_LIMIT : entry.size()));
+        header.putInt((int) (zip64 ? ZIP32_LIMIT : entry.size()));
+        header.putShort((short) name.length);
+        header.putShort((short) (zip64 ? 20 : 0));
+        header.put(name);
+        if (zip64) {
+            header.putShort((short) 0x0001);
+            header.putShort((short) 16);
+            header.putLong(entry.size());
+            header.putLong(entry.size());
+        }
+        return header.array();
+    }
+
+    private static byte[] zipDataDescriptor(ArchiveEntrySource entry, long crc32) {
+        boolean zip64 = entry.size() >= ZIP32_LIMIT;
+        ByteBuffer descriptor = littleEndian(zip64 ? 24 : 16);
+        descriptor.putInt(0x08074b50);
+        descriptor.putInt((int) crc32);
+        if (zip64) {
+            descriptor.putLong(entry.size());
+            descriptor.putLong(entry.size());
+        } else {
+            descriptor.putInt((int) entry.size());
+            descriptor.putInt((int) entry.size());
+        }
+        return descriptor.array();
+    }
+
+    private static byte[] zipCentralHeader(ArchiveEntrySource entry, byte[] name, int[] dosDateTime, long offset,
+                                           int flags, long crc32) {
+        boolean zip64Size = entry.size() >= ZIP32_LIMIT;
+        boolean zip64Offset = offset >= ZIP32_LIMIT;
+        int extraLength = (zip64Size ? 16 : 0) + (zip64Offset ? 8 : 0);
+        int extraFieldLength = extraLength == 0 ? 0 : 4 + extraLength;
+        int version = zip64Size || zip64Offset ? ZIP64_VERSION : ZIP_VERSION;
+
+        ByteBuffer header = littleEndian(46 + name.length + extraFieldLength);
+        header.putInt(0x02014b50);
+        header.putShort((short) version);
+        header.putShort((short) version);
+        header.putShort((short) flags);
+        header.putShort((short) 0);
+        header.putShort((short) dosDateTime[0]);
+        header.putShort((short) dosDateTime[1]);
+        header.putInt((int) crc32);
+        header.putInt((int) (zip64Size ? ZIP32_LIMIT : entry.size()));
+        header.putInt((int) (zip64Size ? ZIP32_LIMIT : entry.size()));
+        header.putShort((short) name.length);
+        header.putShort((short) extraFieldLength);
+        header.putShort((short) 0);
+        header.putShort((short) 0);
+        header.putShort((short) 0);
+        header.putInt(0);
+        header.putInt((int) (zip64Offset ? ZIP32_LIMIT : offset));
+        header.put(name);
+        if (extraFieldLength > 0) {
+            header.putShort((short) 0x0001);
+            header.putShort((short) extraLength);
+            if (zip64Size) {
+                header.putLong(entry.size());
+                header.putLong(entry.size());
+            }
+            if (zip64Offset) {
+                header.putLong(offset);
+            }
+        }
+        return header.array();
+    }
+
+    private static byte[] zip64End(long count, long centralDirectorySize, long centralDirectoryOffset) {
+        ByteBuffer record = littleEndian(56);
+        record.putInt(0x06064b50);
+        record.putLong(44);
+        record.putShort((short) ZIP64_VERSION);
+        record.putShort((short) ZIP64_VERSION);
+        record.putInt(0);
+        record.putInt(0);
+        record.putLong(count);
+        record.putLong(count);
+        record.putLong(centralDirectorySize);
+        record.putLong(centralDirectoryOffset);
+        return record.array();
+    }
+
+    private static byte[] zip64EndLocator(long zip64EndOffset) {
+        ByteBuffer locator = littleEndian(20);
+        locator.putInt(0x07064b50);
+        locator.putInt(0);
+        locator.putLong(zip64EndOffset);
+        locator.putInt(1);
+        return locator.array();
+    }
+
+    private static byte[] zipEnd(int count, long centralDirectorySize, long centralDirectoryOffset) {
+        ByteBuffer record = littleEndian(22);
+        record.putInt(0x06054b50);
+        record.putShort((short) 0);
+        record.putShort((short) 0);
+        record.putShort((short) Math.min(count, ZIP16_LIMIT));
+        record.putShort((short) Math.min(count, ZIP16_LIMIT));
+        record.putInt((int) Math.min(centralDirectorySize, ZIP32_LIMIT));
+        record.putInt((int) Math.min(centralDirectoryOffset, ZIP32_LIMIT));
+        record.putShort((short) 0);
+        return record.array();
+    }
+
+    private static int[] toDosDateTime(Instant instant) {
+        LocalDateTime time = instant == null ? null : LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+        if (time == null || time.getYear() < 1980) {
+            return new int[]{0, (1 << 5) | 1};
+        }
+        int dosTime = (time.getHour() << 11) | (time.getMinute() << 5) | (time.getSecond() / 2);
+        int dosDate = ((time.getYear() - 1980) << 9) | (time.getMonthValue() << 5) | time.getDayOfMonth();
+        return new int[]{dosTime, dosDate};
+    }
+
+    private static ByteBuffer littleEndian(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static ArchiveLayout tar(List<ArchiveEntrySource> entries) {
+        SegmentsBuilder builder = new SegmentsBuilder();
+        for (ArchiveEntrySource entry : entries) {
+            byte[] name = entry.name().getBytes(StandardCharsets.UTF_8);
+            long mtime = entry.lastModified() == null ? 0 : Math.max(0, entry.lastModified().getEpochSecond());
+            boolean paxName = name.length > 100 || !isAscii(name);
+            boolean paxSize = entry.size() > TAR_MAX_OCTAL_SIZE;
+            if (paxName || paxSize) {
+                StringBuilder records = new StringBuilder();
+                if (paxName) {
+                    records.append(paxRecord("path", entry.name()));
+                }
+                if (paxSize) {
+                    records.append(paxRecord("size", Long.toString(entry.size())));
+                }
+                byte[] paxData = records.toString().getBytes(StandardCharsets.UTF_8);
+                builder.addBytes(tarHeader(asciiName("PaxHeaders/" + entry.name()), paxData.length, mtime, 'x'));
+                builder.addBytes(paxData);
+                builder.addPadding(tarPadding(paxData.length));
+            }
+            byte[] headerName = paxName ? asciiName(entry.name()) : name;
+            builder.addBytes(tarHeader(headerName, paxSize ? 0 : entry.size(), mtime, '0'));
+            builder.addContent(entry);
+            builder.addPadding(tarPadding(entry.size()));
+        }
+        builder.addPadding(2 * TAR_BLOCK);
+        return new ArchiveLayout(builder.segments);
+    }
+
+    private static byte[] tarHeader(byte[] name, long size, long mtime, char type) {
+        byte[] header = new byte[TAR_BLOCK];
+        System.arraycopy(name, 0, header, 0, Math.min(name.length, 100));
+        putOctal(header, 100, 8, 0644);
+        putOctal(header, 108, 8, 0);
+        putOctal(header, 116, 8, 0);
+        putOctal(header, 124, 12, size);
+        putOctal(header, 136, 12, mtime);
+        header[156] = (byte) type;
+        System.arraycopy("ustar\0".getBytes(StandardCharsets.US_ASCII), 0, header, 257, 6);
+        header[263] = '0';
+        header[264] = '0';
+
+        for (int i = 148; i < 156; i++) {
+            header[i] = ' ';
+        }
+        long checksum = 0;
+        for (byte b : header) {
+            checksum += b & 0xFF;
+        }
+        putOctal(header, 148, 7, checksum);
+        return header;
+    }
+
+    private static void putOctal(byte[] header, int offset, int length, long value) {
+        String octal = Long.toOctalString(value);
+        int digits = length - 1;
+        String padded = "0".repeat(Math.max(0, digits - octal.length())) + octal;
+        System.arraycopy(padded.getBytes(StandardCharsets.US_ASCII), 0, header, offset, digits);
+        header[offset + digits] = 0;
+    }
+
+    private static String paxRecord(String key, String value) {
+        String body = " " + key + "=" + value + "\n";
+        int bodyLength = body.getBytes(StandardCharsets.UTF_8).length;
+        int length = bodyLength + 1;
+        while (length != bodyLength + Integer.toString(length).length()) {
+            length = bodyLength + Integer.toString(length).length();
+        }
+        return length + body;
+    }
+
+    private static byte[] asciiName(String name) {
+        StringBuilder ascii = new StringBuilder();
+        for (int i = 0; i < name.length() && ascii.length() < 100; i++) {
+            char c = name.charAt(i);
+            ascii.append(c < 0x80 ? c : '_');
+        }
+        return ascii.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static boolean isAscii(byte[] bytes) {
+        for (byte b : bytes) {
+            if (b < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long tarPadding(long size) {
+        return (TAR_BLOCK - size % TAR_BLOCK) % TAR_BLOCK;
+    }
+
+    private static class SegmentsBuilder {
+
+        private final List<Segment> segments = new ArrayList<>();
+        private long position;
+
+        long position() {
+            return position;
+        }
+
+        void addBytes(byte[] bytes) {
+            add(new Segment(position, bytes.length, bytes, null, null));
+        }
+
+        void addPadding(long size) {
+            if (size > 0) {
+                add(new Segment(position, size, null, null, null));
+            }
+        }
+
+        void addContent(ArchiveEntrySource entry) {
+            if (entry.size() > 0) {
+                add(new Segment(position, entry.size(), null, entry, null));
+            }
+        }
+
+        void addDeferred(ArchiveEntrySource entry, LongFunction<byte[]> renderer) {
+            int length = renderer.apply(0).length;
+            add(new Segment(position, length, null, null, new Deferred(entry, renderer)));
+        }
+
+        private void add(Segment segment) {
+            segments.add(segment);
+            position = segment.end();
+        }
+    }
+
+    private record Segment(long start, long length, byte[] bytes, ArchiveEntrySource entry, Deferred deferred) {
+
+        long end() {
+            return start + length;
+        }
+
+        InputStream open(long from, long to, Map<ArchiveEntrySource, Long> computedCrcs) {
+            if (entry != null) {
+                return entry.rangeReader().apply(from, to);
+            }
+            if (bytes != null || deferred != null) {
+                byte[] rendered = bytes != null ? bytes : deferred.renderer().apply(computedCrcs.get(deferred.entry()));
+                return new ByteArrayInputStream(rendered, (int) from, (int) (to - from + 1));
+            }
+            return new ZeroInputStream(to - from + 1);
+        }
+
+        String describe() {
+            return entry != null ? "entry " + entry.name() : "archive header";
+        }
+    }
+
+    private record Deferred(ArchiveEntrySource entry, LongFunction<byte[]> renderer) {
+    }
+
+    private static class ZeroInputStream extends InputStream {
+
+        private long remaining;
+
+        ZeroInputStream(long remaining) {
+            this.remaining = remaining;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return 0;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = (int) Math.min(length, remaining);
+            Arrays.fill(buffer, offset, offset + count, (byte) 0);
+            remaining -= count;
+            return count;
+        }
+    }
+
+    private class ArchiveInputStream extends InputStream {
+
+        private final long end;
+        private final Map<ArchiveEntrySource, Long> computedCrcs = new IdentityHashMap<>();
+        private long position;
+        private int segmentIndex;
+        private InputStream current;
+        private CRC32 currentChecksum;
+        private long currentRemaining;
+
+        ArchiveInputStream(long start, long end) {
+            this.position = start;
+            this.end = end;
+            this.segmentIndex = findSegment(start);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while (position <= end) {
+                if (current == null) {
+                    openCurrent();
+                }
+                int count = current.read(buffer, offset, (int) Math.min(length, currentRemaining));
+                if (count == -1) {
+                    Segment segment = segments.get(segmentIndex);
+                    throw new IOException("Archive " + segment.describe() + " ended " + currentRemaining
+                            + " bytes before its recorded size");
+                }
+                position += count;
+                currentRemaining -= count;
+                if (currentRemaining == 0) {
+                    Segment segment = segments.get(segmentIndex);
+                    if (currentChecksum != null && position == segment.end()) {
+                        computedCrcs.put(segment.entry(), currentChecksum.getValue());
+                    }
+                    closeCurrent();
+                    segmentIndex++;
+                }
+                return count;
+            }
+            return -1;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closeCurrent();
+            position = end + 1;
+        }
+
+        private void openCurrent() {
+            Segment segment = segments.get(segmentIndex);
+            long from = position - segment.start();
+            long to = Math.min(end, segment.end() - 1) - segment.start();
+            current = segment.open(from, to, computedCrcs);
+            currentRemaining = to - from + 1;
+            if (segment.entry() != null && segment.entry().crc32() == null && from == 0) {
+                currentChecksum = new CRC32();
+                current = new CheckedInputStream(current, currentChecksum);
+            }
+        }
+
+        private void closeCurrent() throws IOException {
+            currentChecksum = null;
+            if (current != null) {
+                InputStream closing = current;
+                current = null;
+                closing.close();
+            }
+        }
+
+        private int findSegment(long offset) {
+            int low = 0;
+            int high = segments.size() - 1;
+            while (low < high) {
+                int middle = (low + high + 1) >>> 1;
+                if (segments.get(middle).start() <= offset) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return low;
+        }
+    }
+}
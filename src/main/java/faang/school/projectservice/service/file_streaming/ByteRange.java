@@ -0,0 +1,12 @@
+package faang.school.projectservice.service.file_streaming;
+
+public record ByteRange(long start, long end) {
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    public String toContentRange(long totalLength) {
+        return String.format("bytes %d-%d/%d", start, end, totalLength);
+    }
+}
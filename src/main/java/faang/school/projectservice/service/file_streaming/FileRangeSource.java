@@ -0,0 +1,20 @@
+package faang.school.projectservice.service.file_streaming;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.function.BiFunction;
+
+public record FileRangeSource(
+        String name,
+        long length,
+        String eTag,
+        Instant lastModified,
+        boolean rangeable,
+        BiFunction<Long, Long, InputStream> rangeReader
+) {
+
+    public FileRangeSource(String name, long length, String eTag, Instant lastModified,
+                           BiFunction<Long, Long, InputStream> rangeReader) {
+        this(name, length, eTag, lastModified, true, rangeReader);
+    }
+}
@@ -1,74 +1,248 @@
 package faang.school.projectservice.service.file_streaming;
 
+import faang.school.projectservice.exception.customexception.RangeNotSatisfiableException;
 import faang.school.projectservice.exception.customexception.StreamingFileError;
 import faang.school.projectservice.exception.customexception.ZippingFileError;
+import faang.school.projectservice.service.file_streaming.StreamingMetrics.MeteredOutputStream;
+import faang.school.projectservice.service.file_streaming.TransferThrottle.ThrottledOutputStream;
 import faang.school.projectservice.validator.file_streaming.FileStreamingValidator;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Map;
-import java.util.zip.ZipEntry;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipOutputStream;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class FileStreamingService {
 
     private final FileStreamingValidator fileStreamingValidator;
+    private final ThreadPoolTaskExecutor zipPrefetchExecutor;
+    private final ZipCompressionPolicy zipCompressionPolicy;
+    private final StreamBufferPool streamBufferPool;
+    private final StreamingMetrics streamingMetrics;
+    private final TransferThrottle transferThrottle;
+
+    @Value("${project-files.zip.prefetch-count}")
+    private int prefetchCount;
+
+    @Value("${project-files.zip.prefetch-buffer-size}")
+    private int prefetchBufferSize;
+
+    @Value("${project-files.streaming.max-ranges}")
+    private int maxRanges;
+
+    public FileStreamingService(FileStreamingValidator fileStreamingValidator,
+                                @Qualifier("zipPrefetchExecutor") ThreadPoolTaskExecutor zipPrefetchExecutor,
+                                ZipCompressionPolicy zipCompressionPolicy,
+                                StreamBufferPool streamBufferPool,
+                                StreamingMetrics streamingMetrics,
+                                TransferThrottle transferThrottle) {
+        this.fileStreamingValidator = fileStreamingValidator;
+        this.zipPrefetchExecutor = zipPrefetchExecutor;
+        this.zipCompressionPolicy = zipCompressionPolicy;
+        this.streamBufferPool = streamBufferPool;
+        this.streamingMetrics = streamingMetrics;
+        this.transferThrottle = transferThrottle;
+    }
 
     public StreamingResponseBody getStreamingResponseBody(InputStream fileStream) {
+        return getStreamingResponseBody(fileStream, StreamingEndpoint.FILE, TransferOwner.anonymous());
+    }
+
+    public StreamingResponseBody getStreamingResponseBody(InputStream fileStream, StreamingEndpoint endpoint,
+                                                          TransferOwner owner) {
         fileStreamingValidator.validateFileStreaming(fileStream, "Stream can't be empty");
 
-        return outputStream -> {
+        return metered(endpoint, owner, outputStream -> {
             try (fileStream) {
-                byte[] buffer = new byte[1024];
-                int bytesRead;
-                while ((bytesRead = fileStream.read(buffer)) != -1) {
-                    outputStream.write(buffer, 0, bytesRead);
-                }
+                streamBufferPool.copy(fileStream, outputStream);
             } catch (IOException e) {
                 throw new StreamingFileError("Error streaming file");
             }
-        };
+        });
+    }
+
+    public StreamingResponseBody getStreamingResponseBody(FileRangeSource file, ByteRange range) {
+        return getStreamingResponseBody(file, range, TransferOwner.anonymous());
     }
 
-    public StreamingResponseBody getStreamingResponseBodyInZip(Map<String, InputStream> files) {
+    public StreamingResponseBody getStreamingResponseBody(FileRangeSource file, ByteRange range,
+                                                          TransferOwner owner) {
+        return getStreamingResponseBody(file.rangeReader().apply(range.start(), range.end()),
+                StreamingEndpoint.FILE_RANGE, owner);
+    }
+
+    public StreamingResponseBody getStreamingResponseBodyInRanges(FileRangeSource file, List<ByteRange> ranges,
+                                                                  String contentType, String boundary) {
+        return getStreamingResponseBodyInRanges(file, ranges, contentType, boundary, TransferOwner.anonymous());
+    }
+
+    public StreamingResponseBody getStreamingResponseBodyInRanges(FileRangeSource file, List<ByteRange> ranges,
+                                                                  String contentType, String boundary,
+                                                                  TransferOwner owner) {
+        return metered(StreamingEndpoint.FILE_RANGES, owner, outputStream -> {
+            for (ByteRange range : ranges) {
+                outputStream.write(getRangePartHeader(file, range, contentType, boundary));
+                try (InputStream rangeStream = file.rangeReader().apply(range.start(), range.end())) {
+                    streamBufferPool.copy(rangeStream, outputStream);
+                } catch (IOException e) {
+                    throw new StreamingFileError("Error streaming file");
+                }
+            }
+            outputStream.write(getRangesClosingDelimiter(boundary));
+        });
+    }
+
+    public long getMultipartRangesLength(FileRangeSource file, List<ByteRange> ranges,
+                                         String contentType, String boundary) {
+        long length = getRangesClosingDelimiter(boundary).length;
+        for (ByteRange range : ranges) {
+            length += getRangePartHeader(file, range, contentType, boundary).length + range.length();
+        }
+        return length;
+    }
+
+    public List<ByteRange> resolveRanges(String rangeHeader, long fileLength) {
+        List<HttpRange> httpRanges;
+        try {
+            httpRanges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring invalid range header: {}", rangeHeader);
+            return List.of();
+        }
+        if (httpRanges.isEmpty() || httpRanges.size() > maxRanges) {
+            log.warn("Ignoring range header with {} ranges, at most {} are served", httpRanges.size(), maxRanges);
+            return List.of();
+        }
+
+        List<ByteRange> ranges = new ArrayList<>();
+        long requestedBytes = 0;
+        for (HttpRange httpRange : httpRanges) {
+            try {
+                ByteRange range = new ByteRange(httpRange.getRangeStart(fileLength), httpRange.getRangeEnd(fileLength));
+                if (range.length() > 0) {
+                    ranges.add(range);
+                    requestedBytes += range.length();
+                }
+            } catch (IllegalArgumentException e) {
+                log.info("Skipping range {} outside of length {}", httpRange, fileLength);
+            }
+        }
+        if (ranges.isEmpty()) {
+            log.warn("Range {} can't be satisfied for length {}", rangeHeader, fileLength);
+            throw new RangeNotSatisfiableException("Range " + rangeHeader + " can't be satisfied");
+        }
+        if (ranges.size() > 1 && requestedBytes > fileLength) {
+            log.warn("Ignoring range header {} that requests {} bytes of {}", rangeHeader, requestedBytes, fileLength);
+            return List.of();
+        }
+        return mergeRanges(ranges);
+    }
+
+    public boolean isRangeApplicable(String ifRange, FileRangeSource file) {
+        if (!file.rangeable()) {
+            return false;
+        }
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("W/")) {
+            return false;
+        }
+        if (ifRange.startsWith("\"")) {
+            return file.eTag() != null && ifRange.equals("\"" + file.eTag() + "\"");
+        }
+        try {
+            Instant ifRangeDate = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return file.lastModified() != null
+                    && file.lastModified().truncatedTo(ChronoUnit.SECONDS).equals(ifRangeDate);
+        } catch (DateTimeParseException e) {
+            log.warn("Invalid If-Range header: {}", ifRange);
+            return false;
+        }
+    }
+
+    public ZipResponseBody getStreamingResponseBodyInZip(List<ZipEntrySource> files) {
+        return getStreamingResponseBodyInZip(files, TransferOwner.anonymous());
+    }
+
+    public ZipResponseBody getStreamingResponseBodyInZip(List<ZipEntrySource> files, TransferOwner owner) {
         fileStreamingValidator.validateFilesStreaming(files, "Files streams can't be empty");
 
-        return outputStream -> {
+        AtomicInteger skippedEntries = new AtomicInteger(-1);
+        StreamingResponseBody body = metered(StreamingEndpoint.ZIP, owner, outputStream -> {
             try (ZipOutputStream zipOut = new ZipOutputStream(outputStream)) {
-                for (Map.Entry<String, InputStream> entry : files.entrySet()) {
-                    String fileName = entry.getKey();
-                    InputStream fileStream = entry.getValue();
-
-                    try (fileStream) {
-                        byte[] buffer = new byte[1024];
-                        int bytesRead = fileStream.read(buffer);
-                        if (bytesRead == -1) {
-                            log.warn("File {} is empty. Skipping...", fileName);
-                            continue;
-                        }
-                        zipOut.putNextEntry(new ZipEntry(fileName));
-
-                        do {
-                            zipOut.write(buffer, 0, bytesRead);
-                        } while ((bytesRead = fileStream.read(buffer)) != -1);
-                        zipOut.closeEntry();
-                    } catch (IOException e) {
-                        log.warn("Error processing file: {}. Skipping...", fileName);
-
-                    }
-                }
+                skippedEntries.set(new PipelinedZipWriter(files, zipPrefetchExecutor, zipCompressionPolicy,
+                        streamBufferPool, prefetchCount, prefetchBufferSize).writeTo(zipOut));
             } catch (IOException e) {
                 log.warn("Error while zipping files");
                 throw new ZippingFileError("Error while zipping files");
             }
+        });
+        return new ZipResponseBody(body, () -> skippedEntries.get() == 0);
+    }
+
+    private List<ByteRange> mergeRanges(List<ByteRange> ranges) {
+        List<ByteRange> sorted = ranges.stream()
+                .sorted(Comparator.comparingLong(ByteRange::start))
+                .toList();
+        List<ByteRange> merged = new ArrayList<>();
+        ByteRange current = sorted.get(0);
+        for (ByteRange range : sorted.subList(1, sorted.size())) {
+            if (range.start() <= current.end() + 1) {
+                current = new ByteRange(current.start(), Math.max(current.end(), range.end()));
+            } else {
+                merged.add(current);
+                current = range;
+            }
+        }
+        merged.add(current);
+        return merged;
+    }
+
+    private StreamingResponseBody metered(StreamingEndpoint endpoint, TransferOwner owner,
+                                          StreamingResponseBody body) {
+        return outputStream -> {
+            MeteredOutputStream meteredStream = streamingMetrics.track(endpoint, outputStream);
+            ThrottledOutputStream throttledStream = transferThrottle.open(meteredStream, owner, endpoint);
+            try {
+                body.writeTo(throttledStream);
+                meteredStream.complete();
+            } catch (IOException | RuntimeException e) {
+                meteredStream.abort();
+                throw e;
+            } finally {
+                throttledStream.release();
+            }
         };
     }
-}
 
+    private byte[] getRangePartHeader(FileRangeSource file, ByteRange range, String contentType, String boundary) {
+        return ("\r\n--" + boundary + "\r\n"
+                + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                + HttpHeaders.CONTENT_RANGE + ": " + range.toContentRange(file.length()) + "\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private byte[] getRangesClosingDelimiter(String boundary) {
+        return ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,150 @@
+package faang.school.projectservice.service.file_streaming;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@Slf4j
+class PipelinedZipWriter {
+
+    private final List<ZipEntrySource> files;
+    private final Executor executor;
+    private final ZipCompressionPolicy compressionPolicy;
+    private final StreamBufferPool bufferPool;
+    private final int prefetchCount;
+    private final int prefetchBufferSize;
+    private final Deque<CompletableFuture<PrefetchedFile>> window = new ArrayDeque<>();
+
+    PipelinedZipWriter(List<ZipEntrySource> files, Executor executor, ZipCompressionPolicy compressionPolicy,
+                       StreamBufferPool bufferPool, int prefetchCount, int prefetchBufferSize) {
+        this.files = files;
+        this.executor = executor;
+        this.compressionPolicy = compressionPolicy;
+        this.bufferPool = bufferPool;
+        this.prefetchCount = prefetchCount;
+        this.prefetchBufferSize = prefetchBufferSize;
+    }
+
+    int writeTo(ZipOutputStream zipOut) throws IOException {
+        int scheduled = 0;
+        int skipped = 0;
+        try {
+            for (int current = 0; current < files.size(); current++) {
+                while (scheduled < files.size() && scheduled <= current + prefetchCount) {
+                    window.addLast(prefetch(files.get(scheduled++)));
+                }
+                PrefetchedFile file = await(window.pollFirst(), files.get(current).name());
+                if (file == null || !writeEntry(zipOut, file)) {
+                    skipped++;
+                }
+            }
+            return skipped;
+        } finally {
+            window.forEach(future -> future.thenAccept(PrefetchedFile::close));
+            window.clear();
+        }
+    }
+
+    private CompletableFuture<PrefetchedFile> prefetch(ZipEntrySource source) {
+        return CompletableFuture.supplyAsync(() -> {
+            InputStream stream = source.content().get();
+            try {
+                byte[] head = stream.readNBytes(prefetchBufferSize);
+                if (head.length < prefetchBufferSize) {
+                    stream.close();
+                    return new PrefetchedFile(source, head, null);
+                }
+                return new PrefetchedFile(source, head, stream);
+            } catch (IOException e) {
+                closeQuietly(stream);
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    private PrefetchedFile await(CompletableFuture<PrefetchedFile> future, String fileName) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            log.warn("Error fetching file: {}. Skipping...", fileName, e.getCause());
+            return null;
+        }
+    }
+
+    private boolean writeEntry(ZipOutputStream zipOut, PrefetchedFile file) {
+        String fileName = file.source().name();
+        try (file) {
+            if (file.head().length == 0) {
+                log.warn("File {} is empty. Skipping...", fileName);
+                return true;
+            }
+            ZipEntry entry = new ZipEntry(fileName);
+            if (compressionPolicy.isCompressible(file.source().type(), fileName)) {
+                zipOut.setLevel(compressionPolicy.getDeflateLevel());
+            } else if (!prepareStoredEntry(entry, file)) {
+                zipOut.setLevel(Deflater.NO_COMPRESSION);
+            }
+            zipOut.putNextEntry(entry);
+            zipOut.write(file.head());
+            if (file.rest() != null) {
+                bufferPool.copy(file.rest(), zipOut);
+            }
+            zipOut.closeEntry();
+            return true;
+        } catch (IOException e) {
+            log.warn("Error processing file: {}. Skipping...", fileName);
+            return false;
+        }
+    }
+
+    private boolean prepareStoredEntry(ZipEntry entry, PrefetchedFile file) {
+        long size;
+        long crc;
+        if (file.rest() == null) {
+            CRC32 crc32 = new CRC32();
+            crc32.update(file.head());
+            size = file.head().length;
+            crc = crc32.getValue();
+        } else if (file.source().size() != null && file.source().crc32() != null) {
+            size = file.source().size();
+            crc = file.source().crc32();
+        } else {
+            return false;
+        }
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(size);
+        entry.setCompressedSize(size);
+        entry.setCrc(crc);
+        return true;
+    }
+
+    private static void closeQuietly(InputStream stream) {
+        try {
+            stream.close();
+        } catch (IOException e) {
+            log.debug("Error closing stream", e);
+        }
+    }
+
+    private record PrefetchedFile(ZipEntrySource source, byte[] head, InputStream rest) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            if (rest != null) {
+                closeQuietly(rest);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package faang.school.projectservice.service.file_streaming;
+
+public enum StreamingEndpoint {
+    FILE,
+    FILE_RANGE,
+    FILE_RANGES,
+    ZIP,
+    ARCHIVE,
+    PRESENTATION;
+
+    public String tag() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    public boolean isBulk() {
+        return this == ZIP || this == ARCHIVE;
+    }
+}
@@ -0,0 +1,127 @@
+package faang.school.projectservice.service.file_streaming;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class StreamingMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<StreamingEndpoint, Meters> meters = new EnumMap<>(StreamingEndpoint.class);
+    private final AtomicInteger activeStreams = new AtomicInteger();
+
+    public StreamingMetrics(MeterRegistry meterRegistry, StreamBufferPool streamBufferPool) {
+        this.meterRegistry = meterRegistry;
+        for (StreamingEndpoint endpoint : StreamingEndpoint.values()) {
+            meters.put(endpoint, new Meters(endpoint.tag()));
+        }
+        Gauge.builder("project.files.streaming.active", activeStreams, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("project.files.streaming.pooled-buffers", streamBufferPool, StreamBufferPool::getPooledBuffers)
+                .register(meterRegistry);
+    }
+
+    public MeteredOutputStream track(StreamingEndpoint endpoint, OutputStream outputStream) {
+        activeStreams.incrementAndGet();
+        return new MeteredOutputStream(outputStream, meters.get(endpoint));
+    }
+
+    public class MeteredOutputStream extends FilterOutputStream {
+
+        private final Meters endpointMeters;
+        private final long startNanos = System.nanoTime();
+        private long bytes;
+        private boolean finished;
+
+        private MeteredOutputStream(OutputStream outputStream, Meters endpointMeters) {
+            super(outputStream);
+            this.endpointMeters = endpointMeters;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            written(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            written(len);
+        }
+
+        public void complete() {
+            if (finish()) {
+                long elapsedNanos = System.nanoTime() - startNanos;
+                endpointMeters.completed.record(elapsedNanos, TimeUnit.NANOSECONDS);
+                if (elapsedNanos > 0) {
+                    endpointMeters.throughput.record(bytes * 1_000_000_000.0 / elapsedNanos);
+                }
+            }
+        }
+
+        public void abort() {
+            if (finish()) {
+                endpointMeters.aborted.increment();
+            }
+        }
+
+        private void written(int len) {
+            if (bytes == 0 && len > 0) {
+                endpointMeters.timeToFirstByte.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+            bytes += len;
+            endpointMeters.bytes.increment(len);
+        }
+
+        private boolean finish() {
+            if (finished) {
+                return false;
+            }
+            finished = true;
+            activeStreams.decrementAndGet();
+            return true;
+        }
+    }
+
+    private class Meters {
+
+        private final Counter bytes;
+        private final Counter aborted;
+        private final Timer timeToFirstByte;
+        private final Timer completed;
+        private final DistributionSummary throughput;
+
+        private Meters(String endpoint) {
+            bytes = Counter.builder("project.files.streaming.bytes")
+                    .baseUnit("bytes")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry);
+            aborted = Counter.builder("project.files.streaming.aborted")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry);
+            timeToFirstByte = Timer.builder("project.files.streaming.time-to-first-byte")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry);
+            completed = Timer.builder("project.files.streaming.duration")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry);
+            throughput = DistributionSummary.builder("project.files.streaming.throughput")
+                    .baseUnit("bytes-per-second")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package faang.school.projectservice.service.file_streaming;
+
+class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private double tokens;
+    private long lastRefillNanos;
+    private int streams;
+
+    TokenBucket(long bytesPerSecond, long burstBytes, long nowNanos) {
+        this.tokensPerNano = bytesPerSecond / 1_000_000_000.0;
+        this.capacity = burstBytes;
+        this.tokens = burstBytes;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    synchronized long reserve(long bytes, long nowNanos) {
+        refill(nowNanos);
+        tokens -= bytes;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+
+    synchronized boolean isIdle(long nowNanos) {
+        refill(nowNanos);
+        return streams == 0 && tokens >= capacity;
+    }
+
+    synchronized void open() {
+        streams++;
+    }
+
+    synchronized void close() {
+        streams--;
+    }
+
+    private void refill(long nowNanos) {
+        tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = nowNanos;
+    }
+}
@@ -0,0 +1,8 @@
+package faang.school.projectservice.service.file_streaming;
+
+public record TransferOwner(Long projectId, Long userId) {
+
+    public static TransferOwner anonymous() {
+        return new TransferOwner(null, null);
+    }
+}
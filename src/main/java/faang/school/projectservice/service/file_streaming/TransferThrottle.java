@@ -0,0 +1,190 @@
+package faang.school.projectservice.service.file_streaming;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Component
+public class TransferThrottle {
+
+    private static final int SLICE_SIZE = 64 * 1024;
+
+    private final Map<Long, TokenBucket> projectBuckets = new ConcurrentHashMap<>();
+    private final Map<Long, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    private final AtomicReference<TokenBucket> anonymousBucket = new AtomicReference<>();
+    private final AtomicLong activeWeight = new AtomicLong();
+
+    @Value("${project-files.throttle.enabled}")
+    private boolean enabled;
+
+    @Value("${project-files.throttle.project-bytes-per-second}")
+    private long projectBytesPerSecond;
+
+    @Value("${project-files.throttle.user-bytes-per-second}")
+    private long userBytesPerSecond;
+
+    @Value("${project-files.throttle.anonymous-bytes-per-second}")
+    private long anonymousBytesPerSecond;
+
+    @Value("${project-files.throttle.burst-bytes}")
+    private long burstBytes;
+
+    @Value("${project-files.throttle.node-bytes-per-second}")
+    private long nodeBytesPerSecond;
+
+    @Value("${project-files.throttle.interactive-weight}")
+    private int interactiveWeight;
+
+    @Value("${project-files.throttle.bulk-weight}")
+    private int bulkWeight;
+
+    public ThrottledOutputStream open(OutputStream outputStream, TransferOwner owner, StreamingEndpoint endpoint) {
+        if (!enabled) {
+            return new ThrottledOutputStream(outputStream, null, null, 0);
+        }
+        long weight = endpoint.isBulk() ? bulkWeight : interactiveWeight;
+        activeWeight.addAndGet(weight);
+        return new ThrottledOutputStream(outputStream,
+                openBucket(projectBuckets, owner.projectId(), projectBytesPerSecond),
+                owner.userId() != null
+                        ? openBucket(userBuckets, owner.userId(), userBytesPerSecond)
+                        : openAnonymousBucket(),
+                weight);
+    }
+
+    @Scheduled(cron = "${project-files.throttle.cleanup-cron}")
+    public void dropIdleBuckets() {
+        long now = System.nanoTime();
+        projectBuckets.keySet().forEach(key -> projectBuckets.computeIfPresent(key,
+                (id, bucket) -> bucket.isIdle(now) ? null : bucket));
+        userBuckets.keySet().forEach(key -> userBuckets.computeIfPresent(key,
+                (id, bucket) -> bucket.isIdle(now) ? null : bucket));
+        log.debug("{} project and {} user transfer buckets in use", projectBuckets.size(), userBuckets.size());
+    }
+
+    private TokenBucket openBucket(Map<Long, TokenBucket> buckets, Long ownerId, long bytesPerSecond) {
+        if (ownerId == null || bytesPerSecond <= 0) {
+            return null;
+        }
+        return buckets.compute(ownerId, (id, bucket) -> {
+            TokenBucket opened = bucket != null ? bucket
+                    : new TokenBucket(bytesPerSecond, burstBytes, System.nanoTime());
+            opened.open();
+            return opened;
+        });
+    }
+
+    private TokenBucket openAnonymousBucket() {
+        if (anonymousBytesPerSecond <= 0) {
+            return null;
+        }
+        TokenBucket bucket = anonymousBucket.updateAndGet(current -> current != null ? current
+                : new TokenBucket(anonymousBytesPerSecond, burstBytes, System.nanoTime()));
+        bucket.open();
+        return bucket;
+    }
+
+    public class ThrottledOutputStream extends FilterOutputStream {
+
+        private final TokenBucket projectBucket;
+        private final TokenBucket userBucket;
+        private final long weight;
+        private long sentBytes;
+        private long nextSendNanos;
+        private boolean released;
+
+        private ThrottledOutputStream(OutputStream outputStream, TokenBucket projectBucket, TokenBucket userBucket,
+                                      long weight) {
+            super(outputStream);
+            this.projectBucket = projectBucket;
+            this.userBucket = userBucket;
+            this.weight = weight;
+            this.nextSendNanos = System.nanoTime();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            pace(1);
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            int written = 0;
+            while (written < len) {
+                int slice = Math.min(SLICE_SIZE, len - written);
+                pace(slice);
+                out.write(b, off + written, slice);
+                written += slice;
+            }
+        }
+
+        public void release() {
+            if (released) {
+                return;
+            }
+            released = true;
+            if (weight > 0) {
+                activeWeight.addAndGet(-weight);
+            }
+            if (projectBucket != null) {
+                projectBucket.close();
+            }
+            if (userBucket != null) {
+                userBucket.close();
+            }
+        }
+
+        private void pace(int bytes) throws IOException {
+            if (weight == 0) {
+                return;
+            }
+            long now = System.nanoTime();
+            sentBytes += bytes;
+            // Transfers that fit in the burst finish at full speed, the node share only paces longer ones
+            long waitNanos = sentBytes > burstBytes ? fairShareWait(bytes, now) : 0;
+            if (projectBucket != null) {
+                waitNanos = Math.max(waitNanos, projectBucket.reserve(bytes, now));
+            }
+            if (userBucket != null) {
+                waitNanos = Math.max(waitNanos, userBucket.reserve(bytes, now));
+            }
+            if (waitNanos > 0) {
+                sleep(waitNanos);
+            }
+        }
+
+        private long fairShareWait(int bytes, long now) {
+            if (nodeBytesPerSecond <= 0) {
+                return 0;
+            }
+            double share = (double) weight / Math.max(weight, activeWeight.get());
+            double bytesPerNano = nodeBytesPerSecond * share / 1_000_000_000.0;
+            nextSendNanos = Math.max(nextSendNanos, now);
+            long waitNanos = nextSendNanos - now;
+            nextSendNanos += (long) (bytes / bytesPerNano);
+            return waitNanos;
+        }
+
+        private void sleep(long nanos) throws InterruptedIOException {
+            try {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while throttling transfer");
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package faang.school.projectservice.service.file_streaming;
+
+import faang.school.projectservice.model.ResourceType;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+@Component
+public class ZipCompressionPolicy {
+
+    private static final Set<ResourceType> INCOMPRESSIBLE_TYPES = EnumSet.of(
+            ResourceType.IMAGE, ResourceType.VIDEO, ResourceType.AUDIO, ResourceType.PDF, ResourceType.ZIP);
+
+    private static final Set<String> INCOMPRESSIBLE_EXTENSIONS = Set.of(
+            "jpg", "jpeg", "png", "gif", "webp", "heic", "avif",
+            "mp4", "m4v", "mov", "mkv", "webm", "avi",
+            "mp3", "m4a", "aac", "ogg", "opus", "flac",
+            "zip", "gz", "tgz", "bz2", "xz", "7z", "rar", "zst", "jar", "war",
+            "pdf", "docx", "xlsx", "pptx", "odt", "ods", "odp", "epub");
+
+    private static final Set<String> COMPRESSIBLE_EXTENSIONS = Set.of(
+            "svg", "bmp", "tif", "tiff", "wav",
+            "txt", "csv", "json", "xml", "html", "htm", "md", "log", "rtf",
+            "doc", "xls", "ppt");
+
+    @Getter
+    @Value("${project-files.zip.deflate-level}")
+    private int deflateLevel;
+
+    public boolean isCompressible(ResourceType type, String fileName) {
+        String extension = getExtension(fileName);
+        if (INCOMPRESSIBLE_EXTENSIONS.contains(extension)) {
+            return false;
+        }
+        if (COMPRESSIBLE_EXTENSIONS.contains(extension)) {
+            return true;
+        }
+        return type == null || !INCOMPRESSIBLE_TYPES.contains(type);
+    }
+
+    private String getExtension(String fileName) {
+        if (fileName == null) {
+            return "";
+        }
+        int dotIndex = fileName.lastIndexOf('.');
+        return dotIndex < 0 ? "" : fileName.substring(dotIndex + 1).toLowerCase(Locale.ROOT);
+    }
+}
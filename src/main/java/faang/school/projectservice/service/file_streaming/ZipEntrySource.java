@@ -0,0 +1,15 @@
+package faang.school.projectservice.service.file_streaming;
+
+import faang.school.projectservice.model.ResourceType;
+
+import java.io.InputStream;
+import java.util.function.Supplier;
+
+public record ZipEntrySource(
+        String name,
+        ResourceType type,
+        Long size,
+        Long crc32,
+        Supplier<InputStream> content
+) {
+}
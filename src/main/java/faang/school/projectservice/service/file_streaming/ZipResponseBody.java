@@ -0,0 +1,22 @@
+package faang.school.projectservice.service.file_streaming;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.BooleanSupplier;
+
+public record ZipResponseBody(
+        StreamingResponseBody body,
+        BooleanSupplier complete
+) implements StreamingResponseBody {
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        body.writeTo(outputStream);
+    }
+
+    public boolean isComplete() {
+        return complete.getAsBoolean();
+    }
+}
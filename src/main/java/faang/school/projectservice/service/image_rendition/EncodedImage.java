@@ -0,0 +1,4 @@
+package faang.school.projectservice.service.image_rendition;
+
+public record EncodedImage(byte[] bytes, ImageFormat format) {
+}
@@ -0,0 +1,89 @@
+package faang.school.projectservice.service.image_rendition;
+
+import faang.school.projectservice.exception.customexception.DataValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+@Slf4j
+@Component
+public class ImageDecoder {
+
+    @Value("${project-files.renditions.max-source-pixels}")
+    private long maxSourcePixels;
+
+    @Value("${project-files.renditions.max-decoded-pixels}")
+    private long maxDecodedPixels;
+
+    public void validate(InputStream inputStream, int targetDimension) throws IOException {
+        try (ImageInputStream imageStream = ImageIO.createImageInputStream(inputStream)) {
+            ImageReader reader = getReader(imageStream);
+            if (reader == null) {
+                return;
+            }
+            try {
+                getSubsampling(reader, targetDimension);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    public BufferedImage decode(InputStream inputStream, int targetDimension) throws IOException {
+        try (ImageInputStream imageStream = ImageIO.createImageInputStream(inputStream)) {
+            ImageReader reader = getReader(imageStream);
+            if (reader == null) {
+                return null;
+            }
+            try {
+                int subsampling = getSubsampling(reader, targetDimension);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private ImageReader getReader(ImageInputStream imageStream) {
+        if (imageStream == null) {
+            return null;
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(imageStream);
+        if (!readers.hasNext()) {
+            return null;
+        }
+        ImageReader reader = readers.next();
+        reader.setInput(imageStream, true, true);
+        return reader;
+    }
+
+    private int getSubsampling(ImageReader reader, int targetDimension) throws IOException {
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if ((long) width * height > maxSourcePixels) {
+            throw new DataValidationException("Image of " + width + "x" + height
+                    + " exceeds the limit of " + maxSourcePixels + " pixels");
+        }
+
+        int subsampling = Math.max(1, Math.max(width, height) / targetDimension);
+        long decodedPixels = (long) ((width + subsampling - 1) / subsampling)
+                * ((height + subsampling - 1) / subsampling);
+        if (decodedPixels > maxDecodedPixels) {
+            throw new DataValidationException("Image of " + width + "x" + height
+                    + " needs " + decodedPixels + " decoded pixels, the limit is " + maxDecodedPixels);
+        }
+        log.debug("Decoding image of {}x{} with subsampling {}", width, height, subsampling);
+        return subsampling;
+    }
+}
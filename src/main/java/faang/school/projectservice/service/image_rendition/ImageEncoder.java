@@ -0,0 +1,225 @@
+package faang.school.projectservice.service.image_rendition;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.plugins.jpeg.JPEGImageWriteParam;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.IndexColorModel;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ImageEncoder {
+
+    private static final int PNG_PALETTE_SIZE = 256;
+
+    private final Map<ImageFormat, Meters> meters = new EnumMap<>(ImageFormat.class);
+
+    @Value("${project-files.renditions.jpeg-quality}")
+    private float jpegQuality;
+
+    @Value("${project-files.renditions.flat-max-colors}")
+    private int flatMaxColors;
+
+    public ImageEncoder(MeterRegistry meterRegistry) {
+        for (ImageFormat format : ImageFormat.values()) {
+            meters.put(format, new Meters(meterRegistry, format));
+        }
+    }
+
+    public ImageFormat chooseFormat(BufferedImage image) {
+        if (Palette.of(image, flatMaxColors) != null || hasTranslucentPixels(image)) {
+            return ImageFormat.PNG;
+        }
+        return ImageFormat.JPEG;
+    }
+
+    public EncodedImage encode(BufferedImage image) throws IOException {
+        return encode(image, chooseFormat(image));
+    }
+
+    public EncodedImage encode(BufferedImage image, ImageFormat format) throws IOException {
+        long startNanos = System.nanoTime();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if (format == ImageFormat.JPEG) {
+            JPEGImageWriteParam param = new JPEGImageWriteParam(null);
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setOptimizeHuffmanTables(true);
+            write(toOpaqueRgb(image), "jpeg", param, outputStream);
+        } else {
+            Palette palette = Palette.of(image, PNG_PALETTE_SIZE);
+            write(palette == null ? image : palette.toIndexed(image), "png", null, outputStream);
+        }
+
+        EncodedImage encoded = new EncodedImage(outputStream.toByteArray(), format);
+        Meters formatMeters = meters.get(format);
+        formatMeters.duration.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        formatMeters.bytes.record(encoded.bytes().length);
+        return encoded;
+    }
+
+    private void write(BufferedImage image, String formatName, ImageWriteParam param,
+                       ByteArrayOutputStream outputStream) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(formatName);
+        if (!writers.hasNext()) {
+            throw new IOException("No image writer for " + formatName);
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream imageStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private boolean hasTranslucentPixels(BufferedImage image) {
+        if (!image.getColorModel().hasAlpha()) {
+            return false;
+        }
+        int[] row = new int[image.getWidth()];
+        for (int y = 0; y < image.getHeight(); y++) {
+            image.getRGB(0, y, row.length, 1, row, 0, row.length);
+            for (int argb : row) {
+                if (argb >>> 24 != 0xFF) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private BufferedImage toOpaqueRgb(BufferedImage image) {
+        int type = image.getType();
+        if (type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_3BYTE_BGR
+                || type == BufferedImage.TYPE_BYTE_GRAY) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    private static final class Palette {
+
+        private final int[] colors;
+        private final int[] indexes;
+        private final boolean[] used;
+        private final int[] palette;
+        private int size;
+
+        private Palette(int maxColors) {
+            int capacity = Integer.highestOneBit(maxColors * 4 - 1) << 1;
+            colors = new int[capacity];
+            indexes = new int[capacity];
+            used = new boolean[capacity];
+            palette = new int[maxColors];
+        }
+
+        static Palette of(BufferedImage image, int maxColors) {
+            if (maxColors <= 0) {
+                return null;
+            }
+            Palette palette = new Palette(maxColors);
+            int[] row = new int[image.getWidth()];
+            for (int y = 0; y < image.getHeight(); y++) {
+                image.getRGB(0, y, row.length, 1, row, 0, row.length);
+                for (int argb : row) {
+                    if (!palette.add(argb)) {
+                        return null;
+                    }
+                }
+            }
+            return palette;
+        }
+
+        BufferedImage toIndexed(BufferedImage image) {
+            byte[] red = new byte[size];
+            byte[] green = new byte[size];
+            byte[] blue = new byte[size];
+            byte[] alpha = new byte[size];
+            for (int i = 0; i < size; i++) {
+                alpha[i] = (byte) (palette[i] >>> 24);
+                red[i] = (byte) (palette[i] >> 16);
+                green[i] = (byte) (palette[i] >> 8);
+                blue[i] = (byte) palette[i];
+            }
+            IndexColorModel colorModel = new IndexColorModel(8, size, red, green, blue, alpha);
+            int width = image.getWidth();
+            BufferedImage indexed = new BufferedImage(width, image.getHeight(), BufferedImage.TYPE_BYTE_INDEXED,
+                    colorModel);
+            byte[] pixels = ((DataBufferByte) indexed.getRaster().getDataBuffer()).getData();
+            int[] row = new int[width];
+            for (int y = 0; y < image.getHeight(); y++) {
+                image.getRGB(0, y, width, 1, row, 0, width);
+                for (int x = 0; x < width; x++) {
+                    pixels[y * width + x] = (byte) indexes[slot(row[x])];
+                }
+            }
+            return indexed;
+        }
+
+        private boolean add(int argb) {
+            int slot = slot(argb);
+            if (used[slot]) {
+                return true;
+            }
+            if (size == palette.length) {
+                return false;
+            }
+            used[slot] = true;
+            colors[slot] = argb;
+            indexes[slot] = size;
+            palette[size++] = argb;
+            return true;
+        }
+
+        private int slot(int argb) {
+            int mask = colors.length - 1;
+            int slot = (argb * 0x9E3779B9 >>> 16) & mask;
+            while (used[slot] && colors[slot] != argb) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+
+    private static class Meters {
+
+        private final DistributionSummary bytes;
+        private final Timer duration;
+
+        private Meters(MeterRegistry meterRegistry, ImageFormat format) {
+            String tag = format.name().toLowerCase();
+            bytes = DistributionSummary.builder("project.files.images.encoded-bytes")
+                    .baseUnit("bytes")
+                    .tag("format", tag)
+                    .register(meterRegistry);
+            duration = Timer.builder("project.files.images.encode-duration")
+                    .tag("format", tag)
+                    .register(meterRegistry);
+        }
+    }
+}
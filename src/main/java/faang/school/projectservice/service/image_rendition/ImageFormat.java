@@ -0,0 +1,14 @@
+package faang.school.projectservice.service.image_rendition;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageFormat {
+    JPEG("image/jpeg", "jpg"),
+    PNG("image/png", "png");
+
+    private final String contentType;
+    private final String extension;
+}
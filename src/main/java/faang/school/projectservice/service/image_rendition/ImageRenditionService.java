@@ -0,0 +1,151 @@
+package faang.school.projectservice.service.image_rendition;
+
+import faang.school.projectservice.exception.customexception.DataValidationException;
+import faang.school.projectservice.model.ImageRenditions;
+import faang.school.projectservice.model.Project;
+import faang.school.projectservice.repository.ProjectRepository;
+import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import faang.school.projectservice.service.project.ProjectService;
+import faang.school.projectservice.service.storage_gc.ObjectDeletionService;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class ImageRenditionService {
+
+    private final AmazonClientService amazonClient;
+    private final ProjectService projectService;
+    private final TaskExecutor imageRenditionExecutor;
+    private final ImageDecoder imageDecoder;
+    private final ImageEncoder imageEncoder;
+    private final ObjectDeletionService objectDeletionService;
+    private final Set<String> inFlightKeys = ConcurrentHashMap.newKeySet();
+
+    public ImageRenditionService(AmazonClientService amazonClient,
+                                 ProjectService projectService,
+                                 @Qualifier("imageRenditionExecutor") TaskExecutor imageRenditionExecutor,
+                                 ImageDecoder imageDecoder,
+                                 ImageEncoder imageEncoder,
+                                 ObjectDeletionService objectDeletionService) {
+        this.amazonClient = amazonClient;
+        this.projectService = projectService;
+        this.imageRenditionExecutor = imageRenditionExecutor;
+        this.imageDecoder = imageDecoder;
+        this.imageEncoder = imageEncoder;
+        this.objectDeletionService = objectDeletionService;
+    }
+
+    public void scheduleCoverRenditions(Long projectId, String coverKey) {
+        schedule(coverKey, () -> {
+            ImageRenditions renditions = render(coverKey);
+            if (!projectService.updateCoverRenditions(projectId, coverKey, renditions)) {
+                deleteRenditions(renditions, coverKey);
+            }
+        });
+    }
+
+    public void scheduleGalleryRenditions(Long projectId, String fileKey) {
+        schedule(fileKey, () -> {
+            ImageRenditions renditions = render(fileKey);
+            if (!projectService.updateGalleryRenditions(projectId, fileKey, renditions)) {
+                deleteRenditions(renditions, fileKey);
+            }
+        });
+    }
+
+    public void deleteRenditions(ImageRenditions renditions, String originalKey) {
+        renditions.keys().stream()
+                .filter(key -> !key.equals(originalKey))
+                .forEach(objectDeletionService::schedule);
+    }
+
+    @Scheduled(cron = "${project-files.renditions.backfill-cron}")
+    public void backfillMissingRenditions() {
+        List<Long> projectIds = projectService.findProjectIdsWithMissingCoverRenditions();
+        for (Long projectId : projectIds) {
+            Project project = projectService.findById(projectId);
+            scheduleCoverRenditions(projectId, project.getCoverImageId());
+        }
+        List<ProjectRepository.GalleryImage> galleryImages = projectService.findGalleryImagesWithMissingRenditions();
+        for (ProjectRepository.GalleryImage image : galleryImages) {
+            scheduleGalleryRenditions(image.getProjectId(), image.getFileKey());
+        }
+        log.info("Scheduled renditions for {} covers and {} gallery images", projectIds.size(), galleryImages.size());
+    }
+
+    private void schedule(String originalKey, Runnable task) {
+        if (!inFlightKeys.add(originalKey)) {
+            log.info("Renditions of image {} are already in progress", originalKey);
+            return;
+        }
+        try {
+            imageRenditionExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("Error creating renditions of image {}", originalKey, e);
+                } finally {
+                    inFlightKeys.remove(originalKey);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlightKeys.remove(originalKey);
+            log.warn("Rendition queue is full, image {} is left for the backfill", originalKey);
+        }
+    }
+
+    private ImageRenditions render(String originalKey) {
+        log.info("Creating renditions of image {}", originalKey);
+        BufferedImage image;
+        try (InputStream inputStream = amazonClient.downloadFile(originalKey)) {
+            image = imageDecoder.decode(inputStream, ImageRenditionSize.FULL.getMaxDimension());
+        } catch (IOException e) {
+            throw new IllegalStateException("Error reading image " + originalKey, e);
+        } catch (DataValidationException e) {
+            log.warn("Image {} exceeds the pixel budget, renditions point to the original: {}",
+                    originalKey, e.getMessage());
+            return new ImageRenditions(originalKey, originalKey, originalKey);
+        }
+        if (image == null) {
+            log.warn("Image {} has unsupported format, renditions point to the original", originalKey);
+            return new ImageRenditions(originalKey, originalKey, originalKey);
+        }
+
+        ImageFormat format = imageEncoder.chooseFormat(image);
+        log.info("Encoding renditions of image {} as {}", originalKey, format);
+        return ImageRenditions.builder()
+                .thumbnailKey(renderSize(image, originalKey, ImageRenditionSize.THUMBNAIL, format))
+                .mediumKey(renderSize(image, originalKey, ImageRenditionSize.MEDIUM, format))
+                .fullKey(renderSize(image, originalKey, ImageRenditionSize.FULL, format))
+                .build();
+    }
+
+    private String renderSize(BufferedImage image, String originalKey, ImageRenditionSize size, ImageFormat format) {
+        int maxDimension = size.getMaxDimension();
+        EncodedImage encoded;
+        try {
+            BufferedImage resized = Thumbnails.of(image)
+                    .size(Math.min(maxDimension, image.getWidth()), Math.min(maxDimension, image.getHeight()))
+                    .asBufferedImage();
+            encoded = imageEncoder.encode(resized, format);
+        } catch (IOException e) {
+            throw new IllegalStateException("Error resizing image " + originalKey, e);
+        }
+        String key = originalKey + "." + size.name().toLowerCase() + "." + format.getExtension();
+        amazonClient.uploadFile(encoded.bytes(), key, format.getContentType());
+        return key;
+    }
+}
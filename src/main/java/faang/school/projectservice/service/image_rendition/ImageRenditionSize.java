@@ -0,0 +1,14 @@
+package faang.school.projectservice.service.image_rendition;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageRenditionSize {
+    THUMBNAIL(160),
+    MEDIUM(640),
+    FULL(1920);
+
+    private final int maxDimension;
+}
@@ -0,0 +1,212 @@
+package faang.school.projectservice.service.project;
+
+import faang.school.projectservice.dto.resource.BatchUploadResultDto;
+import faang.school.projectservice.exception.customexception.DataValidationException;
+import faang.school.projectservice.exception.customexception.FileUploadException;
+import faang.school.projectservice.model.Project;
+import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.model.ResourceBlob;
+import faang.school.projectservice.model.ResourceStatus;
+import faang.school.projectservice.model.ResourceType;
+import faang.school.projectservice.model.StorageReservation;
+import faang.school.projectservice.model.TeamMember;
+import faang.school.projectservice.model.TeamRole;
+import faang.school.projectservice.service.TeamMemberService;
+import faang.school.projectservice.service.resource.FileDigest;
+import faang.school.projectservice.service.resource.ResourceBlobService;
+import faang.school.projectservice.service.resource.ResourceService;
+import faang.school.projectservice.service.storage_quota.StorageQuotaService;
+import faang.school.projectservice.validator.resource.ResourceValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+@Slf4j
+@Service
+public class BatchUploadService {
+
+    private final ProjectService projectService;
+    private final TeamMemberService teamMemberService;
+    private final ResourceService resourceService;
+    private final ResourceValidator resourceValidator;
+    private final ResourceBlobService resourceBlobService;
+    private final StorageQuotaService storageQuotaService;
+    private final TaskExecutor batchUploadExecutor;
+
+    @Value("${project-files.batch.max-files}")
+    private int maxFiles;
+
+    @Value("${project-files.batch.max-concurrent-uploads}")
+    private int maxConcurrentUploads;
+
+    public BatchUploadService(ProjectService projectService,
+                              TeamMemberService teamMemberService,
+                              ResourceService resourceService,
+                              ResourceValidator resourceValidator,
+                              ResourceBlobService resourceBlobService,
+                              StorageQuotaService storageQuotaService,
+                              @Qualifier("batchUploadExecutor") TaskExecutor batchUploadExecutor) {
+        this.projectService = projectService;
+        this.teamMemberService = teamMemberService;
+        this.resourceService = resourceService;
+        this.resourceValidator = resourceValidator;
+        this.resourceBlobService = resourceBlobService;
+        this.storageQuotaService = storageQuotaService;
+        this.batchUploadExecutor = batchUploadExecutor;
+    }
+
+    public List<BatchUploadResultDto> uploadFiles(Long projectId, Long teamMemberId, List<MultipartFile> files) {
+        if (files == null || files.isEmpty() || files.size() > maxFiles) {
+            throw new DataValidationException("A batch upload must contain from 1 to " + maxFiles + " files");
+        }
+        log.info("Uploading batch of {} files to project with ID: {}", files.size(), projectId);
+        Project project = projectService.findById(projectId);
+        resourceValidator.validateMaxStorageSizeIsNotNull(project.getMaxStorageSize());
+        TeamMember fileCreator = teamMemberService.findById(teamMemberId);
+        List<TeamRole> allowedRoles = teamMemberService.getTeamMemberRole(fileCreator.getId());
+
+        List<BatchUploadResultDto> results = new ArrayList<>();
+        List<PendingFile> pendingFiles = new ArrayList<>();
+        Map<String, Long> newContentSizes = new HashMap<>();
+        Set<String> storedContent = new HashSet<>();
+        for (MultipartFile file : files) {
+            BatchUploadResultDto result = BatchUploadResultDto.builder()
+                    .fileName(file.getOriginalFilename())
+                    .build();
+            results.add(result);
+            try {
+                resourceValidator.validateFileSizeNotBigger2Gb(file.getSize());
+                FileDigest digest = resourceBlobService.digest(file);
+                String sha256 = digest.sha256();
+                if (!newContentSizes.containsKey(sha256) && !storedContent.contains(sha256)) {
+                    if (isStoredInProject(projectId, digest)) {
+                        storedContent.add(sha256);
+                    } else {
+                        newContentSizes.put(sha256, file.getSize());
+                    }
+                }
+                pendingFiles.add(new PendingFile(file, digest, result));
+            } catch (RuntimeException e) {
+                fail(result, e);
+            }
+        }
+
+        long reservedSize = newContentSizes.values().stream().mapToLong(Long::longValue).sum();
+        StorageReservation reservation = storageQuotaService.reserve(projectId, reservedSize);
+        Map<PendingFile, ResourceBlob> blobs = storeAll(pendingFiles);
+
+        List<Resource> resources = new ArrayList<>();
+        List<PendingFile> storedFiles = new ArrayList<>();
+        Set<String> usedContent = new HashSet<>();
+        for (Map.Entry<PendingFile, ResourceBlob> entry : blobs.entrySet()) {
+            PendingFile pendingFile = entry.getKey();
+            resources.add(buildResource(pendingFile.file(), entry.getValue(), project, fileCreator, allowedRoles));
+            storedFiles.add(pendingFile);
+            usedContent.add(pendingFile.digest().sha256());
+        }
+        long unusedSize = newContentSizes.entrySet().stream()
+                .filter(entry -> !usedContent.contains(entry.getKey()))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+
+        List<Resource> saved;
+        try {
+            saved = storageQuotaService.commit(reservation, resources, unusedSize);
+        } catch (RuntimeException e) {
+            log.warn("Error saving batch of files to project with ID: {}", projectId, e);
+            storageQuotaService.release(reservation);
+            blobs.values().forEach(resourceBlobService::release);
+            throw e;
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            BatchUploadResultDto result = storedFiles.get(i).result();
+            result.setUploaded(true);
+            result.setResourceId(saved.get(i).getId());
+        }
+        log.info("Uploaded {} of {} files to project with ID: {}", saved.size(), files.size(), projectId);
+        return results;
+    }
+
+    private boolean isStoredInProject(Long projectId, FileDigest digest) {
+        return resourceBlobService.findByDigest(digest)
+                .map(blob -> resourceService.isBlobReferencedInProject(projectId, blob.getId()))
+                .orElse(false);
+    }
+
+    private Map<PendingFile, ResourceBlob> storeAll(List<PendingFile> pendingFiles) {
+        Semaphore uploadPermits = new Semaphore(maxConcurrentUploads);
+        Map<PendingFile, CompletableFuture<ResourceBlob>> uploads = new LinkedHashMap<>();
+        for (PendingFile pendingFile : pendingFiles) {
+            try {
+                uploadPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(pendingFile.result(), new FileUploadException("Interrupted while uploading files"));
+                continue;
+            }
+            try {
+                uploads.put(pendingFile, CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return resourceBlobService.acquire(pendingFile.file(), pendingFile.digest());
+                    } finally {
+                        uploadPermits.release();
+                    }
+                }, batchUploadExecutor));
+            } catch (RuntimeException e) {
+                uploadPermits.release();
+                fail(pendingFile.result(), e);
+            }
+        }
+
+        Map<PendingFile, ResourceBlob> blobs = new LinkedHashMap<>();
+        uploads.forEach((pendingFile, upload) -> {
+            try {
+                blobs.put(pendingFile, upload.join());
+            } catch (CompletionException e) {
+                fail(pendingFile.result(), e.getCause());
+            }
+        });
+        return blobs;
+    }
+
+    private Resource buildResource(MultipartFile file, ResourceBlob blob, Project project,
+                                   TeamMember fileCreator, List<TeamRole> allowedRoles) {
+        return Resource.builder()
+                .name(file.getOriginalFilename())
+                .key(blob.getKey())
+                .size(BigInteger.valueOf(file.getSize()))
+                .crc32(blob.getCrc32())
+                .blob(blob)
+                .allowedRoles(new ArrayList<>(allowedRoles))
+                .type(ResourceType.getResourceType(file.getContentType()))
+                .status(ResourceStatus.ACTIVE)
+                .createdBy(fileCreator)
+                .updatedBy(fileCreator)
+                .project(project)
+                .build();
+    }
+
+    private void fail(BatchUploadResultDto result, Throwable e) {
+        log.warn("Error uploading file: {} in batch", result.getFileName(), e);
+        result.setUploaded(false);
+        result.setError(e.getMessage());
+    }
+
+    private record PendingFile(MultipartFile file, FileDigest digest, BatchUploadResultDto result) {
+    }
+}
@@ -0,0 +1,13 @@
+package faang.school.projectservice.service.project;
+
+import faang.school.projectservice.model.ProjectArchive;
+import faang.school.projectservice.service.file_streaming.ZipEntrySource;
+
+import java.util.List;
+
+public record BulkDownload(
+        List<ZipEntrySource> files,
+        String fingerprint,
+        ProjectArchive storedArchive
+) {
+}
@@ -1,38 +1,56 @@
 package faang.school.projectservice.service.project;
 
-import com.amazonaws.services.s3.model.S3ObjectInputStream;
-import faang.school.projectservice.mapper.project.ProjectMapper;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import faang.school.projectservice.dto.project.GalleryImageDto;
+import faang.school.projectservice.dto.resource.ResourceFilterDto;
+import faang.school.projectservice.model.ImageRenditions;
 import faang.school.projectservice.model.Project;
+import faang.school.projectservice.model.ProjectArchive;
 import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.model.ResourceBlob;
 import faang.school.projectservice.model.ResourceStatus;
 import faang.school.projectservice.model.ResourceType;
-import faang.school.projectservice.model.TaskStatus;
+import faang.school.projectservice.model.StorageReservation;
 import faang.school.projectservice.model.TeamMember;
 import faang.school.projectservice.model.TeamRole;
+import faang.school.projectservice.service.ImageService;
 import faang.school.projectservice.service.TeamMemberService;
 import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import faang.school.projectservice.service.archive_cache.ProjectArchiveService;
+import faang.school.projectservice.service.file_cache.FileCacheService;
+import faang.school.projectservice.service.file_streaming.ArchiveEntrySource;
+import faang.school.projectservice.service.file_streaming.ArchiveFormat;
+import faang.school.projectservice.service.file_streaming.ArchiveLayout;
+import faang.school.projectservice.service.file_streaming.FileRangeSource;
 import faang.school.projectservice.service.file_streaming.FileStreamingService;
+import faang.school.projectservice.service.file_streaming.StreamingEndpoint;
+import faang.school.projectservice.service.file_streaming.TransferOwner;
+import faang.school.projectservice.service.file_streaming.ZipEntrySource;
+import faang.school.projectservice.service.image_rendition.EncodedImage;
+import faang.school.projectservice.service.image_rendition.ImageRenditionService;
+import faang.school.projectservice.service.resource.FileDigest;
+import faang.school.projectservice.service.resource.ResourceBlobService;
 import faang.school.projectservice.service.resource.ResourceService;
+import faang.school.projectservice.service.storage_gc.ObjectDeletionService;
+import faang.school.projectservice.service.storage_quota.StorageQuotaService;
 import faang.school.projectservice.validator.project.ProjectValidator;
 import faang.school.projectservice.validator.resource.ResourceValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.PDPageContentStream;
-import org.apache.pdfbox.pdmodel.font.PDType1Font;
-import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -50,47 +68,62 @@ public class ProjectFilesService {
     private final ResourceService resourceService;
     private final ResourceValidator resourceValidator;
     private final ProjectService projectService;
-    private final ProjectMapper projectMapper;
     private final TeamMemberService teamMemberService;
     private final ProjectValidator projectValidator;
     private final FileStreamingService fileStreamingService;
+    private final FileCacheService fileCacheService;
+    private final ResourceBlobService resourceBlobService;
+    private final StorageQuotaService storageQuotaService;
+    private final ImageRenditionService imageRenditionService;
+    private final ImageService imageService;
+    private final ProjectPresentationService projectPresentationService;
+    private final ObjectDeletionService objectDeletionService;
+    private final ProjectArchiveService projectArchiveService;
 
     public void uploadFile(Long projectId, Long teamMemberId, MultipartFile file) {
         log.info("Uploading file: {} to project with ID: {}", file.getOriginalFilename(), projectId);
         resourceValidator.validateFileSizeNotBigger2Gb(file.getSize());
-        Project projectToCheck = projectService.findById(projectId);
-        Project project = setZeroIfStorageSizeNull(projectToCheck);
-
-        BigInteger estimatedStorageSize = project.getStorageSize().
-                add(BigInteger.valueOf(file.getSize()));
-        BigInteger maxStorageSize = project.getMaxStorageSize();
-        resourceValidator.validateMaxStorageSizeIsNotNull(maxStorageSize);
-        resourceValidator.validateStorageSizeNotExceeded(maxStorageSize, estimatedStorageSize);
-
-        String folder = projectId + project.getName();
-
-        String key = amazonClient.uploadFile(file, folder);
-
-        TeamMember fileCreator = teamMemberService.findById(teamMemberId);
-        List<TeamRole> allowedRoles = teamMemberService.getTeamMemberRole(fileCreator.getId());
-        project.setStorageSize(estimatedStorageSize);
-
-        Resource resource = Resource.builder()
-                .name(file.getOriginalFilename())
-                .key(key)
-                .size(BigInteger.valueOf(file.getSize()))
-                .allowedRoles(allowedRoles)
-                .type(ResourceType.getResourceType(file.getContentType()))
-                .status(ResourceStatus.ACTIVE)
-                .createdBy(fileCreator)
-                .updatedBy(fileCreator)
-                .project(project)
-                .build();
-
-        projectService.updateProject(projectMapper.toDto(project));
-        resourceService.save(resource);
-        log.info("Saving new Resource with key: {}, with status: {}",
-                resource.getKey(), resource.getStatus());
+        Project project = projectService.findById(projectId);
+        resourceValidator.validateMaxStorageSizeIsNotNull(project.getMaxStorageSize());
+
+        FileDigest digest = resourceBlobService.digest(file);
+        boolean alreadyStored = resourceBlobService.findByDigest(digest)
+                .map(blob -> resourceService.isBlobReferencedInProject(projectId, blob.getId()))
+                .orElse(false);
+
+        StorageReservation reservation = storageQuotaService.reserve(projectId, alreadyStored ? 0 : file.getSize());
+        ResourceBlob blob = null;
+        try {
+            blob = resourceBlobService.acquire(file, digest);
+
+            TeamMember fileCreator = teamMemberService.findById(teamMemberId);
+            List<TeamRole> allowedRoles = teamMemberService.getTeamMemberRole(fileCreator.getId());
+
+            Resource resource = Resource.builder()
+                    .name(file.getOriginalFilename())
+                    .key(blob.getKey())
+                    .size(BigInteger.valueOf(file.getSize()))
+                    .crc32(blob.getCrc32())
+                    .blob(blob)
+                    .allowedRoles(allowedRoles)
+                    .type(ResourceType.getResourceType(file.getContentType()))
+                    .status(ResourceStatus.ACTIVE)
+                    .createdBy(fileCreator)
+                    .updatedBy(fileCreator)
+                    .project(project)
+                    .build();
+
+            storageQuotaService.commit(reservation, resource);
+            log.info("Saving new Resource with key: {}, with status: {}",
+                    resource.getKey(), resource.getStatus());
+        } catch (RuntimeException e) {
+            log.warn("Error uploading file: {} to project with ID: {}", file.getOriginalFilename(), projectId);
+            storageQuotaService.release(reservation);
+            if (blob != null) {
+                resourceBlobService.release(blob);
+            }
+            throw e;
+        }
     }
 
     public InputStream downloadFile(Long resourceId) {
@@ -98,27 +131,75 @@ public class ProjectFilesService {
         Resource resource = resourceService.findById(resourceId);
         String key = resource.getKey();
         log.info("Downloading file with key: {} from project with ID: {}", key, resource.getProject().getId());
-        return amazonClient.downloadFile(key);
+        return fileCacheService.downloadFile(key);
     }
 
-    public Map<String, InputStream> downloadAllFiles(Long projectId) {
-        log.info("Downloading all files from project with ID: {}", projectId);
-        Project project = projectService.findByIdWithResources(projectId);
+    public FileRangeSource getFileRangeSource(Long resourceId) {
+        log.info("Preparing ranged download of file with ID: {}", resourceId);
+        Resource resource = resourceService.findById(resourceId);
+        String key = resource.getKey();
+        ObjectMetadata metadata = amazonClient.getFileMetadata(key);
+        return new FileRangeSource(
+                resource.getName(),
+                metadata.getContentLength(),
+                metadata.getETag(),
+                metadata.getLastModified() == null ? null : metadata.getLastModified().toInstant(),
+                (start, end) -> amazonClient.downloadFileRange(key, start, end));
+    }
 
-        Map<String, String> filesNamesWithKeys = new HashMap<>();
-        project.getResources().stream()
-                .filter(resource -> resource.getStatus().equals(ResourceStatus.ACTIVE))
-                .forEach(resource -> filesNamesWithKeys.put(resource.getId() + resource.getName(), resource.getKey()));
+    public BulkDownload downloadAllFiles(Long projectId, ResourceFilterDto filter) {
+        log.info("Downloading all files from project with ID: {}", projectId);
+        List<Resource> resources = resourceService.findActiveByProjectId(projectId, filter);
+        List<ZipEntrySource> files = resources.stream()
+                .map(this::toZipEntrySource)
+                .toList();
+        String fingerprint = projectArchiveService.fingerprint(resources);
+        ProjectArchive storedArchive = files.isEmpty()
+                ? null
+                : projectArchiveService.find(projectId, fingerprint).orElse(null);
+        log.info("Prepared {} files for download from project with ID: {}, stored archive: {}",
+                files.size(), projectId, storedArchive != null);
+        return new BulkDownload(files, fingerprint, storedArchive);
+    }
 
-        Map<String, S3ObjectInputStream> s3ObjectInputStreams = amazonClient.downloadAllFiles(filesNamesWithKeys);
+    public FileRangeSource getArchiveSource(Long projectId, ArchiveFormat format, ResourceFilterDto filter) {
+        log.info("Preparing {} archive of files from project with ID: {}", format, projectId);
+        List<Resource> resources = resourceService.findActiveByProjectId(projectId, filter);
+
+        List<ArchiveEntrySource> entries = new ArrayList<>();
+        StringBuilder fingerprint = new StringBuilder(format.name());
+        LocalDateTime lastModified = null;
+        for (Resource resource : resources) {
+            if (resource.getKey() == null || resource.getSize() == null) {
+                log.warn("Resource with ID: {} has no stored content, it is left out of the archive",
+                        resource.getId());
+                continue;
+            }
+            entries.add(toArchiveEntrySource(resource));
+            fingerprint.append('|').append(resource.getId())
+                    .append(':').append(resource.getKey())
+                    .append(':').append(resource.getSize())
+                    .append(':').append(resource.getCrc32())
+                    .append(':').append(resource.getUpdatedAt());
+            if (resource.getUpdatedAt() != null
+                    && (lastModified == null || resource.getUpdatedAt().isAfter(lastModified))) {
+                lastModified = resource.getUpdatedAt();
+            }
+        }
 
-        Map<String, InputStream> files = new HashMap<>();
-        s3ObjectInputStreams.forEach((key, value) -> files.put(key, value.getDelegateStream()));
-        log.info("Downloaded {} files from project with ID: {}", files.size(), projectId);
-        return files;
+        ArchiveLayout layout = ArchiveLayout.of(format, entries);
+        log.info("Prepared {} archive of {} files and {} bytes for project with ID: {}",
+                format, entries.size(), layout.length(), projectId);
+        return new FileRangeSource(
+                "project_" + projectId + "_resources." + format.getExtension(),
+                layout.length(),
+                DigestUtils.md5DigestAsHex(fingerprint.toString().getBytes(StandardCharsets.UTF_8)),
+                toInstant(lastModified),
+                layout.rangeable(),
+                layout::open);
     }
 
-
+    @Transactional
     public void deleteFile(Long resourceId, Long teamMemberId) {
         log.info("Deleting file from project with ID: {}", resourceId);
         Resource resource = resourceService.findById(resourceId);
@@ -128,18 +209,30 @@ public class ProjectFilesService {
         resourceValidator.validateAllowedToDeleteFile(resource, teamMember);
 
         String key = resource.getKey();
-        amazonClient.deleteFile(key);
+        ResourceBlob blob = resource.getBlob();
+        if (blob == null) {
+            objectDeletionService.schedule(key);
+        }
 
-        BigInteger renewStorageSize = project.getStorageSize().subtract(resource.getSize());
-        project.setStorageSize(renewStorageSize);
+        BigInteger releasedSize = blob == null
+                || !resourceService.isBlobReferencedInProject(project.getId(), blob.getId(), resourceId)
+                ? resource.getSize()
+                : BigInteger.ZERO;
 
         resource.setKey(null);
         resource.setSize(null);
+        resource.setBlob(null);
         resource.setStatus(ResourceStatus.DELETED);
         resource.setUpdatedBy(teamMember);
 
-        projectService.updateProject(projectMapper.toDto(project));
         resourceService.save(resource);
+        storageQuotaService.releaseStorage(project.getId(), releasedSize.longValue());
+        if (blob != null) {
+            resourceBlobService.release(blob);
+        }
+        if (key != null) {
+            fileCacheService.evict(key);
+        }
         log.info("Saving Resource with id: {} , with status: {} ",
                 resource.getId(), resource.getStatus());
     }
@@ -147,104 +240,23 @@ public class ProjectFilesService {
     public void updateProjectCover(Long projectId, MultipartFile file) {
         projectValidator.nonvalizesLime(file.getSize(), maxProjectImageSize);
         Project project = projectService.findById(projectId);
-        String folder = projectId + project.getName() + "/cover";
-        String key = amazonClient.uploadFile(file, folder);
+        String key = uploadImage(file, projectId + project.getName() + "/cover");
+        ImageRenditions oldRenditions = project.getCoverRenditions();
+        String oldCoverKey = project.getCoverImageId();
         project.setCoverImageId(key);
+        project.setCoverRenditions(null);
         projectService.save(project);
+        projectService.invalidatePresentation(projectId);
+        imageRenditionService.scheduleCoverRenditions(projectId, key);
+        if (oldRenditions != null) {
+            imageRenditionService.deleteRenditions(oldRenditions, oldCoverKey);
+        }
     }
 
     public StreamingResponseBody createProjectPresentation(Long projectId) {
-        log.info("Creating project presentation for project ID: {}", projectId);
-        Project project = projectService.findById(projectId);
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        PDDocument document = new PDDocument();
-        PDPageContentStream contentStream = null;
-        InputStream imageStream = null;
-
-        try {
-            PDPage page = new PDPage();
-            document.addPage(page);
-            contentStream = new PDPageContentStream(document, page);
-
-            float margin = 50;
-            float yStart = 750;
-            float width = page.getMediaBox().getWidth() - 2 * margin;
-            float currentY = yStart;
-
-            log.info("Downloading cover image for project ID: {}", projectId);
-            imageStream = amazonClient.downloadFile(project.getCoverImageId());
-            byte[] imageBytes = imageStream.readAllBytes();
-            PDImageXObject image = PDImageXObject.createFromByteArray(document, imageBytes, "project-cover-image");
-            float imageWidth = 150;
-            float imageHeight = 150;
-            contentStream.drawImage(image, margin, currentY - imageHeight, imageWidth, imageHeight);
-
-            contentStream.beginText();
-            contentStream.setFont(PDType1Font.HELVETICA_BOLD, 14);
-            contentStream.newLineAtOffset(margin + imageWidth + 20, currentY - 20);
-            contentStream.showText("Title: " + project.getName());
-            contentStream.newLineAtOffset(0, -20);
-            contentStream.showText("The date of creation: " + project.getCreatedAt());
-            contentStream.newLineAtOffset(0, -20);
-            contentStream.showText("Status: " + project.getStatus());
-            contentStream.newLineAtOffset(0, -20);
-            contentStream.showText("Owner: " + teamMemberService.findById(project.getOwnerId()).getNickname());
-            contentStream.endText();
-
-            currentY -= imageHeight + 30;
-
-            contentStream.beginText();
-            contentStream.setFont(PDType1Font.HELVETICA, 12);
-            contentStream.newLineAtOffset(margin, currentY);
-            contentStream.showText("Description: " + project.getDescription());
-            contentStream.endText();
-            currentY -= 40;
-
-            currentY = drawTable(contentStream, document, currentY, "Completed tasks", new String[]{"Task", "Data"},
-                    project.getTasks().stream()
-                            .filter(t -> t.getStatus().equals(TaskStatus.DONE))
-                            .map(t -> new String[]{t.getName(), t.getUpdatedAt().toString()}).toList());
-
-            currentY -= 50;
-            contentStream.beginText();
-            contentStream.setFont(PDType1Font.HELVETICA_BOLD, 14);
-            contentStream.newLineAtOffset(margin, currentY);
-            contentStream.showText("Project statistics:");
-            contentStream.endText();
-            currentY -= 20;
-
-            contentStream.beginText();
-            contentStream.setFont(PDType1Font.HELVETICA, 12);
-            contentStream.newLineAtOffset(margin, currentY);
-            contentStream.showText("The number of tasks performed: " + project.getTasks().size());
-            contentStream.newLineAtOffset(0, -20);
-            contentStream.showText("The number of participants: " + project.getTeams().size());
-            contentStream.endText();
-
-            contentStream.close();
-            document.save(byteArrayOutputStream);
-            log.info("Project presentation created successfully for project ID: {}", projectId);
-        } catch (IOException e) {
-            log.error("Error creating project presentation for project ID: {}", projectId, e);
-            throw new RuntimeException("Failed to create project presentation", e);
-        } finally {
-            try {
-                if (contentStream != null) {
-                    contentStream.close();
-                }
-                if (document != null) {
-                    document.close();
-                }
-                if (imageStream != null) {
-                    imageStream.close();
-                }
-            } catch (IOException e) {
-                log.error("Error closing resources for project ID: {}", projectId, e);
-            }
-        }
-
-        ByteArrayInputStream inputStream = new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
-        return fileStreamingService.getStreamingResponseBody(inputStream);
+        String key = projectPresentationService.getPresentationKey(projectId);
+        return fileStreamingService.getStreamingResponseBody(fileCacheService.downloadFile(key),
+                StreamingEndpoint.PRESENTATION, new TransferOwner(projectId, null));
     }
 
     public void addImageToProjectGallery(Long projectId, MultipartFile file) {
@@ -252,71 +264,89 @@ public class ProjectFilesService {
         projectValidator.nonvalizesLime(file.getSize(), maxProjectImageSize);
         Project project = projectService.findById(projectId);
         projectValidator.gallerySizeValidate(project.getGalleryFileKeys().size(), MAX_IMAGE_GALLERY);
-        String folder = projectId + project.getName() + "/gallery";
-        String key = amazonClient.uploadFile(file, folder);
+        String key = uploadImage(file, projectId + project.getName() + "/gallery");
         List<String> galleryFileKeys = project.getGalleryFileKeys();
         galleryFileKeys.add(key);
         project.setGalleryFileKeys(galleryFileKeys);
         projectService.save(project);
+        imageRenditionService.scheduleGalleryRenditions(projectId, key);
         log.info("Image added to project gallery for project ID: {}", projectId);
     }
 
+    @Transactional(readOnly = true)
+    public List<GalleryImageDto> getProjectGallery(Long projectId) {
+        Project project = projectService.findById(projectId);
+        Map<String, ImageRenditions> renditions = project.getGalleryRenditions() == null
+                ? Map.of() : project.getGalleryRenditions();
+        return project.getGalleryFileKeys().stream()
+                .map(fileKey -> toGalleryImageDto(fileKey, renditions.get(fileKey)))
+                .toList();
+    }
+
+    @Transactional
     public void removeImageFromProjectGallery(Long projectId, String fileKey) {
         log.info("Removing image from project gallery for project ID: {}", projectId);
         Project project = projectService.findById(projectId);
         List<String> galleryFileKeys = project.getGalleryFileKeys();
         galleryFileKeys.removeIf(key -> key.equals(fileKey));
-        amazonClient.deleteFile(fileKey);
+        ImageRenditions renditions = project.getGalleryRenditions() == null
+                ? null : project.getGalleryRenditions().remove(fileKey);
         project.setGalleryFileKeys(galleryFileKeys);
         projectService.save(project);
+        objectDeletionService.schedule(fileKey);
+        fileCacheService.evict(fileKey);
+        if (renditions != null) {
+            imageRenditionService.deleteRenditions(renditions, fileKey);
+            renditions.keys().stream()
+                    .filter(key -> !key.equals(fileKey))
+                    .forEach(fileCacheService::evict);
+        }
         log.info("Image removed from project gallery for project ID: {}", projectId);
     }
 
-    private float drawTable(PDPageContentStream contentStream, PDDocument document, float yStart, String title, String[] headers, List<String[]> rows) throws IOException {
-        log.info("Drawing table for project ID: {}", title);
-        float margin = 50;
-        float tableWidth = document.getPage(0).getMediaBox().getWidth() - 2 * margin;
-        float rowHeight = 20;
-        float yPosition = yStart - 30;
-
-        contentStream.beginText();
-        contentStream.setFont(PDType1Font.HELVETICA_BOLD, 14);
-        contentStream.newLineAtOffset(margin, yPosition);
-        contentStream.showText(title);
-        contentStream.endText();
-        yPosition -= 20;
-
-        contentStream.setFont(PDType1Font.HELVETICA_BOLD, 12);
-        float[] columnWidths = {tableWidth / headers.length, tableWidth / headers.length, tableWidth / headers.length};
-
-        for (int i = 0; i < headers.length; i++) {
-            contentStream.beginText();
-            contentStream.newLineAtOffset(margin + (i * columnWidths[i]), yPosition);
-            contentStream.showText(headers[i]);
-            contentStream.endText();
+    private GalleryImageDto toGalleryImageDto(String fileKey, ImageRenditions renditions) {
+        GalleryImageDto.GalleryImageDtoBuilder dto = GalleryImageDto.builder().fileKey(fileKey);
+        if (renditions != null) {
+            dto.thumbnailKey(renditions.getThumbnailKey())
+                    .mediumKey(renditions.getMediumKey())
+                    .fullKey(renditions.getFullKey());
         }
-        yPosition -= rowHeight;
-
-        contentStream.setFont(PDType1Font.HELVETICA, 12);
-        for (String[] row : rows) {
-            for (int i = 0; i < row.length; i++) {
-                contentStream.beginText();
-                contentStream.newLineAtOffset(margin + (i * columnWidths[i]), yPosition);
-                contentStream.showText(row[i]);
-                contentStream.endText();
-            }
-            yPosition -= rowHeight;
-        }
-        log.info("Table drawn successfully for project ID: {}", title);
-        return yPosition;
+        return dto.build();
+    }
+
+    private ZipEntrySource toZipEntrySource(Resource resource) {
+        String key = resource.getKey();
+        return new ZipEntrySource(
+                resource.getId() + resource.getName(),
+                resource.getType(),
+                resource.getSize() == null ? null : resource.getSize().longValue(),
+                resource.getCrc32(),
+                () -> amazonClient.downloadFile(key));
     }
 
-    private Project setZeroIfStorageSizeNull(Project project) {
-        log.info("Setting storage size to zero if null for project with ID: {}", project.getId());
-        if (project.getStorageSize() == null) {
-            project.setStorageSize(new BigInteger("0"));
+    private ArchiveEntrySource toArchiveEntrySource(Resource resource) {
+        String key = resource.getKey();
+        return new ArchiveEntrySource(
+                resource.getId() + resource.getName(),
+                resource.getSize().longValue(),
+                resource.getCrc32(),
+                toInstant(resource.getUpdatedAt()),
+                (start, end) -> amazonClient.downloadFileRange(key, start, end));
+    }
+
+    private String uploadImage(MultipartFile file, String folder) {
+        EncodedImage image = imageService.optimizeImage(file);
+        String fileName = file.getOriginalFilename() == null ? "image" : file.getOriginalFilename();
+        int extensionStart = fileName.lastIndexOf('.');
+        if (extensionStart > 0) {
+            fileName = fileName.substring(0, extensionStart);
         }
-        log.info("Project with ID: {} updated with storage size: {}", project.getId(), project.getStorageSize());
-        return project;
+        String key = amazonClient.generateKey(folder, fileName + "." + image.format().getExtension());
+        amazonClient.uploadFile(image.bytes(), key, image.format().getContentType());
+        return key;
+    }
+
+    private Instant toInstant(LocalDateTime time) {
+        return time == null ? null : time.atZone(ZoneId.systemDefault()).toInstant();
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,183 @@
+package faang.school.projectservice.service.project;
+
+import faang.school.projectservice.model.ImageRenditions;
+import faang.school.projectservice.model.Project;
+import faang.school.projectservice.model.TaskStatus;
+import faang.school.projectservice.repository.TaskRepository;
+import faang.school.projectservice.service.TeamMemberService;
+import faang.school.projectservice.service.file_cache.FileCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectPresentationRenderer {
+
+    private static final float MARGIN = 50;
+    private static final float TOP = 750;
+    private static final float ROW_HEIGHT = 20;
+    private static final float IMAGE_SIZE = 150;
+    private static final String[] TASK_HEADERS = {"Task", "Data"};
+
+    private final TaskRepository taskRepository;
+    private final TeamMemberService teamMemberService;
+    private final FileCacheService fileCacheService;
+
+    @Value("${project-files.presentation.max-main-memory-bytes}")
+    private long maxMainMemoryBytes;
+
+    @Value("${project-files.presentation.task-batch-size}")
+    private int taskBatchSize;
+
+    public void render(Project project, OutputStream outputStream) throws IOException {
+        Long projectId = project.getId();
+        log.info("Rendering presentation for project ID: {}", projectId);
+        try (PDDocument document = new PDDocument(MemoryUsageSetting.setupMixed(maxMainMemoryBytes))) {
+            try (PageCursor cursor = new PageCursor(document)) {
+                drawHeader(cursor, project);
+                drawCompletedTasks(cursor, projectId);
+                drawStatistics(cursor, project);
+            }
+            document.save(outputStream);
+            log.info("Presentation of {} pages rendered for project ID: {}", document.getNumberOfPages(), projectId);
+        }
+    }
+
+    private void drawHeader(PageCursor cursor, Project project) throws IOException {
+        log.info("Downloading cover image for project ID: {}", project.getId());
+        byte[] imageBytes;
+        try (InputStream imageStream = fileCacheService.downloadFile(getCoverKey(project))) {
+            imageBytes = imageStream.readAllBytes();
+        }
+        PDImageXObject image = PDImageXObject.createFromByteArray(cursor.document, imageBytes, "project-cover-image");
+        cursor.contentStream.drawImage(image, MARGIN, cursor.y - IMAGE_SIZE, IMAGE_SIZE, IMAGE_SIZE);
+
+        PDPageContentStream contentStream = cursor.contentStream;
+        contentStream.beginText();
+        contentStream.setFont(PDType1Font.HELVETICA_BOLD, 14);
+        contentStream.newLineAtOffset(MARGIN + IMAGE_SIZE + 20, cursor.y - 20);
+        contentStream.showText("Title: " + project.getName());
+        contentStream.newLineAtOffset(0, -20);
+        contentStream.showText("The date of creation: " + project.getCreatedAt());
+        contentStream.newLineAtOffset(0, -20);
+        contentStream.showText("Status: " + project.getStatus());
+        contentStream.newLineAtOffset(0, -20);
+        contentStream.showText("Owner: " + teamMemberService.findById(project.getOwnerId()).getNickname());
+        contentStream.endText();
+        cursor.y -= IMAGE_SIZE + 30;
+
+        cursor.drawText(PDType1Font.HELVETICA, 12, MARGIN, "Description: " + project.getDescription());
+        cursor.y -= 40;
+    }
+
+    private void drawCompletedTasks(PageCursor cursor, Long projectId) throws IOException {
+        cursor.ensureSpace(30 + 2 * ROW_HEIGHT);
+        cursor.y -= 30;
+        cursor.drawText(PDType1Font.HELVETICA_BOLD, 14, MARGIN, "Completed tasks");
+        cursor.y -= 20;
+        drawTableHeaders(cursor);
+
+        long afterId = 0;
+        List<TaskRepository.TaskRow> rows;
+        do {
+            rows = taskRepository.findRowsAfter(projectId, TaskStatus.DONE, afterId, PageRequest.of(0, taskBatchSize));
+            for (TaskRepository.TaskRow row : rows) {
+                if (cursor.ensureSpace(ROW_HEIGHT)) {
+                    drawTableHeaders(cursor);
+                }
+                drawTableRow(cursor, PDType1Font.HELVETICA,
+                        new String[]{row.getName(), String.valueOf(row.getUpdatedAt())});
+                afterId = row.getId();
+            }
+        } while (rows.size() == taskBatchSize);
+    }
+
+    private void drawTableHeaders(PageCursor cursor) throws IOException {
+        drawTableRow(cursor, PDType1Font.HELVETICA_BOLD, TASK_HEADERS);
+    }
+
+    private void drawTableRow(PageCursor cursor, PDFont font, String[] cells) throws IOException {
+        float columnWidth = (cursor.page.getMediaBox().getWidth() - 2 * MARGIN) / TASK_HEADERS.length;
+        for (int i = 0; i < cells.length; i++) {
+            cursor.drawText(font, 12, MARGIN + i * columnWidth, cells[i]);
+        }
+        cursor.y -= ROW_HEIGHT;
+    }
+
+    private void drawStatistics(PageCursor cursor, Project project) throws IOException {
+        cursor.ensureSpace(50 + 3 * ROW_HEIGHT);
+        cursor.y -= 50;
+        cursor.drawText(PDType1Font.HELVETICA_BOLD, 14, MARGIN, "Project statistics:");
+        cursor.y -= 20;
+        cursor.drawText(PDType1Font.HELVETICA, 12, MARGIN,
+                "The number of tasks performed: " + taskRepository.countByProjectId(project.getId()));
+        cursor.y -= 20;
+        cursor.drawText(PDType1Font.HELVETICA, 12, MARGIN, "The number of participants: " + project.getTeams().size());
+    }
+
+    private String getCoverKey(Project project) {
+        ImageRenditions renditions = project.getCoverRenditions();
+        if (renditions != null && renditions.getMediumKey() != null) {
+            return renditions.getMediumKey();
+        }
+        return project.getCoverImageId();
+    }
+
+    private static class PageCursor implements AutoCloseable {
+
+        private final PDDocument document;
+        private PDPage page;
+        private PDPageContentStream contentStream;
+        private float y;
+
+        private PageCursor(PDDocument document) throws IOException {
+            this.document = document;
+            newPage();
+        }
+
+        private boolean ensureSpace(float height) throws IOException {
+            if (y - height >= MARGIN) {
+                return false;
+            }
+            contentStream.close();
+            newPage();
+            return true;
+        }
+
+        private void drawText(PDFont font, float fontSize, float x, String text) throws IOException {
+            contentStream.beginText();
+            contentStream.setFont(font, fontSize);
+            contentStream.newLineAtOffset(x, y);
+            contentStream.showText(text);
+            contentStream.endText();
+        }
+
+        private void newPage() throws IOException {
+            page = new PDPage();
+            document.addPage(page);
+            contentStream = new PDPageContentStream(document, page);
+            y = TOP;
+        }
+
+        @Override
+        public void close() throws IOException {
+            contentStream.close();
+        }
+    }
+}
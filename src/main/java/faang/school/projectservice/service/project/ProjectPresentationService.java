@@ -0,0 +1,121 @@
+package faang.school.projectservice.service.project;
+
+import faang.school.projectservice.model.Project;
+import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import faang.school.projectservice.service.storage_gc.ObjectDeletionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectPresentationService {
+
+    private static final String PRESENTATION_FILE_NAME = "presentation.pdf";
+
+    private final ProjectService projectService;
+    private final ProjectPresentationRenderer projectPresentationRenderer;
+    private final AmazonClientService amazonClient;
+    private final ObjectDeletionService objectDeletionService;
+    private final Map<Long, CompletableFuture<String>> inFlightGenerations = new ConcurrentHashMap<>();
+
+    public String getPresentationKey(Long projectId) {
+        Project project = projectService.findById(projectId);
+        if (project.getPresentationGeneratedAt() != null && project.getPresentationFileKey() != null) {
+            log.info("Serving stored presentation for project ID: {}", projectId);
+            return project.getPresentationFileKey();
+        }
+
+        CompletableFuture<String> generation = new CompletableFuture<>();
+        CompletableFuture<String> inFlight = inFlightGenerations.putIfAbsent(projectId, generation);
+        if (inFlight != null) {
+            log.info("Waiting for presentation generation in progress for project ID: {}", projectId);
+            return await(inFlight);
+        }
+        try {
+            String key = generate(project);
+            generation.complete(key);
+            return key;
+        } catch (RuntimeException e) {
+            generation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightGenerations.remove(projectId, generation);
+        }
+    }
+
+    private String generate(Project project) {
+        Long projectId = project.getId();
+        Long version = project.getPresentationVersion();
+        String previousKey = project.getPresentationFileKey();
+        LocalDateTime generatedAt = LocalDateTime.now();
+
+        String folder = projectId + project.getName() + "/presentation";
+        String key = amazonClient.generateKey(folder, PRESENTATION_FILE_NAME);
+        Path presentation = renderToFile(project);
+        try {
+            amazonClient.uploadFile(presentation.toFile(), key, "application/pdf");
+        } finally {
+            deleteQuietly(presentation);
+        }
+
+        if (!projectService.storePresentation(projectId, version, key, generatedAt)) {
+            log.info("Project ID: {} changed while generating presentation, it is not stored", projectId);
+            return key;
+        }
+        objectDeletionService.schedule(previousKey);
+        log.info("Presentation stored with key: {} for project ID: {}", key, projectId);
+        return key;
+    }
+
+    private String await(CompletableFuture<String> generation) {
+        try {
+            return generation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Path renderToFile(Project project) {
+        Path file = null;
+        boolean rendered = false;
+        try {
+            file = Files.createTempFile("presentation-", ".pdf");
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file))) {
+                projectPresentationRenderer.render(project, outputStream);
+            }
+            rendered = true;
+            return file;
+        } catch (IOException e) {
+            log.error("Error creating project presentation for project ID: {}", project.getId(), e);
+            throw new RuntimeException("Failed to create project presentation", e);
+        } finally {
+            if (!rendered && file != null) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Error deleting temporary presentation file {}", file, e);
+        }
+    }
+}
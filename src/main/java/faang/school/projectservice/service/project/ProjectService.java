@@ -6,36 +6,46 @@ import faang.school.projectservice.dto.project.ProjectUpdateDto;
 import faang.school.projectservice.event_drive.redis.event.ProjectCreateEvent;
 import faang.school.projectservice.event_drive.redis.publisher.ProjectCreateEventPublisher;
 import faang.school.projectservice.exception.customexception.DataValidationException;
-import faang.school.projectservice.filter.Filter;
 import faang.school.projectservice.mapper.project.ProjectMapper;
+import faang.school.projectservice.model.ImageRenditions;
 import faang.school.projectservice.model.Project;
 import faang.school.projectservice.model.ProjectStatus;
-import faang.school.projectservice.model.ProjectVisibility;
 import faang.school.projectservice.repository.ProjectRepository;
+import faang.school.projectservice.repository.specification.LikePatterns;
+import faang.school.projectservice.repository.specification.ProjectSpecifications;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigInteger;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
 
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "name", "status", "createdAt", "updatedAt");
+
     @Value("${project-files.max-project-storage-size}")
     private long maxProjectStorageSize;
 
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
-    private final List<Filter<Project, ProjectFilterDto>> projectFilters;
     private final ProjectCreateEventPublisher projectCreateEventPublisher;
 
     @Transactional
@@ -59,6 +69,9 @@ public class ProjectService {
     public void updateProject(ProjectUpdateDto dto) {
         log.info("Updating project with id: {}", dto.getId());
         Project project = findById(dto.getId());
+        if (!Objects.equals(project.getDescription(), dto.getDescription()) || project.getStatus() != dto.getStatus()) {
+            invalidatePresentation(project.getId());
+        }
         project.setDescription(dto.getDescription());
         project.setStatus(dto.getStatus());
         project.setUpdatedAt(LocalDateTime.now());
@@ -67,17 +80,33 @@ public class ProjectService {
     }
 
     @Transactional(readOnly = true)
-    public List<ProjectUpdateDto> findAllProjects(ProjectFilterDto filters, Long userId) {
-        List<ProjectUpdateDto> projects = projectRepository.findAll().stream()
-                .filter(project -> isProjectVisibleForUser(project, userId))
-                .flatMap(project -> applyFilters(project, filters))
-                .distinct()
-                .map(projectMapper::toDto)
-                .collect(Collectors.toList());
-        log.info("Projects found: {}", projects.size());
+    public Page<ProjectUpdateDto> findAllProjects(ProjectFilterDto filters, Long userId, Pageable pageable) {
+        validateSort(pageable.getSort());
+        Page<ProjectUpdateDto> projects = projectRepository.findUpdateDtos(
+                ProjectSpecifications.visibleMatching(userId, filters), pageable);
+        log.info("Projects found: {} of {}", projects.getNumberOfElements(), projects.getTotalElements());
         return projects;
     }
 
+    @Transactional(readOnly = true)
+    public Page<ProjectUpdateDto> searchProjects(String query, Long userId, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new DataValidationException("Search query must not be blank");
+        }
+        String text = query.trim().toLowerCase();
+        Page<Long> ids = projectRepository.searchIds(text, LikePatterns.contains(text), userId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        Map<Long, ProjectUpdateDto> projects = projectRepository.findUpdateDtos(
+                        ProjectSpecifications.idIn(ids.getContent()), Pageable.unpaged()).stream()
+                .collect(Collectors.toMap(ProjectUpdateDto::getId, Function.identity()));
+        List<ProjectUpdateDto> ranked = ids.getContent().stream()
+                .map(projects::get)
+                .filter(Objects::nonNull)
+                .toList();
+        log.info("Projects found by search: {} of {}", ranked.size(), ids.getTotalElements());
+        return new PageImpl<>(ranked, ids.getPageable(), ids.getTotalElements());
+    }
+
     @Transactional
     public ProjectUpdateDto findProjectById(Long projectId) {
         log.info("Finding project by id: {}", projectId);
@@ -106,9 +135,45 @@ public class ProjectService {
         return projectRepository.findByIdWithResources(projectId);
     }
 
-    private boolean isProjectVisibleForUser(Project project, Long userId) {
-        return project.getVisibility() == ProjectVisibility.PUBLIC
-                || project.getOwnerId().equals(userId);
+    @Transactional
+    public boolean updateCoverRenditions(Long projectId, String coverKey, ImageRenditions renditions) {
+        int updated = projectRepository.updateCoverRenditions(projectId, coverKey,
+                renditions.getThumbnailKey(), renditions.getMediumKey(), renditions.getFullKey());
+        if (updated == 0) {
+            log.info("Cover of project {} was replaced, renditions of {} are stale", projectId, coverKey);
+            return false;
+        }
+        return true;
+    }
+
+    @Transactional
+    public boolean updateGalleryRenditions(Long projectId, String fileKey, ImageRenditions renditions) {
+        int updated = projectRepository.upsertGalleryRenditions(projectId, fileKey,
+                renditions.getThumbnailKey(), renditions.getMediumKey(), renditions.getFullKey());
+        if (updated == 0) {
+            log.info("Image {} was removed from gallery of project {}, renditions are stale", fileKey, projectId);
+            return false;
+        }
+        return true;
+    }
+
+    @Transactional
+    public void invalidatePresentation(Long projectId) {
+        projectRepository.invalidatePresentation(projectId);
+        log.info("Presentation of project {} invalidated", projectId);
+    }
+
+    @Transactional
+    public boolean storePresentation(Long projectId, Long version, String key, LocalDateTime generatedAt) {
+        return projectRepository.storePresentation(projectId, version, key, generatedAt) > 0;
+    }
+
+    public List<Long> findProjectIdsWithMissingCoverRenditions() {
+        return projectRepository.findIdsWithMissingCoverRenditions();
+    }
+
+    public List<ProjectRepository.GalleryImage> findGalleryImagesWithMissingRenditions() {
+        return projectRepository.findGalleryImagesWithMissingRenditions();
     }
 
     private void validateProjectExistsForUser(Long userId, String name) {
@@ -117,11 +182,13 @@ public class ProjectService {
         }
     }
 
-    private Stream<Project> applyFilters(Project project, ProjectFilterDto filters) {
-        return projectFilters.stream()
-                .filter(filter -> filter.isApplicable(filters))
-                .reduce(Stream.of(project),
-                        (stream, filter) -> filter.apply(stream, filters),
-                        Stream::concat);
+    private void validateSort(Sort sort) {
+        sort.stream()
+                .map(Sort.Order::getProperty)
+                .filter(property -> !SORTABLE_PROPERTIES.contains(property))
+                .findFirst()
+                .ifPresent(property -> {
+                    throw new DataValidationException("Projects cannot be sorted by " + property);
+                });
     }
 }
@@ -0,0 +1,4 @@
+package faang.school.projectservice.service.resource;
+
+public record FileDigest(String sha256, long crc32) {
+}
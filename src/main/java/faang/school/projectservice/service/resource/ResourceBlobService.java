@@ -0,0 +1,107 @@
+package faang.school.projectservice.service.resource;
+
+import faang.school.projectservice.exception.customexception.FileUploadException;
+import faang.school.projectservice.model.ResourceBlob;
+import faang.school.projectservice.repository.ResourceBlobRepository;
+import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import faang.school.projectservice.service.storage_gc.ObjectDeletionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResourceBlobService {
+
+    private static final String BLOB_FOLDER = "blobs/";
+    private static final int MAX_ACQUIRE_ATTEMPTS = 3;
+
+    private final ResourceBlobRepository resourceBlobRepository;
+    private final AmazonClientService amazonClient;
+    private final ObjectDeletionService objectDeletionService;
+
+    @Value("${project-files.multipart.threshold}")
+    private long multipartUploadThreshold;
+
+    public FileDigest digest(MultipartFile file) {
+        CRC32 crc32 = new CRC32();
+        MessageDigest sha256 = newSha256();
+        try (InputStream inputStream = new DigestInputStream(
+                new CheckedInputStream(file.getInputStream(), crc32), sha256)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            log.warn("Error reading file {} to compute its digest", file.getOriginalFilename(), e);
+            throw new FileUploadException("Error reading file " + file.getOriginalFilename());
+        }
+        return new FileDigest(HexFormat.of().formatHex(sha256.digest()), crc32.getValue());
+    }
+
+    public Optional<ResourceBlob> findByDigest(FileDigest digest) {
+        return resourceBlobRepository.findBySha256(digest.sha256());
+    }
+
+    public ResourceBlob acquire(MultipartFile file, FileDigest digest) {
+        for (int attempt = 1; attempt <= MAX_ACQUIRE_ATTEMPTS; attempt++) {
+            Optional<ResourceBlob> existing = resourceBlobRepository.findBySha256(digest.sha256());
+            if (existing.isPresent() && resourceBlobRepository.incrementReferenceCount(existing.get().getId()) > 0) {
+                log.info("Reusing stored blob {} for file {}", existing.get().getKey(), file.getOriginalFilename());
+                return existing.get();
+            }
+
+            String key = upload(file, digest);
+            try {
+                ResourceBlob blob = resourceBlobRepository.save(ResourceBlob.builder()
+                        .sha256(digest.sha256())
+                        .key(key)
+                        .size(file.getSize())
+                        .crc32(digest.crc32())
+                        .referenceCount(1)
+                        .build());
+                log.info("Stored new blob {} for file {}", key, file.getOriginalFilename());
+                return blob;
+            } catch (DataIntegrityViolationException e) {
+                log.info("Blob with digest {} was stored concurrently, retrying", digest.sha256());
+                objectDeletionService.schedule(key);
+            }
+        }
+        throw new FileUploadException("Error storing file " + file.getOriginalFilename());
+    }
+
+    public void release(ResourceBlob blob) {
+        resourceBlobRepository.decrementReferenceCount(blob.getId());
+        if (resourceBlobRepository.deleteIfUnreferenced(blob.getId()) > 0) {
+            log.info("Blob {} is no longer referenced, deleting it", blob.getKey());
+            objectDeletionService.schedule(blob.getKey());
+        }
+    }
+
+    private String upload(MultipartFile file, FileDigest digest) {
+        String folder = BLOB_FOLDER + digest.sha256();
+        return file.getSize() > multipartUploadThreshold
+                ? amazonClient.uploadFileInParts(file, folder, new CRC32())
+                : amazonClient.uploadFile(file, folder);
+    }
+
+    private MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,18 +1,39 @@
 package faang.school.projectservice.service.resource;
 
+import faang.school.projectservice.dto.resource.ResourceFilterDto;
+import faang.school.projectservice.dto.resource.ResourcePageDto;
+import faang.school.projectservice.exception.customexception.DataValidationException;
+import faang.school.projectservice.mapper.resource.ResourceMapper;
 import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.model.ResourceStatus;
+import faang.school.projectservice.model.ResourceType;
 import faang.school.projectservice.repository.ResourceRepository;
+import faang.school.projectservice.repository.specification.ResourceSpecifications;
+import faang.school.projectservice.service.archive_cache.ProjectArchiveService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ResourceService {
 
     private final ResourceRepository resourceRepository;
+    private final ProjectArchiveService projectArchiveService;
+    private final ResourceMapper resourceMapper;
+
+    @Value("${project-files.listing.max-page-size}")
+    private int maxPageSize;
 
     public Resource findById(Long id) {
         log.info("Finding resource with id: {}", id);
@@ -20,9 +41,71 @@ public class ResourceService {
                 .orElseThrow(() -> new EntityNotFoundException("Resource not found with id: " + id));
     }
 
+    public boolean isBlobReferencedInProject(Long projectId, Long blobId) {
+        return resourceRepository.existsByProjectIdAndBlobIdAndStatus(projectId, blobId, ResourceStatus.ACTIVE);
+    }
+
+    public boolean isBlobReferencedInProject(Long projectId, Long blobId, Long excludedResourceId) {
+        return resourceRepository.existsByProjectIdAndBlobIdAndStatusAndIdNot(
+                projectId, blobId, ResourceStatus.ACTIVE, excludedResourceId);
+    }
+
+    public List<Resource> findActiveByProjectId(Long projectId, ResourceFilterDto filter) {
+        List<Resource> resources = resourceRepository.findAll(
+                ResourceSpecifications.activeInProject(projectId, filter), Sort.by("id"));
+        log.info("Found {} matching active resources in project with id: {}", resources.size(), projectId);
+        return resources;
+    }
+
+    public ResourcePageDto listResources(Long projectId, ResourceStatus status, List<ResourceType> types,
+                                         String cursor, int limit) {
+        if (limit < 1 || limit > maxPageSize) {
+            throw new DataValidationException("Page size must be from 1 to " + maxPageSize);
+        }
+        boolean anyType = types == null || types.isEmpty();
+        // The IN list is bound even when anyType skips it, and an empty one is not valid SQL
+        Collection<ResourceType> typeFilter = anyType ? EnumSet.allOf(ResourceType.class) : types;
+        Pageable page = PageRequest.of(0, limit + 1);
+        List<ResourceRepository.ResourceRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = resourceRepository.findRows(projectId, status, anyType, typeFilter, page);
+        } else {
+            ResourceCursor position = ResourceCursor.decode(cursor);
+            rows = resourceRepository.findRowsBefore(projectId, status, anyType, typeFilter,
+                    position.createdAt(), position.id(), page);
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<ResourceRepository.ResourceRow> pageRows = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ResourceRepository.ResourceRow last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new ResourceCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        log.info("Listed {} resources of project with id: {}", pageRows.size(), projectId);
+        return ResourcePageDto.builder()
+                .resources(resourceMapper.toDtos(pageRows))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    public List<Resource> saveAll(List<Resource> resources) {
+        List<Resource> saved = resourceRepository.saveAll(resources);
+        saved.stream()
+                .filter(resource -> resource.getProject() != null)
+                .map(resource -> resource.getProject().getId())
+                .distinct()
+                .forEach(projectArchiveService::invalidate);
+        log.info("Saved {} resources", saved.size());
+        return saved;
+    }
+
     public void save(Resource resource) {
         log.info("Saving resource: {}", resource.getName());
         resourceRepository.save(resource);
+        if (resource.getProject() != null) {
+            projectArchiveService.invalidate(resource.getProject().getId());
+        }
         log.info("Resource saved successfully: {}", resource.getName());
     }
 }
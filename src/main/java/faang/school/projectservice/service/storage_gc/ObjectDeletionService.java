@@ -0,0 +1,58 @@
+package faang.school.projectservice.service.storage_gc;
+
+import faang.school.projectservice.model.ObjectDeletion;
+import faang.school.projectservice.repository.ObjectDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ObjectDeletionService {
+
+    private final ObjectDeletionRepository objectDeletionRepository;
+
+    @Transactional
+    public void schedule(String key) {
+        if (key == null) {
+            return;
+        }
+        objectDeletionRepository.schedule(key);
+        log.info("Scheduled deletion of S3 object with key: {}", key);
+    }
+
+    @Transactional
+    public void scheduleAll(Collection<String> keys) {
+        keys.forEach(this::schedule);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ObjectDeletion> findPendingAfter(long afterId, int maxAttempts, int batchSize) {
+        return objectDeletionRepository.findPendingAfter(maxAttempts, afterId, PageRequest.of(0, batchSize));
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> findReferencedKeys(Collection<String> keys) {
+        return keys.isEmpty() ? List.of() : objectDeletionRepository.findReferencedKeys(keys);
+    }
+
+    @Transactional
+    public void complete(Collection<String> keys) {
+        if (!keys.isEmpty()) {
+            objectDeletionRepository.deleteByKeys(keys);
+        }
+    }
+
+    @Transactional
+    public void retry(Collection<String> keys) {
+        if (!keys.isEmpty()) {
+            objectDeletionRepository.incrementAttempts(keys);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package faang.school.projectservice.service.storage_gc;
+
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import faang.school.projectservice.exception.customexception.FileDeleteException;
+import faang.school.projectservice.model.ObjectDeletion;
+import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import faang.school.projectservice.service.file_cache.FileCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorageGarbageCollector {
+
+    private static final int MAX_DELETE_BATCH_SIZE = 1000;
+
+    private final ObjectDeletionService objectDeletionService;
+    private final AmazonClientService amazonClient;
+    private final FileCacheService fileCacheService;
+
+    @Value("${services.s3.keyPrefix}")
+    private String keyPrefix;
+
+    @Value("${project-files.gc.batch-size}")
+    private int batchSize;
+
+    @Value("${project-files.gc.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${project-files.gc.orphan-min-age-hours}")
+    private long orphanMinAgeHours;
+
+    @Scheduled(cron = "${project-files.gc.collect-cron}")
+    public void collect() {
+        int batch = Math.min(batchSize, MAX_DELETE_BATCH_SIZE);
+        int deleted = 0;
+        long afterId = 0;
+        List<ObjectDeletion> pending;
+        while (!(pending = objectDeletionService.findPendingAfter(afterId, maxAttempts, batch)).isEmpty()) {
+            deleted += collectBatch(pending.stream().map(ObjectDeletion::getKey).toList());
+            afterId = pending.get(pending.size() - 1).getId();
+        }
+        log.info("Deleted {} unreferenced S3 objects", deleted);
+    }
+
+    @Scheduled(cron = "${project-files.gc.orphan-scan-cron}")
+    public void scanOrphans() {
+        if (keyPrefix == null || keyPrefix.isBlank()) {
+            log.warn("S3 key prefix is not set, the orphan scan of the shared bucket is skipped");
+            return;
+        }
+        String prefix = keyPrefix + "/";
+        Instant threshold = Instant.now().minus(orphanMinAgeHours, ChronoUnit.HOURS);
+        int orphans = 0;
+        String continuationToken = null;
+        do {
+            ListObjectsV2Result page = amazonClient.listFiles(prefix, continuationToken, MAX_DELETE_BATCH_SIZE);
+            List<String> candidates = page.getObjectSummaries().stream()
+                    .filter(summary -> summary.getKey().startsWith(prefix))
+                    .filter(summary -> summary.getLastModified().toInstant().isBefore(threshold))
+                    .map(S3ObjectSummary::getKey)
+                    .toList();
+            List<String> orphanKeys = unreferenced(candidates);
+            objectDeletionService.scheduleAll(orphanKeys);
+            orphans += orphanKeys.size();
+            continuationToken = page.isTruncated() ? page.getNextContinuationToken() : null;
+        } while (continuationToken != null);
+        log.info("Found {} orphaned S3 objects under {} older than {}", orphans, prefix, threshold);
+    }
+
+    private int collectBatch(List<String> keys) {
+        List<String> referenced = objectDeletionService.findReferencedKeys(keys);
+        if (!referenced.isEmpty()) {
+            log.warn("S3 objects {} are referenced again, they are not deleted", referenced);
+            objectDeletionService.complete(referenced);
+        }
+        List<String> unreferenced = new ArrayList<>(keys);
+        unreferenced.removeAll(referenced);
+        if (unreferenced.isEmpty()) {
+            return 0;
+        }
+
+        List<String> failed;
+        try {
+            failed = amazonClient.deleteFiles(unreferenced);
+        } catch (FileDeleteException e) {
+            log.warn("Error deleting batch of {} S3 objects", unreferenced.size(), e);
+            objectDeletionService.retry(unreferenced);
+            return 0;
+        }
+        List<String> deleted = new ArrayList<>(unreferenced);
+        deleted.removeAll(failed);
+        deleted.forEach(fileCacheService::evict);
+        objectDeletionService.complete(deleted);
+        objectDeletionService.retry(failed);
+        return deleted.size();
+    }
+
+    private List<String> unreferenced(List<String> keys) {
+        List<String> unreferenced = new ArrayList<>(keys);
+        unreferenced.removeAll(objectDeletionService.findReferencedKeys(keys));
+        return unreferenced;
+    }
+}
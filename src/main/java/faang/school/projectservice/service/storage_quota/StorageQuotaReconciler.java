@@ -0,0 +1,38 @@
+package faang.school.projectservice.service.storage_quota;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorageQuotaReconciler {
+
+    private final StorageQuotaService storageQuotaService;
+
+    @Value("${project-files.quota.reservation-ttl-minutes}")
+    private long reservationTtlMinutes;
+
+    @Scheduled(cron = "${project-files.quota.reconcile-cron}")
+    public void reconcile() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(reservationTtlMinutes);
+        int expired = storageQuotaService.deleteReservationsCreatedBefore(threshold);
+        log.info("Dropped {} storage reservations created before {}", expired, threshold);
+
+        List<Long> projectIds = storageQuotaService.findProjectsWithStorageDrift();
+        for (Long projectId : projectIds) {
+            try {
+                storageQuotaService.reconcile(projectId);
+            } catch (RuntimeException e) {
+                log.warn("Error reconciling storage size of project with ID: {}", projectId, e);
+            }
+        }
+        log.info("Storage size reconciled for {} projects", projectIds.size());
+    }
+}
@@ -0,0 +1,103 @@
+package faang.school.projectservice.service.storage_quota;
+
+import faang.school.projectservice.exception.customexception.StorageExceededException;
+import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.model.StorageReservation;
+import faang.school.projectservice.repository.ProjectRepository;
+import faang.school.projectservice.repository.StorageReservationRepository;
+import faang.school.projectservice.service.resource.ResourceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorageQuotaService {
+
+    private final ProjectRepository projectRepository;
+    private final StorageReservationRepository storageReservationRepository;
+    private final ResourceService resourceService;
+
+    @Transactional
+    public StorageReservation reserve(Long projectId, long size) {
+        log.info("Reserving {} bytes of storage for project with ID: {}", size, projectId);
+        if (projectRepository.reserveStorage(projectId, size) == 0) {
+            log.warn("Storage quota of project with ID: {} can't fit {} more bytes", projectId, size);
+            throw new StorageExceededException("Storage quota exceeded for project with ID: " + projectId);
+        }
+        return storageReservationRepository.save(StorageReservation.builder()
+                .projectId(projectId)
+                .size(size)
+                .build());
+    }
+
+    @Transactional
+    public void commit(StorageReservation reservation, Resource resource) {
+        resourceService.save(resource);
+        claim(reservation);
+        log.info("Storage reservation {} committed for project with ID: {}",
+                reservation.getId(), reservation.getProjectId());
+    }
+
+    @Transactional
+    public List<Resource> commit(StorageReservation reservation, List<Resource> resources, long unusedSize) {
+        List<Resource> saved = resourceService.saveAll(resources);
+        claim(reservation);
+        if (unusedSize > 0) {
+            projectRepository.releaseStorage(reservation.getProjectId(), unusedSize);
+        }
+        log.info("Storage reservation {} committed for {} resources of project with ID: {}, {} bytes unused",
+                reservation.getId(), saved.size(), reservation.getProjectId(), unusedSize);
+        return saved;
+    }
+
+    @Transactional
+    public void release(StorageReservation reservation) {
+        if (storageReservationRepository.deleteReservation(reservation.getId()) > 0) {
+            projectRepository.releaseStorage(reservation.getProjectId(), reservation.getSize());
+            log.info("Storage reservation {} of {} bytes released for project with ID: {}",
+                    reservation.getId(), reservation.getSize(), reservation.getProjectId());
+        }
+    }
+
+    @Transactional
+    public void releaseStorage(Long projectId, long size) {
+        projectRepository.releaseStorage(projectId, size);
+        log.info("Released {} bytes of storage for project with ID: {}", size, projectId);
+    }
+
+    @Transactional
+    public int deleteReservationsCreatedBefore(LocalDateTime threshold) {
+        return storageReservationRepository.deleteCreatedBefore(threshold);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findProjectsWithStorageDrift() {
+        return projectRepository.findIdsWithStorageSizeDrift();
+    }
+
+    @Transactional
+    public void reconcile(Long projectId) {
+        Long storageSize = projectRepository.lockStorageSize(projectId);
+        projectRepository.reconcileStorageSize(projectId);
+        log.warn("Storage size of project with ID: {} drifted from {} bytes, recalculated", projectId, storageSize);
+    }
+
+    private void claim(StorageReservation reservation) {
+        if (storageReservationRepository.deleteReservation(reservation.getId()) > 0) {
+            return;
+        }
+        // The reservation expired and reconciliation already dropped its bytes from storage_size
+        log.warn("Storage reservation {} of project with ID: {} has expired, reserving {} bytes again",
+                reservation.getId(), reservation.getProjectId(), reservation.getSize());
+        if (projectRepository.reserveStorage(reservation.getProjectId(), reservation.getSize()) == 0) {
+            throw new StorageExceededException("Storage quota exceeded for project with ID: "
+                    + reservation.getProjectId());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import faang.school.projectservice.dto.task.CreateUpdateTaskDto;
 import faang.school.projectservice.dto.task.TaskDto;
 import faang.school.projectservice.dto.task.TaskFilterDto;
 import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.filter.FilterExecutor;
 import faang.school.projectservice.mapper.task.TaskMapper;
 import faang.school.projectservice.model.Project;
 import faang.school.projectservice.model.Task;
@@ -17,12 +18,14 @@ import faang.school.projectservice.validator.team_member.TeamMemberValidator;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -30,6 +33,7 @@ import java.util.stream.Stream;
 public class TaskService {
 
     private final List<Filter<Task, TaskFilterDto>> filters;
+    private final FilterExecutor filterExecutor;
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
     private final TaskValidator taskValidator;
@@ -63,29 +67,20 @@ public class TaskService {
         return taskMapper.toTaskDto(task);
     }
 
-    @Transactional
-    public List<TaskDto> getAllTasks(TaskFilterDto filterDto, long requesterId, long projectId) {
+    @Transactional(readOnly = true)
+    public Page<TaskDto> getAllTasks(TaskFilterDto filterDto, long requesterId, long projectId, Pageable pageable) {
         TeamMember requester = teamMemberService.findById(requesterId);
         Project project = projectService.findById(projectId);
         teamMemberValidator.validateIsTeamMemberParticipantOfProject(requester, project);
 
-        List<Task> tasks = taskRepository.findAllByProjectId(projectId);
-        List<TaskDto> resultTasks = filterTasks(tasks.stream(), filterDto);
-        log.info("Got {} tasks of project with id: {}, for team member with id: {}",
-                resultTasks.size(), projectId, requesterId);
+        Specification<Task> inProject = (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+        Page<TaskDto> resultTasks = filterExecutor.findAll(taskRepository, inProject, filters, filterDto, pageable)
+                .map(taskMapper::toTaskDto);
+        log.info("Got {} of {} tasks of project with id: {}, for team member with id: {}",
+                resultTasks.getNumberOfElements(), resultTasks.getTotalElements(), projectId, requesterId);
         return resultTasks;
     }
 
-    private List<TaskDto> filterTasks(Stream<Task> taskStream, TaskFilterDto taskFilter) {
-        return filters.stream()
-                .filter(filter -> filter.isApplicable(taskFilter))
-                .reduce(taskStream,
-                        (subStream, filter) -> filter.apply(subStream, taskFilter),
-                        (a, b) -> b)
-                .map(taskMapper::toTaskDto)
-                .toList();
-    }
-
     private TaskDto processTask(CreateUpdateTaskDto taskDto, long teamMemberId) {
         TeamMember taskCreator = teamMemberService.findById(teamMemberId);
         Project project = projectService.findById(taskDto.getProjectId());
@@ -97,7 +92,9 @@ public class TaskService {
         setLinkedTasksIfListNotEmpty(task, taskDto.getLinkedTasksIds());
         setStageIfIdNotNull(task, taskDto.getStageId());
 
-        return taskMapper.toTaskDto(taskRepository.save(task));
+        Task savedTask = taskRepository.save(task);
+        projectService.invalidatePresentation(project.getId());
+        return taskMapper.toTaskDto(savedTask);
     }
 
     private Task findById(long id) {
@@ -5,7 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.io.InputStream;
-import java.util.Map;
+import java.util.Collection;
 
 @Slf4j
 @Component
@@ -19,7 +19,7 @@ public class FileStreamingValidator {
         }
     }
 
-    public void validateFilesStreaming(Map<String, InputStream> files, String message) {
+    public void validateFilesStreaming(Collection<?> files, String message) {
         if (files == null || files.isEmpty()) {
             throw new DataValidationException(message);
         } else {
@@ -3,6 +3,7 @@ package faang.school.projectservice.validator.resource;
 import faang.school.projectservice.exception.customexception.DataValidationException;
 import faang.school.projectservice.exception.customexception.StorageExceededException;
 import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.model.Team;
 import faang.school.projectservice.model.TeamMember;
 import faang.school.projectservice.model.TeamRole;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +28,21 @@ public class ResourceValidator {
         }
     }
 
+    public void validateAllowedToDownloadFile(Resource resource, TeamMember teamMember) {
+        Team team = teamMember.getTeam();
+        boolean projectMember = team != null && team.getProject() != null
+                && team.getProject().getId().equals(resource.getProject().getId());
+        boolean allowedRole = resource.getCreatedBy() != null
+                && resource.getCreatedBy().getId().equals(teamMember.getId())
+                || resource.getAllowedRoles() == null || resource.getAllowedRoles().isEmpty()
+                || teamMember.getRoles() != null
+                && teamMember.getRoles().stream().anyMatch(resource.getAllowedRoles()::contains);
+        if (!projectMember || !allowedRole) {
+            log.warn("Team member {} is not allowed to download file {}", teamMember.getId(), resource.getId());
+            throw new DataValidationException("Download file allowed only project members with an allowed role");
+        }
+    }
+
     public void validateMaxStorageSizeIsNotNull(BigInteger maxStorageSize) {
         if (maxStorageSize == null) {
             log.warn("Max storage size not set for the project.");
@@ -0,0 +1,2 @@
+ALTER TABLE project_resource
+ADD COLUMN IF NOT EXISTS crc32 BIGINT;
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS resource_blob
+(
+    id              BIGSERIAL PRIMARY KEY,
+    sha256          VARCHAR(64)  NOT NULL UNIQUE,
+    key             VARCHAR(255) NOT NULL,
+    size            BIGINT       NOT NULL,
+    crc32           BIGINT,
+    reference_count INT          NOT NULL DEFAULT 1,
+    created_at      TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE project_resource
+ADD COLUMN IF NOT EXISTS blob_id BIGINT,
+ADD CONSTRAINT fk_project_resource_blob FOREIGN KEY (blob_id) REFERENCES resource_blob (id);
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS storage_reservation
+(
+    id         BIGSERIAL PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    size       BIGINT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_storage_reservation_project FOREIGN KEY (project_id) REFERENCES project (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_storage_reservation_project_id ON storage_reservation (project_id);
+CREATE INDEX IF NOT EXISTS idx_storage_reservation_created_at ON storage_reservation (created_at);
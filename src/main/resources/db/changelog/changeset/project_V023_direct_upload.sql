@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS direct_upload
+(
+    id             BIGSERIAL PRIMARY KEY,
+    project_id     BIGINT       NOT NULL,
+    team_member_id BIGINT       NOT NULL,
+    key            VARCHAR(255) NOT NULL,
+    file_name      VARCHAR(255) NOT NULL,
+    content_type   VARCHAR(255) NOT NULL,
+    size           BIGINT       NOT NULL,
+    reservation_id BIGINT       NOT NULL,
+    created_at     TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_direct_upload_project FOREIGN KEY (project_id) REFERENCES project (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_direct_upload_created_at ON direct_upload (created_at);
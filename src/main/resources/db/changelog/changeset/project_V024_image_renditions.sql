@@ -0,0 +1,15 @@
+ALTER TABLE project
+ADD COLUMN IF NOT EXISTS cover_thumbnail_key VARCHAR(255),
+ADD COLUMN IF NOT EXISTS cover_medium_key VARCHAR(255),
+ADD COLUMN IF NOT EXISTS cover_full_key VARCHAR(255);
+
+CREATE TABLE IF NOT EXISTS project_gallery_rendition
+(
+    project_id    BIGINT       NOT NULL,
+    file_key      VARCHAR(255) NOT NULL,
+    thumbnail_key VARCHAR(255),
+    medium_key    VARCHAR(255),
+    full_key      VARCHAR(255),
+    PRIMARY KEY (project_id, file_key),
+    FOREIGN KEY (project_id) REFERENCES project (id) ON DELETE CASCADE
+);
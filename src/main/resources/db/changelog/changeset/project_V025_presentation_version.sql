@@ -0,0 +1,2 @@
+ALTER TABLE project
+ADD COLUMN IF NOT EXISTS presentation_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1 @@
+ALTER SEQUENCE resource_id_seq INCREMENT BY 50;
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS object_deletion
+(
+    id         BIGSERIAL PRIMARY KEY,
+    key        VARCHAR(255) NOT NULL UNIQUE,
+    attempts   INT          NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
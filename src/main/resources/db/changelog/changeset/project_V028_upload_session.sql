@@ -0,0 +1,29 @@
+CREATE TABLE IF NOT EXISTS upload_session
+(
+    id             BIGSERIAL PRIMARY KEY,
+    project_id     BIGINT       NOT NULL,
+    team_member_id BIGINT       NOT NULL,
+    key            VARCHAR(255) NOT NULL,
+    s3_upload_id   VARCHAR(1024) NOT NULL,
+    file_name      VARCHAR(255) NOT NULL,
+    content_type   VARCHAR(255) NOT NULL,
+    size           BIGINT       NOT NULL,
+    chunk_size     INT          NOT NULL,
+    reservation_id BIGINT       NOT NULL,
+    created_at     TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_upload_session_project FOREIGN KEY (project_id) REFERENCES project (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_upload_session_created_at ON upload_session (created_at);
+
+CREATE TABLE IF NOT EXISTS upload_session_part
+(
+    id          BIGSERIAL PRIMARY KEY,
+    session_id  BIGINT       NOT NULL,
+    part_number INT          NOT NULL,
+    size        INT          NOT NULL,
+    etag        VARCHAR(255) NOT NULL,
+    crc32       BIGINT       NOT NULL,
+    CONSTRAINT uq_upload_session_part UNIQUE (session_id, part_number),
+    CONSTRAINT fk_upload_session_part_session FOREIGN KEY (session_id) REFERENCES upload_session (id) ON DELETE CASCADE
+);
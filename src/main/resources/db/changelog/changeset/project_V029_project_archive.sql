@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS project_archive
+(
+    id          BIGSERIAL PRIMARY KEY,
+    project_id  BIGINT       NOT NULL REFERENCES project (id) ON DELETE CASCADE,
+    fingerprint VARCHAR(64)  NOT NULL,
+    key         VARCHAR(255) NOT NULL UNIQUE,
+    size        BIGINT       NOT NULL,
+    created_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_project_archive_fingerprint UNIQUE (project_id, fingerprint)
+);
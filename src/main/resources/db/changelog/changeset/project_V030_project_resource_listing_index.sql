@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_project_resource_project_status_created
+    ON project_resource (project_id, status, created_at DESC, id DESC);
@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_project_owner_id ON project (owner_id);
+
+CREATE INDEX IF NOT EXISTS idx_project_visibility_name ON project (visibility, name, id);
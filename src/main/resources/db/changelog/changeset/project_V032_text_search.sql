@@ -0,0 +1,24 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- The 'simple' configuration lowercases words without stemming, since names and descriptions are not in one language
+ALTER TABLE project ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_project_search_vector ON project USING GIN (search_vector);
+
+CREATE INDEX IF NOT EXISTS idx_project_name_trgm ON project USING GIN (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_project_description_trgm ON project USING GIN (lower(description) gin_trgm_ops);
+
+ALTER TABLE campaign ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_campaign_search_vector ON campaign USING GIN (search_vector);
+
+CREATE INDEX IF NOT EXISTS idx_campaign_title_trgm ON campaign USING GIN (lower(title) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_campaign_description_trgm ON campaign USING GIN (lower(description) gin_trgm_ops);
@@ -0,0 +1,90 @@
+package faang.school.projectservice.filter;
+
+import faang.school.projectservice.dto.vacancy.VacancyFilterDto;
+import faang.school.projectservice.filter.vacancy.VacancyNameFilter;
+import faang.school.projectservice.model.Vacancy;
+import faang.school.projectservice.repository.VacancyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FilterExecutorTest {
+
+    private static final Pageable PAGEABLE = PageRequest.of(1, 2, Sort.by("id"));
+
+    private final FilterExecutor filterExecutor = new FilterExecutor();
+
+    @Mock
+    private VacancyRepository vacancyRepository;
+
+    @Test
+    void findAllPagesInDatabaseWhenFiltersHaveSpecificationsTest() {
+        Page<Vacancy> page = new PageImpl<>(List.of(vacancy(3L, "java")), PAGEABLE, 3);
+        when(vacancyRepository.findAll(any(Specification.class), eq(PAGEABLE))).thenReturn(page);
+
+        Page<Vacancy> result = filterExecutor.findAll(vacancyRepository, null, List.of(new VacancyNameFilter()),
+                new VacancyFilterDto("JAVA"), PAGEABLE);
+
+        assertSame(page, result);
+        verify(vacancyRepository, never()).findAll(any(Specification.class), any(Sort.class));
+    }
+
+    @Test
+    void findAllRejectsFilterWithoutSpecificationTest() {
+        List<Filter<Vacancy, VacancyFilterDto>> filters = List.of(new VacancyNameFilter(), new InMemoryNameFilter());
+        VacancyFilterDto filterDto = new VacancyFilterDto("java");
+
+        assertThrows(IllegalStateException.class,
+                () -> filterExecutor.findAll(vacancyRepository, null, filters, filterDto, PAGEABLE));
+
+        verifyNoInteractions(vacancyRepository);
+    }
+
+    @Test
+    void findAllSkipsFiltersWithoutFilterDtoTest() {
+        Page<Vacancy> page = new PageImpl<>(List.of(vacancy(1L, "java")));
+        when(vacancyRepository.findAll(any(Specification.class), eq(PAGEABLE))).thenReturn(page);
+
+        Page<Vacancy> result = filterExecutor.findAll(vacancyRepository, null,
+                List.of(new InMemoryNameFilter()), null, PAGEABLE);
+
+        assertSame(page, result);
+    }
+
+    private Vacancy vacancy(Long id, String name) {
+        return Vacancy.builder().id(id).name(name).build();
+    }
+
+    private static class InMemoryNameFilter implements Filter<Vacancy, VacancyFilterDto> {
+
+        @Override
+        public boolean isApplicable(VacancyFilterDto filterDto) {
+            return filterDto.getNamePattern() != null;
+        }
+
+        @Override
+        public Stream<Vacancy> apply(Stream<Vacancy> vacancies, VacancyFilterDto filterDto) {
+            return vacancies.filter(vacancy -> vacancy.getName().contains(filterDto.getNamePattern()));
+        }
+    }
+}
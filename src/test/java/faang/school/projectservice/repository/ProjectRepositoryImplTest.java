@@ -0,0 +1,114 @@
+package faang.school.projectservice.repository;
+
+import faang.school.projectservice.dto.project.ProjectUpdateDto;
+import faang.school.projectservice.model.ImageRenditions;
+import faang.school.projectservice.model.Project;
+import faang.school.projectservice.model.ProjectStatus;
+import faang.school.projectservice.model.ProjectVisibility;
+import faang.school.projectservice.repository.specification.ProjectSpecifications;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProjectRepositoryImplTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRESQL_CONTAINER = new PostgreSQLContainer<>("postgres:13.6");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRESQL_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRESQL_CONTAINER::getUsername);
+        registry.add("spring.datasource.password", POSTGRESQL_CONTAINER::getPassword);
+    }
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void findUpdateDtosMapsEveryColumnTest() {
+        Project parent = entityManager.persist(project("Parent", 1L, ProjectVisibility.PUBLIC));
+        Project child = project("Child", 2L, ProjectVisibility.PRIVATE);
+        child.setDescription("Child description");
+        child.setParentProject(parent);
+        child.setStatus(ProjectStatus.IN_PROGRESS);
+        child.setCoverImageId("cover/child.jpg");
+        child.setCoverRenditions(ImageRenditions.builder()
+                .thumbnailKey("cover/child-thumbnail.jpg")
+                .mediumKey("cover/child-medium.jpg")
+                .fullKey("cover/child-full.jpg")
+                .build());
+        child.setMaxStorageSize(BigInteger.valueOf(2048));
+        entityManager.persist(child);
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<ProjectUpdateDto> result = projectRepository.findUpdateDtos(
+                ProjectSpecifications.idIn(List.of(child.getId())), PageRequest.of(0, 10));
+
+        assertEquals(1, result.getTotalElements());
+        ProjectUpdateDto dto = result.getContent().get(0);
+        assertEquals(child.getId(), dto.getId());
+        assertEquals(2L, dto.getOwnerId());
+        assertEquals(parent.getId(), dto.getParentId());
+        assertEquals("Child", dto.getName());
+        assertEquals("Child description", dto.getDescription());
+        assertEquals("cover/child.jpg", dto.getCoverImageId());
+        assertEquals("cover/child-thumbnail.jpg", dto.getCoverThumbnailKey());
+        assertEquals(ProjectStatus.IN_PROGRESS, dto.getStatus());
+        assertEquals(ProjectVisibility.PRIVATE, dto.getVisibility());
+        assertNull(dto.getStorageSize());
+        assertEquals(BigInteger.valueOf(2048), dto.getMaxStorageSize());
+    }
+
+    @Test
+    void findUpdateDtosPagesAndCountsInDatabaseTest() {
+        Project first = entityManager.persist(project("Same name", 1L, ProjectVisibility.PUBLIC));
+        Project second = entityManager.persist(project("Same name", 1L, ProjectVisibility.PUBLIC));
+        Project third = entityManager.persist(project("Same name", 1L, ProjectVisibility.PUBLIC));
+        entityManager.persist(project("Other owner", 2L, ProjectVisibility.PRIVATE));
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<ProjectUpdateDto> result = projectRepository.findUpdateDtos(
+                ProjectSpecifications.visibleTo(1L), PageRequest.of(1, 2, Sort.by("name")));
+
+        assertEquals(3, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+        assertEquals(List.of(third.getId()), result.getContent().stream().map(ProjectUpdateDto::getId).toList());
+        assertEquals(List.of(first.getId(), second.getId()), projectRepository.findUpdateDtos(
+                        ProjectSpecifications.visibleTo(1L), PageRequest.of(0, 2, Sort.by("name")))
+                .getContent().stream().map(ProjectUpdateDto::getId).toList());
+    }
+
+    private Project project(String name, Long ownerId, ProjectVisibility visibility) {
+        return Project.builder()
+                .name(name)
+                .ownerId(ownerId)
+                .status(ProjectStatus.CREATED)
+                .visibility(visibility)
+                .build();
+    }
+}
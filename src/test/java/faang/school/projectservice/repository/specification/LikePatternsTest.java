@@ -0,0 +1,23 @@
+package faang.school.projectservice.repository.specification;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LikePatternsTest {
+
+    @Test
+    void containsMatchesSubstringCaseInsensitivelyTest() {
+        assertEquals("%project service%", LikePatterns.contains("Project Service"));
+    }
+
+    @Test
+    void containsEscapesLikeCharactersTest() {
+        assertEquals("%100\\%\\_done\\\\%", LikePatterns.contains("100%_done\\"));
+    }
+
+    @Test
+    void containsKeepsGlobCharactersLiteralTest() {
+        assertEquals("%*.pdf?%", LikePatterns.contains("*.pdf?"));
+    }
+}
@@ -0,0 +1,24 @@
+package faang.school.projectservice.repository.specification;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResourceSpecificationsTest {
+
+    @Test
+    void toLikePatternConvertsGlobWildcardsTest() {
+        assertEquals("%.pdf", ResourceSpecifications.toLikePattern("*.PDF"));
+        assertEquals("report-202_.xlsx", ResourceSpecifications.toLikePattern("report-202?.xlsx"));
+    }
+
+    @Test
+    void toLikePatternMatchesSubstringWithoutWildcardsTest() {
+        assertEquals("%budget%", ResourceSpecifications.toLikePattern("Budget"));
+    }
+
+    @Test
+    void toLikePatternEscapesLikeCharactersTest() {
+        assertEquals("%100\\%\\_done%", ResourceSpecifications.toLikePattern("100%_done"));
+    }
+}
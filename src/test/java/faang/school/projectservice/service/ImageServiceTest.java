@@ -0,0 +1,96 @@
+package faang.school.projectservice.service;
+
+import faang.school.projectservice.exception.customexception.DataValidationException;
+import faang.school.projectservice.service.image_rendition.EncodedImage;
+import faang.school.projectservice.service.image_rendition.ImageDecoder;
+import faang.school.projectservice.service.image_rendition.ImageEncoder;
+import faang.school.projectservice.service.image_rendition.ImageFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ImageServiceTest {
+
+    private ImageService imageService;
+
+    @BeforeEach
+    void setUp() {
+        ImageDecoder imageDecoder = new ImageDecoder();
+        ReflectionTestUtils.setField(imageDecoder, "maxSourcePixels", 40_000_000L);
+        ReflectionTestUtils.setField(imageDecoder, "maxDecodedPixels", 10_000_000L);
+        ImageEncoder imageEncoder = new ImageEncoder(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(imageEncoder, "jpegQuality", 0.85f);
+        ReflectionTestUtils.setField(imageEncoder, "flatMaxColors", 256);
+        imageService = new ImageService(imageDecoder, imageEncoder);
+    }
+
+    @Test
+    void optimizeImageScalesDownAndDropsMetadataTest() throws IOException {
+        BufferedImage image = new BufferedImage(3000, 1500, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(1);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, random.nextInt());
+            }
+        }
+        MockMultipartFile file = new MockMultipartFile("file", "photo.png", "image/png", pngWithText(image));
+
+        EncodedImage encoded = imageService.optimizeImage(file);
+
+        assertEquals(ImageFormat.JPEG, encoded.format());
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(encoded.bytes()));
+        assertEquals(1920, decoded.getWidth());
+        assertEquals(960, decoded.getHeight());
+        assertFalse(new String(encoded.bytes(), StandardCharsets.ISO_8859_1).contains("secret"));
+    }
+
+    @Test
+    void optimizeImageRejectsNonImageTest() {
+        MockMultipartFile file = new MockMultipartFile("file", "notes.txt", "text/plain", "text".getBytes());
+
+        assertThrows(DataValidationException.class, () -> imageService.optimizeImage(file));
+    }
+
+    private byte[] pngWithText(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+        IIOMetadata metadata = writer.getDefaultImageMetadata(
+                ImageTypeSpecifier.createFromRenderedImage(image), null);
+        IIOMetadataNode entry = new IIOMetadataNode("tEXtEntry");
+        entry.setAttribute("keyword", "Comment");
+        entry.setAttribute("value", "secret");
+        IIOMetadataNode text = new IIOMetadataNode("tEXt");
+        text.appendChild(entry);
+        IIOMetadataNode root = new IIOMetadataNode("javax_imageio_png_1.0");
+        root.appendChild(text);
+        metadata.mergeTree("javax_imageio_png_1.0", root);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageStream);
+            writer.write(new IIOImage(image, null, metadata));
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
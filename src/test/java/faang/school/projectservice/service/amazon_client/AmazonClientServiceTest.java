@@ -0,0 +1,53 @@
+package faang.school.projectservice.service.amazon_client;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URL;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AmazonClientServiceTest {
+
+    @Mock
+    private AmazonS3 s3client;
+
+    @Mock
+    private MultipartUploadService multipartUploadService;
+
+    @InjectMocks
+    private AmazonClientService amazonClientService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(amazonClientService, "bucketName", "projectbucket");
+    }
+
+    @Test
+    void generatePresignedDownloadUrlEncodesFileNameTest() throws Exception {
+        URL url = new URL("http://localhost:9000/projectbucket/1name/1file.pdf?X-Amz-Signature=abc");
+        when(s3client.generatePresignedUrl(any(GeneratePresignedUrlRequest.class))).thenReturn(url);
+
+        URL result = amazonClientService.generatePresignedDownloadUrl("1name/1file.pdf",
+                "отчет \"q1\"\r\n.pdf", new Date());
+
+        ArgumentCaptor<GeneratePresignedUrlRequest> captor = ArgumentCaptor.forClass(GeneratePresignedUrlRequest.class);
+        verify(s3client).generatePresignedUrl(captor.capture());
+        assertEquals(url, result);
+        assertEquals("attachment; filename*=UTF-8''%D0%BE%D1%82%D1%87%D0%B5%D1%82%20%22q1%22%0D%0A.pdf",
+                captor.getValue().getResponseHeaders().getContentDisposition());
+    }
+}
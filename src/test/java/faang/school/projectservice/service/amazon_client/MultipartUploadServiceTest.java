@@ -0,0 +1,226 @@
+package faang.school.projectservice.service.amazon_client;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
+import com.amazonaws.services.s3.model.MultipartUpload;
+import com.amazonaws.services.s3.model.MultipartUploadListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import faang.school.projectservice.exception.customexception.FileUploadException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MultipartUploadServiceTest {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @Mock
+    private AmazonS3 s3client;
+
+    private ThreadPoolTaskExecutor executor;
+
+    private MultipartUploadService multipartUploadService;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+
+        multipartUploadService = new MultipartUploadService(s3client, executor, 2);
+        ReflectionTestUtils.setField(multipartUploadService, "bucketName", "projectbucket");
+        ReflectionTestUtils.setField(multipartUploadService, "keyPrefix", "project-service");
+        ReflectionTestUtils.setField(multipartUploadService, "partSize", PART_SIZE);
+        ReflectionTestUtils.setField(multipartUploadService, "maxPartAttempts", 3);
+        ReflectionTestUtils.setField(multipartUploadService, "retryBackoffMillis", 0L);
+        ReflectionTestUtils.setField(multipartUploadService, "staleUploadMaxAgeHours", 24L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void uploadSplitsStreamIntoPartsTest() {
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload-id");
+        when(s3client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiateResult);
+        when(s3client.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+
+        multipartUploadService.upload("key", new ByteArrayInputStream(new byte[PART_SIZE * 2 + 10]),
+                new ObjectMetadata());
+
+        verify(s3client, times(3)).uploadPart(any(UploadPartRequest.class));
+        verify(s3client).completeMultipartUpload(captor.capture());
+        List<PartETag> partETags = captor.getValue().getPartETags();
+        assertEquals(List.of(1, 2, 3), partETags.stream().map(PartETag::getPartNumber).toList());
+        verify(s3client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    void uploadPartRetriesFailedPartTest() {
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(1);
+        result.setETag("etag");
+        when(s3client.uploadPart(any(UploadPartRequest.class)))
+                .thenThrow(new SdkClientException("connection reset"))
+                .thenReturn(result);
+
+        PartETag partETag = multipartUploadService.uploadPart("key", "upload-id", 1, new byte[10], 10);
+
+        assertEquals("etag", partETag.getETag());
+        verify(s3client, times(2)).uploadPart(any(UploadPartRequest.class));
+    }
+
+    @Test
+    void uploadAbortsWhenPartKeepsFailingTest() {
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload-id");
+        when(s3client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiateResult);
+        when(s3client.uploadPart(any(UploadPartRequest.class))).thenThrow(new SdkClientException("connection reset"));
+
+        assertThrows(FileUploadException.class, () -> multipartUploadService.upload("key",
+                new ByteArrayInputStream(new byte[10]), new ObjectMetadata()));
+
+        verify(s3client, times(3)).uploadPart(any(UploadPartRequest.class));
+        verify(s3client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void abortStaleUploadsTest() {
+        MultipartUpload staleUpload = new MultipartUpload();
+        staleUpload.setKey("stale-key");
+        staleUpload.setUploadId("stale-id");
+        staleUpload.setInitiated(Date.from(Instant.now().minus(Duration.ofDays(2))));
+        MultipartUpload freshUpload = new MultipartUpload();
+        freshUpload.setKey("fresh-key");
+        freshUpload.setUploadId("fresh-id");
+        freshUpload.setInitiated(new Date());
+        MultipartUploadListing listing = new MultipartUploadListing();
+        listing.setMultipartUploads(List.of(staleUpload, freshUpload));
+        when(s3client.listMultipartUploads(any(ListMultipartUploadsRequest.class))).thenReturn(listing);
+        ArgumentCaptor<AbortMultipartUploadRequest> captor = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+
+        ArgumentCaptor<ListMultipartUploadsRequest> listCaptor =
+                ArgumentCaptor.forClass(ListMultipartUploadsRequest.class);
+
+        multipartUploadService.abortStaleUploads();
+
+        verify(s3client).listMultipartUploads(listCaptor.capture());
+        assertEquals("project-service/", listCaptor.getValue().getPrefix());
+        verify(s3client, times(1)).abortMultipartUpload(captor.capture());
+        assertEquals("stale-id", captor.getValue().getUploadId());
+    }
+
+    @Test
+    void abortStaleUploadsSkipsBucketWithoutKeyPrefixTest() {
+        ReflectionTestUtils.setField(multipartUploadService, "keyPrefix", "");
+
+        multipartUploadService.abortStaleUploads();
+
+        verify(s3client, never()).listMultipartUploads(any(ListMultipartUploadsRequest.class));
+    }
+
+    @Test
+    void uploadReleasesPermitWhenExecutorRejectsPartTest() {
+        ThreadPoolTaskExecutor stoppedExecutor = new ThreadPoolTaskExecutor();
+        stoppedExecutor.initialize();
+        stoppedExecutor.shutdown();
+        MultipartUploadService service = new MultipartUploadService(s3client, stoppedExecutor, 2);
+        ReflectionTestUtils.setField(service, "bucketName", "projectbucket");
+        ReflectionTestUtils.setField(service, "partSize", PART_SIZE);
+        mockInitiate();
+
+        assertThrows(FileUploadException.class, () -> service.upload("key",
+                new ByteArrayInputStream(new byte[10]), new ObjectMetadata()));
+
+        Semaphore permits = (Semaphore) ReflectionTestUtils.getField(service, "partBufferPermits");
+        assertEquals(2, permits.availablePermits());
+        verify(s3client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    void uploadAbortsOnlyAfterInFlightPartsFinishTest() {
+        mockInitiate();
+        AtomicBoolean partFinished = new AtomicBoolean();
+        AtomicBoolean abortedAfterPart = new AtomicBoolean();
+        when(s3client.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            partFinished.set(true);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(1);
+            result.setETag("etag-1");
+            return result;
+        });
+        doAnswer(invocation -> {
+            abortedAfterPart.set(partFinished.get());
+            return null;
+        }).when(s3client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        InputStream failingTail = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        assertThrows(FileUploadException.class, () -> multipartUploadService.upload("key",
+                new SequenceInputStream(new ByteArrayInputStream(new byte[PART_SIZE]), failingTail),
+                new ObjectMetadata()));
+
+        assertTrue(abortedAfterPart.get());
+        Semaphore permits = (Semaphore) ReflectionTestUtils.getField(multipartUploadService, "partBufferPermits");
+        assertEquals(2, permits.availablePermits());
+    }
+
+    private void mockInitiate() {
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload-id");
+        when(s3client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiateResult);
+    }
+}
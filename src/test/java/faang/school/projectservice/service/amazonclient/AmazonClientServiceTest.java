@@ -28,8 +28,6 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
-import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -183,42 +181,6 @@ class AmazonClientServiceTest {
         assertEquals(fileContent, resultContent);
     }
 
-    @Test
-    public void downloadAllFilesTest() throws IOException {
-        String bucketName = "projectbucket";
-        String key1 = "Test-key1";
-        String key2 = "Test-key2";
-        String fileName1 = "File1.txt";
-        String fileName2 = "File2.txt";
-        String fileContent1 = "File content 1";
-        String fileContent2 = "File content 2";
-        Map<String, String> filesNamesWithKeys = new HashMap<>(Map.of(fileName1, key1, fileName2, key2));
-
-        ByteArrayInputStream inputStream1 = new ByteArrayInputStream(fileContent1.getBytes());
-        ByteArrayInputStream inputStream2 = new ByteArrayInputStream(fileContent2.getBytes());
-        S3Object s3Object1 = new S3Object();
-        S3Object s3Object2 = new S3Object();
-        s3Object1.setObjectContent(inputStream1);
-        s3Object2.setObjectContent(inputStream2);
-
-        when(s3client.getObject(bucketName, key1)).thenReturn(s3Object1);
-        when(s3client.getObject(bucketName, key2)).thenReturn(s3Object2);
-
-        Map<String, S3ObjectInputStream> result = amazonClientService.downloadAllFiles(filesNamesWithKeys);
-
-        String resultContent1 = new String(result.get(fileName1).readAllBytes());
-        String resultContent2 = new String(result.get(fileName2).readAllBytes());
-
-        verify(s3client, times(1)).getObject(bucketName, key1);
-        verify(s3client, times(1)).getObject(bucketName, key2);
-
-        assertEquals(2, result.size());
-        assertTrue(result.containsKey(fileName1));
-        assertTrue(result.containsKey(fileName2));
-        assertEquals(fileContent1, resultContent1);
-        assertEquals(fileContent2, resultContent2);
-    }
-
     @Test
     public void downloadFileThrowExceptionTest() {
         String bucketName = "projectbucket";
@@ -0,0 +1,154 @@
+package faang.school.projectservice.service.archive_cache;
+
+import faang.school.projectservice.model.ProjectArchive;
+import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.repository.ProjectArchiveRepository;
+import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import faang.school.projectservice.service.file_streaming.ZipResponseBody;
+import faang.school.projectservice.service.storage_gc.ObjectDeletionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectArchiveServiceTest {
+
+    private static final byte[] ARCHIVE = "zip bytes".getBytes();
+
+    @Mock
+    private ProjectArchiveRepository projectArchiveRepository;
+
+    @Mock
+    private ObjectDeletionService objectDeletionService;
+
+    @Mock
+    private AmazonClientService amazonClient;
+
+    private ProjectArchiveService projectArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        projectArchiveService = new ProjectArchiveService(projectArchiveRepository, objectDeletionService,
+                amazonClient, new SyncTaskExecutor());
+        ReflectionTestUtils.setField(projectArchiveService, "enabled", true);
+        ReflectionTestUtils.setField(projectArchiveService, "maxSizeBytes", 1024L);
+    }
+
+    @Test
+    void fingerprintDependsOnResourcesNotOrderTest() {
+        Resource first = resource(1L, "key1");
+        Resource second = resource(2L, "key2");
+
+        String fingerprint = projectArchiveService.fingerprint(List.of(first, second));
+
+        assertEquals(fingerprint, projectArchiveService.fingerprint(List.of(second, first)));
+        assertNotEquals(fingerprint, projectArchiveService.fingerprint(List.of(first, resource(2L, "key3"))));
+        assertNotEquals(fingerprint, projectArchiveService.fingerprint(List.of(first)));
+    }
+
+    @Test
+    void recordingStoresCompleteArchiveTest() throws IOException {
+        when(amazonClient.generateKey("archives/1", "_fp.zip")).thenReturn("archives/1/1_fp.zip");
+        doAnswer(invocation -> {
+            File file = invocation.getArgument(0);
+            assertArrayEquals(ARCHIVE, Files.readAllBytes(file.toPath()));
+            return null;
+        }).when(amazonClient).uploadFile(any(File.class), eq("archives/1/1_fp.zip"), eq("application/zip"));
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+
+        projectArchiveService.recording(1L, "fp", complete(outputStream -> outputStream.write(ARCHIVE))).writeTo(response);
+
+        assertArrayEquals(ARCHIVE, response.toByteArray());
+        ArgumentCaptor<ProjectArchive> captor = ArgumentCaptor.forClass(ProjectArchive.class);
+        verify(projectArchiveRepository).save(captor.capture());
+        assertEquals("archives/1/1_fp.zip", captor.getValue().getKey());
+        assertEquals(ARCHIVE.length, captor.getValue().getSize());
+    }
+
+    @Test
+    void recordingDoesNotStoreFailedArchiveTest() {
+        ZipResponseBody failing = complete(outputStream -> {
+            outputStream.write(ARCHIVE);
+            throw new IOException("client went away");
+        });
+
+        assertThrows(IOException.class, () -> projectArchiveService.recording(1L, "fp", failing)
+                .writeTo(new ByteArrayOutputStream()));
+
+        verify(amazonClient, never()).uploadFile(any(File.class), anyString(), anyString());
+    }
+
+    @Test
+    void recordingDoesNotStoreArchiveWithSkippedEntriesTest() throws IOException {
+        ZipResponseBody partial = new ZipResponseBody(outputStream -> outputStream.write(ARCHIVE), () -> false);
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+
+        projectArchiveService.recording(1L, "fp", partial).writeTo(response);
+
+        assertArrayEquals(ARCHIVE, response.toByteArray());
+        verify(amazonClient, never()).uploadFile(any(File.class), anyString(), anyString());
+        verify(projectArchiveRepository, never()).save(any());
+    }
+
+    @Test
+    void recordingSkipsArchiveOverSizeLimitTest() throws IOException {
+        ReflectionTestUtils.setField(projectArchiveService, "maxSizeBytes", 4L);
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+
+        projectArchiveService.recording(1L, "fp", complete(outputStream -> outputStream.write(ARCHIVE))).writeTo(response);
+
+        assertArrayEquals(ARCHIVE, response.toByteArray());
+        verify(amazonClient, never()).uploadFile(any(File.class), anyString(), anyString());
+    }
+
+    @Test
+    void invalidateSchedulesStoredArchivesForDeletionTest() {
+        when(projectArchiveRepository.findKeysByProjectId(1L)).thenReturn(List.of("a.zip", "b.zip"));
+
+        projectArchiveService.invalidate(1L);
+
+        verify(projectArchiveRepository).deleteByProjectId(1L);
+        verify(objectDeletionService).scheduleAll(List.of("a.zip", "b.zip"));
+    }
+
+    @Test
+    void invalidateWithoutStoredArchivesTest() {
+        when(projectArchiveRepository.findKeysByProjectId(1L)).thenReturn(List.of());
+
+        projectArchiveService.invalidate(1L);
+
+        verify(projectArchiveRepository, never()).deleteByProjectId(1L);
+    }
+
+    private ZipResponseBody complete(StreamingResponseBody body) {
+        return new ZipResponseBody(body, () -> true);
+    }
+
+    private Resource resource(Long id, String key) {
+        return Resource.builder().id(id).key(key).name("file" + id).build();
+    }
+}
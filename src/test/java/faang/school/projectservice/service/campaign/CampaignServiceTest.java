@@ -0,0 +1,74 @@
+package faang.school.projectservice.service.campaign;
+
+import faang.school.projectservice.dto.campaign.CampaignDto;
+import faang.school.projectservice.exception.customexception.DataValidationException;
+import faang.school.projectservice.repository.CampaignRepository;
+import faang.school.projectservice.service.CampaignService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CampaignServiceTest {
+
+    @Mock
+    private CampaignRepository campaignRepository;
+
+    @InjectMocks
+    private CampaignService campaignService;
+
+    @Test
+    void searchCampaignsKeepsRelevanceOrderTest() {
+        PageRequest ranking = PageRequest.of(1, 3);
+        when(campaignRepository.searchIds("green energy", "%green energy%", 7L, ranking))
+                .thenReturn(new PageImpl<>(List.of(5L, 2L, 9L), ranking, 8));
+        when(campaignRepository.findDtosByIdIn(List.of(5L, 2L, 9L)))
+                .thenReturn(List.of(campaign(2L), campaign(9L), campaign(5L)));
+
+        Page<CampaignDto> result = campaignService.searchCampaigns("  Green Energy ", 7L,
+                PageRequest.of(1, 3, Sort.by("title")));
+
+        assertEquals(List.of(5L, 2L, 9L), result.getContent().stream().map(CampaignDto::getId).toList());
+        assertEquals(8, result.getTotalElements());
+        assertEquals(1, result.getNumber());
+    }
+
+    @Test
+    void searchCampaignsSkipsCampaignsDeletedBetweenQueriesTest() {
+        PageRequest ranking = PageRequest.of(0, 20);
+        when(campaignRepository.searchIds("solar", "%solar%", 7L, ranking))
+                .thenReturn(new PageImpl<>(List.of(3L, 4L), ranking, 2));
+        when(campaignRepository.findDtosByIdIn(List.of(3L, 4L))).thenReturn(List.of(campaign(4L)));
+
+        Page<CampaignDto> result = campaignService.searchCampaigns("solar", 7L, ranking);
+
+        assertEquals(List.of(4L), result.getContent().stream().map(CampaignDto::getId).toList());
+    }
+
+    @Test
+    void searchCampaignsWithBlankQueryTest() {
+        assertThrows(DataValidationException.class,
+                () -> campaignService.searchCampaigns(" ", 7L, PageRequest.of(0, 20)));
+
+        verify(campaignRepository, never()).searchIds(any(), any(), any(), any());
+    }
+
+    private CampaignDto campaign(Long id) {
+        return CampaignDto.builder().id(id).title("campaign" + id).build();
+    }
+}
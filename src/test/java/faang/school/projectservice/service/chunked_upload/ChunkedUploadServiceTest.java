@@ -0,0 +1,224 @@
+package faang.school.projectservice.service.chunked_upload;
+
+import com.amazonaws.services.s3.model.PartETag;
+import faang.school.projectservice.dto.resource.UploadSessionDto;
+import faang.school.projectservice.exception.customexception.DataValidationException;
+import faang.school.projectservice.model.Project;
+import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.model.StorageReservation;
+import faang.school.projectservice.model.TeamMember;
+import faang.school.projectservice.model.UploadSession;
+import faang.school.projectservice.model.UploadSessionPart;
+import faang.school.projectservice.repository.UploadSessionPartRepository;
+import faang.school.projectservice.repository.UploadSessionRepository;
+import faang.school.projectservice.service.TeamMemberService;
+import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import faang.school.projectservice.service.amazon_client.MultipartUploadService;
+import faang.school.projectservice.service.project.ProjectService;
+import faang.school.projectservice.service.storage_quota.StorageQuotaService;
+import faang.school.projectservice.validator.resource.ResourceValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedUploadServiceTest {
+
+    private static final int CHUNK_SIZE = 5 * 1024 * 1024;
+    private static final long FILE_SIZE = CHUNK_SIZE + 10L;
+
+    @Mock
+    private AmazonClientService amazonClient;
+
+    @Mock
+    private MultipartUploadService multipartUploadService;
+
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Mock
+    private UploadSessionPartRepository uploadSessionPartRepository;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private ResourceValidator resourceValidator;
+
+    @Mock
+    private TeamMemberService teamMemberService;
+
+    @Mock
+    private StorageQuotaService storageQuotaService;
+
+    @InjectMocks
+    private ChunkedUploadService chunkedUploadService;
+
+    private final UploadSession session = UploadSession.builder()
+            .id(3L)
+            .projectId(1L)
+            .teamMemberId(2L)
+            .key("1name/1file.bin")
+            .s3UploadId("s3-upload")
+            .fileName("file.bin")
+            .contentType("application/octet-stream")
+            .size(FILE_SIZE)
+            .chunkSize(CHUNK_SIZE)
+            .reservationId(7L)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(chunkedUploadService, "chunkSize", CHUNK_SIZE);
+        ReflectionTestUtils.setField(chunkedUploadService, "sessionMaxAgeHours", 12L);
+    }
+
+    @Test
+    void uploadChunkStoresChunkAsPartTest() {
+        byte[] chunk = new byte[10];
+        when(uploadSessionRepository.findById(3L)).thenReturn(Optional.of(session));
+        when(multipartUploadService.uploadPart("1name/1file.bin", "s3-upload", 2, chunk, 10))
+                .thenReturn(new PartETag(2, "etag-2"));
+        when(uploadSessionPartRepository.findAllBySessionIdOrderByPartNumber(3L))
+                .thenReturn(List.of(part(2, 10)));
+
+        UploadSessionDto result = chunkedUploadService.uploadChunk(3L, 2L, CHUNK_SIZE, crc32(chunk),
+                new ByteArrayInputStream(chunk));
+
+        verify(uploadSessionPartRepository).savePart(3L, 2, 10, "etag-2", Long.parseLong(crc32(chunk), 16));
+        assertEquals(0L, result.getOffset());
+        assertEquals(List.of((long) CHUNK_SIZE), result.getReceivedOffsets());
+    }
+
+    @Test
+    void uploadChunkRejectsCorruptedChunkTest() {
+        when(uploadSessionRepository.findById(3L)).thenReturn(Optional.of(session));
+
+        assertThrows(DataValidationException.class, () -> chunkedUploadService.uploadChunk(3L, 2L, CHUNK_SIZE,
+                "0", new ByteArrayInputStream(new byte[10])));
+
+        verify(multipartUploadService, never()).uploadPart(anyString(), anyString(), anyInt(), any(), anyInt());
+    }
+
+    @Test
+    void uploadChunkRejectsUnalignedOffsetTest() {
+        when(uploadSessionRepository.findById(3L)).thenReturn(Optional.of(session));
+
+        assertThrows(DataValidationException.class, () -> chunkedUploadService.uploadChunk(3L, 2L, 1,
+                "0", new ByteArrayInputStream(new byte[10])));
+    }
+
+    @Test
+    void uploadChunkRejectsForeignTeamMemberTest() {
+        when(uploadSessionRepository.findById(3L)).thenReturn(Optional.of(session));
+
+        assertThrows(DataValidationException.class, () -> chunkedUploadService.uploadChunk(3L, 5L, 0,
+                "0", new ByteArrayInputStream(new byte[10])));
+    }
+
+    @Test
+    void getSessionReportsContiguousOffsetTest() {
+        when(uploadSessionRepository.findById(3L)).thenReturn(Optional.of(session));
+        when(uploadSessionPartRepository.findAllBySessionIdOrderByPartNumber(3L))
+                .thenReturn(List.of(part(1, CHUNK_SIZE), part(2, 10)));
+
+        assertEquals(FILE_SIZE, chunkedUploadService.getSession(3L, 2L).getOffset());
+    }
+
+    @Test
+    void completeSessionCommitsResourceTest() {
+        byte[] firstChunk = new byte[CHUNK_SIZE];
+        Arrays.fill(firstChunk, (byte) 'a');
+        byte[] lastChunk = "0123456789".getBytes();
+        CRC32 fileCrc32 = new CRC32();
+        fileCrc32.update(firstChunk);
+        fileCrc32.update(lastChunk);
+        when(uploadSessionRepository.findById(3L)).thenReturn(Optional.of(session));
+        when(uploadSessionPartRepository.findAllBySessionIdOrderByPartNumber(3L))
+                .thenReturn(List.of(part(1, firstChunk), part(2, lastChunk)));
+        when(uploadSessionRepository.deleteSession(3L)).thenReturn(1);
+        when(teamMemberService.findById(2L)).thenReturn(TeamMember.builder().id(2L).build());
+        when(teamMemberService.getTeamMemberRole(2L)).thenReturn(new ArrayList<>());
+        when(projectService.findById(1L)).thenReturn(Project.builder().id(1L).build());
+
+        chunkedUploadService.completeSession(3L, 2L);
+
+        verify(multipartUploadService).complete(eq("1name/1file.bin"), eq("s3-upload"), anyList());
+        ArgumentCaptor<Resource> resource = ArgumentCaptor.forClass(Resource.class);
+        verify(storageQuotaService).commit(any(StorageReservation.class), resource.capture());
+        assertEquals(fileCrc32.getValue(), resource.getValue().getCrc32());
+    }
+
+    @Test
+    void completeSessionRejectsMissingChunksTest() {
+        when(uploadSessionRepository.findById(3L)).thenReturn(Optional.of(session));
+        when(uploadSessionPartRepository.findAllBySessionIdOrderByPartNumber(3L))
+                .thenReturn(List.of(part(2, 10)));
+
+        assertThrows(DataValidationException.class, () -> chunkedUploadService.completeSession(3L, 2L));
+
+        verify(uploadSessionRepository, never()).deleteSession(3L);
+        verify(multipartUploadService, never()).complete(anyString(), anyString(), anyList());
+    }
+
+    @Test
+    void abortSessionReleasesStorageTest() {
+        when(uploadSessionRepository.findById(3L)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.deleteSession(3L)).thenReturn(1);
+
+        chunkedUploadService.abortSession(3L, 2L);
+
+        verify(storageQuotaService).release(any(StorageReservation.class));
+        verify(multipartUploadService).abort("1name/1file.bin", "s3-upload");
+    }
+
+    private UploadSessionPart part(int partNumber, int size) {
+        return UploadSessionPart.builder()
+                .sessionId(3L)
+                .partNumber(partNumber)
+                .size(size)
+                .etag("etag-" + partNumber)
+                .build();
+    }
+
+    private UploadSessionPart part(int partNumber, byte[] data) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(data);
+        return UploadSessionPart.builder()
+                .sessionId(3L)
+                .partNumber(partNumber)
+                .size(data.length)
+                .etag("etag-" + partNumber)
+                .crc32(crc32.getValue())
+                .build();
+    }
+
+    private String crc32(byte[] data) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(data);
+        return Long.toHexString(crc32.getValue());
+    }
+}
@@ -0,0 +1,220 @@
+package faang.school.projectservice.service.direct_transfer;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import faang.school.projectservice.dto.resource.DirectDownloadDto;
+import faang.school.projectservice.dto.resource.DirectUploadDto;
+import faang.school.projectservice.dto.resource.DirectUploadRequestDto;
+import faang.school.projectservice.exception.customexception.DataValidationException;
+import faang.school.projectservice.exception.customexception.FileDownloadException;
+import faang.school.projectservice.model.DirectUpload;
+import faang.school.projectservice.model.Project;
+import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.model.ResourceStatus;
+import faang.school.projectservice.model.StorageReservation;
+import faang.school.projectservice.model.TeamMember;
+import faang.school.projectservice.repository.DirectUploadRepository;
+import faang.school.projectservice.service.TeamMemberService;
+import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import faang.school.projectservice.service.project.ProjectService;
+import faang.school.projectservice.service.resource.ResourceService;
+import faang.school.projectservice.service.storage_quota.StorageQuotaService;
+import faang.school.projectservice.validator.resource.ResourceValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigInteger;
+import java.net.URL;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DirectTransferServiceTest {
+
+    @Mock
+    private AmazonClientService amazonClient;
+
+    @Mock
+    private DirectUploadRepository directUploadRepository;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private ResourceService resourceService;
+
+    @Mock
+    private ResourceValidator resourceValidator;
+
+    @Mock
+    private TeamMemberService teamMemberService;
+
+    @Mock
+    private StorageQuotaService storageQuotaService;
+
+    @InjectMocks
+    private DirectTransferService directTransferService;
+
+    private final DirectUpload upload = DirectUpload.builder()
+            .id(3L)
+            .projectId(1L)
+            .teamMemberId(2L)
+            .key("1name/1file.txt")
+            .fileName("file.txt")
+            .contentType("text/plain")
+            .size(100L)
+            .reservationId(7L)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(directTransferService, "enabled", true);
+        ReflectionTestUtils.setField(directTransferService, "uploadUrlTtlMinutes", 15L);
+        ReflectionTestUtils.setField(directTransferService, "downloadUrlTtlMinutes", 5L);
+        ReflectionTestUtils.setField(directTransferService, "abandonedUploadMaxAgeMinutes", 60L);
+    }
+
+    @Test
+    void createUploadReservesStorageTest() throws Exception {
+        DirectUploadRequestDto request = new DirectUploadRequestDto("file.txt", "text/plain", 100L);
+        Project project = Project.builder().id(1L).name("name").maxStorageSize(BigInteger.TEN).build();
+        StorageReservation reservation = StorageReservation.builder().id(7L).projectId(1L).size(100L).build();
+        when(projectService.findById(1L)).thenReturn(project);
+        when(storageQuotaService.reserve(1L, 100L)).thenReturn(reservation);
+        when(amazonClient.generateKey("1name", "file.txt")).thenReturn("1name/1file.txt");
+        when(amazonClient.generatePresignedUploadUrl(eq("1name/1file.txt"), eq("text/plain"), any(Date.class)))
+                .thenReturn(new URL("http://localhost:9000/corpbucket/1name/1file.txt?X-Amz-Signature=abc"));
+        when(directUploadRepository.save(any(DirectUpload.class))).thenReturn(upload);
+
+        DirectUploadDto result = directTransferService.createUpload(1L, 2L, request);
+
+        assertEquals(3L, result.getUploadId());
+        assertEquals("1name/1file.txt", result.getKey());
+        verify(resourceValidator, times(1)).validateFileSizeNotBigger2Gb(100L);
+        verify(resourceValidator, times(1)).validateMaxStorageSizeIsNotNull(BigInteger.TEN);
+        verify(storageQuotaService, never()).release(any());
+    }
+
+    @Test
+    void completeUploadCreatesResourceTest() {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(100L);
+        TeamMember teamMember = TeamMember.builder().id(2L).build();
+        when(directUploadRepository.findById(3L)).thenReturn(Optional.of(upload));
+        when(amazonClient.getFileMetadata(upload.getKey())).thenReturn(metadata);
+        when(directUploadRepository.deleteUpload(3L)).thenReturn(1);
+        when(teamMemberService.findById(2L)).thenReturn(teamMember);
+        when(teamMemberService.getTeamMemberRole(2L)).thenReturn(List.of());
+        ArgumentCaptor<StorageReservation> reservationCaptor = ArgumentCaptor.forClass(StorageReservation.class);
+        ArgumentCaptor<Resource> resourceCaptor = ArgumentCaptor.forClass(Resource.class);
+
+        directTransferService.completeUpload(3L, 2L);
+
+        verify(storageQuotaService).commit(reservationCaptor.capture(), resourceCaptor.capture());
+        assertEquals(7L, reservationCaptor.getValue().getId());
+        assertEquals(upload.getKey(), resourceCaptor.getValue().getKey());
+        assertEquals(BigInteger.valueOf(100L), resourceCaptor.getValue().getSize());
+        assertNull(resourceCaptor.getValue().getCrc32());
+        verify(amazonClient, never()).downloadFile(anyString());
+    }
+
+    @Test
+    void completeUploadRejectsMissingFileTest() {
+        when(directUploadRepository.findById(3L)).thenReturn(Optional.of(upload));
+        when(amazonClient.getFileMetadata(upload.getKey())).thenThrow(new FileDownloadException("not found"));
+
+        assertThrows(DataValidationException.class, () -> directTransferService.completeUpload(3L, 2L));
+
+        verify(directUploadRepository, never()).deleteUpload(any());
+    }
+
+    @Test
+    void completeUploadDiscardsFileWithWrongSizeTest() {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(500L);
+        when(directUploadRepository.findById(3L)).thenReturn(Optional.of(upload));
+        when(amazonClient.getFileMetadata(upload.getKey())).thenReturn(metadata);
+        when(directUploadRepository.deleteUpload(3L)).thenReturn(1);
+
+        assertThrows(DataValidationException.class, () -> directTransferService.completeUpload(3L, 2L));
+
+        verify(storageQuotaService, times(1)).release(any(StorageReservation.class));
+        verify(amazonClient, times(1)).deleteFile(upload.getKey());
+        verify(storageQuotaService, never()).commit(any(), any());
+    }
+
+    @Test
+    void completeUploadRejectsOtherTeamMemberTest() {
+        when(directUploadRepository.findById(3L)).thenReturn(Optional.of(upload));
+
+        assertThrows(DataValidationException.class, () -> directTransferService.completeUpload(3L, 5L));
+    }
+
+    @Test
+    void discardAbandonedUploadsTest() {
+        when(directUploadRepository.findAllByCreatedAtBefore(any())).thenReturn(List.of(upload));
+        when(directUploadRepository.deleteUpload(3L)).thenReturn(1);
+
+        directTransferService.discardAbandonedUploads();
+
+        verify(storageQuotaService, times(1)).release(any(StorageReservation.class));
+        verify(amazonClient, times(1)).deleteFile(upload.getKey());
+    }
+
+    @Test
+    void createDownloadUrlValidatesAccessTest() throws Exception {
+        TeamMember teamMember = TeamMember.builder().id(2L).build();
+        Resource resource = Resource.builder()
+                .id(5L)
+                .key("1name/1file.txt")
+                .name("file.txt")
+                .status(ResourceStatus.ACTIVE)
+                .build();
+        URL url = new URL("http://localhost:9000/corpbucket/1name/1file.txt?X-Amz-Signature=abc");
+        when(resourceService.findById(5L)).thenReturn(resource);
+        when(teamMemberService.findById(2L)).thenReturn(teamMember);
+        when(amazonClient.generatePresignedDownloadUrl(eq("1name/1file.txt"), eq("file.txt"), any(Date.class)))
+                .thenReturn(url);
+
+        DirectDownloadDto result = directTransferService.createDownloadUrl(5L, 2L);
+
+        assertEquals(url.toString(), result.getUrl());
+        verify(resourceValidator).validateAllowedToDownloadFile(resource, teamMember);
+    }
+
+    @Test
+    void createDownloadUrlRejectsNotAllowedTeamMemberTest() {
+        TeamMember teamMember = TeamMember.builder().id(2L).build();
+        Resource resource = Resource.builder()
+                .id(5L)
+                .key("1name/1file.txt")
+                .name("file.txt")
+                .status(ResourceStatus.ACTIVE)
+                .build();
+        when(resourceService.findById(5L)).thenReturn(resource);
+        when(teamMemberService.findById(2L)).thenReturn(teamMember);
+        doThrow(new DataValidationException("Download file allowed only project members with an allowed role"))
+                .when(resourceValidator).validateAllowedToDownloadFile(resource, teamMember);
+
+        assertThrows(DataValidationException.class, () -> directTransferService.createDownloadUrl(5L, 2L));
+        verify(amazonClient, never()).generatePresignedDownloadUrl(any(), any(), any());
+    }
+}
@@ -0,0 +1,166 @@
+package faang.school.projectservice.service.file_cache;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FileCacheServiceTest {
+
+    @Mock
+    private AmazonClientService amazonClient;
+
+    @TempDir
+    private Path directory;
+
+    private MeterRegistry meterRegistry;
+
+    private FileCacheService fileCacheService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        fileCacheService = new FileCacheService(amazonClient, meterRegistry);
+        ReflectionTestUtils.setField(fileCacheService, "enabled", true);
+        ReflectionTestUtils.setField(fileCacheService, "directory", directory.resolve("cache"));
+        ReflectionTestUtils.setField(fileCacheService, "maxSizeBytes", 10L);
+        ReflectionTestUtils.setField(fileCacheService, "maxEntrySizeBytes", 8L);
+        fileCacheService.init();
+    }
+
+    @Test
+    void downloadFileServesRepeatedReadsFromDiskTest() throws IOException {
+        when(amazonClient.downloadObject("key")).thenReturn(s3Object("hello"));
+
+        try (InputStream first = fileCacheService.downloadFile("key")) {
+            assertArrayEquals("hello".getBytes(), first.readAllBytes());
+        }
+        try (InputStream second = fileCacheService.downloadFile("key")) {
+            assertInstanceOf(FileInputStream.class, second);
+            assertArrayEquals("hello".getBytes(), second.readAllBytes());
+        }
+
+        verify(amazonClient, times(1)).downloadObject("key");
+        assertEquals(1.0, meterRegistry.counter("project.files.cache.hits").count());
+        assertEquals(1.0, meterRegistry.counter("project.files.cache.misses").count());
+    }
+
+    @Test
+    void downloadFileEvictsLeastRecentlyUsedTest() throws IOException {
+        when(amazonClient.downloadObject("a")).thenReturn(s3Object("aaaa"));
+        when(amazonClient.downloadObject("b")).thenReturn(s3Object("bbbb"));
+        when(amazonClient.downloadObject("c")).thenReturn(s3Object("cccc"));
+
+        readAll("a");
+        readAll("b");
+        readAll("a");
+        readAll("c");
+
+        assertEquals(8L, fileCacheService.getCachedBytes());
+        assertEquals(1.0, meterRegistry.counter("project.files.cache.evictions").count());
+        readAll("a");
+        verify(amazonClient, times(1)).downloadObject("a");
+    }
+
+    @Test
+    void downloadFileBypassesCacheForLargeFilesTest() throws IOException {
+        when(amazonClient.downloadObject("large")).thenReturn(s3Object("too large for cache"));
+
+        try (InputStream stream = fileCacheService.downloadFile("large")) {
+            assertFalse(stream instanceof FileInputStream);
+        }
+
+        assertEquals(0L, fileCacheService.getCachedBytes());
+    }
+
+    @Test
+    void evictRemovesCachedFileTest() throws IOException {
+        when(amazonClient.downloadObject("key")).thenReturn(s3Object("hello"), s3Object("hello"));
+
+        readAll("key");
+        fileCacheService.evict("key");
+        readAll("key");
+
+        verify(amazonClient, times(2)).downloadObject("key");
+        assertEquals(2.0, meterRegistry.counter("project.files.cache.misses").count());
+    }
+
+    @Test
+    void downloadFileStreamsFirstReadWhileCachingTest() throws IOException {
+        when(amazonClient.downloadObject("key")).thenReturn(s3Object("hello"));
+
+        try (InputStream first = fileCacheService.downloadFile("key")) {
+            assertFalse(first instanceof FileInputStream);
+            assertEquals('h', first.read());
+            assertEquals(0L, fileCacheService.getCachedBytes());
+            assertArrayEquals("ello".getBytes(), first.readAllBytes());
+        }
+
+        assertEquals(5L, fileCacheService.getCachedBytes());
+    }
+
+    @Test
+    void downloadFileDoesNotCachePartialReadTest() throws IOException {
+        when(amazonClient.downloadObject("key")).thenReturn(s3Object("hello"), s3Object("hello"));
+
+        try (InputStream partial = fileCacheService.downloadFile("key")) {
+            partial.readNBytes(2);
+        }
+
+        assertEquals(0L, fileCacheService.getCachedBytes());
+        assertArrayEquals(new String[0], directory.resolve("cache").toFile().list());
+        readAll("key");
+        verify(amazonClient, times(2)).downloadObject("key");
+    }
+
+    @Test
+    void downloadFileDoesNotPublishEvictedDownloadTest() throws IOException {
+        when(amazonClient.downloadObject("key")).thenReturn(s3Object("hello"));
+
+        try (InputStream stream = fileCacheService.downloadFile("key")) {
+            fileCacheService.evict("key");
+            assertArrayEquals("hello".getBytes(), stream.readAllBytes());
+        }
+
+        assertEquals(0L, fileCacheService.getCachedBytes());
+        assertEquals(0, fileCacheService.getCachedEntries());
+    }
+
+    private void readAll(String key) throws IOException {
+        try (InputStream stream = fileCacheService.downloadFile(key)) {
+            stream.readAllBytes();
+        }
+    }
+
+    private S3Object s3Object(String content) {
+        S3Object object = new S3Object();
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length());
+        object.setObjectMetadata(metadata);
+        object.setObjectContent(new ByteArrayInputStream(content.getBytes()));
+        return object;
+    }
+}
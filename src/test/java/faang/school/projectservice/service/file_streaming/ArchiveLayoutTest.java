@@ -0,0 +1,179 @@
+package faang.school.projectservice.service.file_streaming;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArchiveLayoutTest {
+
+    private static final Instant MODIFIED = Instant.parse("2024-05-01T10:15:30Z");
+
+    private final byte[] first = "first file content".getBytes(StandardCharsets.UTF_8);
+    private final byte[] second = "0123456789".repeat(100).getBytes(StandardCharsets.US_ASCII);
+    private final byte[] empty = new byte[0];
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void zipLengthMatchesStreamedBytesTest() throws IOException {
+        ArchiveLayout layout = ArchiveLayout.of(ArchiveFormat.ZIP, entries("1a.txt", "2\u00e9t\u00e9.bin", "3empty"));
+
+        byte[] archive = readAll(layout);
+
+        assertEquals(layout.length(), archive.length);
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            assertEntry(zip, "1a.txt", first);
+            assertEntry(zip, "2\u00e9t\u00e9.bin", second);
+            assertEntry(zip, "3empty", empty);
+            assertNull(zip.getNextEntry());
+        }
+    }
+
+    @Test
+    void zipCentralDirectoryIsReadableTest() throws IOException {
+        ArchiveLayout layout = ArchiveLayout.of(ArchiveFormat.ZIP, entries("1a.txt", "2b.bin", "3empty"));
+        Path file = tempDir.resolve("archive.zip");
+        Files.write(file, readAll(layout));
+
+        try (ZipFile zipFile = new ZipFile(file.toFile())) {
+            assertEquals(3, zipFile.size());
+            ZipEntry entry = zipFile.getEntry("2b.bin");
+            assertEquals(ZipEntry.STORED, entry.getMethod());
+            assertArrayEquals(second, zipFile.getInputStream(entry).readAllBytes());
+        }
+    }
+
+    @Test
+    void rangeMatchesSliceOfWholeArchiveTest() throws IOException {
+        ArchiveLayout layout = ArchiveLayout.of(ArchiveFormat.ZIP, entries("1a.txt", "2b.bin", "3empty"));
+        byte[] archive = readAll(layout);
+
+        for (long start : new long[]{0, 10, 40, 500, layout.length() - 5}) {
+            long end = Math.min(layout.length() - 1, start + 300);
+            try (InputStream range = layout.open(start, end)) {
+                assertArrayEquals(Arrays.copyOfRange(archive, (int) start, (int) end + 1), range.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    void zipWritesDataDescriptorForUnknownCrcTest() throws IOException {
+        List<ArchiveEntrySource> entries = List.of(
+                entry("1a.txt", first), withoutCrc(entry("2b.bin", second)), withoutCrc(entry("3empty", empty)));
+        ArchiveLayout layout = ArchiveLayout.of(ArchiveFormat.ZIP, entries);
+        Path file = tempDir.resolve("archive.zip");
+
+        byte[] archive = readAll(layout);
+        Files.write(file, archive);
+
+        assertFalse(layout.rangeable());
+        assertEquals(layout.length(), archive.length);
+        try (ZipFile zipFile = new ZipFile(file.toFile())) {
+            assertEquals(3, zipFile.size());
+            ZipEntry entry = zipFile.getEntry("2b.bin");
+            assertEquals(crc32(second), entry.getCrc());
+            assertArrayEquals(second, zipFile.getInputStream(entry).readAllBytes());
+            assertEquals(0, zipFile.getEntry("3empty").getCrc());
+        }
+    }
+
+    @Test
+    void zipWithUnknownCrcIsReadOnlyFromStartTest() {
+        ArchiveLayout layout = ArchiveLayout.of(ArchiveFormat.ZIP, List.of(withoutCrc(entry("1a.txt", first))));
+
+        assertThrows(IllegalArgumentException.class, () -> layout.open(10, layout.length() - 1));
+        assertTrue(ArchiveLayout.of(ArchiveFormat.ZIP, entries("1a.txt")).rangeable());
+    }
+
+    @Test
+    void tarEntriesArePaddedToBlocksTest() throws IOException {
+        ArchiveLayout layout = ArchiveLayout.of(ArchiveFormat.TAR, entries("1a.txt", "2b.bin", "3empty"));
+
+        byte[] archive = readAll(layout);
+
+        assertEquals(layout.length(), archive.length);
+        assertEquals(512 + 512 + 512 + 1024 + 512 + 1024, archive.length);
+        assertEquals("1a.txt", new String(archive, 0, 6, StandardCharsets.US_ASCII));
+        assertEquals("00000000022", new String(archive, 124, 11, StandardCharsets.US_ASCII));
+        assertArrayEquals(first, Arrays.copyOfRange(archive, 512, 512 + first.length));
+        assertArrayEquals(second, Arrays.copyOfRange(archive, 1536, 1536 + second.length));
+        assertArrayEquals(new byte[1024], Arrays.copyOfRange(archive, archive.length - 1024, archive.length));
+    }
+
+    @Test
+    void tarUsesPaxHeaderForLongNamesTest() throws IOException {
+        String longName = "1" + "a".repeat(150);
+        ArchiveLayout layout = ArchiveLayout.of(ArchiveFormat.TAR, entries(longName));
+
+        byte[] archive = readAll(layout);
+
+        assertEquals('x', archive[156]);
+        String paxData = new String(archive, 512, 512, StandardCharsets.UTF_8);
+        assertTrue(paxData.startsWith("161 path=" + longName + "\n"));
+        assertEquals('0', archive[1024 + 156]);
+    }
+
+    @Test
+    void contentShorterThanRecordedSizeFailsTest() {
+        ArchiveEntrySource truncated = new ArchiveEntrySource("1a.txt", 100, 0L, MODIFIED,
+                (start, end) -> new ByteArrayInputStream(new byte[10]));
+        ArchiveLayout layout = ArchiveLayout.of(ArchiveFormat.ZIP, List.of(truncated));
+
+        assertThrows(IOException.class, () -> readAll(layout));
+    }
+
+    private List<ArchiveEntrySource> entries(String... names) {
+        byte[][] contents = {first, second, empty};
+        return Arrays.stream(names)
+                .map(name -> entry(name, contents[Character.getNumericValue(name.charAt(0)) - 1]))
+                .toList();
+    }
+
+    private ArchiveEntrySource entry(String name, byte[] content) {
+        return new ArchiveEntrySource(name, content.length, crc32(content), MODIFIED,
+                (start, end) -> new ByteArrayInputStream(content, start.intValue(), (int) (end - start + 1)));
+    }
+
+    private ArchiveEntrySource withoutCrc(ArchiveEntrySource entry) {
+        return new ArchiveEntrySource(entry.name(), entry.size(), null, entry.lastModified(), entry.rangeReader());
+    }
+
+    private long crc32(byte[] content) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(content);
+        return crc32.getValue();
+    }
+
+    private byte[] readAll(ArchiveLayout layout) throws IOException {
+        try (InputStream archive = layout.open(0, layout.length() - 1)) {
+            return archive.readAllBytes();
+        }
+    }
+
+    private void assertEntry(ZipInputStream zip, String name, byte[] content) throws IOException {
+        ZipEntry entry = zip.getNextEntry();
+        assertEquals(name, entry.getName());
+        assertArrayEquals(content, zip.readAllBytes());
+    }
+}
@@ -1,34 +1,86 @@
 package faang.school.projectservice.service.file_streaming;
 
 import faang.school.projectservice.exception.StreamingFileError;
+import faang.school.projectservice.exception.customexception.FileDownloadException;
+import faang.school.projectservice.exception.customexception.RangeNotSatisfiableException;
+import faang.school.projectservice.model.ResourceType;
+import faang.school.projectservice.validator.file_streaming.FileStreamingValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class FileStreamingServiceTest {
 
-    @InjectMocks
+    private final FileStreamingValidator fileStreamingValidator = new FileStreamingValidator();
+
+    private final ZipCompressionPolicy zipCompressionPolicy = new ZipCompressionPolicy();
+
+    private final StreamBufferPool streamBufferPool = new StreamBufferPool(16, 2);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ThreadPoolTaskExecutor zipPrefetchExecutor;
+
     private FileStreamingService fileStreamingService;
 
+    @BeforeEach
+    void setUp() {
+        zipPrefetchExecutor = new ThreadPoolTaskExecutor();
+        zipPrefetchExecutor.setCorePoolSize(2);
+        zipPrefetchExecutor.initialize();
+
+        ReflectionTestUtils.setField(zipCompressionPolicy, "deflateLevel", Deflater.DEFAULT_COMPRESSION);
+        meterRegistry = new SimpleMeterRegistry();
+        fileStreamingService = new FileStreamingService(fileStreamingValidator, zipPrefetchExecutor,
+                zipCompressionPolicy, streamBufferPool, new StreamingMetrics(meterRegistry, streamBufferPool),
+                new TransferThrottle());
+        ReflectionTestUtils.setField(fileStreamingService, "prefetchCount", 1);
+        ReflectionTestUtils.setField(fileStreamingService, "prefetchBufferSize", 8);
+        ReflectionTestUtils.setField(fileStreamingService, "maxRanges", 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        zipPrefetchExecutor.shutdown();
+    }
+
     @Test
     void getStreamingResponseBodyTest() throws Exception {
         String content = "Sample content for testing";
@@ -41,6 +93,24 @@ class FileStreamingServiceTest {
         assertNotNull(response);
         response.writeTo(outputStream);
 
+        assertEquals(content, outputStream.toString());
+        assertEquals(content.length(), meterRegistry.get("project.files.streaming.bytes")
+                .tag("endpoint", "file").counter().count());
+        assertEquals(1, meterRegistry.get("project.files.streaming.duration")
+                .tag("endpoint", "file").timer().count());
+    }
+
+    @Test
+    void getStreamingResponseBodyFromLocalFileTest(@TempDir Path directory) throws Exception {
+        String content = "Sample content for testing";
+        Path file = Files.writeString(directory.resolve("cached"), content);
+
+        StreamingResponseBody response =
+                fileStreamingService.getStreamingResponseBody(new FileInputStream(file.toFile()));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.writeTo(outputStream);
+
         assertEquals(content, outputStream.toString());
     }
 
@@ -61,13 +131,16 @@ class FileStreamingServiceTest {
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             responseBody.writeTo(outputStream);
         });
+        assertEquals(1, meterRegistry.get("project.files.streaming.aborted")
+                .tag("endpoint", "file").counter().count());
     }
 
     @Test
     void getStreamingResponseBodyInZipTest() throws Exception {
-        Map<String, InputStream> files = new HashMap<>();
-        files.put("file1.txt", new ByteArrayInputStream("Content of file 1".getBytes()));
-        files.put("file2.txt", new ByteArrayInputStream("Content of file 2".getBytes()));
+        List<ZipEntrySource> files = List.of(
+                textSource("file1.txt", "Content of file 1"),
+                textSource("file2.txt", "Content of file 2"),
+                textSource("file3.txt", "short"));
 
         StreamingResponseBody response =
                 fileStreamingService.getStreamingResponseBodyInZip(files);
@@ -81,6 +154,7 @@ class FileStreamingServiceTest {
             int fileCount = 0;
             while (zipInputStream.getNextEntry() != null) {
                 fileCount++;
+                assertTrue(new String(zipInputStream.readAllBytes()).length() > 0);
             }
 
             assertEquals(files.size(), fileCount);
@@ -90,10 +164,10 @@ class FileStreamingServiceTest {
     @Test
     void getStreamingResponseBodyInZipThrowsIOExceptionTest() throws IOException {
         InputStream faultyStream = mock(InputStream.class);
-        when(faultyStream.read(any(byte[].class))).thenThrow(new IOException("Simulated stream error"));
+        when(faultyStream.readNBytes(anyInt())).thenThrow(new IOException("Simulated stream error"));
 
-        Map<String, InputStream> files = new HashMap<>();
-        files.put("faulty.txt", faultyStream);
+        List<ZipEntrySource> files = List.of(
+                new ZipEntrySource("faulty.txt", ResourceType.TEXT, null, null, () -> faultyStream));
 
         StreamingResponseBody responseBody = fileStreamingService.getStreamingResponseBodyInZip(files);
 
@@ -104,4 +178,163 @@ class FileStreamingServiceTest {
             assertNull(zipIn.getNextEntry(), "Faulty file should not be included in the ZIP");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void getStreamingResponseBodyInZipReportsSkippedEntriesTest() throws Exception {
+        List<ZipEntrySource> files = List.of(
+                textSource("file1.txt", "Content of file 1"),
+                new ZipEntrySource("broken.txt", ResourceType.TEXT, null, null, () -> {
+                    throw new FileDownloadException("S3 is down");
+                }),
+                textSource("file3.txt", "Content of file 3"));
+
+        ZipResponseBody responseBody = fileStreamingService.getStreamingResponseBodyInZip(files);
+        responseBody.writeTo(new ByteArrayOutputStream());
+
+        assertFalse(responseBody.isComplete());
+    }
+
+    @Test
+    void getStreamingResponseBodyInZipIsCompleteWhenEveryEntryWrittenTest() throws Exception {
+        ZipResponseBody responseBody = fileStreamingService.getStreamingResponseBodyInZip(List.of(
+                textSource("file1.txt", "Content of file 1"),
+                textSource("file2.txt", "short")));
+
+        assertFalse(responseBody.isComplete());
+        responseBody.writeTo(new ByteArrayOutputStream());
+
+        assertTrue(responseBody.isComplete());
+    }
+
+    @Test
+    void getStreamingResponseBodyInZipOpensFilesLazilyTest() throws Exception {
+        AtomicInteger openedFiles = new AtomicInteger();
+        List<ZipEntrySource> files = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            files.add(new ZipEntrySource("file" + i + ".txt", ResourceType.TEXT, null, null, () -> {
+                openedFiles.incrementAndGet();
+                return new ByteArrayInputStream("content".getBytes());
+            }));
+        }
+
+        StreamingResponseBody responseBody = fileStreamingService.getStreamingResponseBodyInZip(files);
+
+        assertEquals(0, openedFiles.get());
+        responseBody.writeTo(new ByteArrayOutputStream());
+        assertEquals(files.size(), openedFiles.get());
+    }
+
+    @Test
+    void getStreamingResponseBodyInZipStoresIncompressibleFilesTest() throws Exception {
+        byte[] image = "jpeg image bytes that exceed the prefetch buffer".getBytes();
+        CRC32 crc32 = new CRC32();
+        crc32.update(image);
+        List<ZipEntrySource> files = List.of(
+                new ZipEntrySource("photo.jpg", ResourceType.IMAGE, (long) image.length, crc32.getValue(),
+                        () -> new ByteArrayInputStream(image)),
+                new ZipEntrySource("small.png", ResourceType.IMAGE, null, null,
+                        () -> new ByteArrayInputStream("png".getBytes())),
+                new ZipEntrySource("legacy.zip", ResourceType.ZIP, null, null,
+                        () -> new ByteArrayInputStream(image)),
+                textSource("notes.txt", "Content of notes"));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        fileStreamingService.getStreamingResponseBodyInZip(files).writeTo(outputStream);
+
+        Map<String, Integer> methods = new HashMap<>();
+        try (ZipInputStream zipIn = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zipIn.getNextEntry()) != null) {
+                methods.put(entry.getName(), entry.getMethod());
+                zipIn.readAllBytes();
+            }
+        }
+
+        assertEquals(ZipEntry.STORED, methods.get("photo.jpg"));
+        assertEquals(ZipEntry.STORED, methods.get("small.png"));
+        assertEquals(ZipEntry.DEFLATED, methods.get("legacy.zip"));
+        assertEquals(ZipEntry.DEFLATED, methods.get("notes.txt"));
+    }
+
+    @Test
+    void resolveRangesTest() {
+        List<ByteRange> ranges = fileStreamingService.resolveRanges("bytes=0-9, 20-, -5, 500-600", 100);
+
+        assertEquals(List.of(new ByteRange(0, 9), new ByteRange(20, 99)), ranges);
+    }
+
+    @Test
+    void resolveRangesMergesOverlappingAndAdjacentRangesTest() {
+        List<ByteRange> ranges = fileStreamingService.resolveRanges("bytes=50-59, 0-9, 10-19, 55-70", 100);
+
+        assertEquals(List.of(new ByteRange(0, 19), new ByteRange(50, 70)), ranges);
+    }
+
+    @Test
+    void resolveRangesNotSatisfiableTest() {
+        assertThrows(RangeNotSatisfiableException.class,
+                () -> fileStreamingService.resolveRanges("bytes=200-300", 100));
+    }
+
+    @Test
+    void resolveRangesIgnoresInvalidHeaderTest() {
+        assertTrue(fileStreamingService.resolveRanges("items=0-1", 100).isEmpty());
+        assertTrue(fileStreamingService.resolveRanges("bytes=abc", 100).isEmpty());
+        assertTrue(fileStreamingService.resolveRanges("bytes=9-1", 100).isEmpty());
+    }
+
+    @Test
+    void resolveRangesIgnoresTooManyRangesTest() {
+        assertTrue(fileStreamingService.resolveRanges("bytes=0-1, 2-3, 4-5, 6-7, 8-9", 100).isEmpty());
+    }
+
+    @Test
+    void resolveRangesIgnoresRangesLargerThanFileTest() {
+        assertTrue(fileStreamingService.resolveRanges("bytes=0-, 0-, 10-", 100).isEmpty());
+        assertEquals(List.of(new ByteRange(0, 99)), fileStreamingService.resolveRanges("bytes=0-", 100));
+    }
+
+    @Test
+    void isRangeApplicableTest() {
+        Instant lastModified = Instant.parse("2024-05-01T10:15:30Z");
+        FileRangeSource file = rangeSource("0123456789", "abc", lastModified);
+
+        assertTrue(fileStreamingService.isRangeApplicable(null, file));
+        assertTrue(fileStreamingService.isRangeApplicable("\"abc\"", file));
+        assertTrue(fileStreamingService.isRangeApplicable("Wed, 01 May 2024 10:15:30 GMT", file));
+        assertFalse(fileStreamingService.isRangeApplicable("W/\"abc\"", file));
+        assertFalse(fileStreamingService.isRangeApplicable("\"other\"", file));
+        assertFalse(fileStreamingService.isRangeApplicable("Thu, 02 May 2024 10:15:30 GMT", file));
+        assertFalse(fileStreamingService.isRangeApplicable("yesterday", file));
+        assertFalse(fileStreamingService.isRangeApplicable(null,
+                new FileRangeSource("file.zip", 10, "abc", lastModified, false, file.rangeReader())));
+    }
+
+    @Test
+    void getStreamingResponseBodyInRangesTest() throws Exception {
+        FileRangeSource file = rangeSource("0123456789", "abc", null);
+        List<ByteRange> ranges = List.of(new ByteRange(0, 2), new ByteRange(7, 9));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        fileStreamingService.getStreamingResponseBodyInRanges(file, ranges, "text/plain", "boundary")
+                .writeTo(outputStream);
+
+        String expected = "\r\n--boundary\r\nContent-Type: text/plain\r\nContent-Range: bytes 0-2/10\r\n\r\n012"
+                + "\r\n--boundary\r\nContent-Type: text/plain\r\nContent-Range: bytes 7-9/10\r\n\r\n789"
+                + "\r\n--boundary--\r\n";
+        assertEquals(expected, outputStream.toString());
+        assertEquals(outputStream.size(),
+                fileStreamingService.getMultipartRangesLength(file, ranges, "text/plain", "boundary"));
+    }
+
+    private FileRangeSource rangeSource(String content, String eTag, Instant lastModified) {
+        byte[] bytes = content.getBytes();
+        return new FileRangeSource("file.txt", bytes.length, eTag, lastModified,
+                (start, end) -> new ByteArrayInputStream(bytes, start.intValue(), (int) (end - start + 1)));
+    }
+
+    private ZipEntrySource textSource(String name, String content) {
+        return new ZipEntrySource(name, ResourceType.TEXT, null, null,
+                () -> new ByteArrayInputStream(content.getBytes()));
+    }
+}
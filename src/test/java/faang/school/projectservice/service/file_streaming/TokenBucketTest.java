@@ -0,0 +1,50 @@
+package faang.school.projectservice.service.file_streaming;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long ONE_BYTE_PER_NANO = 1_000_000_000L;
+
+    @Test
+    void reserveWithinBurstDoesNotWaitTest() {
+        TokenBucket bucket = new TokenBucket(ONE_BYTE_PER_NANO, 500, 0);
+
+        assertEquals(0, bucket.reserve(500, 0));
+    }
+
+    @Test
+    void reserveOverBurstWaitsForRefillTest() {
+        TokenBucket bucket = new TokenBucket(ONE_BYTE_PER_NANO, 500, 0);
+
+        bucket.reserve(500, 0);
+
+        assertEquals(500, bucket.reserve(500, 0));
+        assertEquals(750, bucket.reserve(500, 250));
+    }
+
+    @Test
+    void refillIsCappedByBurstTest() {
+        TokenBucket bucket = new TokenBucket(ONE_BYTE_PER_NANO, 500, 0);
+
+        bucket.reserve(500, 0);
+
+        assertEquals(0, bucket.reserve(500, 10_000));
+        assertEquals(500, bucket.reserve(500, 10_000));
+    }
+
+    @Test
+    void isIdleOnlyWhenFullAndUnusedTest() {
+        TokenBucket bucket = new TokenBucket(ONE_BYTE_PER_NANO, 500, 0);
+        bucket.open();
+        bucket.reserve(500, 0);
+        bucket.close();
+
+        assertFalse(bucket.isIdle(250));
+        assertTrue(bucket.isIdle(1000));
+    }
+}
@@ -0,0 +1,109 @@
+package faang.school.projectservice.service.file_streaming;
+
+import faang.school.projectservice.service.file_streaming.TransferThrottle.ThrottledOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransferThrottleTest {
+
+    private static final int BURST_BYTES = 64 * 1024;
+
+    private final TransferThrottle transferThrottle = new TransferThrottle();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(transferThrottle, "enabled", true);
+        ReflectionTestUtils.setField(transferThrottle, "projectBytesPerSecond", 1024L * 1024);
+        ReflectionTestUtils.setField(transferThrottle, "userBytesPerSecond", 1024L);
+        ReflectionTestUtils.setField(transferThrottle, "anonymousBytesPerSecond", 512L);
+        ReflectionTestUtils.setField(transferThrottle, "burstBytes", (long) BURST_BYTES);
+        ReflectionTestUtils.setField(transferThrottle, "nodeBytesPerSecond", 1024L);
+        ReflectionTestUtils.setField(transferThrottle, "interactiveWeight", 4);
+        ReflectionTestUtils.setField(transferThrottle, "bulkWeight", 1);
+    }
+
+    @Test
+    void streamsOfOneUserShareBucketTest() throws IOException {
+        ThrottledOutputStream first = open(new TransferOwner(1L, 10L), StreamingEndpoint.FILE);
+        ThrottledOutputStream second = open(new TransferOwner(2L, 10L), StreamingEndpoint.FILE);
+        ThrottledOutputStream other = open(new TransferOwner(1L, 20L), StreamingEndpoint.FILE);
+
+        first.write(new byte[BURST_BYTES]);
+
+        TokenBucket userBucket = userBucket(second);
+        assertSame(userBucket(first), userBucket);
+        assertNotSame(userBucket, userBucket(other));
+        assertTrue(userBucket.reserve(1, System.nanoTime()) > 0);
+        assertEquals(0, userBucket(other).reserve(1, System.nanoTime()));
+        assertEquals(2, buckets("userBuckets").size());
+    }
+
+    @Test
+    void transfersWithoutUserShareAnonymousBucketTest() {
+        ThrottledOutputStream first = open(new TransferOwner(1L, null), StreamingEndpoint.FILE);
+        ThrottledOutputStream second = open(TransferOwner.anonymous(), StreamingEndpoint.ZIP);
+
+        assertNotNull(userBucket(first));
+        assertSame(userBucket(first), userBucket(second));
+        assertTrue(buckets("userBuckets").isEmpty());
+    }
+
+    @Test
+    void activeWeightFollowsOpenStreamsTest() {
+        ThrottledOutputStream interactive = open(new TransferOwner(1L, 10L), StreamingEndpoint.FILE);
+        ThrottledOutputStream bulk = open(new TransferOwner(1L, 10L), StreamingEndpoint.ZIP);
+
+        assertEquals(5, activeWeight());
+
+        interactive.release();
+        interactive.release();
+
+        assertEquals(1, activeWeight());
+
+        bulk.release();
+
+        assertEquals(0, activeWeight());
+    }
+
+    @Test
+    void transferWithinBurstIsNotPacedTest() {
+        ThrottledOutputStream bulk = open(new TransferOwner(1L, 10L), StreamingEndpoint.ZIP);
+        open(new TransferOwner(2L, 20L), StreamingEndpoint.FILE);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            bulk.write(new byte[BURST_BYTES / 2]);
+            bulk.write(new byte[BURST_BYTES / 2]);
+        });
+    }
+
+    private ThrottledOutputStream open(TransferOwner owner, StreamingEndpoint endpoint) {
+        return transferThrottle.open(new ByteArrayOutputStream(), owner, endpoint);
+    }
+
+    private TokenBucket userBucket(ThrottledOutputStream stream) {
+        return (TokenBucket) ReflectionTestUtils.getField(stream, "userBucket");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, TokenBucket> buckets(String field) {
+        return (Map<Long, TokenBucket>) ReflectionTestUtils.getField(transferThrottle, field);
+    }
+
+    private long activeWeight() {
+        return ((AtomicLong) ReflectionTestUtils.getField(transferThrottle, "activeWeight")).get();
+    }
+}
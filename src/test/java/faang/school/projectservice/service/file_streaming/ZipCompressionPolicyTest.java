@@ -0,0 +1,32 @@
+package faang.school.projectservice.service.file_streaming;
+
+import faang.school.projectservice.model.ResourceType;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ZipCompressionPolicyTest {
+
+    private final ZipCompressionPolicy zipCompressionPolicy = new ZipCompressionPolicy();
+
+    @ParameterizedTest
+    @CsvSource({
+            "IMAGE, photo.JPG, false",
+            "IMAGE, scan.tiff, true",
+            "IMAGE, icon.svg, true",
+            "VIDEO, clip.mp4, false",
+            "PDF, report.pdf, false",
+            "ZIP, archive.zip, false",
+            "MSWORD, spec.docx, false",
+            "MSWORD, spec.doc, true",
+            "TEXT, notes.txt, true",
+            "OTHER, backup.tar.gz, false",
+            "OTHER, data.bin, true",
+            "AUDIO, track, false",
+            "NONE, README, true"
+    })
+    void isCompressibleTest(ResourceType type, String fileName, boolean expected) {
+        assertEquals(expected, zipCompressionPolicy.isCompressible(type, fileName));
+    }
+}
@@ -0,0 +1,71 @@
+package faang.school.projectservice.service.image_rendition;
+
+import faang.school.projectservice.exception.customexception.DataValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ImageDecoderTest {
+
+    private ImageDecoder imageDecoder;
+
+    @BeforeEach
+    void setUp() {
+        imageDecoder = new ImageDecoder();
+        ReflectionTestUtils.setField(imageDecoder, "maxSourcePixels", 4_000_000L);
+        ReflectionTestUtils.setField(imageDecoder, "maxDecodedPixels", 100_000L);
+    }
+
+    @Test
+    void decodeSubsamplesToTargetSizeTest() throws IOException {
+        BufferedImage image = imageDecoder.decode(image(2000, 1000), 500);
+
+        assertEquals(500, image.getWidth());
+        assertEquals(250, image.getHeight());
+    }
+
+    @Test
+    void decodeKeepsSmallImageTest() throws IOException {
+        BufferedImage image = imageDecoder.decode(image(300, 200), 500);
+
+        assertEquals(300, image.getWidth());
+        assertEquals(200, image.getHeight());
+    }
+
+    @Test
+    void decodeRejectsImageOverSourceBudgetTest() {
+        assertThrows(DataValidationException.class, () -> imageDecoder.decode(image(2500, 2000), 500));
+    }
+
+    @Test
+    void decodeRejectsImageOverDecodedBudgetTest() {
+        assertThrows(DataValidationException.class, () -> imageDecoder.decode(image(1000, 1000), 500));
+    }
+
+    @Test
+    void decodeReturnsNullForUnsupportedFormatTest() throws IOException {
+        assertNull(imageDecoder.decode(new ByteArrayInputStream("not an image".getBytes()), 500));
+    }
+
+    @Test
+    void validatePassesUnsupportedFormatTest() {
+        assertDoesNotThrow(() -> imageDecoder.validate(new ByteArrayInputStream("not an image".getBytes()), 500));
+    }
+
+    private ByteArrayInputStream image(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+}
@@ -0,0 +1,98 @@
+package faang.school.projectservice.service.image_rendition;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImageEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImageEncoder imageEncoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        imageEncoder = new ImageEncoder(meterRegistry);
+        ReflectionTestUtils.setField(imageEncoder, "jpegQuality", 0.85f);
+        ReflectionTestUtils.setField(imageEncoder, "flatMaxColors", 256);
+    }
+
+    @Test
+    void encodePhotographicImageAsJpegTest() throws IOException {
+        BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(1);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, random.nextInt());
+            }
+        }
+
+        EncodedImage encoded = imageEncoder.encode(image);
+
+        assertEquals(ImageFormat.JPEG, encoded.format());
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(encoded.bytes()));
+        assertEquals(200, decoded.getWidth());
+        assertEquals(1.0, meterRegistry.get("project.files.images.encoded-bytes").tag("format", "jpeg")
+                .summary().count());
+    }
+
+    @Test
+    void encodeFlatImageAsPalettePngTest() throws IOException {
+        BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, 200, 100);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(20, 20, 60, 40);
+        graphics.dispose();
+
+        EncodedImage encoded = imageEncoder.encode(image);
+
+        assertEquals(ImageFormat.PNG, encoded.format());
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(encoded.bytes()));
+        assertInstanceOf(IndexColorModel.class, decoded.getColorModel());
+        assertEquals(Color.BLUE.getRGB(), decoded.getRGB(50, 40));
+        assertEquals(Color.WHITE.getRGB(), decoded.getRGB(150, 80));
+    }
+
+    @Test
+    void encodeTranslucentImageAsPngTest() throws IOException {
+        BufferedImage image = new BufferedImage(256, 4, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, x << 24 | (y * 64 + x) << 8 | 0x80);
+            }
+        }
+
+        EncodedImage encoded = imageEncoder.encode(image);
+
+        assertEquals(ImageFormat.PNG, encoded.format());
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(encoded.bytes()));
+        assertTrue(decoded.getColorModel().hasAlpha());
+        assertEquals(image.getRGB(10, 3), decoded.getRGB(10, 3));
+    }
+
+    @Test
+    void encodeJpegComposesTranslucentPixelsOverWhiteTest() throws IOException {
+        BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+
+        EncodedImage encoded = imageEncoder.encode(image, ImageFormat.JPEG);
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(encoded.bytes()));
+        assertEquals(Color.WHITE.getRGB(), decoded.getRGB(8, 8));
+    }
+}
@@ -0,0 +1,170 @@
+package faang.school.projectservice.service.image_rendition;
+
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import faang.school.projectservice.model.ImageRenditions;
+import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import faang.school.projectservice.service.project.ProjectService;
+import faang.school.projectservice.service.storage_gc.ObjectDeletionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImageRenditionServiceTest {
+
+    private static final String KEY = "1project/cover/image.png";
+
+    @Mock
+    private AmazonClientService amazonClient;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private ObjectDeletionService objectDeletionService;
+
+    private ImageDecoder imageDecoder;
+
+    private ImageEncoder imageEncoder;
+
+    private ImageRenditionService imageRenditionService;
+
+    @BeforeEach
+    void setUp() {
+        imageDecoder = new ImageDecoder();
+        ReflectionTestUtils.setField(imageDecoder, "maxSourcePixels", 1_000_000L);
+        ReflectionTestUtils.setField(imageDecoder, "maxDecodedPixels", 1_000_000L);
+        imageEncoder = new ImageEncoder(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(imageEncoder, "jpegQuality", 0.85f);
+        ReflectionTestUtils.setField(imageEncoder, "flatMaxColors", 256);
+        imageRenditionService = new ImageRenditionService(amazonClient, projectService, new SyncTaskExecutor(),
+                imageDecoder, imageEncoder, objectDeletionService);
+    }
+
+    @Test
+    void scheduleCoverRenditionsStoresAllSizesTest() throws IOException {
+        when(amazonClient.downloadFile(KEY)).thenReturn(image(BufferedImage.TYPE_INT_RGB));
+        when(projectService.updateCoverRenditions(eq(1L), eq(KEY), any())).thenReturn(true);
+
+        imageRenditionService.scheduleCoverRenditions(1L, KEY);
+
+        ArgumentCaptor<ImageRenditions> captor = ArgumentCaptor.forClass(ImageRenditions.class);
+        verify(projectService).updateCoverRenditions(eq(1L), eq(KEY), captor.capture());
+        assertEquals(KEY + ".thumbnail.jpg", captor.getValue().getThumbnailKey());
+        assertEquals(KEY + ".medium.jpg", captor.getValue().getMediumKey());
+        assertEquals(KEY + ".full.jpg", captor.getValue().getFullKey());
+        verify(amazonClient, times(3)).uploadFile(any(byte[].class), anyString(), eq("image/jpeg"));
+        verify(objectDeletionService, never()).schedule(anyString());
+    }
+
+    @Test
+    void scheduleGalleryRenditionsKeepsTransparencyTest() throws IOException {
+        when(amazonClient.downloadFile(KEY)).thenReturn(image(BufferedImage.TYPE_INT_ARGB));
+        when(projectService.updateGalleryRenditions(eq(1L), eq(KEY), any())).thenReturn(true);
+
+        imageRenditionService.scheduleGalleryRenditions(1L, KEY);
+
+        verify(amazonClient, times(3)).uploadFile(any(byte[].class), anyString(), eq("image/png"));
+    }
+
+    @Test
+    void scheduleCoverRenditionsStoresFlatImageAsPngTest() throws IOException {
+        when(amazonClient.downloadFile(KEY)).thenReturn(image(BufferedImage.TYPE_INT_RGB, false));
+        when(projectService.updateCoverRenditions(eq(1L), eq(KEY), any())).thenReturn(true);
+
+        imageRenditionService.scheduleCoverRenditions(1L, KEY);
+
+        verify(projectService).updateCoverRenditions(1L, KEY,
+                new ImageRenditions(KEY + ".thumbnail.png", KEY + ".medium.png", KEY + ".full.png"));
+        verify(amazonClient, times(3)).uploadFile(any(byte[].class), anyString(), eq("image/png"));
+    }
+
+    @Test
+    void scheduleCoverRenditionsDeletesStaleRenditionsTest() throws IOException {
+        when(amazonClient.downloadFile(KEY)).thenReturn(image(BufferedImage.TYPE_INT_RGB));
+        when(projectService.updateCoverRenditions(eq(1L), eq(KEY), any())).thenReturn(false);
+
+        imageRenditionService.scheduleCoverRenditions(1L, KEY);
+
+        verify(objectDeletionService).schedule(KEY + ".thumbnail.jpg");
+        verify(objectDeletionService).schedule(KEY + ".medium.jpg");
+        verify(objectDeletionService).schedule(KEY + ".full.jpg");
+    }
+
+    @Test
+    void scheduleCoverRenditionsLeavesRejectedImageForBackfillTest() {
+        TaskExecutor executor = mock(TaskExecutor.class);
+        doThrow(new TaskRejectedException("queue is full")).when(executor).execute(any());
+        imageRenditionService = new ImageRenditionService(amazonClient, projectService, executor, imageDecoder,
+                imageEncoder, objectDeletionService);
+
+        imageRenditionService.scheduleCoverRenditions(1L, KEY);
+
+        verify(amazonClient, never()).downloadFile(anyString());
+    }
+
+    @Test
+    void scheduleCoverRenditionsFallsBackToOriginalOverPixelBudgetTest() throws IOException {
+        ReflectionTestUtils.setField(imageDecoder, "maxSourcePixels", 1000L);
+        when(amazonClient.downloadFile(KEY)).thenReturn(image(BufferedImage.TYPE_INT_RGB));
+        when(projectService.updateCoverRenditions(1L, KEY, new ImageRenditions(KEY, KEY, KEY))).thenReturn(true);
+
+        imageRenditionService.scheduleCoverRenditions(1L, KEY);
+
+        verify(amazonClient, never()).uploadFile(any(byte[].class), anyString(), anyString());
+    }
+
+    @Test
+    void deleteRenditionsSkipsOriginalTest() {
+        ImageRenditions renditions = new ImageRenditions(KEY, KEY, KEY);
+
+        imageRenditionService.deleteRenditions(renditions, KEY);
+
+        verify(objectDeletionService, never()).schedule(anyString());
+    }
+
+    private S3ObjectInputStream image(int type) throws IOException {
+        return image(type, true);
+    }
+
+    private S3ObjectInputStream image(int type, boolean photographic) throws IOException {
+        BufferedImage image = new BufferedImage(800, 400, type);
+        if (photographic) {
+            Random random = new Random(1);
+            for (int y = 0; y < image.getHeight(); y++) {
+                for (int x = 0; x < image.getWidth(); x++) {
+                    image.setRGB(x, y, random.nextInt());
+                }
+            }
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return new S3ObjectInputStream(new ByteArrayInputStream(outputStream.toByteArray()), null);
+    }
+}
@@ -5,11 +5,11 @@ import faang.school.projectservice.dto.internship.InternshipDto;
 import faang.school.projectservice.dto.internship.InternshipFilterDto;
 import faang.school.projectservice.dto.internship.InternshipUpdateDto;
 import faang.school.projectservice.dto.internship.InternshipUpdateRequestDto;
-import faang.school.projectservice.exception.EntityNotFoundException;
 import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.filter.FilterExecutor;
 import faang.school.projectservice.filter.internship.InternshipStatusFilter;
 import faang.school.projectservice.filter.internship.InternshipTeamRoleFilter;
-import faang.school.projectservice.mapper.intership.InternshipMapperImpl;
+import faang.school.projectservice.mapper.internship.InternshipMapperImpl;
 import faang.school.projectservice.model.Internship;
 import faang.school.projectservice.model.InternshipStatus;
 import faang.school.projectservice.model.Project;
@@ -19,10 +19,17 @@ import faang.school.projectservice.model.Team;
 import faang.school.projectservice.model.TeamMember;
 import faang.school.projectservice.model.TeamRole;
 import faang.school.projectservice.repository.InternshipRepository;
+import faang.school.projectservice.service.InternshipService;
+import faang.school.projectservice.service.TeamMemberService;
+import faang.school.projectservice.service.TeamService;
 import faang.school.projectservice.service.project.ProjectService;
-import faang.school.projectservice.service.team.TeamService;
-import faang.school.projectservice.service.teammember.TeamMemberService;
 import faang.school.projectservice.validator.internship.InternshipValidator;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +40,11 @@ import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
@@ -51,6 +63,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -82,20 +96,51 @@ class InternshipServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private Root<Internship> root;
+
+    @Mock
+    private CriteriaQuery<?> query;
+
+    @Mock
+    private CriteriaBuilder cb;
+
+    @Mock
+    private Path<Object> statusPath;
+
+    @Mock
+    private Path<Object> mentorPath;
+
+    @Mock
+    private Path<List<TeamRole>> rolesPath;
+
+    @Mock
+    private Predicate statusPredicate;
+
+    @Mock
+    private Predicate rolePredicate;
+
+    @Mock
+    private Predicate combinedPredicate;
+
     @Captor
     private ArgumentCaptor<Team> teamCaptor;
 
+    private InternshipStatusFilter statusFilter;
+
+    private InternshipTeamRoleFilter roleFilter;
+
     private InternshipService internshipService;
 
     @BeforeEach
     void setUp() {
-        Filter<Internship, InternshipFilterDto> statusFilter = Mockito.spy(InternshipStatusFilter.class);
-        Filter<Internship, InternshipFilterDto> roleFilter = Mockito.spy(InternshipTeamRoleFilter.class);
+        statusFilter = Mockito.spy(InternshipStatusFilter.class);
+        roleFilter = Mockito.spy(InternshipTeamRoleFilter.class);
         List<Filter<Internship, InternshipFilterDto> > filters = List.of(statusFilter, roleFilter);
 
         internshipService = new InternshipService(
                 internshipRepository, validator, internshipMapper, teamMemberService,
-                teamService, projectService, restTemplate, filters
+                projectService, teamService, filters, new FilterExecutor()
         );
     }
 
@@ -192,20 +237,20 @@ class InternshipServiceTest {
                 .internshipStatus(null)
                 .teamRole(null)
                 .build();
-
-        List<Internship> internships = List.of(
+        Pageable pageable = PageRequest.of(0, 2);
+        Page<Internship> internships = new PageImpl<>(List.of(
                 createInternshipWithStatusAndMentorRole(InternshipStatus.COMPLETED, TeamRole.ANALYST),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.IN_PROGRESS, TeamRole.DESIGNER),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.COMPLETED, TeamRole.DEVELOPER),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.NOT_STARTED, TeamRole.MANAGER),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.COMPLETED, TeamRole.TESTER),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.NOT_STARTED, TeamRole.ANALYST)
-        );
-        when(internshipRepository.findAll()).thenReturn(internships);
+                createInternshipWithStatusAndMentorRole(InternshipStatus.IN_PROGRESS, TeamRole.DESIGNER)
+        ), pageable, 6);
+        when(internshipRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(internships);
 
-        List<InternshipDto> filteredInternshipDtos = assertDoesNotThrow(() -> internshipService.getFilteredInternships(filterDto));
+        Page<InternshipDto> filteredInternshipDtos = internshipService.getFilteredInternships(filterDto, pageable);
 
-        assertEquals(6, filteredInternshipDtos.size());
+        assertEquals(2, filteredInternshipDtos.getContent().size());
+        assertEquals(6, filteredInternshipDtos.getTotalElements());
+        assertEquals(3, filteredInternshipDtos.getTotalPages());
+        verify(statusFilter, never()).toSpecification(any());
+        verify(roleFilter, never()).toSpecification(any());
     }
 
     @Test
@@ -214,20 +259,22 @@ class InternshipServiceTest {
                 .internshipStatus(InternshipStatus.COMPLETED)
                 .teamRole(null)
                 .build();
-
-        List<Internship> internships = List.of(
-                createInternshipWithStatusAndMentorRole(InternshipStatus.COMPLETED, TeamRole.ANALYST),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.IN_PROGRESS, TeamRole.DESIGNER),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.COMPLETED, TeamRole.DEVELOPER),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.NOT_STARTED, TeamRole.MANAGER),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.COMPLETED, TeamRole.TESTER),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.NOT_STARTED, TeamRole.ANALYST)
-        );
-        when(internshipRepository.findAll()).thenReturn(internships);
-
-        List<InternshipDto> filteredInternshipDtos = assertDoesNotThrow(() -> internshipService.getFilteredInternships(filterDto));
-
-        assertEquals(3, filteredInternshipDtos.size());
+        Pageable pageable = PageRequest.of(1, 2);
+        Page<Internship> internships = new PageImpl<>(List.of(
+                createInternshipWithStatusAndMentorRole(InternshipStatus.COMPLETED, TeamRole.TESTER)
+        ), pageable, 3);
+        when(internshipRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(internships);
+        doReturn(statusPath).when(root).get("status");
+        when(cb.equal(statusPath, InternshipStatus.COMPLETED)).thenReturn(statusPredicate);
+
+        Page<InternshipDto> filteredInternshipDtos = internshipService.getFilteredInternships(filterDto, pageable);
+
+        assertEquals(1, filteredInternshipDtos.getContent().size());
+        assertEquals(3, filteredInternshipDtos.getTotalElements());
+        assertEquals(1, filteredInternshipDtos.getNumber());
+        assertEquals(statusPredicate, captureSpecification(pageable).toPredicate(root, query, cb));
+        verify(roleFilter, never()).toSpecification(any());
+        verify(statusFilter, never()).apply(any(), any());
     }
 
     @Test
@@ -236,20 +283,23 @@ class InternshipServiceTest {
                 .internshipStatus(null)
                 .teamRole(TeamRole.ANALYST)
                 .build();
-
-        List<Internship> internships = List.of(
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Internship> internships = new PageImpl<>(List.of(
                 createInternshipWithStatusAndMentorRole(InternshipStatus.COMPLETED, TeamRole.ANALYST),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.IN_PROGRESS, TeamRole.DESIGNER),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.COMPLETED, TeamRole.DEVELOPER),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.NOT_STARTED, TeamRole.MANAGER),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.COMPLETED, TeamRole.TESTER),
                 createInternshipWithStatusAndMentorRole(InternshipStatus.NOT_STARTED, TeamRole.ANALYST)
-        );
-        when(internshipRepository.findAll()).thenReturn(internships);
-
-        List<InternshipDto> filteredInternshipDtos = assertDoesNotThrow(() -> internshipService.getFilteredInternships(filterDto));
-
-        assertEquals(2, filteredInternshipDtos.size());
+        ), pageable, 2);
+        when(internshipRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(internships);
+        doReturn(mentorPath).when(root).get("mentorId");
+        doReturn(rolesPath).when(mentorPath).get("roles");
+        when(cb.isMember(TeamRole.ANALYST, rolesPath)).thenReturn(rolePredicate);
+
+        Page<InternshipDto> filteredInternshipDtos = internshipService.getFilteredInternships(filterDto, pageable);
+
+        assertEquals(2, filteredInternshipDtos.getTotalElements());
+        assertEquals(1, filteredInternshipDtos.getTotalPages());
+        assertEquals(rolePredicate, captureSpecification(pageable).toPredicate(root, query, cb));
+        verify(statusFilter, never()).toSpecification(any());
+        verify(roleFilter, never()).apply(any(), any());
     }
 
     @Test
@@ -258,20 +308,31 @@ class InternshipServiceTest {
                 .internshipStatus(InternshipStatus.COMPLETED)
                 .teamRole(TeamRole.ANALYST)
                 .build();
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Internship> internships = new PageImpl<>(List.of(
+                createInternshipWithStatusAndMentorRole(InternshipStatus.COMPLETED, TeamRole.ANALYST)
+        ), pageable, 1);
+        when(internshipRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(internships);
+        doReturn(statusPath).when(root).get("status");
+        doReturn(mentorPath).when(root).get("mentorId");
+        doReturn(rolesPath).when(mentorPath).get("roles");
+        when(cb.equal(statusPath, InternshipStatus.COMPLETED)).thenReturn(statusPredicate);
+        when(cb.isMember(TeamRole.ANALYST, rolesPath)).thenReturn(rolePredicate);
+        when(cb.and(statusPredicate, rolePredicate)).thenReturn(combinedPredicate);
+
+        Page<InternshipDto> filteredInternshipDtos = internshipService.getFilteredInternships(filterDto, pageable);
+
+        assertEquals(1, filteredInternshipDtos.getTotalElements());
+        assertEquals(combinedPredicate, captureSpecification(pageable).toPredicate(root, query, cb));
+        verify(statusFilter, never()).apply(any(), any());
+        verify(roleFilter, never()).apply(any(), any());
+    }
 
-        List<Internship> internships = List.of(
-                createInternshipWithStatusAndMentorRole(InternshipStatus.COMPLETED, TeamRole.ANALYST),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.IN_PROGRESS, TeamRole.DESIGNER),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.COMPLETED, TeamRole.DEVELOPER),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.NOT_STARTED, TeamRole.MANAGER),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.COMPLETED, TeamRole.TESTER),
-                createInternshipWithStatusAndMentorRole(InternshipStatus.NOT_STARTED, TeamRole.ANALYST)
-        );
-        when(internshipRepository.findAll()).thenReturn(internships);
-
-        List<InternshipDto> filteredInternshipDtos = assertDoesNotThrow(() -> internshipService.getFilteredInternships(filterDto));
-
-        assertEquals(1, filteredInternshipDtos.size());
+    @SuppressWarnings("unchecked")
+    private Specification<Internship> captureSpecification(Pageable pageable) {
+        ArgumentCaptor<Specification<Internship>> captor = ArgumentCaptor.forClass(Specification.class);
+        verify(internshipRepository).findAll(captor.capture(), eq(pageable));
+        return captor.getValue();
     }
 
     @Test
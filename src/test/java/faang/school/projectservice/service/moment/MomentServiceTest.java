@@ -2,8 +2,8 @@ package faang.school.projectservice.service.moment;
 
 import faang.school.projectservice.dto.moment.MomentDto;
 import faang.school.projectservice.dto.moment.MomentFilterDto;
-import faang.school.projectservice.exception.EntityNotFoundException;
 import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.filter.FilterExecutor;
 import faang.school.projectservice.filter.moment.MomentDateFilter;
 import faang.school.projectservice.filter.moment.MomentProjectsFilter;
 import faang.school.projectservice.mapper.moment.MomentMapper;
@@ -12,14 +12,26 @@ import faang.school.projectservice.model.Moment;
 import faang.school.projectservice.model.Project;
 import faang.school.projectservice.model.ProjectStatus;
 import faang.school.projectservice.repository.MomentRepository;
+import faang.school.projectservice.service.MomentService;
 import faang.school.projectservice.service.project.ProjectService;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Arrays;
 import java.util.List;
@@ -31,6 +43,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -50,6 +63,21 @@ public class MomentServiceTest {
     @Mock
     private ProjectService projectService;
 
+    @Mock
+    private Specification<Moment> dateSpecification;
+
+    @Mock
+    private Root<Moment> root;
+
+    @Mock
+    private CriteriaQuery<?> query;
+
+    @Mock
+    private CriteriaBuilder cb;
+
+    @Mock
+    private Predicate datePredicate;
+
     @Test
     void createMomentNameNullTest() {
         MomentDto momentDto = new MomentDto();
@@ -146,21 +174,34 @@ public class MomentServiceTest {
         Moment moment2 = new Moment();
         moment1.setProjects(List.of(new Project()));
         moment2.setProjects(List.of(new Project()));
-        List<Moment> moments = Arrays.asList(moment1, moment2);
-        when(momentRepository.findAll()).thenReturn(moments);
+        Pageable pageable = PageRequest.of(2, 2);
+        Page<Moment> moments = new PageImpl<>(Arrays.asList(moment1, moment2), pageable, 6);
+        when(momentRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(moments);
 
         Filter<Moment, MomentFilterDto> dateFilter = Mockito.mock(MomentDateFilter.class);
         Filter<Moment, MomentFilterDto> projectsFilter = Mockito.mock(MomentProjectsFilter.class);
         List<Filter<Moment, MomentFilterDto>> filters = List.of(dateFilter, projectsFilter);
 
-        momentService = new MomentService(momentRepository, momentMapper, projectService, filters);
+        momentService = new MomentService(momentRepository, momentMapper, projectService, filters,
+                new FilterExecutor());
 
         MomentFilterDto momentFilterDto = new MomentFilterDto();
-        when(filters.get(0).isApplicable(eq(momentFilterDto))).thenReturn(true);
-        when(filters.get(0).apply(any(), eq(momentFilterDto))).thenReturn(moments.stream());
-
-        momentService.getMomentsByFilter(momentFilterDto);
-        verify(momentMapper, times(moments.size())).toDto(any(Moment.class));
+        when(dateFilter.isApplicable(eq(momentFilterDto))).thenReturn(true);
+        when(dateFilter.toSpecification(eq(momentFilterDto))).thenReturn(dateSpecification);
+
+        Page<MomentDto> result = momentService.getMomentsByFilter(momentFilterDto, pageable);
+
+        assertEquals(2, result.getContent().size());
+        assertEquals(6, result.getTotalElements());
+        assertEquals(2, result.getNumber());
+        verify(momentMapper, times(moments.getContent().size())).toDto(any(Moment.class));
+        verify(dateFilter, never()).apply(any(), any());
+        verify(projectsFilter, never()).toSpecification(any());
+
+        ArgumentCaptor<Specification<Moment>> specificationCaptor = ArgumentCaptor.forClass(Specification.class);
+        verify(momentRepository).findAll(specificationCaptor.capture(), eq(pageable));
+        when(dateSpecification.toPredicate(root, query, cb)).thenReturn(datePredicate);
+        assertEquals(datePredicate, specificationCaptor.getValue().toPredicate(root, query, cb));
     }
 
     @Test
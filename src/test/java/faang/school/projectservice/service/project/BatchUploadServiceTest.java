@@ -0,0 +1,179 @@
+package faang.school.projectservice.service.project;
+
+import faang.school.projectservice.dto.resource.BatchUploadResultDto;
+import faang.school.projectservice.exception.customexception.DataValidationException;
+import faang.school.projectservice.exception.customexception.FileUploadException;
+import faang.school.projectservice.exception.customexception.StorageExceededException;
+import faang.school.projectservice.model.Project;
+import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.model.ResourceBlob;
+import faang.school.projectservice.model.StorageReservation;
+import faang.school.projectservice.model.TeamMember;
+import faang.school.projectservice.service.TeamMemberService;
+import faang.school.projectservice.service.resource.FileDigest;
+import faang.school.projectservice.service.resource.ResourceBlobService;
+import faang.school.projectservice.service.resource.ResourceService;
+import faang.school.projectservice.service.storage_quota.StorageQuotaService;
+import faang.school.projectservice.validator.resource.ResourceValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchUploadServiceTest {
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private TeamMemberService teamMemberService;
+
+    @Mock
+    private ResourceService resourceService;
+
+    @Mock
+    private ResourceValidator resourceValidator;
+
+    @Mock
+    private ResourceBlobService resourceBlobService;
+
+    @Mock
+    private StorageQuotaService storageQuotaService;
+
+    private BatchUploadService batchUploadService;
+
+    private final MockMultipartFile first = new MockMultipartFile("files", "a.txt", "text/plain", "aaaa".getBytes());
+    private final MockMultipartFile second = new MockMultipartFile("files", "b.txt", "text/plain", "bbbbbb".getBytes());
+    private final FileDigest firstDigest = new FileDigest("sha-a", 1L);
+    private final FileDigest secondDigest = new FileDigest("sha-b", 2L);
+    private final StorageReservation reservation = StorageReservation.builder().id(7L).projectId(1L).build();
+
+    @BeforeEach
+    void setUp() {
+        batchUploadService = new BatchUploadService(projectService, teamMemberService,
+                resourceService, resourceValidator, resourceBlobService, storageQuotaService, new SyncTaskExecutor());
+        ReflectionTestUtils.setField(batchUploadService, "maxFiles", 10);
+        ReflectionTestUtils.setField(batchUploadService, "maxConcurrentUploads", 2);
+    }
+
+    @Test
+    void uploadFilesReservesOnceAndSavesAllResourcesTest() {
+        mockLookups();
+        when(resourceBlobService.digest(first)).thenReturn(firstDigest);
+        when(resourceBlobService.digest(second)).thenReturn(secondDigest);
+        when(resourceBlobService.findByDigest(any())).thenReturn(Optional.empty());
+        when(storageQuotaService.reserve(1L, 10L)).thenReturn(reservation);
+        when(resourceBlobService.acquire(first, firstDigest)).thenReturn(blob(1L));
+        when(resourceBlobService.acquire(second, secondDigest)).thenReturn(blob(2L));
+        when(storageQuotaService.commit(eq(reservation), anyList(), eq(0L))).thenAnswer(this::saveWithIds);
+
+        List<BatchUploadResultDto> results = batchUploadService.uploadFiles(1L, 2L, List.of(first, second));
+
+        assertTrue(results.get(0).isUploaded());
+        assertEquals(100L, results.get(0).getResourceId());
+        assertTrue(results.get(1).isUploaded());
+        assertEquals(101L, results.get(1).getResourceId());
+        verify(teamMemberService, times(1)).getTeamMemberRole(2L);
+        verify(storageQuotaService, times(1)).reserve(anyLong(), anyLong());
+        verify(projectService, never()).updateProject(any());
+    }
+
+    @Test
+    void uploadFilesReportsFailedFileAndReleasesItsStorageTest() {
+        mockLookups();
+        when(resourceBlobService.digest(first)).thenReturn(firstDigest);
+        when(resourceBlobService.digest(second)).thenReturn(secondDigest);
+        when(resourceBlobService.findByDigest(any())).thenReturn(Optional.empty());
+        when(storageQuotaService.reserve(1L, 10L)).thenReturn(reservation);
+        when(resourceBlobService.acquire(first, firstDigest)).thenReturn(blob(1L));
+        when(resourceBlobService.acquire(second, secondDigest)).thenThrow(new FileUploadException("S3 is down"));
+        when(storageQuotaService.commit(eq(reservation), anyList(), eq(6L))).thenAnswer(this::saveWithIds);
+
+        List<BatchUploadResultDto> results = batchUploadService.uploadFiles(1L, 2L, List.of(first, second));
+
+        assertTrue(results.get(0).isUploaded());
+        assertFalse(results.get(1).isUploaded());
+        assertEquals("S3 is down", results.get(1).getError());
+    }
+
+    @Test
+    void uploadFilesReservesDuplicateContentOnceTest() {
+        MockMultipartFile copy = new MockMultipartFile("files", "copy.txt", "text/plain", "aaaa".getBytes());
+        mockLookups();
+        when(resourceBlobService.digest(first)).thenReturn(firstDigest);
+        when(resourceBlobService.digest(copy)).thenReturn(firstDigest);
+        when(resourceBlobService.findByDigest(firstDigest)).thenReturn(Optional.empty());
+        when(storageQuotaService.reserve(1L, 4L)).thenReturn(reservation);
+        when(resourceBlobService.acquire(any(MultipartFile.class), eq(firstDigest))).thenReturn(blob(1L));
+        when(storageQuotaService.commit(eq(reservation), anyList(), eq(0L))).thenAnswer(this::saveWithIds);
+
+        List<BatchUploadResultDto> results = batchUploadService.uploadFiles(1L, 2L, List.of(first, copy));
+
+        assertTrue(results.get(0).isUploaded());
+        assertTrue(results.get(1).isUploaded());
+    }
+
+    @Test
+    void uploadFilesFailsWhenBatchExceedsQuotaTest() {
+        mockLookups();
+        when(resourceBlobService.digest(first)).thenReturn(firstDigest);
+        when(resourceBlobService.findByDigest(firstDigest)).thenReturn(Optional.empty());
+        when(storageQuotaService.reserve(1L, 4L)).thenThrow(new StorageExceededException("Storage quota exceeded"));
+
+        assertThrows(StorageExceededException.class, () -> batchUploadService.uploadFiles(1L, 2L, List.of(first)));
+
+        verify(resourceBlobService, never()).acquire(any(), any());
+    }
+
+    @Test
+    void uploadFilesRejectsEmptyBatchTest() {
+        assertThrows(DataValidationException.class, () -> batchUploadService.uploadFiles(1L, 2L, List.of()));
+    }
+
+    private void mockLookups() {
+        when(projectService.findById(1L)).thenReturn(Project.builder()
+                .id(1L)
+                .maxStorageSize(BigInteger.valueOf(1000))
+                .build());
+        when(teamMemberService.findById(2L)).thenReturn(TeamMember.builder().id(2L).build());
+        when(teamMemberService.getTeamMemberRole(2L)).thenReturn(new ArrayList<>());
+    }
+
+    private ResourceBlob blob(Long id) {
+        return ResourceBlob.builder().id(id).key("blobs/" + id).build();
+    }
+
+    private List<Resource> saveWithIds(InvocationOnMock invocation) {
+        List<Resource> resources = invocation.getArgument(1);
+        long id = 100;
+        for (Resource resource : resources) {
+            resource.setId(id++);
+        }
+        return resources;
+    }
+}
@@ -1,22 +1,34 @@
 package faang.school.projectservice.service.project;
 
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
-import faang.school.projectservice.mapper.project.ProjectMapper;
-import faang.school.projectservice.mapper.project.ProjectMapperImpl;
+import faang.school.projectservice.dto.resource.ResourceFilterDto;
+import faang.school.projectservice.model.ImageRenditions;
 import faang.school.projectservice.model.Project;
 import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.model.ResourceBlob;
 import faang.school.projectservice.model.ResourceStatus;
 import faang.school.projectservice.model.ResourceType;
+import faang.school.projectservice.model.StorageReservation;
 import faang.school.projectservice.model.TeamMember;
 import faang.school.projectservice.service.amazonclient.AmazonClientService;
+import faang.school.projectservice.service.archive_cache.ProjectArchiveService;
+import faang.school.projectservice.service.file_cache.FileCacheService;
+import faang.school.projectservice.service.file_streaming.ArchiveFormat;
+import faang.school.projectservice.service.file_streaming.FileRangeSource;
+import faang.school.projectservice.service.file_streaming.ZipEntrySource;
+import faang.school.projectservice.service.image_rendition.ImageRenditionService;
+import faang.school.projectservice.service.resource.FileDigest;
+import faang.school.projectservice.service.resource.ResourceBlobService;
 import faang.school.projectservice.service.resource.ResourceService;
 import faang.school.projectservice.service.teammember.TeamMemberService;
+import faang.school.projectservice.service.storage_gc.ObjectDeletionService;
+import faang.school.projectservice.service.storage_quota.StorageQuotaService;
 import faang.school.projectservice.validator.resource.ResourceValidator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 
@@ -24,15 +36,25 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -43,6 +65,27 @@ class ProjectFilesServiceTest {
     @Mock
     private AmazonClientService amazonClientService;
 
+    @Mock
+    private FileCacheService fileCacheService;
+
+    @Mock
+    private ResourceBlobService resourceBlobService;
+
+    @Mock
+    private StorageQuotaService storageQuotaService;
+
+    @Mock
+    private ImageRenditionService imageRenditionService;
+
+    @Mock
+    private ProjectPresentationService projectPresentationService;
+
+    @Mock
+    private ObjectDeletionService objectDeletionService;
+
+    @Mock
+    private ProjectArchiveService projectArchiveService;
+
     @Mock
     private ResourceService resourceService;
 
@@ -52,23 +95,21 @@ class ProjectFilesServiceTest {
     @Mock
     private ProjectService projectService;
 
-    @Spy
-    private ProjectMapper projectMapper = new ProjectMapperImpl();
-
     @Mock
     private TeamMemberService teamMemberService;
 
     @InjectMocks
     ProjectFilesService projectFilesService;
 
+    @TempDir
+    private Path tempDir;
+
     @Test
     public void uploadFileTest() {
         long teamMemberId = 1;
         long projectId = 1;
-        String folder = "1name";
         String key = "key";
         BigInteger maxStorageSize = new BigInteger("1000");
-        BigInteger currentStorageSize = new BigInteger("0");
         MockMultipartFile file = new MockMultipartFile("file", "test.txt",
                 "text/plain", "This is a test".getBytes());
         Project project = Project.builder()
@@ -78,36 +119,43 @@ class ProjectFilesServiceTest {
                 .maxStorageSize(maxStorageSize)
                 .description("description")
                 .build();
-        Project savingProject = Project.builder()
-                .id(projectId)
-                .name("name")
-                .storageSize(currentStorageSize.add(BigInteger.valueOf(file.getSize())))
-                .maxStorageSize(maxStorageSize)
-                .description("description")
-                .build();
         TeamMember teamMember = TeamMember.builder()
                 .roles(new ArrayList<>())
                 .build();
+        FileDigest digest = new FileDigest("sha256", 0L);
+        ResourceBlob blob = ResourceBlob.builder()
+                .id(1L)
+                .key(key)
+                .crc32(0L)
+                .build();
         Resource updatedResource = Resource.builder()
                 .name(file.getOriginalFilename())
                 .key(key)
                 .size(BigInteger.valueOf(file.getSize()))
+                .crc32(0L)
+                .blob(blob)
                 .allowedRoles(new ArrayList<>())
                 .type(ResourceType.getResourceType(file.getContentType()))
                 .status(ResourceStatus.ACTIVE)
                 .createdBy(teamMember)
                 .updatedBy(teamMember)
-                .project(savingProject)
+                .project(project)
+                .build();
+        StorageReservation reservation = StorageReservation.builder()
+                .id(1L)
+                .projectId(projectId)
+                .size(file.getSize())
                 .build();
 
         doNothing().when(resourceValidator).validateFileSizeNotBigger2Gb(file.getSize());
         when(projectService.getProjectById(projectId)).thenReturn(project);
         doNothing().when(resourceValidator).
                 validateMaxStorageSizeIsNotNull(maxStorageSize);
-        doNothing().when(resourceValidator).validateStorageSizeNotExceeded(maxStorageSize,
-                currentStorageSize.add(BigInteger.valueOf(file.getSize())));
+        when(storageQuotaService.reserve(projectId, file.getSize())).thenReturn(reservation);
         when(teamMemberService.findById(teamMemberId)).thenReturn(teamMember);
-        when(amazonClientService.uploadFile(file, folder)).thenReturn(key);
+        when(resourceBlobService.digest(file)).thenReturn(digest);
+        when(resourceBlobService.findByDigest(digest)).thenReturn(Optional.empty());
+        when(resourceBlobService.acquire(file, digest)).thenReturn(blob);
 
         projectFilesService.uploadFile(projectId, teamMemberId, file);
 
@@ -115,13 +163,12 @@ class ProjectFilesServiceTest {
         verify(projectService, times(1)).getProjectById(projectId);
         verify(resourceValidator, times(1)).
                 validateMaxStorageSizeIsNotNull(maxStorageSize);
-        verify(resourceValidator, times(1)).validateStorageSizeNotExceeded(
-                maxStorageSize, currentStorageSize.add(BigInteger.valueOf(file.getSize())));
+        verify(storageQuotaService, times(1)).reserve(projectId, file.getSize());
         verify(teamMemberService, times(1)).findById(teamMemberId);
-        verify(amazonClientService, times(1)).uploadFile(file, folder);
-        verify(projectService, times(1)).
-                updateProject(projectMapper.toDto(savingProject));
-        verify(resourceService, times(1)).save(updatedResource);
+        verify(resourceBlobService, times(1)).acquire(file, digest);
+        verify(projectService, never()).updateProject(any());
+        verify(storageQuotaService, times(1)).commit(reservation, updatedResource);
+        verify(storageQuotaService, never()).release(reservation);
     }
 
     @Test
@@ -137,12 +184,12 @@ class ProjectFilesServiceTest {
         S3ObjectInputStream s3ObjectInputStream = new S3ObjectInputStream(mockInputStream, null);
 
         when(resourceService.getResource(resourceId)).thenReturn(resource);
-        when(amazonClientService.downloadFile(key)).thenReturn(s3ObjectInputStream);
+        when(fileCacheService.downloadFile(key)).thenReturn(s3ObjectInputStream);
 
         InputStream result = projectFilesService.downloadFile(resourceId);
 
         verify(resourceService, times(1)).getResource(resourceId);
-        verify(amazonClientService, times(1)).downloadFile(key);
+        verify(fileCacheService, times(1)).downloadFile(key);
 
         String resultContent = new String(result.readAllBytes());
         assertNotNull(result);
@@ -154,7 +201,7 @@ class ProjectFilesServiceTest {
         long projectId = 1L;
         long resourceId1 = 1L;
         long resourceId2 = 1L;
-        long resourceId3 = 1L;
+        long resourceId3 = 3L;
         String name1 = "file1.txt";
         String name2 = "file2.txt";
         String name3 = "file3.txt";
@@ -182,41 +229,129 @@ class ProjectFilesServiceTest {
                 .key(key3)
                 .status(ResourceStatus.ACTIVE)
                 .build();
-        Project project = Project.builder()
-                .id(projectId)
-                .resources(List.of(resource1, resource2, resource3))
+        ResourceFilterDto filter = ResourceFilterDto.builder()
+                .types(List.of(ResourceType.TEXT))
                 .build();
 
-        Map<String, String> filesNamesWithKeys = new HashMap<>();
-        filesNamesWithKeys.put(resourceId1 + name1, key1);
-        filesNamesWithKeys.put(resourceId3 + name3, key3);
-
         ByteArrayInputStream mockInputStream1 = new ByteArrayInputStream(content1.getBytes());
         S3ObjectInputStream s3ObjectInputStream1 = new S3ObjectInputStream(mockInputStream1, null);
         ByteArrayInputStream mockInputStream3 = new ByteArrayInputStream(content3.getBytes());
         S3ObjectInputStream s3ObjectInputStream3 = new S3ObjectInputStream(mockInputStream3, null);
 
-        Map<String, S3ObjectInputStream> namesWithS3ObjectInputStreams = new HashMap<>();
-        namesWithS3ObjectInputStreams.put(name1, s3ObjectInputStream1);
-        namesWithS3ObjectInputStreams.put(name3, s3ObjectInputStream3);
+        when(resourceService.findActiveByProjectId(projectId, filter)).thenReturn(List.of(resource1, resource3));
+        when(amazonClientService.downloadFile(key1)).thenReturn(s3ObjectInputStream1);
+        when(amazonClientService.downloadFile(key3)).thenReturn(s3ObjectInputStream3);
+        when(projectArchiveService.fingerprint(List.of(resource1, resource3))).thenReturn("fingerprint");
+        when(projectArchiveService.find(projectId, "fingerprint")).thenReturn(Optional.empty());
 
-        when(projectService.getProjectById(projectId)).thenReturn(project);
-        when(amazonClientService.downloadAllFiles(filesNamesWithKeys)).thenReturn(namesWithS3ObjectInputStreams);
+        BulkDownload download = projectFilesService.downloadAllFiles(projectId, filter);
+        List<ZipEntrySource> result = download.files();
 
-        Map<String, InputStream> result = projectFilesService.downloadAllFiles(projectId);
+        verify(amazonClientService, never()).downloadFile(key1);
+        assertNull(download.storedArchive());
+        assertNotNull(result);
+        assertEquals(2, result.size());
+        assertEquals(resourceId1 + name1, result.get(0).name());
+        assertEquals(resourceId3 + name3, result.get(1).name());
+        assertEquals(content1, new String(result.get(0).content().get().readAllBytes()));
+        assertEquals(content3, new String(result.get(1).content().get().readAllBytes()));
+        verify(amazonClientService, never()).downloadFile(key2);
+    }
 
-        String resultContent1 = new String(result.get(name1).readAllBytes());
-        String resultContent3 = new String(result.get(name3).readAllBytes());
+    @Test
+    public void getArchiveSourceUsesDataDescriptorForMissingCrc32Test() throws IOException {
+        long projectId = 1L;
+        byte[] content = "content1".getBytes();
+        CRC32 crc32 = new CRC32();
+        crc32.update(content);
+        Resource resource = Resource.builder()
+                .id(1L)
+                .name("file1.txt")
+                .key("key1")
+                .size(BigInteger.valueOf(content.length))
+                .status(ResourceStatus.ACTIVE)
+                .build();
 
-        verify(projectService, times(1)).getProjectById(projectId);
-        verify(amazonClientService, times(1)).downloadAllFiles(filesNamesWithKeys);
+        when(resourceService.findActiveByProjectId(projectId, null)).thenReturn(List.of(resource));
+        when(amazonClientService.downloadFileRange("key1", 0L, content.length - 1L))
+                .thenReturn(new S3ObjectInputStream(new ByteArrayInputStream(content), null));
+
+        FileRangeSource archive = projectFilesService.getArchiveSource(projectId, ArchiveFormat.ZIP, null);
+
+        assertFalse(archive.rangeable());
+        verify(amazonClientService, never()).downloadFile(anyString());
+        Path file = tempDir.resolve("archive.zip");
+        try (InputStream archiveStream = archive.rangeReader().apply(0L, archive.length() - 1)) {
+            Files.write(file, archiveStream.readAllBytes());
+        }
+        try (ZipFile zipFile = new ZipFile(file.toFile())) {
+            ZipEntry entry = zipFile.getEntry("1file1.txt");
+            assertEquals(crc32.getValue(), entry.getCrc());
+            assertEquals("content1", new String(zipFile.getInputStream(entry).readAllBytes()));
+        }
+    }
 
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertTrue(result.containsKey(name1));
-        assertTrue(result.containsKey(name3));
-        assertEquals(content1, resultContent1);
-        assertEquals(content3, resultContent3);
+    @Test
+    public void deleteFileKeepsSharedBlobTest() {
+        long resourceId = 1L;
+        long teamMemberId = 1L;
+        long projectId = 1L;
+        ResourceBlob blob = ResourceBlob.builder()
+                .id(5L)
+                .key("blobs/sha256/key")
+                .build();
+        TeamMember teamMember = TeamMember.builder()
+                .id(teamMemberId)
+                .build();
+        Project project = Project.builder()
+                .id(projectId)
+                .build();
+        Resource resource = Resource.builder()
+                .id(resourceId)
+                .size(new BigInteger("10"))
+                .key(blob.getKey())
+                .blob(blob)
+                .status(ResourceStatus.ACTIVE)
+                .project(project)
+                .build();
+
+        when(resourceService.findById(resourceId)).thenReturn(resource);
+        when(teamMemberService.findById(teamMemberId)).thenReturn(teamMember);
+        when(projectService.findById(projectId)).thenReturn(project);
+        when(resourceService.isBlobReferencedInProject(projectId, blob.getId(), resourceId)).thenReturn(true);
+
+        projectFilesService.deleteFile(resourceId, teamMemberId);
+
+        assertNull(resource.getBlob());
+        verify(storageQuotaService, times(1)).releaseStorage(projectId, 0L);
+        verify(objectDeletionService, never()).schedule(any());
+        verify(resourceBlobService, times(1)).release(blob);
+        verify(fileCacheService, times(1)).evict(blob.getKey());
+    }
+
+    @Test
+    public void removeImageFromProjectGalleryEvictsCachedKeysTest() {
+        String fileKey = "1project/gallery/image.jpg";
+        ImageRenditions renditions = ImageRenditions.builder()
+                .thumbnailKey("1project/gallery/image-thumbnail.jpg")
+                .mediumKey("1project/gallery/image-medium.jpg")
+                .fullKey(fileKey)
+                .build();
+        Project project = Project.builder()
+                .id(1L)
+                .galleryFileKeys(new ArrayList<>(List.of(fileKey, "1project/gallery/other.jpg")))
+                .galleryRenditions(new HashMap<>(Map.of(fileKey, renditions)))
+                .build();
+        when(projectService.findById(1L)).thenReturn(project);
+
+        projectFilesService.removeImageFromProjectGallery(1L, fileKey);
+
+        assertEquals(List.of("1project/gallery/other.jpg"), project.getGalleryFileKeys());
+        verify(objectDeletionService).schedule(fileKey);
+        verify(imageRenditionService).deleteRenditions(renditions, fileKey);
+        verify(fileCacheService).evict(fileKey);
+        verify(fileCacheService).evict("1project/gallery/image-thumbnail.jpg");
+        verify(fileCacheService).evict("1project/gallery/image-medium.jpg");
     }
 
     @Test
@@ -234,10 +369,6 @@ class ProjectFilesServiceTest {
                 .id(projectId)
                 .storageSize(storageSize)
                 .build();
-        Project updatedProject = Project.builder()
-                .id(projectId)
-                .storageSize(storageSize.subtract(resourceSize))
-                .build();
         Resource resource = Resource.builder()
                 .id(resourceId)
                 .size(resourceSize)
@@ -261,8 +392,10 @@ class ProjectFilesServiceTest {
 
         projectFilesService.deleteFile(resourceId, teamMemberId);
 
-        verify(amazonClientService, times(1)).deleteFile(key);
-        verify(projectService, times(1)).updateProject(projectMapper.toDto(updatedProject));
+        verify(objectDeletionService, times(1)).schedule(key);
+        verify(amazonClientService, never()).deleteFile(any());
+        verify(projectService, never()).updateProject(any());
         verify(resourceService, times(1)).save(updatedResource);
+        verify(storageQuotaService, times(1)).releaseStorage(projectId, resourceSize.longValue());
     }
 }
\ No newline at end of file
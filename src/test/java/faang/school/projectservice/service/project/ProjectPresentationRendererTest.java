@@ -0,0 +1,132 @@
+package faang.school.projectservice.service.project;
+
+import faang.school.projectservice.model.Project;
+import faang.school.projectservice.model.ProjectStatus;
+import faang.school.projectservice.model.TaskStatus;
+import faang.school.projectservice.model.TeamMember;
+import faang.school.projectservice.repository.TaskRepository;
+import faang.school.projectservice.service.TeamMemberService;
+import faang.school.projectservice.service.file_cache.FileCacheService;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectPresentationRendererTest {
+
+    private static final int BATCH_SIZE = 40;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TeamMemberService teamMemberService;
+
+    @Mock
+    private FileCacheService fileCacheService;
+
+    @InjectMocks
+    private ProjectPresentationRenderer projectPresentationRenderer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ReflectionTestUtils.setField(projectPresentationRenderer, "maxMainMemoryBytes", 1024L);
+        ReflectionTestUtils.setField(projectPresentationRenderer, "taskBatchSize", BATCH_SIZE);
+        when(fileCacheService.downloadFile("cover")).thenReturn(new ByteArrayInputStream(coverImage()));
+        when(teamMemberService.findById(2L)).thenReturn(TeamMember.builder().nickname("owner").build());
+    }
+
+    @Test
+    void renderPaginatesCompletedTasksTest() throws IOException {
+        List<TaskRepository.TaskRow> rows = LongStream.rangeClosed(1, 100).mapToObj(this::row).toList();
+        when(taskRepository.findRowsAfter(eq(1L), eq(TaskStatus.DONE), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    long afterId = invocation.getArgument(2);
+                    return rows.stream().filter(row -> row.getId() > afterId).limit(BATCH_SIZE).toList();
+                });
+        when(taskRepository.countByProjectId(1L)).thenReturn(100L);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        projectPresentationRenderer.render(project(), outputStream);
+
+        try (PDDocument document = PDDocument.load(outputStream.toByteArray())) {
+            assertTrue(document.getNumberOfPages() > 1);
+        }
+        verify(taskRepository, times(3)).findRowsAfter(eq(1L), eq(TaskStatus.DONE), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void renderProjectWithoutTasksTest() throws IOException {
+        when(taskRepository.findRowsAfter(eq(1L), eq(TaskStatus.DONE), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        projectPresentationRenderer.render(project(), outputStream);
+
+        try (PDDocument document = PDDocument.load(outputStream.toByteArray())) {
+            assertEquals(1, document.getNumberOfPages());
+        }
+    }
+
+    private TaskRepository.TaskRow row(long id) {
+        return new TaskRepository.TaskRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return "task " + id;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return LocalDateTime.of(2024, 1, 1, 0, 0);
+            }
+        };
+    }
+
+    private Project project() {
+        return Project.builder()
+                .id(1L)
+                .name("name")
+                .description("description")
+                .status(ProjectStatus.IN_PROGRESS)
+                .ownerId(2L)
+                .coverImageId("cover")
+                .teams(new ArrayList<>())
+                .build();
+    }
+
+    private byte[] coverImage() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
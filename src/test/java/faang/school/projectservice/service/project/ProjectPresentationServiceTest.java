@@ -0,0 +1,98 @@
+package faang.school.projectservice.service.project;
+
+import faang.school.projectservice.model.Project;
+import faang.school.projectservice.model.ProjectStatus;
+import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import faang.school.projectservice.service.storage_gc.ObjectDeletionService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectPresentationServiceTest {
+
+    private static final String NEW_KEY = "1name/presentation/1presentation.pdf";
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private ProjectPresentationRenderer projectPresentationRenderer;
+
+    @Mock
+    private AmazonClientService amazonClient;
+
+    @Mock
+    private ObjectDeletionService objectDeletionService;
+
+    @InjectMocks
+    private ProjectPresentationService projectPresentationService;
+
+    @Test
+    void getPresentationKeyReturnsStoredPresentationTest() {
+        Project project = project("stored.pdf", LocalDateTime.now());
+        when(projectService.findById(1L)).thenReturn(project);
+
+        assertEquals("stored.pdf", projectPresentationService.getPresentationKey(1L));
+
+        verify(amazonClient, never()).uploadFile(any(File.class), anyString(), anyString());
+    }
+
+    @Test
+    void getPresentationKeyRegeneratesInvalidatedPresentationTest() throws IOException {
+        Project project = project("old.pdf", null);
+        mockGeneration(project);
+        when(projectService.storePresentation(eq(1L), eq(3L), eq(NEW_KEY), any())).thenReturn(true);
+
+        assertEquals(NEW_KEY, projectPresentationService.getPresentationKey(1L));
+
+        verify(projectPresentationRenderer).render(eq(project), any(OutputStream.class));
+        verify(amazonClient).uploadFile(any(File.class), eq(NEW_KEY), eq("application/pdf"));
+        verify(objectDeletionService).schedule("old.pdf");
+    }
+
+    @Test
+    void getPresentationKeyDoesNotStorePresentationOfChangedProjectTest() {
+        Project project = project("old.pdf", null);
+        mockGeneration(project);
+        when(projectService.storePresentation(eq(1L), eq(3L), eq(NEW_KEY), any())).thenReturn(false);
+
+        assertEquals(NEW_KEY, projectPresentationService.getPresentationKey(1L));
+
+        verify(objectDeletionService, never()).schedule("old.pdf");
+    }
+
+    private void mockGeneration(Project project) {
+        when(projectService.findById(1L)).thenReturn(project);
+        when(amazonClient.generateKey("1name/presentation", "presentation.pdf")).thenReturn(NEW_KEY);
+    }
+
+    private Project project(String presentationFileKey, LocalDateTime presentationGeneratedAt) {
+        return Project.builder()
+                .id(1L)
+                .name("name")
+                .description("description")
+                .status(ProjectStatus.IN_PROGRESS)
+                .ownerId(2L)
+                .coverImageId("cover")
+                .presentationFileKey(presentationFileKey)
+                .presentationGeneratedAt(presentationGeneratedAt)
+                .presentationVersion(3L)
+                .build();
+    }
+}
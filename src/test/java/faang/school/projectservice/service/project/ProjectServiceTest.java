@@ -2,33 +2,44 @@ package faang.school.projectservice.service.project;
 
 import faang.school.projectservice.dto.project.ProjectDto;
 import faang.school.projectservice.dto.project.ProjectFilterDto;
+import faang.school.projectservice.dto.project.ProjectUpdateDto;
+import faang.school.projectservice.event_drive.redis.publisher.ProjectCreateEventPublisher;
 import faang.school.projectservice.event.ProjectEvent;
 import faang.school.projectservice.exception.AlreadyExistsException;
-import faang.school.projectservice.exception.EntityNotFoundException;
-import faang.school.projectservice.filter.Filter;
-import faang.school.projectservice.filter.project.ProjectNameFilter;
-import faang.school.projectservice.filter.project.ProjectStatusFilter;
-import faang.school.projectservice.jpa.ProjectJpaRepository;
+import faang.school.projectservice.exception.customexception.DataValidationException;
 import faang.school.projectservice.mapper.project.ProjectMapper;
+import faang.school.projectservice.model.ImageRenditions;
 import faang.school.projectservice.model.Project;
 import faang.school.projectservice.model.ProjectStatus;
 import faang.school.projectservice.model.ProjectVisibility;
 import faang.school.projectservice.publisher.impl.ProjectEventPublisher;
+import faang.school.projectservice.repository.ProjectRepository;
 import faang.school.projectservice.service.amazonclient.AmazonClientService;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +48,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyChar;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -47,7 +64,7 @@ public class ProjectServiceTest {
     private static final String PROJECT = "Project";
 
     @Mock
-    private ProjectJpaRepository projectRepository;
+    private ProjectRepository projectRepository;
 
     @Mock
     private AmazonClientService amazonClient;
@@ -58,18 +75,59 @@ public class ProjectServiceTest {
     @Spy
     private ProjectMapper projectMapper = Mappers.getMapper(ProjectMapper.class);
 
-    private final List<Filter<Project,ProjectFilterDto>> projectFilters = new ArrayList<>();
+    @Mock
+    private ProjectCreateEventPublisher projectCreateEventPublisher;
+
+    @Mock
+    private Root<Project> root;
+
+    @Mock
+    private CriteriaQuery<?> query;
+
+    @Mock
+    private CriteriaBuilder cb;
+
+    @Mock
+    private Path<Object> visibilityPath;
+
+    @Mock
+    private Path<Object> ownerIdPath;
+
+    @Mock
+    private Path<String> namePath;
+
+    @Mock
+    private Path<Object> statusPath;
+
+    @Mock
+    private Expression<String> lowerName;
+
+    @Mock
+    private Predicate publicPredicate;
+
+    @Mock
+    private Predicate ownerPredicate;
+
+    @Mock
+    private Predicate visiblePredicate;
+
+    @Mock
+    private Predicate namePredicate;
+
+    @Mock
+    private Predicate statusPredicate;
+
+    @Mock
+    private Predicate visibleNamePredicate;
+
+    @Mock
+    private Predicate matchingPredicate;
 
-    @InjectMocks
     private ProjectService projectService;
 
     @BeforeEach
     public void setUp() {
-        projectFilters.add(new ProjectNameFilter());
-        projectFilters.add(new ProjectStatusFilter());
-
-        projectService = new ProjectService(projectMapper, projectFilters,
-                projectRepository, amazonClient, projectEventPublisher);
+        projectService = new ProjectService(projectRepository, projectMapper, projectCreateEventPublisher);
     }
 
     @Test
@@ -112,7 +170,7 @@ public class ProjectServiceTest {
 
     @Test
     public void findAllProjectsTest() {
-        Project project1 = Project.builder()
+        ProjectUpdateDto project1 = ProjectUpdateDto.builder()
                 .id(1L)
                 .name("Project1")
                 .ownerId(1L)
@@ -120,80 +178,128 @@ public class ProjectServiceTest {
                 .visibility(ProjectVisibility.PUBLIC)
                 .description("Description1")
                 .build();
+        ProjectFilterDto filters = new ProjectFilterDto("Project1", ProjectStatus.CREATED);
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("name"));
+        when(projectRepository.findUpdateDtos(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(project1), pageable, 3));
+
+        Page<ProjectUpdateDto> result = projectService.findAllProjects(filters, 1L, pageable);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(project1.getId(), result.getContent().get(0).getId());
+        assertEquals(3, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
+
+        stubVisibility(1L);
+        doReturn(namePath).when(root).get("name");
+        doReturn(statusPath).when(root).get("status");
+        when(cb.lower(namePath)).thenReturn(lowerName);
+        when(cb.like(lowerName, "%project1%", '\\')).thenReturn(namePredicate);
+        when(cb.equal(statusPath, ProjectStatus.CREATED)).thenReturn(statusPredicate);
+        when(cb.and(visiblePredicate, namePredicate)).thenReturn(visibleNamePredicate);
+        when(cb.and(visibleNamePredicate, statusPredicate)).thenReturn(matchingPredicate);
+
+        assertEquals(matchingPredicate, captureSpecification(pageable).toPredicate(root, query, cb));
+    }
 
-        Project project2 = Project.builder()
-                .id(2L)
-                .name("Project2")
-                .ownerId(2L)
-                .status(ProjectStatus.IN_PROGRESS)
-                .visibility(ProjectVisibility.PRIVATE)
-                .description("Description2")
-                .build();
+    @Test
+    public void findAllProjectsNoFilterTest() {
+        ProjectUpdateDto project1 = ProjectUpdateDto.builder().id(1L).name("Project1").build();
+        ProjectUpdateDto project2 = ProjectUpdateDto.builder().id(2L).name("Project2").build();
+        ProjectFilterDto filters = new ProjectFilterDto(null, null);
+        Pageable pageable = PageRequest.of(0, 20);
+        when(projectRepository.findUpdateDtos(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(project1, project2), pageable, 2));
 
-        ProjectFilterDto filters = new ProjectFilterDto("Project1", ProjectStatus.CREATED);
-        when(projectRepository.findAll()).thenReturn(List.of(project1, project2));
+        Page<ProjectUpdateDto> result = projectService.findAllProjects(filters, 1L, pageable);
+
+        assertEquals(List.of(1L, 2L), result.getContent().stream().map(ProjectUpdateDto::getId).toList());
+        assertEquals(2, result.getTotalElements());
+        assertEquals(1, result.getTotalPages());
 
-        List<ProjectDto> result = projectService.findAllProjects(filters, 1L);
+        stubVisibility(1L);
 
-        assertEquals(1, result.size());
-        assertEquals(project1.getId(), result.get(0).getId());
+        assertEquals(visiblePredicate, captureSpecification(pageable).toPredicate(root, query, cb));
+        verify(cb, never()).like(any(), anyString(), anyChar());
     }
 
     @Test
-    public void findAllProjectsNoFilterTest() {
-        Project project1 = Project.builder()
-                .id(1L)
-                .name("Project1")
-                .ownerId(1L)
-                .status(ProjectStatus.CREATED)
-                .visibility(ProjectVisibility.PUBLIC)
-                .description("Description1")
-                .build();
+    public void findAllProjectsNoMatchingFilterTest() {
+        ProjectFilterDto filters = new ProjectFilterDto("NonExistingProjectName", ProjectStatus.COMPLETED);
+        Pageable pageable = PageRequest.of(0, 20);
+        when(projectRepository.findUpdateDtos(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(), pageable, 0));
 
-        Project project2 = Project.builder()
-                .id(2L)
-                .name("Project2")
-                .ownerId(2L)
-                .status(ProjectStatus.IN_PROGRESS)
-                .visibility(ProjectVisibility.PRIVATE)
-                .description("Description2")
-                .build();
+        Page<ProjectUpdateDto> result = projectService.findAllProjects(filters, 1L, pageable);
 
-        ProjectFilterDto filters = new ProjectFilterDto(null, null);
-        when(projectRepository.findAll()).thenReturn(List.of(project1, project2));
+        assertTrue(result.isEmpty());
+        assertEquals(0, result.getTotalElements());
+    }
 
-        List<ProjectDto> result = projectService.findAllProjects(filters, 1L);
+    @Test
+    public void findAllProjectsUnsortablePropertyTest() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("ownerId"));
 
-        assertEquals(1, result.size());
-        assertEquals(project1.getId(), result.get(0).getId());
+        assertThrows(DataValidationException.class,
+                () -> projectService.findAllProjects(new ProjectFilterDto(null, null), 1L, pageable));
+        verify(projectRepository, never()).findUpdateDtos(any(), any());
     }
 
     @Test
-    public void findAllProjectsNoMatchingFilterTest() {
-        Project project1 = Project.builder()
-                .id(1L)
-                .name("Project1")
-                .ownerId(1L)
-                .status(ProjectStatus.CREATED)
-                .visibility(ProjectVisibility.PUBLIC)
-                .description("Description1")
-                .build();
+    public void searchProjectsKeepsRelevanceOrderTest() {
+        PageRequest ranking = PageRequest.of(1, 3);
+        when(projectRepository.searchIds("green energy", "%green energy%", 1L, ranking))
+                .thenReturn(new PageImpl<>(List.of(5L, 2L, 9L), ranking, 8));
+        when(projectRepository.findUpdateDtos(any(Specification.class), eq(Pageable.unpaged())))
+                .thenReturn(new PageImpl<>(List.of(searchResult(2L), searchResult(9L), searchResult(5L))));
+
+        Page<ProjectUpdateDto> result = projectService.searchProjects("  Green Energy ", 1L,
+                PageRequest.of(1, 3, Sort.by("name")));
+
+        assertEquals(List.of(5L, 2L, 9L), result.getContent().stream().map(ProjectUpdateDto::getId).toList());
+        assertEquals(8, result.getTotalElements());
+        assertEquals(1, result.getNumber());
+    }
 
-        Project project2 = Project.builder()
-                .id(2L)
-                .name("Project2")
-                .ownerId(2L)
-                .status(ProjectStatus.IN_PROGRESS)
-                .visibility(ProjectVisibility.PRIVATE)
-                .description("Description2")
-                .build();
+    @Test
+    public void searchProjectsEscapesLikeWildcardsTest() {
+        PageRequest ranking = PageRequest.of(0, 20);
+        when(projectRepository.searchIds("50%_off", "%50\\%\\_off%", 1L, ranking))
+                .thenReturn(new PageImpl<>(List.of(4L), ranking, 2));
+        when(projectRepository.findUpdateDtos(any(Specification.class), eq(Pageable.unpaged())))
+                .thenReturn(new PageImpl<>(List.of()));
 
-        ProjectFilterDto filters = new ProjectFilterDto("NonExistingProjectName", ProjectStatus.COMPLETED);
-        when(projectRepository.findAll()).thenReturn(List.of(project1, project2));
+        Page<ProjectUpdateDto> result = projectService.searchProjects("50%_OFF", 1L, ranking);
 
-        List<ProjectDto> result = projectService.findAllProjects(filters, 1L);
+        assertTrue(result.getContent().isEmpty());
+        assertEquals(2, result.getTotalElements());
+    }
 
-        assertTrue(result.isEmpty());
+    @Test
+    public void searchProjectsWithBlankQueryTest() {
+        assertThrows(DataValidationException.class,
+                () -> projectService.searchProjects(" ", 1L, PageRequest.of(0, 20)));
+
+        verify(projectRepository, never()).searchIds(any(), any(), any(), any());
+    }
+
+    private ProjectUpdateDto searchResult(Long id) {
+        return ProjectUpdateDto.builder().id(id).name(PROJECT + id).build();
+    }
+
+    private void stubVisibility(Long userId) {
+        doReturn(visibilityPath).when(root).get("visibility");
+        doReturn(ownerIdPath).when(root).get("ownerId");
+        when(cb.equal(visibilityPath, ProjectVisibility.PUBLIC)).thenReturn(publicPredicate);
+        when(cb.equal(ownerIdPath, userId)).thenReturn(ownerPredicate);
+        when(cb.or(publicPredicate, ownerPredicate)).thenReturn(visiblePredicate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Specification<Project> captureSpecification(Pageable pageable) {
+        ArgumentCaptor<Specification<Project>> captor = ArgumentCaptor.forClass(Specification.class);
+        verify(projectRepository).findUpdateDtos(captor.capture(), eq(pageable));
+        return captor.getValue();
     }
 
     @Test
@@ -408,4 +514,43 @@ public class ProjectServiceTest {
 
         assertEquals("1.png", result.getCoverImageId());
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateCoverRenditionsUpdatesOnlyRenditionColumnsTest() {
+        ImageRenditions renditions = new ImageRenditions("thumbnail.jpg", "medium.jpg", "full.jpg");
+        when(projectRepository.updateCoverRenditions(1L, "cover.jpg", "thumbnail.jpg", "medium.jpg", "full.jpg"))
+                .thenReturn(1);
+
+        assertTrue(projectService.updateCoverRenditions(1L, "cover.jpg", renditions));
+        verify(projectRepository, never()).findById(any());
+        verify(projectRepository, never()).save(any());
+    }
+
+    @Test
+    void updateCoverRenditionsOfReplacedCoverTest() {
+        ImageRenditions renditions = new ImageRenditions("thumbnail.jpg", "medium.jpg", "full.jpg");
+        when(projectRepository.updateCoverRenditions(1L, "cover.jpg", "thumbnail.jpg", "medium.jpg", "full.jpg"))
+                .thenReturn(0);
+
+        assertFalse(projectService.updateCoverRenditions(1L, "cover.jpg", renditions));
+    }
+
+    @Test
+    void updateGalleryRenditionsUpsertsRenditionRowTest() {
+        ImageRenditions renditions = new ImageRenditions("thumbnail.jpg", "medium.jpg", "full.jpg");
+        when(projectRepository.upsertGalleryRenditions(1L, "image.jpg", "thumbnail.jpg", "medium.jpg", "full.jpg"))
+                .thenReturn(1);
+
+        assertTrue(projectService.updateGalleryRenditions(1L, "image.jpg", renditions));
+        verify(projectRepository, never()).save(any());
+    }
+
+    @Test
+    void updateGalleryRenditionsOfRemovedImageTest() {
+        ImageRenditions renditions = new ImageRenditions("thumbnail.jpg", "medium.jpg", "full.jpg");
+        when(projectRepository.upsertGalleryRenditions(1L, "image.jpg", "thumbnail.jpg", "medium.jpg", "full.jpg"))
+                .thenReturn(0);
+
+        assertFalse(projectService.updateGalleryRenditions(1L, "image.jpg", renditions));
+    }
+}
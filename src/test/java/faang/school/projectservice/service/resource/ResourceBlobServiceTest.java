@@ -0,0 +1,125 @@
+package faang.school.projectservice.service.resource;
+
+import faang.school.projectservice.model.ResourceBlob;
+import faang.school.projectservice.repository.ResourceBlobRepository;
+import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import faang.school.projectservice.service.storage_gc.ObjectDeletionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceBlobServiceTest {
+
+    private static final String CONTENT_SHA256 = "b94d27b9934d3e08a52e52d7da7dabfac484efe37a5380ee9088f7ace2efcde9";
+
+    @Mock
+    private ResourceBlobRepository resourceBlobRepository;
+
+    @Mock
+    private AmazonClientService amazonClient;
+
+    @Mock
+    private ObjectDeletionService objectDeletionService;
+
+    @InjectMocks
+    private ResourceBlobService resourceBlobService;
+
+    private final MockMultipartFile file =
+            new MockMultipartFile("file", "test.txt", "text/plain", "hello world".getBytes());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(resourceBlobService, "multipartUploadThreshold", 1024L);
+    }
+
+    @Test
+    void digestTest() {
+        FileDigest digest = resourceBlobService.digest(file);
+
+        assertEquals(CONTENT_SHA256, digest.sha256());
+        assertEquals(0x0D4A1185L, digest.crc32());
+    }
+
+    @Test
+    void acquireReusesExistingBlobTest() {
+        FileDigest digest = resourceBlobService.digest(file);
+        ResourceBlob blob = ResourceBlob.builder().id(1L).key("blobs/key").build();
+        when(resourceBlobRepository.findBySha256(CONTENT_SHA256)).thenReturn(Optional.of(blob));
+        when(resourceBlobRepository.incrementReferenceCount(1L)).thenReturn(1);
+
+        assertSame(blob, resourceBlobService.acquire(file, digest));
+
+        verify(amazonClient, never()).uploadFile(any(), anyString());
+    }
+
+    @Test
+    void acquireUploadsNewBlobTest() {
+        FileDigest digest = resourceBlobService.digest(file);
+        when(resourceBlobRepository.findBySha256(CONTENT_SHA256)).thenReturn(Optional.empty());
+        when(amazonClient.uploadFile(file, "blobs/" + CONTENT_SHA256)).thenReturn("blobs/key");
+        when(resourceBlobRepository.save(any(ResourceBlob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ResourceBlob blob = resourceBlobService.acquire(file, digest);
+
+        assertEquals("blobs/key", blob.getKey());
+        assertEquals(1, blob.getReferenceCount());
+        assertEquals(file.getSize(), blob.getSize());
+    }
+
+    @Test
+    void acquireRetriesWhenBlobStoredConcurrentlyTest() {
+        FileDigest digest = resourceBlobService.digest(file);
+        ResourceBlob blob = ResourceBlob.builder().id(1L).key("blobs/other").build();
+        when(resourceBlobRepository.findBySha256(CONTENT_SHA256))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(blob));
+        when(amazonClient.uploadFile(file, "blobs/" + CONTENT_SHA256)).thenReturn("blobs/key");
+        when(resourceBlobRepository.save(any(ResourceBlob.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate sha256"));
+        when(resourceBlobRepository.incrementReferenceCount(1L)).thenReturn(1);
+
+        assertSame(blob, resourceBlobService.acquire(file, digest));
+
+        verify(objectDeletionService, times(1)).schedule("blobs/key");
+    }
+
+    @Test
+    void releaseDeletesLastReferenceTest() {
+        ResourceBlob blob = ResourceBlob.builder().id(1L).key("blobs/key").build();
+        when(resourceBlobRepository.deleteIfUnreferenced(1L)).thenReturn(1);
+
+        resourceBlobService.release(blob);
+
+        verify(resourceBlobRepository, times(1)).decrementReferenceCount(1L);
+        verify(objectDeletionService, times(1)).schedule("blobs/key");
+        verify(amazonClient, never()).deleteFile(any());
+    }
+
+    @Test
+    void releaseKeepsReferencedBlobTest() {
+        ResourceBlob blob = ResourceBlob.builder().id(1L).key("blobs/key").build();
+        when(resourceBlobRepository.deleteIfUnreferenced(1L)).thenReturn(0);
+
+        resourceBlobService.release(blob);
+
+        verify(objectDeletionService, never()).schedule(any());
+    }
+}
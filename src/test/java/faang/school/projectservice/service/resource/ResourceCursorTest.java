@@ -0,0 +1,27 @@
+package faang.school.projectservice.service.resource;
+
+import faang.school.projectservice.exception.customexception.DataValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResourceCursorTest {
+
+    @Test
+    void decodeReturnsEncodedPositionTest() {
+        ResourceCursor cursor = new ResourceCursor(LocalDateTime.of(2024, 5, 1, 10, 15, 30, 123456000), 42L);
+
+        ResourceCursor decoded = ResourceCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void decodeRejectsMalformedCursorTest() {
+        assertThrows(DataValidationException.class, () -> ResourceCursor.decode("not a cursor"));
+        assertThrows(DataValidationException.class, () -> ResourceCursor.decode("MjAyNA"));
+    }
+}
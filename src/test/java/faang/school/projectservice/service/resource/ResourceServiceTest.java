@@ -2,7 +2,9 @@ package faang.school.projectservice.service.resource;
 
 import faang.school.projectservice.exception.EntityNotFoundException;
 import faang.school.projectservice.jpa.ResourceRepository;
+import faang.school.projectservice.mapper.resource.ResourceMapper;
 import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.service.archive_cache.ProjectArchiveService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -23,6 +25,12 @@ class ResourceServiceTest {
     @Mock
     ResourceRepository resourceRepository;
 
+    @Mock
+    ProjectArchiveService projectArchiveService;
+
+    @Mock
+    ResourceMapper resourceMapper;
+
     @InjectMocks
     ResourceService resourceService;
 
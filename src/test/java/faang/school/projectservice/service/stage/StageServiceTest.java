@@ -4,10 +4,10 @@ import faang.school.projectservice.dto.stage.ActionWithTaskDto;
 import faang.school.projectservice.dto.stage.StageDeleteDto;
 import faang.school.projectservice.dto.stage.StageDto;
 import faang.school.projectservice.dto.stage.StageFilterDto;
-import faang.school.projectservice.exception.EntityNotFoundException;
-import faang.school.projectservice.filter.stage.StageFilter;
-import faang.school.projectservice.jpa.StageJpaRepository;
-import faang.school.projectservice.jpa.StageRolesRepository;
+import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.filter.FilterExecutor;
+import faang.school.projectservice.filter.stage.StageTaskStatusFilter;
+import faang.school.projectservice.filter.stage.StageTeamRoleFilter;
 import faang.school.projectservice.mapper.stage.StageMapperImpl;
 import faang.school.projectservice.model.Project;
 import faang.school.projectservice.model.Task;
@@ -21,17 +21,34 @@ import faang.school.projectservice.model.stage_invitation.StageInvitation;
 import faang.school.projectservice.model.stage_invitation.StageInvitationStatus;
 import faang.school.projectservice.repository.ProjectRepository;
 import faang.school.projectservice.repository.StageInvitationRepository;
+import faang.school.projectservice.repository.StageRepository;
+import faang.school.projectservice.repository.StageRolesRepository;
+import faang.school.projectservice.service.StageService;
+import faang.school.projectservice.service.TeamMemberService;
 import faang.school.projectservice.service.project.ProjectService;
-import faang.school.projectservice.service.teammember.TeamMemberService;
 import faang.school.projectservice.validator.stage.StageValidator;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
 import java.util.List;
@@ -43,7 +60,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -57,7 +76,7 @@ public class StageServiceTest {
     private ProjectService projectService;
 
     @Mock
-    private StageJpaRepository stageRepository;
+    private StageRepository stageRepository;
 
     @Mock
     private ProjectRepository projectRepository;
@@ -78,10 +97,34 @@ public class StageServiceTest {
     private StageValidator stageValidator;
 
     @Mock
-    private StageFilter stageFilter;
+    private Root<Stage> root;
 
     @Mock
-    List<StageFilter> filters;
+    private CriteriaQuery<?> query;
+
+    @Mock
+    private CriteriaBuilder cb;
+
+    @Mock
+    private Join<Object, Object> tasksJoin;
+
+    @Mock
+    private Join<Object, Object> stageRolesJoin;
+
+    @Mock
+    private Path<Object> taskStatusPath;
+
+    @Mock
+    private Path<Object> teamRolePath;
+
+    @Mock
+    private Predicate taskStatusPredicate;
+
+    @Mock
+    private Predicate teamRolePredicate;
+
+    @Mock
+    private Predicate combinedPredicate;
 
     private Stage stage;
     private StageDto stageDto;
@@ -95,9 +138,10 @@ public class StageServiceTest {
         stageFilterDto = StageFilterDto.builder()
                 .build();
 
-        stageFilter = mock(StageFilter.class);
-
-        filters = List.of(stageFilter);
+        List<Filter<Stage, StageFilterDto>> stageFilters =
+                List.of(new StageTaskStatusFilter(), new StageTeamRoleFilter());
+        ReflectionTestUtils.setField(stageService, "stageFilters", stageFilters);
+        ReflectionTestUtils.setField(stageService, "filterExecutor", new FilterExecutor());
 
         List<TeamMember> teamMembers = List.of(
                 TeamMember.builder()
@@ -167,7 +211,7 @@ public class StageServiceTest {
     public void checkCreateStageSuccessTest() {
         when(stageRolesRepository.findAllById(stageDto.getStageRolesId()))
                 .thenReturn(stage.getStageRoles());
-        when(projectService.getProjectById(stageDto.getProjectId()))
+        when(projectService.findById(stageDto.getProjectId()))
                 .thenReturn(stage.getProject());
         when(teamMemberService.findAllById(stageDto.getExecutorsId()))
                 .thenReturn(stage.getExecutors());
@@ -193,6 +237,7 @@ public class StageServiceTest {
                 .taskStatusPattern("todo")
                 .teamRolePattern("owner")
                 .build();
+        Pageable pageable = PageRequest.of(0, 2);
 
         Stage firstFilter = Stage.builder()
                 .tasks(List.of(Task.builder().status(TaskStatus.TODO).build()))
@@ -206,16 +251,29 @@ public class StageServiceTest {
                 .executors(Collections.emptyList())
                 .build();
 
-        List<Stage> stageList = List.of(firstFilter, secondFilter);
+        when(stageRepository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(firstFilter, secondFilter), pageable, 5));
+
+        Page<StageDto> result = stageService.getStageByFilter(filterDto, pageable);
 
-        when(stageRepository.findAll())
-                .thenReturn(stageList);
+        assertEquals(2, result.getContent().size());
+        assertEquals(5, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
 
-        List<StageDto> result = stageService.getStageByFilter(filterDto);
+        ArgumentCaptor<Specification<Stage>> specificationCaptor = ArgumentCaptor.forClass(Specification.class);
+        verify(stageRepository).findAll(specificationCaptor.capture(), eq(pageable));
+        verify(stageRepository, never()).findAll();
 
-        assertNotNull(result);
+        doReturn(tasksJoin).when(root).join("tasks");
+        doReturn(taskStatusPath).when(tasksJoin).get("status");
+        when(taskStatusPath.in(List.of(TaskStatus.TODO))).thenReturn(taskStatusPredicate);
+        doReturn(stageRolesJoin).when(root).join("stageRoles");
+        doReturn(teamRolePath).when(stageRolesJoin).get("teamRole");
+        when(teamRolePath.in(List.of(TeamRole.OWNER))).thenReturn(teamRolePredicate);
+        when(cb.and(taskStatusPredicate, teamRolePredicate)).thenReturn(combinedPredicate);
 
-        verify(stageRepository, times(1)).findAll();
+        assertEquals(combinedPredicate, specificationCaptor.getValue().toPredicate(root, query, cb));
+        verify(query, times(2)).distinct(true);
     }
 
     @Test
@@ -347,7 +405,7 @@ public class StageServiceTest {
     @Test
     @DisplayName("Verification of successful receipt of all stages of the project")
     public void checkGetStagesByProjectSuccessTest() {
-        when(projectService.getProjectById(anyLong()))
+        when(projectService.findById(anyLong()))
                 .thenReturn(project);
         when(stageMapper.toDto(stage))
                 .thenReturn(stageDto);
@@ -357,7 +415,7 @@ public class StageServiceTest {
         assertNotNull(stageDtoList);
 
         verify(projectService, times(1))
-                .getProjectById(project.getId());
+                .findById(project.getId());
     }
 
     @Test
@@ -383,13 +441,13 @@ public class StageServiceTest {
         stage.setStageId(id);
         when(stageRepository.findById(id)).thenReturn(Optional.of(stage));
 
-        assertDoesNotThrow(() -> stageService.getStageEntity(id));
+        assertDoesNotThrow(() -> stageService.findById(id));
     }
 
     @Test
     public void throwsException() {
         long id = 1L;
 
-        assertThrows(EntityNotFoundException.class, () -> stageService.getStageEntity(id));
+        assertThrows(EntityNotFoundException.class, () -> stageService.findById(id));
     }
 }
\ No newline at end of file
@@ -3,22 +3,27 @@ package faang.school.projectservice.service.stageInvitation;
 import faang.school.projectservice.dto.stage_invitation.StageInvitationDto;
 import faang.school.projectservice.dto.stage_invitation.StageInvitationFilterDto;
 import faang.school.projectservice.dto.stage_invitation.StageInvitationRejectDto;
-import faang.school.projectservice.exception.DataValidationException;
-import faang.school.projectservice.exception.EntityNotFoundException;
+import faang.school.projectservice.exception.customexception.DataValidationException;
 import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.filter.FilterExecutor;
 import faang.school.projectservice.filter.stage_invitation.StageInvitationDescriptionFilter;
 import faang.school.projectservice.filter.stage_invitation.StageInvitationStageNameFilter;
-import faang.school.projectservice.jpa.StageInvitationJpaRepository;
-import faang.school.projectservice.mapper.stageInvitation.StageInvitationMapper;
-import faang.school.projectservice.mapper.stageInvitation.StageInvitationMapperImpl;
+import faang.school.projectservice.mapper.stage_invitation.StageInvitationMapper;
+import faang.school.projectservice.mapper.stage_invitation.StageInvitationMapperImpl;
 import faang.school.projectservice.model.TeamMember;
 import faang.school.projectservice.model.stage.Stage;
 import faang.school.projectservice.model.stage_invitation.StageInvitation;
 import faang.school.projectservice.model.stage_invitation.StageInvitationStatus;
-import faang.school.projectservice.service.stage.StageService;
-import faang.school.projectservice.service.teammember.TeamMemberService;
+import faang.school.projectservice.repository.StageInvitationRepository;
+import faang.school.projectservice.service.StageService;
+import faang.school.projectservice.service.TeamMemberService;
 import faang.school.projectservice.validator.stage_invitation.StageInvitationValidator;
 import faang.school.projectservice.validator.team_member.TeamMemberValidator;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,6 +31,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -36,7 +46,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -47,7 +59,7 @@ class StageInvitationServiceTest {
     StageInvitationMapper stageInvitationMapper;
 
     @Mock
-    StageInvitationJpaRepository repository;
+    StageInvitationRepository repository;
 
     @Mock
     StageInvitationValidator stageInvValidator;
@@ -74,7 +86,7 @@ class StageInvitationServiceTest {
         List<Filter<StageInvitation, StageInvitationFilterDto>> filters = new ArrayList<>(
                 List.of(mockDescriptionFilter, mockStageNameFilter));
 
-        service = new StageInvitationService(filters, stageInvitationMapper, repository,
+        service = new StageInvitationService(filters, new FilterExecutor(), stageInvitationMapper, repository,
                 stageInvValidator, teamMemberValidator, teamMemberService, stageService);
     }
 
@@ -102,7 +114,7 @@ class StageInvitationServiceTest {
                 thenReturn(author);
         when(teamMemberService.findById(dto.getInvitedId())).
                 thenReturn(invited);
-        when(stageService.getStageEntity(dto.getStageId())).
+        when(stageService.findById(dto.getStageId())).
                 thenReturn(stage);
 
         service.sendStageInvitation(dto);
@@ -249,9 +261,11 @@ class StageInvitationServiceTest {
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void getStageInvitationsWithFiltersAppliedTest() {
         long invitedId = 1L;
         StageInvitationFilterDto filterDto = new StageInvitationFilterDto();
+        Pageable pageable = PageRequest.of(0, 2);
 
         TeamMember invitedMember = new TeamMember();
         invitedMember.setId(invitedId);
@@ -266,21 +280,33 @@ class StageInvitationServiceTest {
         StageInvitationDto dto2 = new StageInvitationDto();
         dto2.setInvitedId(invitedId);
 
-        when(repository.findAll()).thenReturn(List.of(invitation1, invitation2));
+        Specification<StageInvitation> descriptionSpecification = mock(Specification.class);
+        ArgumentCaptor<Specification<StageInvitation>> captor = ArgumentCaptor.forClass(Specification.class);
         when(mockDescriptionFilter.isApplicable(filterDto)).thenReturn(true);
         when(mockStageNameFilter.isApplicable(filterDto)).thenReturn(false);
-        when(mockDescriptionFilter.apply(any(), eq(filterDto)))
-                .thenAnswer(invocations -> invocations.getArgument(0));
-
-        List<StageInvitationDto> result = service.getStageInvitations(invitedId, filterDto);
-
-        verify(repository).findAll();
-        verify(mockDescriptionFilter).isApplicable(filterDto);
-        verify(mockStageNameFilter).isApplicable(filterDto);
-        verify(mockDescriptionFilter).apply(any(), eq(filterDto));
-
-        assertEquals(2, result.size());
-        assertEquals(dto1, result.get(0));
-        assertEquals(dto2, result.get(1));
+        when(mockDescriptionFilter.toSpecification(filterDto)).thenReturn(descriptionSpecification);
+        when(repository.findAll(captor.capture(), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(invitation1, invitation2), pageable, 5));
+
+        Page<StageInvitationDto> result = service.getStageInvitations(invitedId, filterDto, pageable);
+
+        verify(mockDescriptionFilter, never()).apply(any(), any());
+        verify(mockStageNameFilter, never()).toSpecification(any());
+        assertEquals(List.of(dto1, dto2), result.getContent());
+        assertEquals(5, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
+
+        Root<StageInvitation> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Path<Object> invited = mock(Path.class);
+        Path<Object> invitedIdPath = mock(Path.class);
+        doReturn(invited).when(root).get("invited");
+        doReturn(invitedIdPath).when(invited).get("id");
+
+        captor.getValue().toPredicate(root, query, cb);
+
+        verify(cb).equal(invitedIdPath, invitedId);
+        verify(descriptionSpecification).toPredicate(root, query, cb);
     }
-}
\ No newline at end of file
+}
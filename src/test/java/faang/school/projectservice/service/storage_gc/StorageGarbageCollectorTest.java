@@ -0,0 +1,149 @@
+package faang.school.projectservice.service.storage_gc;
+
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import faang.school.projectservice.exception.customexception.FileDeleteException;
+import faang.school.projectservice.model.ObjectDeletion;
+import faang.school.projectservice.service.amazon_client.AmazonClientService;
+import faang.school.projectservice.service.file_cache.FileCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StorageGarbageCollectorTest {
+
+    @Mock
+    private ObjectDeletionService objectDeletionService;
+
+    @Mock
+    private AmazonClientService amazonClient;
+
+    @Mock
+    private FileCacheService fileCacheService;
+
+    @InjectMocks
+    private StorageGarbageCollector storageGarbageCollector;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(storageGarbageCollector, "keyPrefix", "project-service");
+        ReflectionTestUtils.setField(storageGarbageCollector, "batchSize", 2);
+        ReflectionTestUtils.setField(storageGarbageCollector, "maxAttempts", 5);
+        ReflectionTestUtils.setField(storageGarbageCollector, "orphanMinAgeHours", 24L);
+    }
+
+    @Test
+    void collectDeletesQueuedKeysInBatchesTest() {
+        when(objectDeletionService.findPendingAfter(0L, 5, 2)).thenReturn(List.of(deletion(1L, "a"), deletion(2L, "b")));
+        when(objectDeletionService.findPendingAfter(2L, 5, 2)).thenReturn(List.of(deletion(3L, "c")));
+        when(objectDeletionService.findPendingAfter(3L, 5, 2)).thenReturn(List.of());
+        when(objectDeletionService.findReferencedKeys(anyList())).thenReturn(List.of());
+        when(amazonClient.deleteFiles(List.of("a", "b"))).thenReturn(List.of("b"));
+        when(amazonClient.deleteFiles(List.of("c"))).thenReturn(List.of());
+
+        storageGarbageCollector.collect();
+
+        verify(objectDeletionService).complete(List.of("a"));
+        verify(objectDeletionService).retry(List.of("b"));
+        verify(objectDeletionService).complete(List.of("c"));
+        verify(fileCacheService).evict("a");
+        verify(fileCacheService, never()).evict("b");
+    }
+
+    @Test
+    void collectKeepsObjectsReferencedAgainTest() {
+        when(objectDeletionService.findPendingAfter(0L, 5, 2)).thenReturn(List.of(deletion(1L, "a")));
+        when(objectDeletionService.findPendingAfter(1L, 5, 2)).thenReturn(List.of());
+        when(objectDeletionService.findReferencedKeys(List.of("a"))).thenReturn(List.of("a"));
+
+        storageGarbageCollector.collect();
+
+        verify(objectDeletionService).complete(List.of("a"));
+        verify(amazonClient, never()).deleteFiles(anyList());
+    }
+
+    @Test
+    void collectRetriesBatchWhenS3FailsTest() {
+        when(objectDeletionService.findPendingAfter(0L, 5, 2)).thenReturn(List.of(deletion(1L, "a")));
+        when(objectDeletionService.findPendingAfter(1L, 5, 2)).thenReturn(List.of());
+        when(objectDeletionService.findReferencedKeys(List.of("a"))).thenReturn(List.of());
+        when(amazonClient.deleteFiles(List.of("a"))).thenThrow(new FileDeleteException("S3 is down"));
+
+        storageGarbageCollector.collect();
+
+        verify(objectDeletionService).retry(List.of("a"));
+        verify(fileCacheService, never()).evict(anyString());
+    }
+
+    @Test
+    void scanOrphansSchedulesOldUnreferencedObjectsTest() {
+        Instant old = Instant.now().minus(2, ChronoUnit.DAYS);
+        ListObjectsV2Result page = new ListObjectsV2Result();
+        page.getObjectSummaries().add(summary("project-service/files/referenced", old));
+        page.getObjectSummaries().add(summary("project-service/files/orphan", old));
+        page.getObjectSummaries().add(summary("project-service/files/fresh", Instant.now()));
+        when(amazonClient.listFiles("project-service/", null, 1000)).thenReturn(page);
+        when(objectDeletionService.findReferencedKeys(
+                List.of("project-service/files/referenced", "project-service/files/orphan")))
+                .thenReturn(List.of("project-service/files/referenced"));
+
+        storageGarbageCollector.scanOrphans();
+
+        verify(objectDeletionService).scheduleAll(List.of("project-service/files/orphan"));
+    }
+
+    @Test
+    void scanOrphansNeverSchedulesKeysOutsidePrefixTest() {
+        Instant old = Instant.now().minus(2, ChronoUnit.DAYS);
+        ListObjectsV2Result page = new ListObjectsV2Result();
+        page.getObjectSummaries().add(summary("billing-service/invoices/1.pdf", old));
+        page.getObjectSummaries().add(summary("project-service-old/files/2.txt", old));
+        page.getObjectSummaries().add(summary("project-service/files/orphan", old));
+        when(amazonClient.listFiles("project-service/", null, 1000)).thenReturn(page);
+        when(objectDeletionService.findReferencedKeys(List.of("project-service/files/orphan")))
+                .thenReturn(List.of());
+
+        storageGarbageCollector.scanOrphans();
+
+        verify(objectDeletionService).scheduleAll(List.of("project-service/files/orphan"));
+    }
+
+    @Test
+    void scanOrphansSkippedWithoutKeyPrefixTest() {
+        ReflectionTestUtils.setField(storageGarbageCollector, "keyPrefix", " ");
+
+        storageGarbageCollector.scanOrphans();
+
+        verify(amazonClient, never()).listFiles(any(), any(), anyInt());
+        verify(objectDeletionService, never()).scheduleAll(anyList());
+    }
+
+    private ObjectDeletion deletion(Long id, String key) {
+        return ObjectDeletion.builder().id(id).key(key).build();
+    }
+
+    private S3ObjectSummary summary(String key, Instant lastModified) {
+        S3ObjectSummary summary = new S3ObjectSummary();
+        summary.setKey(key);
+        summary.setLastModified(Date.from(lastModified));
+        return summary;
+    }
+}
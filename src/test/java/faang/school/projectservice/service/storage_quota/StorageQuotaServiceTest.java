@@ -0,0 +1,125 @@
+package faang.school.projectservice.service.storage_quota;
+
+import faang.school.projectservice.exception.customexception.StorageExceededException;
+import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.model.StorageReservation;
+import faang.school.projectservice.repository.ProjectRepository;
+import faang.school.projectservice.repository.StorageReservationRepository;
+import faang.school.projectservice.service.resource.ResourceService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StorageQuotaServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private StorageReservationRepository storageReservationRepository;
+
+    @Mock
+    private ResourceService resourceService;
+
+    @InjectMocks
+    private StorageQuotaService storageQuotaService;
+
+    private final StorageReservation reservation = StorageReservation.builder()
+            .id(7L)
+            .projectId(1L)
+            .size(100L)
+            .build();
+
+    @Test
+    void reserveTest() {
+        when(projectRepository.reserveStorage(1L, 100L)).thenReturn(1);
+        when(storageReservationRepository.save(any(StorageReservation.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        StorageReservation result = storageQuotaService.reserve(1L, 100L);
+
+        assertEquals(1L, result.getProjectId());
+        assertEquals(100L, result.getSize());
+    }
+
+    @Test
+    void reserveThrowsWhenQuotaExceededTest() {
+        when(projectRepository.reserveStorage(1L, 100L)).thenReturn(0);
+
+        assertThrows(StorageExceededException.class, () -> storageQuotaService.reserve(1L, 100L));
+
+        verify(storageReservationRepository, never()).save(any(StorageReservation.class));
+    }
+
+    @Test
+    void commitTest() {
+        Resource resource = Resource.builder().name("file").build();
+        when(storageReservationRepository.deleteReservation(7L)).thenReturn(1);
+
+        storageQuotaService.commit(reservation, resource);
+
+        verify(resourceService, times(1)).save(resource);
+        verify(storageReservationRepository, times(1)).deleteReservation(7L);
+        verify(projectRepository, never()).reserveStorage(anyLong(), anyLong());
+        verify(projectRepository, never()).releaseStorage(anyLong(), anyLong());
+    }
+
+    @Test
+    void commitExpiredReservationReservesAgainTest() {
+        Resource resource = Resource.builder().name("file").build();
+        when(storageReservationRepository.deleteReservation(7L)).thenReturn(0);
+        when(projectRepository.reserveStorage(1L, 100L)).thenReturn(1);
+
+        storageQuotaService.commit(reservation, resource);
+
+        verify(resourceService, times(1)).save(resource);
+        verify(projectRepository, times(1)).reserveStorage(1L, 100L);
+    }
+
+    @Test
+    void commitExpiredReservationThrowsWhenQuotaExceededTest() {
+        Resource resource = Resource.builder().name("file").build();
+        when(storageReservationRepository.deleteReservation(7L)).thenReturn(0);
+        when(projectRepository.reserveStorage(1L, 100L)).thenReturn(0);
+
+        assertThrows(StorageExceededException.class, () -> storageQuotaService.commit(reservation, resource));
+    }
+
+    @Test
+    void releaseTest() {
+        when(storageReservationRepository.deleteReservation(7L)).thenReturn(1);
+
+        storageQuotaService.release(reservation);
+
+        verify(projectRepository, times(1)).releaseStorage(1L, 100L);
+    }
+
+    @Test
+    void releaseIgnoresAlreadyReleasedReservationTest() {
+        when(storageReservationRepository.deleteReservation(7L)).thenReturn(0);
+
+        storageQuotaService.release(reservation);
+
+        verify(projectRepository, never()).releaseStorage(anyLong(), anyLong());
+    }
+
+    @Test
+    void reconcileTest() {
+        storageQuotaService.reconcile(1L);
+
+        verify(projectRepository, times(1)).lockStorageSize(1L);
+        verify(projectRepository, times(1)).reconcileStorageSize(1L);
+    }
+}
@@ -3,9 +3,8 @@ package faang.school.projectservice.service.task;
 import faang.school.projectservice.dto.task.CreateUpdateTaskDto;
 import faang.school.projectservice.dto.task.TaskDto;
 import faang.school.projectservice.dto.task.TaskFilterDto;
-import faang.school.projectservice.exception.EntityNotFoundException;
 import faang.school.projectservice.filter.Filter;
-import faang.school.projectservice.jpa.TaskRepository;
+import faang.school.projectservice.filter.FilterExecutor;
 import faang.school.projectservice.mapper.task.TaskMapper;
 import faang.school.projectservice.mapper.task.TaskMapperImpl;
 import faang.school.projectservice.model.Project;
@@ -13,11 +12,13 @@ import faang.school.projectservice.model.Task;
 import faang.school.projectservice.model.TaskStatus;
 import faang.school.projectservice.model.TeamMember;
 import faang.school.projectservice.model.stage.Stage;
+import faang.school.projectservice.repository.TaskRepository;
+import faang.school.projectservice.service.StageService;
+import faang.school.projectservice.service.TeamMemberService;
 import faang.school.projectservice.service.project.ProjectService;
-import faang.school.projectservice.service.stage.StageService;
-import faang.school.projectservice.service.teammember.TeamMemberService;
 import faang.school.projectservice.validator.task.TaskValidator;
 import faang.school.projectservice.validator.team_member.TeamMemberValidator;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,6 +26,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -35,6 +42,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -73,7 +81,7 @@ class TaskServiceTest {
         taskMapper = new TaskMapperImpl();
         List<Filter<Task, TaskFilterDto>> filters = new ArrayList<>(List.of(filter));
 
-        taskService = new TaskService(filters, taskRepository, taskMapper, taskValidator,
+        taskService = new TaskService(filters, new FilterExecutor(), taskRepository, taskMapper, taskValidator,
                 stageService, projectService, teamMemberService, teamMemberValidator);
     }
 
@@ -121,7 +129,7 @@ class TaskServiceTest {
 
         doNothing().when(taskValidator).validateTaskIdIsNull(taskDto.getId());
         when(teamMemberService.findById(teamMember.getId())).thenReturn(teamMember);
-        when(projectService.getProjectById(project.getId())).thenReturn(project);
+        when(projectService.findById(project.getId())).thenReturn(project);
         doNothing().when(teamMemberValidator).
                 validateIsTeamMemberParticipantOfProject(teamMember, project);
 
@@ -129,7 +137,7 @@ class TaskServiceTest {
                 thenReturn(Optional.ofNullable(parentTask));
         when(taskRepository.findById(taskDto.getLinkedTasksIds().get(0))).
                 thenReturn(Optional.of(linkedTask));
-        when(stageService.getStageEntity(taskDto.getStageId())).thenReturn(stage);
+        when(stageService.findById(taskDto.getStageId())).thenReturn(stage);
 
         taskService.createTask(taskDto, taskCreator);
 
@@ -192,7 +200,7 @@ class TaskServiceTest {
 
         doNothing().when(taskValidator).validateTaskIdIsNotNull(taskDto.getId());
         when(teamMemberService.findById(teamMember.getId())).thenReturn(teamMember);
-        when(projectService.getProjectById(project.getId())).thenReturn(project);
+        when(projectService.findById(project.getId())).thenReturn(project);
         doNothing().when(teamMemberValidator).
                 validateIsTeamMemberParticipantOfProject(teamMember, project);
 
@@ -200,7 +208,7 @@ class TaskServiceTest {
                 thenReturn(Optional.ofNullable(parentTask));
         when(taskRepository.findById(taskDto.getLinkedTasksIds().get(0))).
                 thenReturn(Optional.of(linkedTask));
-        when(stageService.getStageEntity(taskDto.getStageId())).thenReturn(stage);
+        when(stageService.findById(taskDto.getStageId())).thenReturn(stage);
 
         taskService.updateTask(taskDto, taskUpdater);
 
@@ -281,7 +289,7 @@ class TaskServiceTest {
 
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
         when(teamMemberService.findById(requesterId)).thenReturn(teamMember);
-        when(projectService.getProjectById(projectId)).thenReturn(project);
+        when(projectService.findById(projectId)).thenReturn(project);
         doNothing().when(teamMemberValidator).
                 validateIsTeamMemberParticipantOfProject(teamMember, project);
 
@@ -328,7 +336,8 @@ class TaskServiceTest {
                 .build();
 
         Task secondTask = Task.builder().build();
-        List<Task> tasks = new ArrayList<>(List.of(firstTask, secondTask));
+        Pageable pageable = PageRequest.of(1, 2);
+        Specification<Task> performerSpecification = (root, query, cb) -> null;
 
         TaskDto firstTaskDto = TaskDto.builder()
                 .id(1L)
@@ -348,23 +357,26 @@ class TaskServiceTest {
         List<TaskDto> listTaskDto = new ArrayList<>(List.of(firstTaskDto, secondTaskDto));
 
         when(teamMemberService.findById(requesterId)).thenReturn(teamMember);
-        when(projectService.getProjectById(projectId)).thenReturn(project);
+        when(projectService.findById(projectId)).thenReturn(project);
         doNothing().when(teamMemberValidator).
                 validateIsTeamMemberParticipantOfProject(teamMember, project);
-        when(taskRepository.findAllByProjectId(projectId)).
-                thenReturn(tasks);
         when(filter.isApplicable(taskFilterDto)).thenReturn(true);
-        when(filter.apply(any(), eq(taskFilterDto))).thenReturn(tasks.stream());
+        when(filter.toSpecification(taskFilterDto)).thenReturn(performerSpecification);
+        when(taskRepository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(firstTask, secondTask), pageable, 7));
 
-        List<TaskDto> result = taskService.getAllTasks(taskFilterDto, requesterId, projectId);
-        assertEquals(listTaskDto, result);
+        Page<TaskDto> result = taskService.getAllTasks(taskFilterDto, requesterId, projectId, pageable);
+        assertEquals(listTaskDto, result.getContent());
+        assertEquals(7, result.getTotalElements());
+        assertEquals(4, result.getTotalPages());
+        assertEquals(1, result.getNumber());
 
         verify(teamMemberService, times(1)).findById(requesterId);
-        verify(projectService, times(1)).getProjectById(projectId);
+        verify(projectService, times(1)).findById(projectId);
         verify(teamMemberValidator, times(1)).
                 validateIsTeamMemberParticipantOfProject(teamMember, project);
-        verify(taskRepository, times(1)).findAllByProjectId(projectId);
-        verify(filter, times(1)).apply(any(), eq(taskFilterDto));
-        verify(filter, times(1)).apply(any(), eq(taskFilterDto));
+        verify(filter, times(1)).toSpecification(taskFilterDto);
+        verify(filter, never()).apply(any(), any());
+        verify(taskRepository, never()).findAll(any(Specification.class), any(Sort.class));
     }
 }
\ No newline at end of file
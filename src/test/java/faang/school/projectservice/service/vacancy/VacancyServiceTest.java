@@ -2,8 +2,9 @@ package faang.school.projectservice.service.vacancy;
 
 import faang.school.projectservice.dto.vacancy.VacancyDto;
 import faang.school.projectservice.dto.vacancy.VacancyFilterDto;
-import faang.school.projectservice.exception.DataValidationException;
+import faang.school.projectservice.exception.customexception.DataValidationException;
 import faang.school.projectservice.filter.Filter;
+import faang.school.projectservice.filter.FilterExecutor;
 import faang.school.projectservice.filter.vacancy.VacancyNameFilter;
 import faang.school.projectservice.mapper.vacancy.VacancyMapper;
 import faang.school.projectservice.model.Candidate;
@@ -12,16 +13,29 @@ import faang.school.projectservice.model.TeamRole;
 import faang.school.projectservice.model.Vacancy;
 import faang.school.projectservice.model.VacancyStatus;
 import faang.school.projectservice.repository.VacancyRepository;
-import faang.school.projectservice.service.candidate.CandidateService;
-import faang.school.projectservice.service.teammember.TeamMemberService;
+import faang.school.projectservice.service.CandidateService;
+import faang.school.projectservice.service.TeamMemberService;
+import faang.school.projectservice.service.VacancyService;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -29,6 +43,9 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -48,6 +65,24 @@ public class VacancyServiceTest {
     @Mock
     private TeamMemberService teamMemberService;
 
+    @Mock
+    private Root<Vacancy> root;
+
+    @Mock
+    private CriteriaQuery<?> query;
+
+    @Mock
+    private CriteriaBuilder cb;
+
+    @Mock
+    private Path<String> namePath;
+
+    @Mock
+    private Expression<String> lowerName;
+
+    @Mock
+    private Predicate namePredicate;
+
     @InjectMocks
     private VacancyService vacancyService;
 
@@ -55,6 +90,7 @@ public class VacancyServiceTest {
     public void setUp() {
         List<Filter<Vacancy, VacancyFilterDto>> vacancyFilters = List.of(new VacancyNameFilter());
         ReflectionTestUtils.setField(vacancyService, "vacancyFilters", vacancyFilters);
+        ReflectionTestUtils.setField(vacancyService, "filterExecutor", new FilterExecutor());
     }
 
     @Test
@@ -166,19 +202,28 @@ public class VacancyServiceTest {
     @Test
     public void getVacanciesByFilterTest() {
         VacancyFilterDto nameFilter = new VacancyFilterDto("First");
+        Pageable pageable = PageRequest.of(0, 1);
         Vacancy firstVacancy = new Vacancy();
         firstVacancy.setId(1L);
         firstVacancy.setName("First vacancy");
-        Vacancy secondVacancy = new Vacancy();
-        secondVacancy.setId(2L);
-        secondVacancy.setName("Second vacancy");
-        when(vacancyRepository.findAll()).thenReturn(List.of(firstVacancy, secondVacancy));
+        when(vacancyRepository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(firstVacancy), pageable, 2));
+
+        Page<VacancyDto> vacanciesByFilter = vacancyService.getVacanciesByFilter(nameFilter, pageable);
+
+        assertEquals(1, vacanciesByFilter.getContent().size());
+        assertEquals(2, vacanciesByFilter.getTotalElements());
+        assertEquals(2, vacanciesByFilter.getTotalPages());
+        assertEquals(firstVacancy.getId(), vacanciesByFilter.getContent().get(0).getId());
+        assertEquals(firstVacancy.getName(), vacanciesByFilter.getContent().get(0).getName());
 
-        List<VacancyDto> vacanciesByFilter = vacancyService.getVacanciesByFilter(nameFilter);
+        ArgumentCaptor<Specification<Vacancy>> specificationCaptor = ArgumentCaptor.forClass(Specification.class);
+        verify(vacancyRepository).findAll(specificationCaptor.capture(), eq(pageable));
+        doReturn(namePath).when(root).get("name");
+        when(cb.lower(namePath)).thenReturn(lowerName);
+        when(cb.like(lowerName, "%first%", '\\')).thenReturn(namePredicate);
 
-        assertEquals(1, vacanciesByFilter.size());
-        assertEquals(firstVacancy.getId(), vacanciesByFilter.get(0).getId());
-        assertEquals(firstVacancy.getName(), vacanciesByFilter.get(0).getName());
+        assertEquals(namePredicate, specificationCaptor.getValue().toPredicate(root, query, cb));
     }
 
     @Test
@@ -1,16 +1,21 @@
 package faang.school.projectservice.task;
 
 import faang.school.projectservice.ProjectServiceApplicationTests;
+import faang.school.projectservice.controller.TaskController;
 import faang.school.projectservice.dto.task.CreateUpdateTaskDto;
 import faang.school.projectservice.dto.task.TaskDto;
 import faang.school.projectservice.dto.task.TaskFilterDto;
-import faang.school.projectservice.jpa.TaskRepository;
 import faang.school.projectservice.model.Task;
 import faang.school.projectservice.model.TaskStatus;
+import faang.school.projectservice.repository.TaskRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.jdbc.Sql;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
@@ -53,12 +58,16 @@ class TaskControllerIT extends ProjectServiceApplicationTests {
         long requesterId = 1L;
         TaskFilterDto taskFilterDto = TaskFilterDto.builder().build();
 
-        List<TaskDto> result = taskController.getAllTasks(taskFilterDto, projectId, requesterId);
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("id"));
+
+        Page<TaskDto> result = taskController.getAllTasks(taskFilterDto, projectId, requesterId, pageable).getBody();
 
         assertNotNull(result);
-        assertEquals(4, result.size());
-        assertEquals(1L, result.get(0).getId());
-        assertEquals(2L, result.get(1).getId());
+        assertEquals(4, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+        assertEquals(2, result.getContent().size());
+        assertEquals(1L, result.getContent().get(0).getId());
+        assertEquals(2L, result.getContent().get(1).getId());
     }
 
     @Test
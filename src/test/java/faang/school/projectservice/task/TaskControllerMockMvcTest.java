@@ -2,19 +2,25 @@ package faang.school.projectservice.task;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import faang.school.projectservice.config.context.UserContext;
+import faang.school.projectservice.controller.TaskController;
 import faang.school.projectservice.dto.task.CreateUpdateTaskDto;
 import faang.school.projectservice.dto.task.TaskDto;
 import faang.school.projectservice.dto.task.TaskFilterDto;
-import faang.school.projectservice.exception.EntityNotFoundException;
 import faang.school.projectservice.model.TaskStatus;
 import faang.school.projectservice.service.task.TaskService;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -24,13 +30,16 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TaskController.class)
@@ -172,18 +181,30 @@ public class TaskControllerMockMvcTest {
         long projectId = 1L;
         long requesterId = 1L;
 
-        when(taskService.getAllTasks(any(TaskFilterDto.class), eq(projectId), eq(requesterId)))
-                .thenReturn(List.of(taskDto));
+        when(taskService.getAllTasks(any(TaskFilterDto.class), eq(requesterId), eq(projectId), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(taskDto), PageRequest.of(1, 1, Sort.by("id")), 3));
 
         mockMvc.perform(
                         post("/tasks/filters")
                                 .header("x-team-member-id", requesterId)
                                 .param("projectId", String.valueOf(projectId))
+                                .param("page", "1")
+                                .param("size", "1")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(taskFilterDto))
                 )
                 .andExpect(status().isOk())
-                .andExpect(this::assertJsonArrayResponse);
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.totalPages").value(3))
+                .andExpect(jsonPath("$.number").value(1))
+                .andExpect(this::assertJsonPageResponse);
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(taskService).getAllTasks(any(TaskFilterDto.class), eq(requesterId), eq(projectId),
+                pageableCaptor.capture());
+        assertEquals(1, pageableCaptor.getValue().getPageNumber());
+        assertEquals(1, pageableCaptor.getValue().getPageSize());
+        assertEquals(Sort.by("id"), pageableCaptor.getValue().getSort());
     }
 
     private void assertJsonResponse(MvcResult result) throws Exception {
@@ -200,17 +221,17 @@ public class TaskControllerMockMvcTest {
         MockMvcResultMatchers.jsonPath("$.stageId").value(taskDto.getStageId()).match(result);
     }
 
-    private void assertJsonArrayResponse(MvcResult result) throws Exception {
-        MockMvcResultMatchers.jsonPath("$[0].id").value(taskDto.getId()).match(result);
-        MockMvcResultMatchers.jsonPath("$[0].name").value(taskDto.getName()).match(result);
-        MockMvcResultMatchers.jsonPath("$[0].description").value(taskDto.getDescription()).match(result);
-        MockMvcResultMatchers.jsonPath("$[0].status").value(taskDto.getStatus().toString()).match(result);
-        MockMvcResultMatchers.jsonPath("$[0].performerUserId").value(taskDto.getPerformerUserId()).match(result);
-        MockMvcResultMatchers.jsonPath("$[0].reporterUserId").value(taskDto.getReporterUserId()).match(result);
-        MockMvcResultMatchers.jsonPath("$[0].minutesTracked").value(taskDto.getMinutesTracked()).match(result);
-        MockMvcResultMatchers.jsonPath("$[0].parentTaskId").value(taskDto.getParentTaskId()).match(result);
-        MockMvcResultMatchers.jsonPath("$[0].linkedTasksIds[0]").value(taskDto.getLinkedTasksIds().get(0)).match(result);
-        MockMvcResultMatchers.jsonPath("$[0].projectId").value(taskDto.getProjectId()).match(result);
-        MockMvcResultMatchers.jsonPath("$[0].stageId").value(taskDto.getStageId()).match(result);
+    private void assertJsonPageResponse(MvcResult result) throws Exception {
+        MockMvcResultMatchers.jsonPath("$.content[0].id").value(taskDto.getId()).match(result);
+        MockMvcResultMatchers.jsonPath("$.content[0].name").value(taskDto.getName()).match(result);
+        MockMvcResultMatchers.jsonPath("$.content[0].description").value(taskDto.getDescription()).match(result);
+        MockMvcResultMatchers.jsonPath("$.content[0].status").value(taskDto.getStatus().toString()).match(result);
+        MockMvcResultMatchers.jsonPath("$.content[0].performerUserId").value(taskDto.getPerformerUserId()).match(result);
+        MockMvcResultMatchers.jsonPath("$.content[0].reporterUserId").value(taskDto.getReporterUserId()).match(result);
+        MockMvcResultMatchers.jsonPath("$.content[0].minutesTracked").value(taskDto.getMinutesTracked()).match(result);
+        MockMvcResultMatchers.jsonPath("$.content[0].parentTaskId").value(taskDto.getParentTaskId()).match(result);
+        MockMvcResultMatchers.jsonPath("$.content[0].linkedTasksIds[0]").value(taskDto.getLinkedTasksIds().get(0)).match(result);
+        MockMvcResultMatchers.jsonPath("$.content[0].projectId").value(taskDto.getProjectId()).match(result);
+        MockMvcResultMatchers.jsonPath("$.content[0].stageId").value(taskDto.getStageId()).match(result);
     }
 }
\ No newline at end of file
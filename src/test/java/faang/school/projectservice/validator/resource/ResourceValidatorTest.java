@@ -2,7 +2,9 @@ package faang.school.projectservice.validator.resource;
 
 import faang.school.projectservice.exception.DataValidationException;
 import faang.school.projectservice.exception.StorageExceededException;
+import faang.school.projectservice.model.Project;
 import faang.school.projectservice.model.Resource;
+import faang.school.projectservice.model.Team;
 import faang.school.projectservice.model.TeamMember;
 import faang.school.projectservice.model.TeamRole;
 import org.junit.jupiter.api.Test;
@@ -63,6 +65,50 @@ class ResourceValidatorTest {
                 () -> resourceValidator.validateAllowedToDeleteFile(resource, teamMember));
     }
 
+    @Test
+    public void allowedToDownloadFileWithAllowedRoleTest() {
+        TeamMember teamMember = projectMember(2L, 1L, TeamRole.DEVELOPER);
+        Resource resource = projectResource(1L, projectMember(3L, 1L, TeamRole.MANAGER), TeamRole.DEVELOPER);
+
+        assertDoesNotThrow(() -> resourceValidator.validateAllowedToDownloadFile(resource, teamMember));
+    }
+
+    @Test
+    public void allowedToDownloadFileByCreatorTest() {
+        TeamMember teamMember = projectMember(2L, 1L, TeamRole.INTERN);
+        Resource resource = projectResource(1L, teamMember, TeamRole.MANAGER);
+
+        assertDoesNotThrow(() -> resourceValidator.validateAllowedToDownloadFile(resource, teamMember));
+    }
+
+    @Test
+    public void allowedToDownloadFileWithoutAllowedRoleThrowsExceptionTest() {
+        TeamMember teamMember = projectMember(2L, 1L, TeamRole.INTERN);
+        Resource resource = projectResource(1L, projectMember(3L, 1L, TeamRole.MANAGER), TeamRole.MANAGER);
+
+        assertThrows(DataValidationException.class,
+                () -> resourceValidator.validateAllowedToDownloadFile(resource, teamMember));
+    }
+
+    @Test
+    public void allowedToDownloadFileWithoutRolesThrowsExceptionTest() {
+        TeamMember teamMember = projectMember(2L, 1L, TeamRole.INTERN);
+        teamMember.setRoles(null);
+        Resource resource = projectResource(1L, projectMember(3L, 1L, TeamRole.MANAGER), TeamRole.MANAGER);
+
+        assertThrows(DataValidationException.class,
+                () -> resourceValidator.validateAllowedToDownloadFile(resource, teamMember));
+    }
+
+    @Test
+    public void allowedToDownloadFileOfOtherProjectThrowsExceptionTest() {
+        TeamMember teamMember = projectMember(2L, 2L, TeamRole.DEVELOPER);
+        Resource resource = projectResource(1L, projectMember(3L, 1L, TeamRole.MANAGER), TeamRole.DEVELOPER);
+
+        assertThrows(DataValidationException.class,
+                () -> resourceValidator.validateAllowedToDownloadFile(resource, teamMember));
+    }
+
     @Test
     public void checkMaxStorageSizeIsNotNullThrowExceptionTest() {
         BigInteger maxStorageSize = null;
@@ -115,4 +161,21 @@ class ResourceValidatorTest {
 
         assertDoesNotThrow(() -> resourceValidator.validateFileSizeNotBigger2Gb(fileSize));
     }
-}
\ No newline at end of file
+
+    private TeamMember projectMember(Long id, Long projectId, TeamRole role) {
+        return TeamMember.builder()
+                .id(id)
+                .roles(new ArrayList<>(List.of(role)))
+                .team(Team.builder().project(Project.builder().id(projectId).build()).build())
+                .build();
+    }
+
+    private Resource projectResource(Long projectId, TeamMember creator, TeamRole allowedRole) {
+        return Resource.builder()
+                .id(5L)
+                .project(Project.builder().id(projectId).build())
+                .createdBy(creator)
+                .allowedRoles(new ArrayList<>(List.of(allowedRole)))
+                .build();
+    }
+}